@@ -9,6 +9,7 @@ import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.aop.interceptor.SimpleAsyncUncaughtExceptionHandler;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 @Configuration
 @EnableAsync
@@ -26,6 +27,62 @@ public class AsyncConfig implements AsyncConfigurer {
         return executor;
     }
 
+    /**
+     * 📊 Bounded pool for parallel dashboard section loading (see DashboardAssembler).
+     * Kept separate from the audit pool so a slow dashboard can never starve audit writes.
+     * Saturation is rejected (not queued unboundedly); the assembler reports such sections as partial.
+     */
+    @Bean(name = "dashboardExecutor")
+    public ThreadPoolTaskExecutor dashboardExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("dashboard-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 🧮 CPU-bound fan-out for portfolio analytics (see ProductivityAnalyticsService).
+     * A dedicated pool so large reports never occupy the JVM-wide common pool.
+     */
+    @Bean(name = "analyticsPool", destroyMethod = "shutdown")
+    public ForkJoinPool analyticsPool() {
+        return new ForkJoinPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * 📤 Writer threads for streamed report exports (StreamingResponseBody).
+     * Few threads: each export holds a database cursor for its whole run.
+     */
+    @Bean(name = "exportExecutor")
+    public ThreadPoolTaskExecutor exportExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(20);
+        executor.setThreadNamePrefix("export-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 📡 Site-update feed writes and SSE broadcasts, run after the originating transaction commits
+     * (see SiteUpdatePublisher). Off the request thread, so slow subscribers never hold a write.
+     */
+    @Bean(name = "liveUpdateExecutor")
+    public ThreadPoolTaskExecutor liveUpdateExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("live-update-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
     @Override
     public Executor getAsyncExecutor() {
         return auditLogExecutor();
@@ -1,42 +1,112 @@
 package net.engineeringdigest.journalApp.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import net.engineeringdigest.journalApp.service.cache.TwoLevelCacheManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 
 @Configuration
 @EnableCaching
 @ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis", matchIfMissing = true)
+@Slf4j
 public class CacheConfig {
 
+    private static final String INVALIDATION_CHANNEL = "mad:cache:invalidate";
+
+    // Lets a node ignore its own broadcasts
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private record Invalidation(String origin, String cache, String key) {}
+
+    /**
+     * ✅ Two-level cache: bounded in-JVM L1 in front of Redis (L2).
+     * L1 hits skip the network round trip and JSON deserialization; L1 copies on other
+     * nodes are dropped via Redis pub/sub. If Redis is down, L1 keeps serving (local-only mode).
+     */
+    @Bean
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                             StringRedisTemplate redisTemplate,
+                                             MeterRegistry meterRegistry,
+                                             @Value("${cache.l1.max-entries:500}") int l1MaxEntries,
+                                             @Value("${cache.l1.ttl-seconds:300}") long l1TtlSeconds,
+                                             @Value("${cache.l2.retry-seconds:30}") long l2RetrySeconds) {
+        TwoLevelCacheManager.InvalidationPublisher publisher = (cache, key) -> {
+            try {
+                redisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+                        objectMapper.writeValueAsString(new Invalidation(nodeId, cache, key)));
+            } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+        return new TwoLevelCacheManager(redisCacheManager(connectionFactory), l1MaxEntries,
+                Duration.ofSeconds(l1TtlSeconds), Duration.ofSeconds(l2RetrySeconds), publisher, meterRegistry);
+    }
+
+    /**
+     * 📨 Applies L1 invalidations broadcast by other nodes.
+     * The container re-subscribes on its own after a Redis outage.
+     */
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public RedisMessageListenerContainer cacheInvalidationListener(RedisConnectionFactory connectionFactory,
+                                                                   TwoLevelCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> {
+            try {
+                Invalidation event = objectMapper.readValue(
+                        new String(message.getBody(), StandardCharsets.UTF_8), Invalidation.class);
+                if (!nodeId.equals(event.origin())) {
+                    cacheManager.onRemoteInvalidation(event.cache(), event.key());
+                }
+            } catch (Exception e) {
+                log.warn("[CACHE] Ignoring malformed invalidation message: {}", e.getMessage());
+            }
+        }, new ChannelTopic(INVALIDATION_CHANNEL));
+        return container;
+    }
+
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(5))
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()));
 
+        // Entries are evicted after commit (and again shortly after) by CacheInvalidationService.
+        // TTLs bound how long a read that outlasts both evictions can serve what it read before the commit
         Map<String, RedisCacheConfiguration> specificConfig = new HashMap<>();
-        specificConfig.put("dashboard", defaultConfig.entryTtl(Duration.ofSeconds(60)));
-        specificConfig.put("projects", defaultConfig.entryTtl(Duration.ofSeconds(120)));
-        specificConfig.put("inventory", defaultConfig.entryTtl(Duration.ofSeconds(120)));
-        specificConfig.put("vendors", defaultConfig.entryTtl(Duration.ofSeconds(300)));
+        specificConfig.put("dashboard", defaultConfig.entryTtl(Duration.ofMinutes(5)));
+        specificConfig.put("projects", defaultConfig.entryTtl(Duration.ofMinutes(15)));
+        specificConfig.put("inventory", defaultConfig.entryTtl(Duration.ofMinutes(15)));
+        specificConfig.put("vendors", defaultConfig.entryTtl(Duration.ofMinutes(30)));
+        specificConfig.put("leadStats", defaultConfig.entryTtl(Duration.ofMinutes(10))); // keyed by 5-minute bucket
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager manager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(specificConfig)
                 .build();
+        manager.afterPropertiesSet();
+        return manager;
     }
 }
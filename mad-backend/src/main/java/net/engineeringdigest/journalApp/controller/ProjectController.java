@@ -14,7 +14,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 
 /**
@@ -51,7 +50,6 @@ public class ProjectController {
      */
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
-    @CacheEvict(value = "projects", allEntries = true)
     public ResponseEntity<ProjectListDTO> createProject(
             @Valid @RequestBody ProjectRequestDTO dto, 
             Authentication authentication) {
@@ -8,9 +8,11 @@ import net.engineeringdigest.journalApp.model.Project;
 import net.engineeringdigest.journalApp.model.SiteUpdate;
 import net.engineeringdigest.journalApp.model.User;
 import net.engineeringdigest.journalApp.model.LeadInquiry;
+import net.engineeringdigest.journalApp.repository.AttendanceCalendarRepository;
 import net.engineeringdigest.journalApp.repository.AttendanceRepository;
 import net.engineeringdigest.journalApp.repository.BillOfQuantityRepository;
 import net.engineeringdigest.journalApp.repository.CityRepository;
+import net.engineeringdigest.journalApp.repository.DailyAttendanceRollupRepository;
 import net.engineeringdigest.journalApp.repository.LabourRepository;
 import net.engineeringdigest.journalApp.repository.ProjectRepository;
 import net.engineeringdigest.journalApp.repository.ProjectInvoiceRepository;
@@ -18,9 +20,16 @@ import net.engineeringdigest.journalApp.repository.SiteUpdateRepository;
 import net.engineeringdigest.journalApp.repository.UserRepository; // ✅ ADDED IMPORT
 import net.engineeringdigest.journalApp.repository.LeadInquiryRepository;
 import net.engineeringdigest.journalApp.model.ProjectInvoice;
+import net.engineeringdigest.journalApp.service.AttendanceCalendarService;
+import net.engineeringdigest.journalApp.service.AttendanceRollupService;
+import net.engineeringdigest.journalApp.service.DashboardAggregateService;
+import net.engineeringdigest.journalApp.service.LeadStatsService;
 import net.engineeringdigest.journalApp.service.ProjectService;
 import net.engineeringdigest.journalApp.service.ProjectMigrationService; // ✅ ADDED
+import net.engineeringdigest.journalApp.service.VendorLedgerService;
+import net.engineeringdigest.journalApp.service.WorkerDayLoadIndex;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -31,7 +40,6 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -65,6 +73,12 @@ public class AdminController {
     @Autowired
     private AttendanceRepository attendanceRepository;
 
+    @Autowired
+    private DailyAttendanceRollupRepository attendanceRollupRepository;
+
+    @Autowired
+    private AttendanceCalendarRepository attendanceCalendarRepository;
+
     @Autowired
     private LeadInquiryRepository leadInquiryRepository;
 
@@ -89,7 +103,8 @@ public class AdminController {
     // ✅ NEW ENDPOINT: Get Single Project (for Edit/Audit)
     @GetMapping("/projects/{id}")
     public ResponseEntity<?> getProjectById(@PathVariable Long id) {
-        return projectRepository.findById(id)
+        // City and supervisor JOINed into the one select (ProjectDetailDTO), no lazy loads while serializing
+        return projectRepository.findDetailById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -198,6 +213,50 @@ public class AdminController {
         return ResponseEntity.ok(projectService.getDashboardData());
     }
 
+    @Autowired
+    private DashboardAggregateService dashboardAggregateService;
+
+    // 🔄 Recompute dashboard counters from the DB (e.g. after bulk SQL imports that bypass JPA)
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/dashboard/rebuild-aggregates")
+    @CacheEvict(value = "dashboard", allEntries = true)
+    public ResponseEntity<?> rebuildDashboardAggregates() {
+        dashboardAggregateService.rebuild();
+        return ResponseEntity.ok().body("{\"message\": \"Dashboard aggregates rebuilt\"}");
+    }
+
+    @Autowired
+    private AttendanceRollupService attendanceRollupService;
+
+    @Autowired
+    private WorkerDayLoadIndex workerDayLoadIndex;
+
+    @Autowired
+    private AttendanceCalendarService attendanceCalendarService;
+
+    // 🔄 Recompute daily_attendance_rollup, attendance_calendar and today's worker loads from attendance
+    // (e.g. after direct SQL corrections)
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/dashboard/rebuild-attendance-rollup")
+    @CacheEvict(value = "dashboard", allEntries = true)
+    public ResponseEntity<?> rebuildAttendanceRollup() {
+        int rows = attendanceRollupService.rebuild();
+        attendanceCalendarService.rebuild();
+        workerDayLoadIndex.rebuild();
+        return ResponseEntity.ok().body("{\"message\": \"Attendance rollup rebuilt\", \"rows\": " + rows + "}");
+    }
+
+    @Autowired
+    private VendorLedgerService vendorLedgerService;
+
+    // 🔄 Recompute vendor_ledger from requisitions (e.g. after direct SQL corrections)
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/financials/rebuild-vendor-ledger")
+    public ResponseEntity<?> rebuildVendorLedger() {
+        int rows = vendorLedgerService.rebuild();
+        return ResponseEntity.ok().body("{\"message\": \"Vendor ledger rebuilt\", \"rows\": " + rows + "}");
+    }
+
     // ✅ UPDATED DELETE METHOD WITH CASCADE LOGIC
     @PreAuthorize("hasRole('ADMIN')")
     @DeleteMapping("/projects/{id}")
@@ -209,6 +268,9 @@ public class AdminController {
 
         // ✅ M1 FIX: Use targeted repository delete methods instead of findAll().stream().filter()
         attendanceRepository.deleteByProject_Id(id);
+        attendanceRollupRepository.deleteByProjectId(id);
+        attendanceCalendarRepository.deleteByProjectId(id);
+        workerDayLoadIndex.onProjectDeleted(id);
         labourRepository.deleteByProject_Id(id);
         boqRepository.findByProjectId(id).forEach(boqRepository::delete);
         siteUpdateRepository.deleteByProject_Id(id);
@@ -305,33 +367,15 @@ public class AdminController {
         }
     }
 
-    // Get leads summary stats for the dashboard widget
+    @Autowired
+    private LeadStatsService leadStatsService;
+
+    // Get leads summary stats for the dashboard widget (one aggregate query, cached)
     @PreAuthorize("hasAnyRole('ADMIN', 'SUPERVISOR')")
     @GetMapping("/leads/stats")
     public ResponseEntity<?> getLeadsStats() {
         try {
-            LocalDateTime startOfDay = LocalDateTime.now().toLocalDate().atStartOfDay();
-            LocalDateTime endOfDay = startOfDay.plusDays(1);
-
-            long todayCount = leadInquiryRepository.countBySubmittedAtBetween(startOfDay, endOfDay);
-            long totalNew = leadInquiryRepository.countByStatus("NEW");
-            long totalContacted = leadInquiryRepository.countByStatus("CONTACTED");
-            long totalClosed = leadInquiryRepository.countByStatus("CLOSED");
-            long totalAll = leadInquiryRepository.count();
-
-            // Critical leads: Status is NEW and older than 24 hours
-            LocalDateTime twentyFourHoursAgo = LocalDateTime.now().minusHours(24);
-            long criticalCount = leadInquiryRepository.countByStatusAndSubmittedAtBefore("NEW", twentyFourHoursAgo);
-
-            Map<String, Object> stats = new HashMap<>();
-            stats.put("todayCount", todayCount);
-            stats.put("totalNew", totalNew);
-            stats.put("totalContacted", totalContacted);
-            stats.put("totalClosed", totalClosed);
-            stats.put("totalAll", totalAll);
-            stats.put("criticalCount", criticalCount);
-
-            return ResponseEntity.ok(stats);
+            return ResponseEntity.ok(leadStatsService.getLeadStats());
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("Error fetching lead stats: " + e.getMessage());
         }
@@ -1,15 +1,28 @@
 package net.engineeringdigest.journalApp.controller.api;
 
 import lombok.RequiredArgsConstructor;
+import net.engineeringdigest.journalApp.dto.FinancialTrendPointDTO;
+import net.engineeringdigest.journalApp.dto.PayrollLineDTO;
+import net.engineeringdigest.journalApp.dto.PayrollTotalDTO;
 import net.engineeringdigest.journalApp.dto.ProjectFinancialDTO;
+import net.engineeringdigest.journalApp.exception.BusinessRuleException;
+import net.engineeringdigest.journalApp.service.FinancialSnapshotService;
+import net.engineeringdigest.journalApp.service.PayrollService;
 import net.engineeringdigest.journalApp.service.ProjectService;
+import net.engineeringdigest.journalApp.service.VendorLedgerService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import net.engineeringdigest.journalApp.dto.VendorFinancialDTO;
 import net.engineeringdigest.journalApp.dto.ProductivityDTO;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 🏦 Financial Intelligence Controller
@@ -22,6 +35,9 @@ import java.util.List;
 public class FinancialController {
 
     private final ProjectService projectService;
+    private final FinancialSnapshotService financialSnapshotService;
+    private final VendorLedgerService vendorLedgerService;
+    private final PayrollService payrollService;
 
     @GetMapping("/summary")
     public ResponseEntity<List<ProjectFinancialDTO>> getFinancialSummary() {
@@ -33,6 +49,14 @@ public class FinancialController {
         return ResponseEntity.ok(projectService.getVendorFinancials());
     }
 
+    /**
+     * 📄 Paged vendor statements, e.g. ?page=0&size=50&sort=pendingBalance,desc (the default order).
+     */
+    @GetMapping("/vendors/ledger")
+    public ResponseEntity<Page<VendorFinancialDTO>> getVendorLedger(Pageable pageable) {
+        return ResponseEntity.ok(vendorLedgerService.getStatements(pageable));
+    }
+
     @GetMapping("/productivity")
     public ResponseEntity<List<ProductivityDTO>> getProductivitySummary() {
         return ResponseEntity.ok(projectService.getAllProductivity());
@@ -43,6 +67,59 @@ public class FinancialController {
         return ResponseEntity.ok(projectService.getProjectFinancials(projectId));
     }
 
+    /**
+     * 📈 Daily trend from the snapshot table (defaults to the last 12 months).
+     * Without projectId the points are portfolio totals.
+     */
+    @GetMapping("/trend")
+    public ResponseEntity<List<FinancialTrendPointDTO>> getFinancialTrend(
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusMonths(12);
+        if (start.isAfter(end)) {
+            throw new BusinessRuleException("ERR_INVALID_DATE_RANGE", "'from' must not be after 'to'");
+        }
+        return ResponseEntity.ok(projectId != null
+                ? financialSnapshotService.getProjectTrend(projectId, start, end)
+                : financialSnapshotService.getPortfolioTrend(start, end));
+    }
+
+    /**
+     * 💰 Paged payroll lines for a month (defaults to the current one), one per worker and project,
+     * e.g. ?month=2025-03&projectId=7&page=0&size=100
+     */
+    @GetMapping("/payroll")
+    public ResponseEntity<Page<PayrollLineDTO>> getPayroll(
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth month,
+            @RequestParam(required = false) Long projectId,
+            Pageable pageable) {
+        return ResponseEntity.ok(payrollService.getLines(month != null ? month : YearMonth.now(), projectId, pageable));
+    }
+
+    @GetMapping("/payroll/projects")
+    public ResponseEntity<List<PayrollTotalDTO>> getPayrollByProject(
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        return ResponseEntity.ok(payrollService.getProjectTotals(month != null ? month : YearMonth.now()));
+    }
+
+    @GetMapping("/payroll/months")
+    public ResponseEntity<List<PayrollTotalDTO>> getPayrollByMonth(
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) Long projectId) {
+        return ResponseEntity.ok(payrollService.getMonthlyTotals(year != null ? year : LocalDate.now().getYear(), projectId));
+    }
+
+    // Re-runs the snapshot for one day (defaults to yesterday), e.g. after correcting past data
+    @PostMapping("/snapshots")
+    public ResponseEntity<Map<String, Object>> runSnapshot(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        LocalDate day = date != null ? date : LocalDate.now().minusDays(1);
+        int rows = financialSnapshotService.snapshot(day);
+        return ResponseEntity.ok(Map.of("date", day.toString(), "projects", rows));
+    }
+
     @PostMapping("/requisition/{id}/pay")
     public ResponseEntity<?> markRequisitionAsPaid(@PathVariable Long id) {
         projectService.markRequisitionAsPaid(id);
@@ -1,15 +1,22 @@
 package net.engineeringdigest.journalApp.controller.api;
 
+import net.engineeringdigest.journalApp.dto.InventoryItemViewDTO;
+import net.engineeringdigest.journalApp.dto.StockLevel;
 import net.engineeringdigest.journalApp.model.InventoryItem;
+import net.engineeringdigest.journalApp.model.InventoryMovement;
 import net.engineeringdigest.journalApp.repository.InventoryItemRepository;
 import net.engineeringdigest.journalApp.exception.ResourceNotFoundException;
+import net.engineeringdigest.journalApp.service.InventoryLedgerService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 
 import java.util.List;
@@ -22,15 +29,17 @@ public class InventoryController {
     @Autowired
     private InventoryItemRepository inventoryRepository;
 
+    @Autowired
+    private InventoryLedgerService inventoryLedgerService;
+
     @Cacheable("inventory")
     @GetMapping
-    public List<InventoryItem> getAllItems() {
-        return inventoryRepository.findAll();
+    public List<InventoryItemViewDTO> getAllItems() {
+        return inventoryRepository.findAllViews();
     }
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
-    @CacheEvict(value = "inventory", allEntries = true)
     // ✅ M3 FIX: @Valid enables Jakarta Validation on the request body
     public ResponseEntity<InventoryItem> addItem(@Valid @RequestBody InventoryItem item) {
         return ResponseEntity.ok(inventoryRepository.save(item));
@@ -38,8 +47,9 @@ public class InventoryController {
 
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    @CacheEvict(value = "inventory", allEntries = true)
-    public ResponseEntity<InventoryItem> updateItem(@PathVariable Long id, @Valid @RequestBody InventoryItem itemDetails) {
+    @Transactional
+    public ResponseEntity<InventoryItem> updateItem(@PathVariable Long id, @Valid @RequestBody InventoryItem itemDetails,
+                                                    Authentication authentication) {
         // ✅ E1: Use ResourceNotFoundException
         InventoryItem item = inventoryRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Inventory Item", id));
@@ -48,25 +58,54 @@ public class InventoryController {
         item.setCategory(itemDetails.getCategory());
         item.setUnitOfMeasure(itemDetails.getUnitOfMeasure());
         item.setMinimumStockLevel(itemDetails.getMinimumStockLevel());
-        item.setCurrentQuantity(itemDetails.getCurrentQuantity());
         item.setDescription(itemDetails.getDescription());
         if (itemDetails.getProject() != null) item.setProject(itemDetails.getProject());
         if (itemDetails.getVendor() != null) item.setVendor(itemDetails.getVendor());
 
+        // The quantity is a stock count: the ledger compares it with live stock (not the compacted
+        // balance) and records any difference as an ADJUSTMENT movement, never written in place
+        inventoryLedgerService.adjustTo(id, itemDetails.getCurrentQuantity(), authentication.getName());
+
         return ResponseEntity.ok(inventoryRepository.save(item));
     }
 
+    // 📉 Reads the compacted balance (see InventoryLedgerService)
     @GetMapping("/low-stock")
-    public List<InventoryItem> getLowStockItems() {
-        // Simple logic: current <= minimum
-        return inventoryRepository.findAll().stream()
-                .filter(item -> item.getCurrentQuantity() <= item.getMinimumStockLevel())
-                .toList();
+    public List<InventoryItemViewDTO> getLowStockItems() {
+        return inventoryRepository.findLowStock();
+    }
+
+    // 📦 Live stock: compacted balance plus movements not yet compacted
+    @GetMapping("/{id}/stock")
+    public ResponseEntity<StockLevel> getStock(@PathVariable Long id) {
+        return ResponseEntity.ok(inventoryRepository.findStockLevel(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Inventory Item", id)));
+    }
+
+    @GetMapping("/{id}/movements")
+    public Slice<InventoryMovement> getMovements(@PathVariable Long id, Pageable pageable) {
+        return inventoryLedgerService.history(id, pageable);
+    }
+
+    @PostMapping("/{id}/issue")
+    public ResponseEntity<InventoryMovement> issueStock(@PathVariable Long id, @RequestParam double quantity,
+                                                        @RequestParam(required = false) String reference,
+                                                        Authentication authentication) {
+        return ResponseEntity.ok(inventoryLedgerService.issue(id, quantity, reference, authentication.getName()));
+    }
+
+    @PostMapping("/{id}/transfer")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> transferStock(@PathVariable Long id, @RequestParam Long toItemId,
+                                           @RequestParam double quantity,
+                                           @RequestParam(required = false) String reference,
+                                           Authentication authentication) {
+        inventoryLedgerService.transfer(id, toItemId, quantity, reference, authentication.getName());
+        return ResponseEntity.ok().build();
     }
 
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    @CacheEvict(value = "inventory", allEntries = true)
     public ResponseEntity<?> deleteItem(@PathVariable Long id) {
         inventoryRepository.deleteById(id);
         return ResponseEntity.ok().build();
@@ -1,20 +1,24 @@
 package net.engineeringdigest.journalApp.controller.api;
 
-import net.engineeringdigest.journalApp.model.Attendance;
 import net.engineeringdigest.journalApp.model.Labour;
 import net.engineeringdigest.journalApp.model.Project;
-import net.engineeringdigest.journalApp.repository.AttendanceRepository;
 import net.engineeringdigest.journalApp.repository.LabourRepository;
 import net.engineeringdigest.journalApp.repository.ProjectRepository;
+import net.engineeringdigest.journalApp.service.AttendanceBatchService;
+import net.engineeringdigest.journalApp.service.AttendanceCalendarService;
 import net.engineeringdigest.journalApp.service.AttendanceService;
+import net.engineeringdigest.journalApp.service.PayrollService;
+import net.engineeringdigest.journalApp.service.WorkerDayLoadIndex;
 import net.engineeringdigest.journalApp.exception.BusinessRuleException;
 import net.engineeringdigest.journalApp.exception.ResourceNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Map;
 
@@ -28,14 +32,23 @@ public class LabourController {
     private LabourRepository labourRepository;
 
     @Autowired
-    private AttendanceRepository attendanceRepository;
+    private AttendanceService attendanceService;
 
     @Autowired
-    private AttendanceService attendanceService;
+    private AttendanceBatchService attendanceBatchService;
+
+    @Autowired
+    private WorkerDayLoadIndex workerDayLoadIndex;
+
+    @Autowired
+    private AttendanceCalendarService attendanceCalendarService;
 
     @Autowired
     private ProjectRepository projectRepository;
 
+    @Autowired
+    private PayrollService payrollService;
+
     // 1. Get Project Team
     @PreAuthorize("hasAnyRole('ADMIN', 'SUPERVISOR')")
     @GetMapping("/project/{projectId}")
@@ -52,6 +65,14 @@ public class LabourController {
         return ResponseEntity.ok(attendanceService.getAttendanceByProject(projectId));
     }
 
+    // 1.6 Monthly Muster Roll (decoded from the packed attendance calendar; defaults to this month)
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPERVISOR')")
+    @GetMapping("/project/{projectId}/muster-roll")
+    public ResponseEntity<?> getMusterRoll(@PathVariable Long projectId,
+                                           @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        return ResponseEntity.ok(attendanceCalendarService.getMusterRoll(projectId, month != null ? month : YearMonth.now()));
+    }
+
     // 2. Add New Worker
     @PreAuthorize("hasAnyRole('ADMIN', 'SUPERVISOR')")
     @PostMapping("/add")
@@ -78,12 +99,15 @@ public class LabourController {
     // 3. Update Worker (PUT) - ✅ FIXES 403 / 405 Errors
     @PreAuthorize("hasAnyRole('ADMIN', 'SUPERVISOR')")
     @PutMapping("/{id}")
+    @Transactional
     public ResponseEntity<?> updateWorker(@PathVariable Long id, @RequestBody Map<String, Object> payload) {
         Labour labour = labourRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Labour", id));
         if (labour.getProject().getStatus() == net.engineeringdigest.journalApp.model.ProjectStatus.INVOICED) {
             throw new BusinessRuleException("ERR_PROJECT_FINALIZED", "Project is finalized. Cannot update worker.");
         }
+        String previousName = labour.getName();
+        Double previousWage = labour.getDailyWage();
         if (payload.containsKey("name"))
             labour.setName((String) payload.get("name"));
         if (payload.containsKey("type"))
@@ -92,6 +116,10 @@ public class LabourController {
             labour.setDailyWage(Double.parseDouble(payload.get("wage").toString()));
 
         labourRepository.save(labour);
+        // ✅ Today's marks are re-priced at the new wage in the same transaction
+        payrollService.onWageChanged(labour.getId(), previousWage, labour.getDailyWage());
+        // ✅ Today's cross-site load follows the worker to the new name
+        workerDayLoadIndex.onRenamed(previousName, labour.getName());
         return ResponseEntity.ok("Worker updated successfully");
     }
 
@@ -114,70 +142,7 @@ public class LabourController {
     @PreAuthorize("hasAnyRole('ADMIN', 'SUPERVISOR')")
     @PostMapping("/attendance")
     public ResponseEntity<?> markAttendance(@RequestBody List<Map<String, Object>> records) {
-        for (Map<String, Object> record : records) {
-                Long labourId = Long.parseLong(record.get("labourId").toString());
-                Long projectId = Long.parseLong(record.get("projectId").toString());
-                String status = (String) record.get("status");
-
-                // Check if already marked for today to prevent duplicates
-                // Check existing attendance for this worker today
-                LocalDate today = LocalDate.now();
-
-                // 1. Fetch current worker details to get Name
-                Labour currentWorker = labourRepository.findById(labourId)
-                        .orElseThrow(() -> new ResourceNotFoundException("Labour", labourId));
-
-                // 2. Find ALL attendance records for ANY worker with this same name today
-                List<Attendance> existingRecords = attendanceRepository.findByLabourNameAndDate(currentWorker.getName(),
-                        today);
-
-                // Find if there's a record for THIS project
-                Attendance projectRecord = existingRecords.stream()
-                        .filter(a -> a.getProject().getId().equals(projectId))
-                        .findFirst()
-                        .orElse(null);
-
-                // Calculate load from OTHER projects
-                double otherProjectLoad = existingRecords.stream()
-                        .filter(a -> !a.getProject().getId().equals(projectId))
-                        .mapToDouble(a -> getWorkLoad(a.getStatus()))
-                        .sum();
-
-                double newLoad = getWorkLoad(status);
-
-                // Condition: Only block if adding load (newLoad > 0) causes overflow
-                // This allows marking "ABSENT" (newLoad = 0) even if conflicts exist elsewhere
-                if (newLoad > 0 && otherProjectLoad + newLoad > 1.0) {
-                    throw new BusinessRuleException("ERR_ATTENDANCE_CONFLICT", "Conflict: '" + currentWorker.getName() + "' is already working "
-                            + otherProjectLoad + " day(s) at another site today.");
-                }
-
-                Project project = projectRepository.findById(projectId)
-                        .orElseThrow(() -> new ResourceNotFoundException("Project", projectId));
-                if (project.getStatus() == net.engineeringdigest.journalApp.model.ProjectStatus.INVOICED) {
-                    throw new BusinessRuleException("ERR_PROJECT_FINALIZED", "Project is finalized. Cannot mark attendance.");
-                }
-
-                if (projectRecord != null) {
-                    projectRecord.setStatus(status);
-                    attendanceRepository.save(projectRecord);
-                } else {
-                    Attendance att = new Attendance();
-                    att.setLabour(currentWorker);
-                    att.setProject(project);
-                    att.setDate(today);
-                    att.setStatus(status);
-                    attendanceRepository.save(att);
-                }
-            }
-            return ResponseEntity.ok("Attendance Updated");
-    }
-
-    private double getWorkLoad(String status) {
-        if ("PRESENT".equalsIgnoreCase(status))
-            return 1.0;
-        if ("HALF_DAY".equalsIgnoreCase(status))
-            return 0.5;
-        return 0.0;
+        // ✅ One transaction, fixed statement count; rejected records are reported per record
+        return ResponseEntity.ok(attendanceBatchService.markAttendance(records));
     }
 }
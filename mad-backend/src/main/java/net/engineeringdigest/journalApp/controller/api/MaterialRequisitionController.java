@@ -1,15 +1,24 @@
 package net.engineeringdigest.journalApp.controller.api;
 
+import net.engineeringdigest.journalApp.dto.BulkRequisitionResultDTO;
+import net.engineeringdigest.journalApp.dto.CursorPageDTO;
+import net.engineeringdigest.journalApp.dto.RequisitionLineDTO;
+import net.engineeringdigest.journalApp.dto.RequisitionListItemDTO;
+import net.engineeringdigest.journalApp.dto.RequisitionViewDTO;
+import net.engineeringdigest.journalApp.exception.BusinessRuleException;
 import net.engineeringdigest.journalApp.model.MaterialRequisition;
+import net.engineeringdigest.journalApp.repository.RequisitionSearchRepository;
 import net.engineeringdigest.journalApp.service.MaterialRequisitionService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -42,16 +51,55 @@ public class MaterialRequisitionController {
         }
     }
 
+    /**
+     * 📥 Bulk submission, e.g. the 20-40 material lines raised at the start of a phase.
+     * Body is an array of lines; the response has one result per line, in request order.
+     */
+    @PostMapping("/bulk")
+    @PreAuthorize("hasAnyRole('SUPERVISOR', 'ADMIN')")
+    public ResponseEntity<BulkRequisitionResultDTO> submitBulk(@RequestBody List<RequisitionLineDTO> lines) {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        return ResponseEntity.ok(requisitionService.submitBatch(lines, username));
+    }
+
     @GetMapping("/my")
     @PreAuthorize("hasAnyRole('SUPERVISOR', 'ADMIN')")
-    public List<MaterialRequisition> getMyRequests() {
+    public List<RequisitionViewDTO> getMyRequests() {
         String username = SecurityContextHolder.getContext().getAuthentication().getName();
         return requisitionService.getByRequester(username);
     }
 
+    /**
+     * 🔎 Filtered listing, newest first, keyset-paginated, e.g.
+     * ?status=PENDING&status=APPROVED&projectId=3&from=2024-01-01&size=50, then &cursor={nextCursor}.
+     */
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPERVISOR')")
+    public ResponseEntity<CursorPageDTO<RequisitionListItemDTO>> search(
+            @RequestParam(required = false) List<String> status,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) Long vendorId,
+            @RequestParam(required = false) String urgency,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new BusinessRuleException("ERR_INVALID_DATE_RANGE", "'from' must not be after 'to'");
+        }
+        RequisitionSearchRepository.Criteria criteria = new RequisitionSearchRepository.Criteria(
+                status != null ? status.stream().map(String::toUpperCase).toList() : null,
+                projectId, vendorId,
+                urgency != null ? urgency.toUpperCase() : null,
+                from != null ? from.atStartOfDay() : null,
+                to != null ? to.plusDays(1).atStartOfDay() : null);
+        return ResponseEntity.ok(requisitionService.search(criteria, cursor, size));
+    }
+
+    // Unpaginated full list; kept for existing screens, prefer the filtered listing above
     @GetMapping("/all")
     @PreAuthorize("hasAnyRole('ADMIN', 'SUPERVISOR')")
-    public List<MaterialRequisition> getAllRequests() {
+    public List<RequisitionViewDTO> getAllRequests() {
         var auth = SecurityContextHolder.getContext().getAuthentication();
         log.info("🔍 ACCESS CHECK | User: {} | Authorities: {} | Path: /api/requisitions/all",
             auth.getName(), auth.getAuthorities());
@@ -6,16 +6,13 @@ import net.engineeringdigest.journalApp.model.Project;
 import net.engineeringdigest.journalApp.repository.BillOfQuantityRepository;
 import net.engineeringdigest.journalApp.repository.DailyMeasurementRepository;
 import net.engineeringdigest.journalApp.repository.ProjectRepository;
-import net.engineeringdigest.journalApp.repository.SiteUpdateRepository;
-import net.engineeringdigest.journalApp.service.LiveUpdateService;
-import net.engineeringdigest.journalApp.service.ProjectService;
+import net.engineeringdigest.journalApp.service.MeasurementService;
 import net.engineeringdigest.journalApp.exception.ResourceNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -33,13 +30,7 @@ public class MeasurementController {
     private ProjectRepository projectRepository;
 
     @Autowired
-    private net.engineeringdigest.journalApp.repository.SiteUpdateRepository siteUpdateRepository;
-
-    @Autowired
-    private LiveUpdateService notificationService;
-
-    @Autowired
-    private ProjectService projectService;
+    private MeasurementService measurementService;
 
     // 1. Get Project BOQ (The "Plan")
     // Frontend calls: GET /api/measurements/project/{projectId}
@@ -62,50 +53,9 @@ public class MeasurementController {
             String remarks = (String) payload.get("remarks");
             String supervisorName = (String) payload.get("supervisorName");
 
-            BillOfQuantity boq = boqRepository.findById(boqId)
-                    .orElseThrow(() -> new ResourceNotFoundException("BOQ Item", boqId));
-
-            // Calculate Area
-            double quantity = 0;
-            if ("SFT".equalsIgnoreCase(boq.getUnit())) {
-                quantity = length * width;
-            } else if ("RFT".equalsIgnoreCase(boq.getUnit())) {
-                quantity = length;
-            } else {
-                quantity = length; // Default fallback
-            }
-
-            // Update BOQ Total - Allow exceeding budget? For now, yes, but could warn.
-            // Requirement says "System adds to completed_scope"
-
-            // Save Record
-            DailyMeasurement measurement = new DailyMeasurement();
-            measurement.setBoqItem(boq);
-            measurement.setDate(LocalDate.now());
-            measurement.setLength(length);
-            measurement.setHeight(width); // Mapping width to height/width field
-            measurement.setQuantity(quantity);
-            measurement.setRemarks(remarks);
-            measurement.setSupervisorName(supervisorName);
-            measurementRepository.save(measurement);
-
-            // Update BOQ
-            boq.setCompletedScope(boq.getCompletedScope() + quantity);
-            boqRepository.save(boq);
-
-            // 📢 NEW: Integrate with Site Updates & Real-time Live Feed
-            net.engineeringdigest.journalApp.model.SiteUpdate update = new net.engineeringdigest.journalApp.model.SiteUpdate();
-            update.setProject(boq.getProject());
-            String text = String.format("Measurement recorded: %.2f %s for '%s' by %s. %s", 
-                quantity, boq.getUnit(), boq.getItemName(), supervisorName, (remarks != null ? remarks : ""));
-            update.setContent(text);
-            update.setUpdateTime(java.time.LocalDateTime.now());
-            net.engineeringdigest.journalApp.model.SiteUpdate savedUpdate = siteUpdateRepository.save(update);
-
-            // 📡 Broadcast to Dashboard
-            notificationService.broadcastSiteUpdate(projectService.mapToSiteUpdateDTO(savedUpdate));
-
-            return ResponseEntity.ok("Measurement recorded: " + quantity + " " + boq.getUnit());
+            // ✅ Atomic increment on the BOQ; site update and live broadcast follow after commit
+            DailyMeasurement measurement = measurementService.recordMeasurement(boqId, length, width, remarks, supervisorName);
+            return ResponseEntity.ok("Measurement recorded: " + measurement.getQuantity() + " " + measurement.getBoqItem().getUnit());
     }
 
     // 3. Add BOQ Item
@@ -0,0 +1,87 @@
+package net.engineeringdigest.journalApp.controller.api;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import net.engineeringdigest.journalApp.exception.BusinessRuleException;
+import net.engineeringdigest.journalApp.service.export.ExportFormat;
+import net.engineeringdigest.journalApp.service.export.ReportExportService;
+import net.engineeringdigest.journalApp.service.export.ReportType;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 📤 Report Export Controller
+ * Streams reports as CSV or XLSX downloads, optionally gzip-compressed, e.g.
+ * /api/v1/admin/exports/attendance?format=xlsx&from=2024-01-01&to=2024-03-31&gzip=true
+ * The download is written on the export pool with its own timeout ({@code exports.timeout-ms});
+ * other async endpoints keep the MVC defaults.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/exports")
+@PreAuthorize("hasRole('ADMIN')")
+@Slf4j
+public class ReportExportController {
+
+    private final ReportExportService reportExportService;
+    private final ThreadPoolTaskExecutor exportExecutor;
+    private final long exportTimeoutMs;
+
+    public ReportExportController(ReportExportService reportExportService,
+                                  @Qualifier("exportExecutor") ThreadPoolTaskExecutor exportExecutor,
+                                  @Value("${exports.timeout-ms:600000}") long exportTimeoutMs) {
+        this.reportExportService = reportExportService;
+        this.exportExecutor = exportExecutor;
+        this.exportTimeoutMs = exportTimeoutMs;
+    }
+
+    @GetMapping("/{report}")
+    public WebAsyncTask<Void> export(
+            @PathVariable String report,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) {
+        // Validate before the response is committed; later failures can only abort the download
+        ReportType type = ReportType.parse(report);
+        ExportFormat exportFormat = ExportFormat.parse(format);
+        if (from != null && from.isAfter(to != null ? to : LocalDate.now())) {
+            throw new BusinessRuleException("ERR_INVALID_DATE_RANGE", "'from' must not be after 'to'");
+        }
+
+        String fileName = type.fileName() + "-" + LocalDate.now() + "." + exportFormat.extension() + (gzip ? ".gz" : "");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(fileName).build().toString());
+        response.setContentType(gzip ? "application/gzip" : exportFormat.contentType());
+
+        return new WebAsyncTask<>(exportTimeoutMs, exportExecutor, () -> {
+            try {
+                OutputStream out = response.getOutputStream();
+                if (gzip) {
+                    GZIPOutputStream compressed = new GZIPOutputStream(out, 8192);
+                    reportExportService.export(type, exportFormat, from, to, compressed);
+                    compressed.finish();
+                } else {
+                    reportExportService.export(type, exportFormat, from, to, out);
+                }
+                out.flush();
+            } catch (IOException | RuntimeException e) {
+                log.error("[EXPORT] {} aborted: {}", type, e.getMessage());
+                throw e;
+            }
+            return null;
+        });
+    }
+}
@@ -13,7 +13,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 
 import java.util.List;
@@ -37,7 +36,6 @@ public class VendorController {
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
-    @CacheEvict(value = "vendors", allEntries = true)
     public ResponseEntity<Vendor> addVendor(@Valid @RequestBody Vendor vendor) {
         return ResponseEntity.ok(vendorRepository.save(vendor));
     }
@@ -51,7 +49,6 @@ public class VendorController {
 
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    @CacheEvict(value = "vendors", allEntries = true)
     public ResponseEntity<Vendor> updateVendor(@PathVariable Long id, @Valid @RequestBody Vendor details) {
         Vendor vendor = vendorRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Vendor", id));
@@ -74,7 +71,6 @@ public class VendorController {
 
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    @CacheEvict(value = "vendors", allEntries = true)
     public ResponseEntity<?> deleteVendor(@PathVariable Long id) {
         vendorRepository.deleteById(id);
         return ResponseEntity.ok().build();
@@ -0,0 +1,25 @@
+package net.engineeringdigest.journalApp.dto;
+
+import java.util.List;
+
+/**
+ * 📋 Outcome of a bulk attendance submission: one result per submitted record, in order.
+ */
+public record AttendanceBatchResultDTO(int marked, int rejected, List<RecordResult> records) {
+
+    /**
+     * {@code record} is the 0-based position in the request; a marked record carries its
+     * attendance id, a rejected one its error code and message.
+     */
+    public record RecordResult(int record, Long labourId, String status, Long attendanceId,
+                               String errorCode, String message) {
+
+        public static RecordResult marked(int record, Long labourId, Long attendanceId) {
+            return new RecordResult(record, labourId, "MARKED", attendanceId, null, null);
+        }
+
+        public static RecordResult rejected(int record, Long labourId, String errorCode, String message) {
+            return new RecordResult(record, labourId, "REJECTED", null, errorCode, message);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package net.engineeringdigest.journalApp.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 🗓️ One attendance mark, flat, for rebuilding the packed attendance calendar.
+ */
+public interface AttendanceCalendarRow {
+    Long getLabourId();
+    Long getProjectId();
+    LocalDate getDate();
+    String getStatus();
+    Double getDailyWage();
+}
@@ -0,0 +1,12 @@
+package net.engineeringdigest.journalApp.dto;
+
+/**
+ * 🗓️ One attendance row of a day with the worker's name, which identifies the worker across sites.
+ */
+public interface AttendanceDayLoad {
+    Long getId();
+    Long getLabourId();
+    String getWorkerName();
+    Long getProjectId();
+    String getStatus();
+}
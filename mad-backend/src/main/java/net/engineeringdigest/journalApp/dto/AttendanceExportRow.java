@@ -0,0 +1,15 @@
+package net.engineeringdigest.journalApp.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 📤 Flat attendance row for streaming exports (no entities loaded).
+ */
+public interface AttendanceExportRow {
+    LocalDate getDate();
+    String getProjectName();
+    String getLabourName();
+    String getLabourType();
+    String getStatus();
+    Double getDailyWage();
+}
@@ -0,0 +1,15 @@
+package net.engineeringdigest.journalApp.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 📅 One rebuilt rollup row: attendance grouped by (date, project) in a single query.
+ */
+public interface AttendanceRollupRow {
+    LocalDate getDate();
+    Long getProjectId();
+    Long getPresent();
+    Long getHalfDay();
+    Long getAbsent();
+    Double getWageCost();
+}
@@ -0,0 +1,24 @@
+package net.engineeringdigest.journalApp.dto;
+
+import java.util.List;
+
+/**
+ * 📋 Outcome of a bulk requisition submission: one result per submitted line, in order.
+ */
+public record BulkRequisitionResultDTO(int submitted, int rejected, List<LineResult> lines) {
+
+    /**
+     * {@code line} is the 0-based position in the request; a created line carries its
+     * requisition id, a rejected one its error code and message.
+     */
+    public record LineResult(int line, String status, Long requisitionId, String errorCode, String message) {
+
+        public static LineResult created(int line, Long requisitionId) {
+            return new LineResult(line, "CREATED", requisitionId, null, null);
+        }
+
+        public static LineResult rejected(int line, String errorCode, String message) {
+            return new LineResult(line, "REJECTED", null, errorCode, message);
+        }
+    }
+}
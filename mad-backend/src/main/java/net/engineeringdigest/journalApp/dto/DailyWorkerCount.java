@@ -0,0 +1,11 @@
+package net.engineeringdigest.journalApp.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 📅 Workers on site (PRESENT + HALF_DAY) per day, summed across projects from the attendance rollup.
+ */
+public interface DailyWorkerCount {
+    LocalDate getDate();
+    Long getWorkers();
+}
@@ -0,0 +1,28 @@
+package net.engineeringdigest.journalApp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 🚨 Dashboard Alert DTO
+ * Typed replacement for the per-alert HashMap; serializes to the same JSON keys.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardAlertDTO {
+    private String type;        // CRITICAL, WARNING, INFO
+    private String rule;        // Code of the rule that raised this alert
+    private String title;
+    private String message;
+
+    // Flattened Project Data
+    private Long projectId;
+    private String projectName;
+    private String location;
+    private String supervisorName;
+    private Integer labourCount;
+}
@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import net.engineeringdigest.journalApp.model.CityStats;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -21,6 +22,10 @@ public class DashboardResponseDTO {
     private Map<String, Object> globalStats;
     private List<CityStats> cityStats;
     private List<SiteUpdateDTO> siteUpdates;
-    private List<Map<String, Object>> alerts;
+    private List<DashboardAlertDTO> alerts;
+
+    // Sections that timed out or failed and were returned empty (see DashboardAssembler)
+    @Builder.Default
+    private List<String> partialSections = new ArrayList<>();
     // Optional: add topProjects or recentLeads if needed in the future
 }
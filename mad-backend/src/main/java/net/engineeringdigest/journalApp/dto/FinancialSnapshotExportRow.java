@@ -0,0 +1,19 @@
+package net.engineeringdigest.journalApp.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 📤 Daily financial snapshot row joined with the project name, for streaming exports.
+ */
+public interface FinancialSnapshotExportRow {
+    LocalDate getDate();
+    Long getProjectId();
+    String getProjectName();
+    BigDecimal getTotalBudget();
+    BigDecimal getWorkDoneValue();
+    BigDecimal getMaterialExpense();
+    BigDecimal getLabourExpense();
+    BigDecimal getCurrentROI();
+    Double getHealthScore();
+}
@@ -0,0 +1,27 @@
+package net.engineeringdigest.journalApp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 📈 One point on a financial trend chart (a project or the whole portfolio on a given day).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FinancialTrendPointDTO {
+    private LocalDate date;
+    private BigDecimal totalBudget;
+    private BigDecimal workDoneValue;
+    private BigDecimal materialExpense;
+    private BigDecimal labourExpense;
+    private BigDecimal totalExpense;
+    private BigDecimal currentROI;
+    private double healthScore;
+}
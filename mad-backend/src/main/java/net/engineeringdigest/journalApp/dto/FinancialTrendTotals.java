@@ -0,0 +1,15 @@
+package net.engineeringdigest.journalApp.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 📈 Portfolio totals for one snapshot date (SQL GROUP BY projection).
+ */
+public interface FinancialTrendTotals {
+    LocalDate getDate();
+    BigDecimal getTotalBudget();
+    BigDecimal getWorkDoneValue();
+    BigDecimal getMaterialExpense();
+    BigDecimal getLabourExpense();
+}
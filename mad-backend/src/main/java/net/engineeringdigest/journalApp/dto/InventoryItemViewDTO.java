@@ -0,0 +1,29 @@
+package net.engineeringdigest.journalApp.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 🧱 Inventory item response view, read with one JOINed select.
+ * {@code currentQuantity} is the compacted balance (see InventoryLedgerService).
+ */
+public record InventoryItemViewDTO(
+        Long id,
+        String name,
+        String category,
+        String unitOfMeasure,
+        double minimumStockLevel,
+        double currentQuantity,
+        String description,
+        LocalDateTime createdAt,
+        NamedRef project,
+        NamedRef vendor) {
+
+    // JPQL constructor expression: flat columns, in select-list order
+    public InventoryItemViewDTO(Long id, String name, String category, String unitOfMeasure,
+                                double minimumStockLevel, double currentQuantity, String description,
+                                LocalDateTime createdAt, Long projectId, String projectName,
+                                Long vendorId, String vendorName) {
+        this(id, name, category, unitOfMeasure, minimumStockLevel, currentQuantity, description, createdAt,
+                NamedRef.of(projectId, projectName), NamedRef.of(vendorId, vendorName));
+    }
+}
@@ -0,0 +1,10 @@
+package net.engineeringdigest.journalApp.dto;
+
+/**
+ * 👷 Worker fields needed to mark attendance, without loading the Labour entity and its project.
+ */
+public interface LabourRef {
+    Long getId();
+    String getName();
+    Double getDailyWage();
+}
@@ -0,0 +1,34 @@
+package net.engineeringdigest.journalApp.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 📈 Lead funnel summary, produced by a single conditional-aggregation query
+ * (see LeadInquiryRepository#aggregateStats). Field names match the /leads/stats contract.
+ */
+@Data
+@NoArgsConstructor
+public class LeadStatsDTO {
+    private long todayCount;
+    private long totalNew;
+    private long totalContacted;
+    private long totalClosed;
+    private long totalAll;
+    private long criticalCount; // NEW and older than 24h
+
+    // JPQL constructor expression; SUM over an empty table yields null
+    public LeadStatsDTO(Long todayCount, Long totalNew, Long totalContacted, Long totalClosed,
+                        Long totalAll, Long criticalCount) {
+        this.todayCount = orZero(todayCount);
+        this.totalNew = orZero(totalNew);
+        this.totalContacted = orZero(totalContacted);
+        this.totalClosed = orZero(totalClosed);
+        this.totalAll = orZero(totalAll);
+        this.criticalCount = orZero(criticalCount);
+    }
+
+    private static long orZero(Long value) {
+        return value != null ? value : 0L;
+    }
+}
@@ -0,0 +1,11 @@
+package net.engineeringdigest.journalApp.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 📋 One worker's line of a monthly muster roll: a mark per day ("P", "H", "A" or "-") and the
+ * month's totals, all decoded from the worker's packed attendance calendar.
+ */
+public record MusterRollEntryDTO(Long labourId, String name, String type, Double dailyWage,
+                                 String days, int present, int halfDays, int absent,
+                                 double manDays, BigDecimal wageCost) {}
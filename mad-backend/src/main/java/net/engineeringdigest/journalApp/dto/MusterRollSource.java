@@ -0,0 +1,15 @@
+package net.engineeringdigest.journalApp.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 📋 A worker's packed month joined with their roster details (muster roll and payroll reads).
+ */
+public interface MusterRollSource {
+    Long getLabourId();
+    String getName();
+    String getType();
+    Double getDailyWage();
+    Long getDays();
+    BigDecimal getWageCost();
+}
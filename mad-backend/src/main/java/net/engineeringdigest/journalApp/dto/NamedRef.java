@@ -0,0 +1,13 @@
+package net.engineeringdigest.journalApp.dto;
+
+/**
+ * 🏷️ Reference to an associated entity (id + name) inside a flat response view.
+ * Serializes like the nested entity the screens already read, e.g. {@code project.name}.
+ */
+public record NamedRef(Long id, String name) {
+
+    // LEFT JOINed associations come back as null ids; render them as null, not {id: null}
+    public static NamedRef of(Long id, String name) {
+        return id == null ? null : new NamedRef(id, name);
+    }
+}
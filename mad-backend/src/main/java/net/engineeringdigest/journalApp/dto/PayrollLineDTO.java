@@ -0,0 +1,12 @@
+package net.engineeringdigest.journalApp.dto;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+/**
+ * 💰 One worker's pay for one project and month: day counts decoded from the attendance calendar,
+ * wage cost at the daily wage in force when each day was marked.
+ */
+public record PayrollLineDTO(Long labourId, String name, String type, Double dailyWage,
+                             Long projectId, String projectName, YearMonth month,
+                             int present, int halfDays, int absent, double manDays, BigDecimal wageCost) {}
@@ -0,0 +1,19 @@
+package net.engineeringdigest.journalApp.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 💰 A worker-project-month calendar word with its roster and project names (payroll reads and export).
+ */
+public interface PayrollLineSource {
+    Long getLabourId();
+    String getName();
+    String getType();
+    Double getDailyWage();
+    Long getProjectId();
+    String getProjectName();
+    LocalDate getMonthStart();
+    Long getDays();
+    BigDecimal getWageCost();
+}
@@ -0,0 +1,11 @@
+package net.engineeringdigest.journalApp.dto;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+/**
+ * 💰 Payroll summed over a group of worker-months: one project in a month, or one month
+ * (projectId null when it spans every project).
+ */
+public record PayrollTotalDTO(Long projectId, String projectName, YearMonth month,
+                              int workers, double manDays, BigDecimal wageCost) {}
@@ -0,0 +1,22 @@
+package net.engineeringdigest.journalApp.dto;
+
+import net.engineeringdigest.journalApp.model.ProjectStatus;
+
+/**
+ * 🚨 Flat Project projection for alert rules.
+ * Supervisor columns come from a LEFT JOIN in the same statement (no lazy loads).
+ */
+public interface ProjectAlertView {
+    Long getId();
+    String getName();
+    String getLocation();
+    Integer getLabourCount();
+    ProjectStatus getStatus();
+    String getSupervisorFullName();
+    String getSupervisorUsername();
+
+    default String getSupervisorDisplayName() {
+        if (getSupervisorFullName() != null) return getSupervisorFullName();
+        return getSupervisorUsername() != null ? getSupervisorUsername() : "Unassigned";
+    }
+}
@@ -0,0 +1,11 @@
+package net.engineeringdigest.journalApp.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 💰 One money total per project, produced by a GROUP BY project query.
+ */
+public interface ProjectAmount {
+    Long getProjectId();
+    BigDecimal getAmount();
+}
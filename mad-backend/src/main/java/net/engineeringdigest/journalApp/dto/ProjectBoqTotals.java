@@ -0,0 +1,10 @@
+package net.engineeringdigest.journalApp.dto;
+
+/**
+ * 📐 BOQ totals per project: budget (scope × rate) and work done (completed × rate).
+ */
+public interface ProjectBoqTotals {
+    Long getProjectId();
+    Double getBudget();
+    Double getWorkDone();
+}
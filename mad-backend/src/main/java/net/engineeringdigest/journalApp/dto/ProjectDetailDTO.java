@@ -0,0 +1,38 @@
+package net.engineeringdigest.journalApp.dto;
+
+import net.engineeringdigest.journalApp.model.ProjectStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 🏗️ Single-project response view (edit / audit screens), read with one JOINed select.
+ * Same JSON shape as the Project entity, with city and supervisor reduced to display fields.
+ */
+public record ProjectDetailDTO(
+        Long id,
+        String name,
+        String clientName,
+        String location,
+        ProjectStatus status,
+        LocalDate startDate,
+        int labourCount,
+        City city,
+        Supervisor supervisor,
+        LocalDateTime createdAt) {
+
+    public record City(Long id, String name, String state) {}
+
+    public record Supervisor(Long id, String username, String fullName) {}
+
+    // JPQL constructor expression: flat columns, in select-list order
+    public ProjectDetailDTO(Long id, String name, String clientName, String location, ProjectStatus status,
+                            LocalDate startDate, int labourCount, Long cityId, String cityName, String cityState,
+                            Long supervisorId, String supervisorUsername, String supervisorFullName,
+                            LocalDateTime createdAt) {
+        this(id, name, clientName, location, status, startDate, labourCount,
+                cityId == null ? null : new City(cityId, cityName, cityState),
+                supervisorId == null ? null : new Supervisor(supervisorId, supervisorUsername, supervisorFullName),
+                createdAt);
+    }
+}
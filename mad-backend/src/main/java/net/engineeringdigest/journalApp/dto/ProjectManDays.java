@@ -0,0 +1,9 @@
+package net.engineeringdigest.journalApp.dto;
+
+/**
+ * 👷 Man-days per project (SQL GROUP BY projection over the attendance rollup).
+ */
+public interface ProjectManDays {
+    Long getProjectId();
+    Double getManDays();
+}
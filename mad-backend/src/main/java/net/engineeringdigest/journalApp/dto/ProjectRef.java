@@ -0,0 +1,9 @@
+package net.engineeringdigest.journalApp.dto;
+
+/**
+ * 🏷️ Minimal project identity (id + name) for portfolio-wide reports.
+ */
+public interface ProjectRef {
+    Long getId();
+    String getName();
+}
@@ -0,0 +1,13 @@
+package net.engineeringdigest.journalApp.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 🏷️ Project identity plus the fields timeline analytics need (start date, supervisor).
+ */
+public interface ProjectScheduleRef {
+    Long getId();
+    String getName();
+    LocalDate getStartDate();
+    String getSupervisorName();
+}
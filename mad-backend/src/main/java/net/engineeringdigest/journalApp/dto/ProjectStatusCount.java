@@ -0,0 +1,15 @@
+package net.engineeringdigest.journalApp.dto;
+
+import net.engineeringdigest.journalApp.model.ProjectStatus;
+
+/**
+ * 📊 Grouped Project Count Projection
+ * One row per (city, status) pair, produced by a single GROUP BY query.
+ * Used to (re)build the in-memory dashboard aggregates without loading entities.
+ */
+public interface ProjectStatusCount {
+    Long getCityId();
+    String getCityName();
+    ProjectStatus getStatus();
+    Long getTotal();
+}
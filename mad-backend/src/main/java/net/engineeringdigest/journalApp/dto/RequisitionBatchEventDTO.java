@@ -0,0 +1,8 @@
+package net.engineeringdigest.journalApp.dto;
+
+import java.util.List;
+
+/**
+ * 📡 Live event for a bulk submission: one event for the whole batch instead of one per line.
+ */
+public record RequisitionBatchEventDTO(String requester, int count, List<Long> requisitionIds, List<String> projectNames) {}
@@ -0,0 +1,20 @@
+package net.engineeringdigest.journalApp.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 📤 Flat requisition row for streaming exports (no entities loaded).
+ */
+public interface RequisitionExportRow {
+    Long getId();
+    LocalDateTime getCreatedAt();
+    String getProjectName();
+    String getItemName();
+    Double getQuantity();
+    String getUnitOfMeasure();
+    String getStatus();
+    String getPaymentStatus();
+    String getVendorName();
+    BigDecimal getTotalCost();
+}
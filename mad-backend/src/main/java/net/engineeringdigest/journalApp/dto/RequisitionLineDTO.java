@@ -0,0 +1,16 @@
+package net.engineeringdigest.journalApp.dto;
+
+/**
+ * 📦 One material line of a bulk requisition submission.
+ * Either {@code inventoryItemId} or {@code customItemName} names the material;
+ * lines are validated individually so one bad line does not reject the rest.
+ */
+public record RequisitionLineDTO(
+    Long projectId,
+    Long inventoryItemId,
+    String customItemName,
+    Double quantity,
+    String unitOfMeasure,
+    String urgency,
+    String remarks
+) {}
@@ -0,0 +1,34 @@
+package net.engineeringdigest.journalApp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 📋 Flat requisition row for the admin listing.
+ * Built by a JPQL constructor expression: no entities or lazy proxies are loaded or serialized.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequisitionListItemDTO {
+    private Long id;
+    private LocalDateTime createdAt;
+    private String status;
+    private String urgency;
+    private String paymentStatus;
+    private Long projectId;
+    private String projectName;
+    private String requesterName;
+    private String itemName;        // Inventory item name, or the free-text custom item
+    private Double quantity;
+    private String unitOfMeasure;
+    private Integer receivedQuantity;
+    private Long vendorId;
+    private String vendorName;
+    private BigDecimal unitPrice;
+    private BigDecimal totalCost;
+}
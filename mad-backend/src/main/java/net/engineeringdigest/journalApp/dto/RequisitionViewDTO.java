@@ -0,0 +1,51 @@
+package net.engineeringdigest.journalApp.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 📦 Requisition response view, read with one JOINed select (no entity, no lazy proxies).
+ * Keeps the JSON shape of the MaterialRequisition entity that the screens consume, with
+ * associations reduced to the fields they display.
+ */
+public record RequisitionViewDTO(
+        Long id,
+        NamedRef project,
+        Requester requester,
+        Item inventoryItem,
+        String customItemName,
+        Double quantity,
+        String unitOfMeasure,
+        String urgency,
+        NamedRef vendor,
+        String status,
+        String paymentStatus,
+        BigDecimal unitPrice,
+        BigDecimal totalCost,
+        BigDecimal gstAmount,
+        String currency,
+        Integer receivedQuantity,
+        String remarks,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    public record Requester(Long id, String username, String fullName) {}
+
+    public record Item(Long id, String name, String unitOfMeasure) {}
+
+    // JPQL constructor expression: flat columns, in select-list order
+    public RequisitionViewDTO(Long id, Long projectId, String projectName,
+                              Long requesterId, String requesterUsername, String requesterFullName,
+                              Long itemId, String itemName, String itemUnit,
+                              String customItemName, Double quantity, String unitOfMeasure, String urgency,
+                              Long vendorId, String vendorName, String status, String paymentStatus,
+                              BigDecimal unitPrice, BigDecimal totalCost, BigDecimal gstAmount, String currency,
+                              Integer receivedQuantity, String remarks, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, NamedRef.of(projectId, projectName),
+                new Requester(requesterId, requesterUsername, requesterFullName),
+                itemId == null ? null : new Item(itemId, itemName, itemUnit),
+                customItemName, quantity, unitOfMeasure, urgency, NamedRef.of(vendorId, vendorName),
+                status, paymentStatus, unitPrice, totalCost, gstAmount, currency, receivedQuantity, remarks,
+                createdAt, updatedAt);
+    }
+}
@@ -0,0 +1,12 @@
+package net.engineeringdigest.journalApp.dto;
+
+import net.engineeringdigest.journalApp.model.ProjectStatus;
+
+/**
+ * 📊 Project Status Distribution Projection
+ * One row per status, aggregated in SQL.
+ */
+public interface StatusCount {
+    ProjectStatus getStatus();
+    Long getTotal();
+}
@@ -0,0 +1,10 @@
+package net.engineeringdigest.journalApp.dto;
+
+/**
+ * 📦 Compacted and live stock of one inventory item (see InventoryLedgerService).
+ */
+public interface StockLevel {
+    Long getItemId();
+    double getCompactedQuantity();
+    double getCurrentQuantity();
+}
@@ -1,10 +1,14 @@
 package net.engineeringdigest.journalApp.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor // JPQL constructor expression, in field order
 public class VendorAuditDTO {
     private Long requisitionId;
     private String itemName;
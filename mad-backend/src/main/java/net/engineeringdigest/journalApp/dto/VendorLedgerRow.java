@@ -0,0 +1,15 @@
+package net.engineeringdigest.journalApp.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 🧾 Vendor statement row (projection over vendors LEFT JOIN vendor_ledger).
+ */
+public interface VendorLedgerRow {
+    Long getVendorId();
+    String getVendorName();
+    BigDecimal getTotalOrderValue();
+    BigDecimal getTotalPaid();
+    BigDecimal getPendingBalance();
+    Integer getOrderCount();
+}
@@ -2,11 +2,16 @@ package net.engineeringdigest.journalApp.model;
 
 
 import jakarta.persistence.*;
+import net.engineeringdigest.journalApp.service.cache.CacheInvalidationListener;
 import lombok.Data;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "attendance")
+@Table(name = "attendance",
+        uniqueConstraints = @UniqueConstraint(name = "uk_attendance_labour_project_date",
+                columnNames = {"labour_id", "project_id", "date"}),
+        indexes = @Index(name = "idx_attendance_date", columnList = "date"))
+@EntityListeners(CacheInvalidationListener.class)
 @Data
 public class Attendance {
     @Id
@@ -0,0 +1,120 @@
+package net.engineeringdigest.journalApp.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 🗓️ Attendance Calendar (one row per worker per project per month)
+ * The month's attendance packed into a single 64-bit word, 2 bits per day: day d occupies
+ * bits 2(d-1) and 2(d-1)+1, so 31 days use 62 bits. Codes: 00 not marked, 01 ABSENT,
+ * 10 HALF_DAY, 11 PRESENT. Monthly counts are three popcounts instead of a row scan.
+ *
+ * wage_cost is the month's pay at the daily wage in force when each day was marked; payroll
+ * totals per worker, project and month are summed from it.
+ *
+ * Maintained in the same transaction as every attendance write (see AttendanceBatchService);
+ * derived data, rebuilt from attendance on demand.
+ */
+@Entity
+@Table(name = "attendance_calendar",
+        uniqueConstraints = @UniqueConstraint(name = "uk_attendance_calendar_labour_project_month",
+                columnNames = {"labour_id", "project_id", "month_start"}),
+        indexes = @Index(name = "idx_attendance_calendar_project_month", columnList = "project_id, month_start"))
+@Data
+@NoArgsConstructor
+public class AttendanceCalendar {
+
+    public static final long NONE = 0b00;
+    public static final long ABSENT = 0b01;
+    public static final long HALF_DAY = 0b10;
+    public static final long PRESENT = 0b11;
+
+    // Low bit of every 2-bit day slot
+    private static final long LOW_BITS = 0x5555_5555_5555_5555L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "labour_id", nullable = false)
+    private Long labourId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    // First day of the month
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart;
+
+    @Column(name = "days", nullable = false)
+    private long days;
+
+    @Column(name = "wage_cost", nullable = false, precision = 14, scale = 2)
+    private BigDecimal wageCost = BigDecimal.ZERO;
+
+    public AttendanceCalendar(Long labourId, Long projectId, LocalDate monthStart, long days, BigDecimal wageCost) {
+        this.labourId = labourId;
+        this.projectId = projectId;
+        this.monthStart = monthStart;
+        this.days = days;
+        this.wageCost = wageCost;
+    }
+
+    // ─── Codec ───────────────────────────────────────────────────
+
+    public static long codeOf(String status) {
+        if (status == null) return NONE;
+        switch (status.toUpperCase()) {
+            case "PRESENT": return PRESENT;
+            case "HALF_DAY": return HALF_DAY;
+            case "ABSENT": return ABSENT;
+            default: return NONE;
+        }
+    }
+
+    public static String statusOf(long code) {
+        if (code == PRESENT) return "PRESENT";
+        if (code == HALF_DAY) return "HALF_DAY";
+        if (code == ABSENT) return "ABSENT";
+        return null;
+    }
+
+    /** Man-days a status is worth: PRESENT 1.0, HALF_DAY 0.5, otherwise 0. */
+    public static double loadOf(String status) {
+        long code = codeOf(status);
+        return code == PRESENT ? 1.0 : code == HALF_DAY ? 0.5 : 0.0;
+    }
+
+    public static int shiftOf(LocalDate date) {
+        return 2 * (date.getDayOfMonth() - 1);
+    }
+
+    public static long with(long days, LocalDate date, long code) {
+        int shift = shiftOf(date);
+        return (days & ~(0b11L << shift)) | (code << shift);
+    }
+
+    public static long codeOn(long days, int dayOfMonth) {
+        return (days >>> (2 * (dayOfMonth - 1))) & 0b11;
+    }
+
+    public static int presentDays(long days) {
+        return Long.bitCount(days & (days >>> 1) & LOW_BITS);
+    }
+
+    public static int halfDays(long days) {
+        return Long.bitCount((days >>> 1) & ~days & LOW_BITS);
+    }
+
+    public static int absentDays(long days) {
+        return Long.bitCount(days & ~(days >>> 1) & LOW_BITS);
+    }
+
+    public static double manDays(long days) {
+        return presentDays(days) + halfDays(days) * 0.5;
+    }
+}
@@ -1,12 +1,14 @@
 package net.engineeringdigest.journalApp.model;
 
 import jakarta.persistence.*;
+import net.engineeringdigest.journalApp.service.cache.CacheInvalidationListener;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "cities")
+@EntityListeners(CacheInvalidationListener.class)
 @Data
 @NoArgsConstructor
 public class City {
@@ -0,0 +1,55 @@
+package net.engineeringdigest.journalApp.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 📅 Daily Attendance Rollup (one row per project per day)
+ * Maintained in the same transaction as every attendance write (see AttendanceBatchService),
+ * so trend, productivity and financial reads never have to load Attendance rows.
+ *
+ * project_id is a plain column (no FK): this is derived data, rebuilt from attendance on demand.
+ */
+@Entity
+@Table(name = "daily_attendance_rollup",
+        uniqueConstraints = @UniqueConstraint(name = "uk_attendance_rollup_date_project", columnNames = {"work_date", "project_id"}),
+        indexes = @Index(name = "idx_attendance_rollup_project", columnList = "project_id"))
+@Data
+@NoArgsConstructor
+public class DailyAttendanceRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "work_date", nullable = false)
+    private LocalDate date;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "present_count", nullable = false)
+    private int presentCount;
+
+    @Column(name = "half_day_count", nullable = false)
+    private int halfDayCount;
+
+    @Column(name = "absent_count", nullable = false)
+    private int absentCount;
+
+    @Column(name = "man_days", nullable = false)
+    private double manDays;
+
+    // Wage cost at the daily wage in force when attendance was marked
+    @Column(name = "wage_cost", nullable = false, precision = 14, scale = 2)
+    private BigDecimal wageCost = BigDecimal.ZERO;
+
+    public DailyAttendanceRollup(LocalDate date, Long projectId) {
+        this.date = date;
+        this.projectId = projectId;
+    }
+}
@@ -1,18 +1,25 @@
 package net.engineeringdigest.journalApp.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
+import net.engineeringdigest.journalApp.service.cache.CacheInvalidationListener;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
+import java.util.Locale;
 
 /**
  * 🧱 Enterprise Resource: Inventory Item (Materials)
+ * One item per (project, normalized name): the unique item key lets goods receipts find
+ * the stock row with an index lookup and stops concurrent receipts from duplicating it.
  */
 @Entity
-@Table(name = "inventory_items")
+@Table(name = "inventory_items",
+        uniqueConstraints = @UniqueConstraint(name = "uk_inventory_items_project_key", columnNames = {"project_id", "item_key"}))
+@EntityListeners(CacheInvalidationListener.class)
 @Data
 @NoArgsConstructor
 // ✅ H1 FIX: Prevent Hibernate lazy proxy serialization errors
@@ -28,6 +35,11 @@ public class InventoryItem {
     @Column(nullable = false, length = 100)
     private String name;
 
+    // Case-folded, whitespace-collapsed name; derived from name on every write
+    @JsonIgnore
+    @Column(name = "item_key", nullable = false, length = 100)
+    private String itemKey;
+
     @Column(length = 50)
     private String category; // e.g., MASONRY, ELECTRICAL, PLUMBING
 
@@ -38,8 +50,10 @@ public class InventoryItem {
     @Column(name = "minimum_stock_level")
     private double minimumStockLevel;
 
+    // Compacted balance: the opening stock plus movements folded in by InventoryLedgerService.
+    // Never written on entity update, so a stale copy cannot overwrite a compaction.
     @Min(value = 0, message = "Current quantity cannot be negative")
-    @Column(name = "current_quantity")
+    @Column(name = "current_quantity", updatable = false)
     private double currentQuantity;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -59,5 +73,19 @@ public class InventoryItem {
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
+        itemKey = keyOf(name);
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        itemKey = keyOf(name);
+    }
+
+    /**
+     * 🔑 Normalized lookup key for a material name: "  Cement  OPC " and "cement opc" are the same item.
+     * Mirrors the V18 backfill (LOWER + TRIM + collapsed whitespace).
+     */
+    public static String keyOf(String name) {
+        return name == null ? null : name.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
     }
 }
@@ -0,0 +1,59 @@
+package net.engineeringdigest.journalApp.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 📒 Inventory Movement (append-only stock ledger)
+ * Every stock change is an INSERT here, so concurrent receipts never contend on the item row.
+ * A periodic compaction folds new movements into InventoryItem.currentQuantity and stamps them
+ * with its run id; live stock is that balance plus the movements not yet stamped.
+ *
+ * item_id is a plain key (no FK): the history outlives an item that is later deleted.
+ */
+@Entity
+@Table(name = "inventory_movements", indexes = {
+        @Index(name = "idx_inventory_movements_run_item", columnList = "compaction_run, item_id"),
+        @Index(name = "idx_inventory_movements_item_id", columnList = "item_id, id")
+})
+@Data
+@NoArgsConstructor
+public class InventoryMovement {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private InventoryMovementType type;
+
+    // Signed change in stock (negative for issues and outgoing transfers)
+    @Column(nullable = false)
+    private double quantity;
+
+    // What caused the movement, e.g. "REQ-42" for a goods receipt
+    @Column(length = 50)
+    private String reference;
+
+    @Column(length = 50)
+    private String actor;
+
+    // Set by the compaction run that folded this movement into the item balance; null = pending
+    @Column(name = "compaction_run", length = 36)
+    private String compactionRun;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
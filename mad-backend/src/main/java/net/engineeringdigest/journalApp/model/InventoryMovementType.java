@@ -0,0 +1,24 @@
+package net.engineeringdigest.journalApp.model;
+
+/**
+ * 🔀 Kinds of stock movement in the inventory ledger.
+ * Quantities are entered as positive amounts; the type decides the direction.
+ * ADJUSTMENT carries its own sign (a stock-count correction can go either way).
+ */
+public enum InventoryMovementType {
+    RECEIPT(1),
+    ISSUE(-1),
+    ADJUSTMENT(1),
+    TRANSFER_IN(1),
+    TRANSFER_OUT(-1);
+
+    private final int direction;
+
+    InventoryMovementType(int direction) {
+        this.direction = direction;
+    }
+
+    public double signed(double quantity) {
+        return direction * quantity;
+    }
+}
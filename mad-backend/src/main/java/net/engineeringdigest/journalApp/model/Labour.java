@@ -1,10 +1,12 @@
 package net.engineeringdigest.journalApp.model;
 
 import jakarta.persistence.*;
+import net.engineeringdigest.journalApp.service.cache.CacheInvalidationListener;
 import lombok.Data;
 
 @Entity
 @Table(name = "labour")
+@EntityListeners(CacheInvalidationListener.class)
 @Data
 public class Labour {
     @Id
@@ -1,6 +1,7 @@
 package net.engineeringdigest.journalApp.model;
 
 import jakarta.persistence.*;
+import net.engineeringdigest.journalApp.service.cache.CacheInvalidationListener;
 import java.time.LocalDateTime;
 
 /**
@@ -9,7 +10,11 @@ import java.time.LocalDateTime;
  *  - Contact "Book Free Site Visit" form
  */
 @Entity
-@Table(name = "lead_inquiries")
+@Table(name = "lead_inquiries", indexes = {
+        // 📈 Covers the single-query lead funnel (status counts + NEW-and-older-than-24h)
+        @Index(name = "idx_lead_inquiries_status_submitted", columnList = "status, submitted_at")
+})
+@EntityListeners(CacheInvalidationListener.class)
 public class LeadInquiry {
 
     @Id
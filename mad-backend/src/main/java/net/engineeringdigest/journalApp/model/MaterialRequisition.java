@@ -12,7 +12,12 @@ import java.time.LocalDateTime;
  * Allows field supervisors to request materials for specific projects.
  */
 @Entity
-@Table(name = "material_requisitions")
+@Table(name = "material_requisitions", indexes = {
+        @Index(name = "idx_requisitions_created_id", columnList = "created_at, id"),
+        @Index(name = "idx_requisitions_status_created_id", columnList = "status, created_at, id"),
+        @Index(name = "idx_requisitions_project_created_id", columnList = "project_id, created_at, id"),
+        @Index(name = "idx_requisitions_vendor_created_id", columnList = "vendor_id, created_at, id")
+})
 @Data
 @NoArgsConstructor
 public class MaterialRequisition {
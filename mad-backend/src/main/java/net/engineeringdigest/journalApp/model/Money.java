@@ -0,0 +1,93 @@
+package net.engineeringdigest.journalApp.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 💰 Fixed-point money: a rupee amount held as a primitive {@code long} of paise.
+ * Aggregations add paise in a {@code long} (e.g. {@code mapToLong(Money::toPaise).sum()})
+ * instead of allocating a BigDecimal per row; BigDecimal is only created once at the API edge.
+ * Every conversion rounds HALF_UP to the paisa, so all totals round the same way.
+ */
+public record Money(long paise) implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0);
+
+    // Largest rupee value whose double is exact enough to recover paise by rounding (≈ ₹10^11)
+    private static final double FAST_PATH_LIMIT = 1e11;
+
+    public static Money ofPaise(long paise) {
+        return paise == 0 ? ZERO : new Money(paise);
+    }
+
+    public static Money of(BigDecimal rupees) {
+        return ofPaise(toPaise(rupees));
+    }
+
+    public static Money ofRupees(double rupees) {
+        return ofPaise(toPaise(rupees));
+    }
+
+    /**
+     * Paise in a BigDecimal amount (null counts as zero), HALF_UP.
+     * Amounts read from NUMERIC(…, 2) columns take an allocation-free path: their double value
+     * is the correctly rounded quotient of the unscaled value, so rounding it back is exact.
+     */
+    public static long toPaise(BigDecimal rupees) {
+        if (rupees == null) return 0;
+        if (rupees.scale() >= 0 && rupees.scale() <= 2) {
+            double value = rupees.doubleValue();
+            if (Math.abs(value) < FAST_PATH_LIMIT) {
+                return Math.round(value * 100);
+            }
+        }
+        return rupees.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Paise in a double amount, HALF_UP on its shortest decimal form — the same value
+     * {@code BigDecimal.valueOf(rupees)} shows — so 1.005 rounds to 1.01 rather than 1.00.
+     * Meant for a total computed in double (BOQ scope × rate), not for per-row use.
+     */
+    public static long toPaise(double rupees) {
+        return BigDecimal.valueOf(rupees).setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public Money plus(Money other) {
+        return ofPaise(Math.addExact(paise, other.paise));
+    }
+
+    public Money minus(Money other) {
+        return ofPaise(Math.subtractExact(paise, other.paise));
+    }
+
+    public boolean isPositive() {
+        return paise > 0;
+    }
+
+    public long rupeePart() {
+        return paise / 100;
+    }
+
+    public int paisePart() {
+        return (int) Math.abs(paise % 100);
+    }
+
+    public double toRupees() {
+        return paise / 100.0;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(paise, 2);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(paise, other.paise);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
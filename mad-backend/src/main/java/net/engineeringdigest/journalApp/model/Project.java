@@ -2,16 +2,25 @@ package net.engineeringdigest.journalApp.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import net.engineeringdigest.journalApp.service.ProjectAggregateListener;
+import net.engineeringdigest.journalApp.service.cache.CacheInvalidationListener;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "projects")
+@Table(name = "projects", indexes = {
+        // 🚨 Backs the dashboard alert rules (status IN (...), status = ? AND labour_count < ?)
+        @Index(name = "idx_projects_status_labour", columnList = "status, labour_count")
+})
 @Data
 @NoArgsConstructor
 @com.fasterxml.jackson.annotation.JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+@EntityListeners({ProjectAggregateListener.class, CacheInvalidationListener.class})
 public class Project {
 
     @Id
@@ -48,6 +57,19 @@ public class Project {
     @Column(updatable = false)
     private LocalDateTime createdAt;
 
+    // 📊 Last persisted city/status, captured by ProjectAggregateListener to compute dashboard deltas
+    @Transient
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Long persistedCityId;
+
+    @Transient
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private ProjectStatus persistedStatus;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
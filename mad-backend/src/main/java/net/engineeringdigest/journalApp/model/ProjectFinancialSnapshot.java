@@ -0,0 +1,58 @@
+package net.engineeringdigest.journalApp.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 📸 Project Financial Snapshot (one row per project per day)
+ * Written by FinancialSnapshotService after the day closes, so trend charts read
+ * history with one indexed range scan instead of recomputing the ledgers.
+ *
+ * project_id is a plain column (no FK): snapshots are history and outlive project edits.
+ */
+@Entity
+@Table(name = "project_financial_snapshots",
+        uniqueConstraints = @UniqueConstraint(name = "uk_financial_snapshot_project_date", columnNames = {"project_id", "snapshot_date"}),
+        indexes = @Index(name = "idx_financial_snapshot_date", columnList = "snapshot_date"))
+@Data
+@NoArgsConstructor
+public class ProjectFinancialSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "snapshot_date", nullable = false)
+    private LocalDate snapshotDate;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "total_budget", nullable = false, precision = 16, scale = 2)
+    private BigDecimal totalBudget = BigDecimal.ZERO;
+
+    @Column(name = "work_done_value", nullable = false, precision = 16, scale = 2)
+    private BigDecimal workDoneValue = BigDecimal.ZERO;
+
+    @Column(name = "material_expense", nullable = false, precision = 16, scale = 2)
+    private BigDecimal materialExpense = BigDecimal.ZERO;
+
+    // Cumulative: previous snapshot + that day's rollup wage cost
+    @Column(name = "labour_expense", nullable = false, precision = 16, scale = 2)
+    private BigDecimal labourExpense = BigDecimal.ZERO;
+
+    @Column(name = "current_roi", nullable = false, precision = 16, scale = 2)
+    private BigDecimal currentROI = BigDecimal.ZERO;
+
+    @Column(name = "health_score", nullable = false)
+    private double healthScore;
+
+    public ProjectFinancialSnapshot(LocalDate snapshotDate, Long projectId) {
+        this.snapshotDate = snapshotDate;
+        this.projectId = projectId;
+    }
+}
@@ -2,10 +2,12 @@ package net.engineeringdigest.journalApp.model;
 
 
 import jakarta.persistence.*;
+import net.engineeringdigest.journalApp.service.cache.CacheInvalidationListener;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "site_updates")
+@EntityListeners(CacheInvalidationListener.class)
 public class SiteUpdate {
 
     @Id
@@ -3,11 +3,13 @@ package net.engineeringdigest.journalApp.model;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
+import net.engineeringdigest.journalApp.service.cache.CacheInvalidationListener;
 import lombok.Data;
 
 // ✅ C3+L3 FIX: Prevent Hibernate proxy metadata leak + hide passwordHash from JSON
 @Entity
 @Table(name = "users")
+@EntityListeners(CacheInvalidationListener.class)
 @Data
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class User {
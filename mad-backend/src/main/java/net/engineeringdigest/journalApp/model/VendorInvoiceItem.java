@@ -7,7 +7,8 @@ import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 
 @Entity
-@Table(name = "vendor_invoice_items")
+@Table(name = "vendor_invoice_items", uniqueConstraints = @UniqueConstraint(
+        name = "uk_vendor_invoice_items_requisition", columnNames = "requisition_id"))
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler", "invoice"})
@@ -21,6 +22,7 @@ public class VendorInvoiceItem {
     @JoinColumn(name = "invoice_id", nullable = false)
     private VendorInvoice invoice;
 
+    // A requisition is invoiced at most once
     @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "requisition_id", nullable = false)
     private MaterialRequisition requisition;
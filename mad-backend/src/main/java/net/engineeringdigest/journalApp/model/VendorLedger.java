@@ -0,0 +1,45 @@
+package net.engineeringdigest.journalApp.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 🧾 Vendor Ledger (one row per vendor)
+ * Running order value / paid / pending totals, maintained in the same transaction as every
+ * requisition write (see VendorLedgerService), so vendor statements never load requisitions.
+ *
+ * vendor_id is a plain key (no FK): this is derived data, rebuilt from requisitions on demand.
+ */
+@Entity
+@Table(name = "vendor_ledger",
+        indexes = @Index(name = "idx_vendor_ledger_pending", columnList = "pending_balance"))
+@Data
+@NoArgsConstructor
+public class VendorLedger {
+
+    @Id
+    @Column(name = "vendor_id")
+    private Long vendorId;
+
+    // Non-rejected requisitions
+    @Column(name = "order_value", nullable = false, precision = 16, scale = 2)
+    private BigDecimal orderValue = BigDecimal.ZERO;
+
+    // Requisitions marked PAID
+    @Column(name = "paid_amount", nullable = false, precision = 16, scale = 2)
+    private BigDecimal paidAmount = BigDecimal.ZERO;
+
+    // order_value - paid_amount, stored so large vendor lists can be sorted on an index
+    @Column(name = "pending_balance", nullable = false, precision = 16, scale = 2)
+    private BigDecimal pendingBalance = BigDecimal.ZERO;
+
+    @Column(name = "order_count", nullable = false)
+    private int orderCount;
+
+    public VendorLedger(Long vendorId) {
+        this.vendorId = vendorId;
+    }
+}
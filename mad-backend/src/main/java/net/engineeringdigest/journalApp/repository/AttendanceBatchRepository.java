@@ -0,0 +1,23 @@
+package net.engineeringdigest.journalApp.repository;
+
+import net.engineeringdigest.journalApp.model.Attendance;
+
+import java.util.List;
+
+/**
+ * 🗓️ Multi-row attendance writes (fragment of AttendanceRepository).
+ */
+public interface AttendanceBatchRepository {
+
+    /**
+     * Inserts new attendance rows in one JDBC batch and sets their generated ids.
+     * Labour and project are written by id only; the rows bypass the persistence context,
+     * so entity callbacks do not run for them.
+     */
+    void insertAll(List<Attendance> rows);
+
+    /**
+     * Writes the status of existing attendance rows (by id) in one JDBC batch.
+     */
+    void updateStatuses(List<Attendance> rows);
+}
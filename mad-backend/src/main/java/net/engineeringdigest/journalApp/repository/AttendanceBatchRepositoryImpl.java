@@ -0,0 +1,71 @@
+package net.engineeringdigest.journalApp.repository;
+
+import net.engineeringdigest.journalApp.model.Attendance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One prepared INSERT and one prepared UPDATE, each executed as a single batch on the
+ * transaction's connection, instead of a Hibernate save (and round trip) per worker.
+ */
+class AttendanceBatchRepositoryImpl implements AttendanceBatchRepository {
+
+    private static final String INSERT = "INSERT INTO attendance (labour_id, project_id, date, status) VALUES (?, ?, ?, ?)";
+    private static final String UPDATE_STATUS = "UPDATE attendance SET status = ? WHERE id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<Attendance> rows) {
+        if (rows.isEmpty()) return;
+        GeneratedKeyHolder keys = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Attendance a = rows.get(i);
+                        ps.setLong(1, a.getLabour().getId());
+                        ps.setLong(2, a.getProject().getId());
+                        ps.setDate(3, Date.valueOf(a.getDate()));
+                        ps.setString(4, a.getStatus());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                }, keys);
+
+        List<Map<String, Object>> generated = keys.getKeyList();
+        for (int i = 0; i < rows.size(); i++) {
+            rows.get(i).setId(((Number) generated.get(i).values().iterator().next()).longValue());
+        }
+    }
+
+    @Override
+    public void updateStatuses(List<Attendance> rows) {
+        if (rows.isEmpty()) return;
+        jdbcTemplate.batchUpdate(UPDATE_STATUS, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setString(1, rows.get(i).getStatus());
+                ps.setLong(2, rows.get(i).getId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+}
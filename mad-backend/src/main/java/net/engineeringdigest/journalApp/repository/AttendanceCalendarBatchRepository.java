@@ -0,0 +1,34 @@
+package net.engineeringdigest.journalApp.repository;
+
+import net.engineeringdigest.journalApp.model.AttendanceCalendar;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 🗓️ Multi-row attendance calendar writes (fragment of AttendanceCalendarRepository).
+ */
+public interface AttendanceCalendarBatchRepository {
+
+    /**
+     * One worker's day set to {@code code} (see {@link AttendanceCalendar}), with what a present
+     * and a half day cost at the worker's daily wage.
+     */
+    record DayMark(Long labourId, Long projectId, LocalDate date, long code,
+                   BigDecimal presentCost, BigDecimal halfDayCost) {}
+
+    /**
+     * Sets each mark's day slot in the stored row of its (labour, project, month) and moves the
+     * month's {@code wageCost} from the cost of the slot's stored status to the new one, in one JDBC
+     * UPDATE batch; then inserts the months that had no row yet in one INSERT batch.
+     * Marks must be unique per (labour, project, month).
+     */
+    void applyMarks(List<DayMark> marks);
+
+    /**
+     * Adds each row's {@code wageCost} (a signed amount) to the stored row of its (labour, project,
+     * month) in one JDBC UPDATE batch; {@code days} is ignored and months without a row are skipped.
+     */
+    void addWageCosts(List<AttendanceCalendar> amounts);
+}
@@ -0,0 +1,124 @@
+package net.engineeringdigest.journalApp.repository;
+
+import net.engineeringdigest.journalApp.model.AttendanceCalendar;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * In-place writes on the packed word (no read-modify-write in Java). A mark replaces its day's
+ * 2-bit slot, read from the row being updated, rather than adding to it: two marks of the same day
+ * racing past the attendance check leave the slot, its neighbouring days and the wage cost as one
+ * mark would. The slot is isolated as {@code MOD(days, 4p) - MOD(days, p)} with {@code p = 4^(day-1)},
+ * which is plain integer arithmetic on MySQL, Postgres and H2 alike (no bit operators, no division).
+ * The unique (labour, project, month) key guards a concurrent first insert.
+ */
+class AttendanceCalendarBatchRepositoryImpl implements AttendanceCalendarBatchRepository {
+
+    // The day's code, still in place: code * p
+    private static final String SLOT = "(MOD(days, ?) - MOD(days, ?))";
+
+    private static final String MONEY = "CAST(? AS DECIMAL(14,2))";
+
+    // wage_cost is assigned before days: MySQL evaluates SET left to right and would otherwise
+    // read the new word (Postgres and H2 read the old row either way). The costs are cast so the
+    // CASE is not typed as an integer from its ELSE branch
+    private static final String MARK = "UPDATE attendance_calendar SET " +
+            "wage_cost = wage_cost + " + MONEY + " - CASE " + SLOT +
+            " WHEN ? THEN " + MONEY + " WHEN ? THEN " + MONEY + " ELSE 0 END, " +
+            "days = days + ? - " + SLOT + " " +
+            "WHERE labour_id = ? AND project_id = ? AND month_start = ?";
+    private static final String INSERT = "INSERT INTO attendance_calendar (labour_id, project_id, month_start, days, wage_cost) " +
+            "VALUES (?, ?, ?, ?, ?)";
+    private static final String ADD_WAGE_COST = "UPDATE attendance_calendar SET wage_cost = wage_cost + ? " +
+            "WHERE labour_id = ? AND project_id = ? AND month_start = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void applyMarks(List<DayMark> marks) {
+        if (marks.isEmpty()) return;
+        int[] updated = jdbcTemplate.batchUpdate(MARK, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                DayMark m = marks.get(i);
+                long p = 1L << AttendanceCalendar.shiftOf(m.date());
+                ps.setBigDecimal(1, costOf(m));
+                ps.setLong(2, 4 * p);
+                ps.setLong(3, p);
+                ps.setLong(4, AttendanceCalendar.PRESENT * p);
+                ps.setBigDecimal(5, m.presentCost());
+                ps.setLong(6, AttendanceCalendar.HALF_DAY * p);
+                ps.setBigDecimal(7, m.halfDayCost());
+                ps.setLong(8, m.code() * p);
+                ps.setLong(9, 4 * p);
+                ps.setLong(10, p);
+                ps.setLong(11, m.labourId());
+                ps.setLong(12, m.projectId());
+                ps.setDate(13, Date.valueOf(m.date().withDayOfMonth(1)));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return marks.size();
+            }
+        });
+
+        // A missing month starts from an all-zero word and no cost
+        List<DayMark> missing = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) missing.add(marks.get(i));
+        }
+        if (missing.isEmpty()) return;
+        jdbcTemplate.batchUpdate(INSERT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                DayMark m = missing.get(i);
+                ps.setLong(1, m.labourId());
+                ps.setLong(2, m.projectId());
+                ps.setDate(3, Date.valueOf(m.date().withDayOfMonth(1)));
+                ps.setLong(4, AttendanceCalendar.with(0L, m.date(), m.code()));
+                ps.setBigDecimal(5, costOf(m));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return missing.size();
+            }
+        });
+    }
+
+    private static BigDecimal costOf(DayMark m) {
+        if (m.code() == AttendanceCalendar.PRESENT) return m.presentCost();
+        if (m.code() == AttendanceCalendar.HALF_DAY) return m.halfDayCost();
+        return BigDecimal.ZERO;
+    }
+
+    @Override
+    public void addWageCosts(List<AttendanceCalendar> amounts) {
+        if (amounts.isEmpty()) return;
+        jdbcTemplate.batchUpdate(ADD_WAGE_COST, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                AttendanceCalendar a = amounts.get(i);
+                ps.setBigDecimal(1, a.getWageCost());
+                ps.setLong(2, a.getLabourId());
+                ps.setLong(3, a.getProjectId());
+                ps.setDate(4, Date.valueOf(a.getMonthStart()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return amounts.size();
+            }
+        });
+    }
+}
@@ -0,0 +1,57 @@
+package net.engineeringdigest.journalApp.repository;
+
+import jakarta.persistence.QueryHint;
+import net.engineeringdigest.journalApp.dto.MusterRollSource;
+import net.engineeringdigest.journalApp.dto.PayrollLineSource;
+import net.engineeringdigest.journalApp.model.AttendanceCalendar;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface AttendanceCalendarRepository extends JpaRepository<AttendanceCalendar, Long>, AttendanceCalendarBatchRepository {
+
+    // 📋 One row per worker with attendance on the project that month, ordered for the printed roll
+    @Query("SELECT c.labourId AS labourId, l.name AS name, l.type AS type, l.dailyWage AS dailyWage, " +
+            "c.days AS days, c.wageCost AS wageCost " +
+            "FROM AttendanceCalendar c JOIN Labour l ON l.id = c.labourId " +
+            "WHERE c.projectId = :projectId AND c.monthStart = :monthStart ORDER BY l.name, c.labourId")
+    List<MusterRollSource> findMusterRoll(@Param("projectId") Long projectId, @Param("monthStart") LocalDate monthStart);
+
+    String PAYROLL_SELECT = "SELECT c.labourId AS labourId, l.name AS name, l.type AS type, l.dailyWage AS dailyWage, " +
+            "c.projectId AS projectId, p.name AS projectName, c.monthStart AS monthStart, " +
+            "c.days AS days, c.wageCost AS wageCost " +
+            "FROM AttendanceCalendar c JOIN Labour l ON l.id = c.labourId JOIN Project p ON p.id = c.projectId ";
+
+    // 💰 One page of a month's payroll lines (optionally one project); the order is fixed so pages never overlap
+    @Query(value = PAYROLL_SELECT +
+            "WHERE c.monthStart = :monthStart AND (:projectId IS NULL OR c.projectId = :projectId) " +
+            "ORDER BY p.name, l.name, c.id",
+            countQuery = "SELECT COUNT(c) FROM AttendanceCalendar c " +
+                    "WHERE c.monthStart = :monthStart AND (:projectId IS NULL OR c.projectId = :projectId)")
+    Page<PayrollLineSource> findPayrollLines(@Param("monthStart") LocalDate monthStart,
+                                             @Param("projectId") Long projectId, Pageable pageable);
+
+    // 💰 Every worker-month in [from, to] (optionally one project), for payroll totals
+    @Query(PAYROLL_SELECT +
+            "WHERE c.monthStart BETWEEN :from AND :to AND (:projectId IS NULL OR c.projectId = :projectId)")
+    List<PayrollLineSource> findPayrollWords(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                                             @Param("projectId") Long projectId);
+
+    // 📤 Streamed muster-roll export (consume inside a read-only transaction and close the stream)
+    @Query(PAYROLL_SELECT +
+            "WHERE c.monthStart BETWEEN :from AND :to ORDER BY c.monthStart, p.name, l.name, c.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<PayrollLineSource> streamPayrollLines(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying
+    void deleteByProjectId(Long projectId);
+}
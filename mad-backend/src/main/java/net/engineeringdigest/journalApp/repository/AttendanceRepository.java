@@ -1,12 +1,18 @@
 package net.engineeringdigest.journalApp.repository;
 
+import jakarta.persistence.QueryHint;
+import net.engineeringdigest.journalApp.dto.AttendanceExportRow;
 import net.engineeringdigest.journalApp.model.Attendance;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
-public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
+public interface AttendanceRepository extends JpaRepository<Attendance, Long>, AttendanceBatchRepository {
     // Check if a worker has attendance for today
     List<Attendance> findByLabourIdAndDate(Long labourId, LocalDate date);
 
@@ -15,6 +21,19 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
     @org.springframework.data.jpa.repository.Query("SELECT a FROM Attendance a WHERE lower(a.labour.name) = lower(:name) AND a.date = :date")
     List<Attendance> findByLabourNameAndDate(String name, LocalDate date);
 
+    // 🗓️ One day's attendance rows on the given projects (bulk marking: insert-or-update and previous status)
+    @org.springframework.data.jpa.repository.Query("SELECT a.id AS id, l.id AS labourId, l.name AS workerName, " +
+            "a.project.id AS projectId, a.status AS status " +
+            "FROM Attendance a JOIN a.labour l WHERE a.date = :date AND a.project.id IN :projectIds")
+    List<net.engineeringdigest.journalApp.dto.AttendanceDayLoad> findDayLoadsByProjects(
+            @Param("projectIds") java.util.Collection<Long> projectIds, @Param("date") LocalDate date);
+
+    // 🗓️ One day's attendance rows across all sites (worker day-load index rebuild)
+    @org.springframework.data.jpa.repository.Query("SELECT a.id AS id, l.id AS labourId, l.name AS workerName, " +
+            "a.project.id AS projectId, a.status AS status " +
+            "FROM Attendance a JOIN a.labour l WHERE a.date = :date")
+    List<net.engineeringdigest.journalApp.dto.AttendanceDayLoad> findDayLoads(@Param("date") LocalDate date);
+
     // Get attendance list for a project on a specific date
     List<Attendance> findByProjectIdAndDate(Long projectId, LocalDate date);
 
@@ -27,6 +46,31 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
     List<Attendance> findByProjectId(Long projectId);
     List<Attendance> findByProject(net.engineeringdigest.journalApp.model.Project project);
 
+    // 📅 Source of truth for rebuilding daily_attendance_rollup
+    @org.springframework.data.jpa.repository.Query("SELECT a.date AS date, a.project.id AS projectId, " +
+            "SUM(CASE WHEN UPPER(a.status) = 'PRESENT' THEN 1 ELSE 0 END) AS present, " +
+            "SUM(CASE WHEN UPPER(a.status) = 'HALF_DAY' THEN 1 ELSE 0 END) AS halfDay, " +
+            "SUM(CASE WHEN UPPER(a.status) = 'ABSENT' THEN 1 ELSE 0 END) AS absent, " +
+            "SUM(CASE WHEN UPPER(a.status) = 'PRESENT' THEN COALESCE(l.dailyWage, 0) " +
+            "         WHEN UPPER(a.status) = 'HALF_DAY' THEN COALESCE(l.dailyWage, 0) / 2 ELSE 0 END) AS wageCost " +
+            "FROM Attendance a JOIN a.labour l GROUP BY a.date, a.project.id")
+    List<net.engineeringdigest.journalApp.dto.AttendanceRollupRow> aggregateByDateAndProject();
+
+    // 🗓️ Source of truth for rebuilding attendance_calendar, streamed (consume inside a transaction and close)
+    @org.springframework.data.jpa.repository.Query("SELECT a.labour.id AS labourId, a.project.id AS projectId, " +
+            "a.date AS date, a.status AS status, a.labour.dailyWage AS dailyWage FROM Attendance a")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<net.engineeringdigest.journalApp.dto.AttendanceCalendarRow> streamCalendarRows();
+
+    // 📤 Streamed export, ordered by the date index so rows stream without a sort buffer
+    // (consume inside a read-only transaction and close the stream)
+    @org.springframework.data.jpa.repository.Query("SELECT a.date AS date, p.name AS projectName, l.name AS labourName, " +
+            "l.type AS labourType, a.status AS status, l.dailyWage AS dailyWage " +
+            "FROM Attendance a JOIN a.project p JOIN a.labour l " +
+            "WHERE a.date BETWEEN :from AND :to ORDER BY a.date")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<AttendanceExportRow> streamExportRows(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
     // ✅ M1 FIX: Efficient cascade delete without loading all records
     void deleteByProject_Id(Long projectId);
 }
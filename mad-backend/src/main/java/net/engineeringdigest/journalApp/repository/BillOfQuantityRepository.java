@@ -1,9 +1,14 @@
 package net.engineeringdigest.journalApp.repository;
 
+import net.engineeringdigest.journalApp.dto.ProjectBoqTotals;
 import net.engineeringdigest.journalApp.model.BillOfQuantity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -11,4 +16,15 @@ public interface BillOfQuantityRepository extends JpaRepository<BillOfQuantity,
     // Find all BOQ items for a specific project
     List<BillOfQuantity> findByProjectId(Long projectId);
     List<BillOfQuantity> findByProject(net.engineeringdigest.journalApp.model.Project project);
-}
\ No newline at end of file
+
+    // 💰 Budget and work-done value for every project in one grouped query
+    @Query("SELECT b.project.id AS projectId, SUM(b.totalScope * b.rate) AS budget, " +
+            "SUM(b.completedScope * b.rate) AS workDone FROM BillOfQuantity b GROUP BY b.project.id")
+    List<ProjectBoqTotals> sumTotalsGroupedByProject();
+
+    // 📏 Adds a measured quantity in the database, so concurrent measurements never overwrite each other
+    @Modifying
+    @Query("UPDATE BillOfQuantity b SET b.completedScope = b.completedScope + :quantity, b.lastUpdated = :now " +
+            "WHERE b.id = :id")
+    int addCompletedScope(@Param("id") Long id, @Param("quantity") double quantity, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,63 @@
+package net.engineeringdigest.journalApp.repository;
+
+import net.engineeringdigest.journalApp.dto.DailyWorkerCount;
+import net.engineeringdigest.journalApp.dto.ProjectAmount;
+import net.engineeringdigest.journalApp.dto.ProjectManDays;
+import net.engineeringdigest.journalApp.model.DailyAttendanceRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyAttendanceRollupRepository extends JpaRepository<DailyAttendanceRollup, Long> {
+
+    /**
+     * ⚡ Atomic in-place delta (no read-modify-write); returns 0 when the day has no row yet.
+     * Every column is incremented from its own value only, so the result does not depend on the
+     * order the database evaluates SET in (MySQL reads columns already assigned earlier in the list).
+     * Native: Hibernate renders a double parameter as a cast H2 cannot parse.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE daily_attendance_rollup SET " +
+            "present_count = present_count + :present, " +
+            "half_day_count = half_day_count + :halfDay, " +
+            "absent_count = absent_count + :absent, " +
+            "man_days = man_days + :manDays, " +
+            "wage_cost = wage_cost + :wageCost " +
+            "WHERE work_date = :date AND project_id = :projectId", nativeQuery = true)
+    int applyDelta(@Param("date") LocalDate date, @Param("projectId") Long projectId,
+                   @Param("present") int present, @Param("halfDay") int halfDay, @Param("absent") int absent,
+                   @Param("manDays") double manDays, @Param("wageCost") BigDecimal wageCost);
+
+    @Query("SELECT r.date AS date, SUM(r.presentCount + r.halfDayCount) AS workers " +
+            "FROM DailyAttendanceRollup r WHERE r.date BETWEEN :from AND :to GROUP BY r.date")
+    List<DailyWorkerCount> sumWorkersByDate(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT COALESCE(SUM(r.manDays), 0) FROM DailyAttendanceRollup r WHERE r.projectId = :projectId")
+    double sumManDaysByProjectId(@Param("projectId") Long projectId);
+
+    @Query("SELECT r.projectId AS projectId, SUM(r.manDays) AS manDays FROM DailyAttendanceRollup r GROUP BY r.projectId")
+    List<ProjectManDays> sumManDaysGroupedByProject();
+
+    @Query("SELECT COALESCE(SUM(r.wageCost), 0) FROM DailyAttendanceRollup r WHERE r.projectId = :projectId")
+    BigDecimal sumWageCostByProjectId(@Param("projectId") Long projectId);
+
+    @Query("SELECT r.projectId AS projectId, SUM(r.wageCost) AS amount FROM DailyAttendanceRollup r GROUP BY r.projectId")
+    List<ProjectAmount> sumWageCostGroupedByProject();
+
+    // Wage cost added in (after, through]: the delta since the previous financial snapshot
+    @Query("SELECT r.projectId AS projectId, SUM(r.wageCost) AS amount FROM DailyAttendanceRollup r " +
+            "WHERE r.date > :after AND r.date <= :through GROUP BY r.projectId")
+    List<ProjectAmount> sumWageCostGroupedByProjectBetween(@Param("after") LocalDate after, @Param("through") LocalDate through);
+
+    @Query("SELECT r.projectId AS projectId, SUM(r.wageCost) AS amount FROM DailyAttendanceRollup r " +
+            "WHERE r.date <= :date GROUP BY r.projectId")
+    List<ProjectAmount> sumWageCostGroupedByProjectThrough(@Param("date") LocalDate date);
+
+    @Modifying
+    void deleteByProjectId(Long projectId);
+}
@@ -1,9 +1,50 @@
 package net.engineeringdigest.journalApp.repository;
 
+import net.engineeringdigest.journalApp.dto.InventoryItemViewDTO;
+import net.engineeringdigest.journalApp.dto.StockLevel;
 import net.engineeringdigest.journalApp.model.InventoryItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 public interface InventoryItemRepository extends JpaRepository<InventoryItem, Long> {
     List<InventoryItem> findByCategory(String category);
+
+    // 🔑 Single-row lookup on uk_inventory_items_project_key; pass InventoryItem.keyOf(name)
+    @Query("SELECT i FROM InventoryItem i WHERE i.project.id = :projectId AND i.itemKey = :itemKey")
+    Optional<InventoryItem> findByProjectAndKey(@Param("projectId") Long projectId, @Param("itemKey") String itemKey);
+
+    // 🔭 Inventory screens: item rows with project and vendor names JOINed into one select
+    String VIEW_SELECT = "SELECT new net.engineeringdigest.journalApp.dto.InventoryItemViewDTO(i.id, i.name, " +
+            "i.category, i.unitOfMeasure, i.minimumStockLevel, i.currentQuantity, i.description, i.createdAt, " +
+            "p.id, p.name, v.id, v.name) FROM InventoryItem i LEFT JOIN i.project p LEFT JOIN i.vendor v ";
+
+    // ArrayList rather than an immutable list, so the "inventory" cache can serialize it
+    @Query(VIEW_SELECT + "ORDER BY i.name, i.id")
+    ArrayList<InventoryItemViewDTO> findAllViews();
+
+    // 📉 Low-stock check against the compacted balance
+    @Query(VIEW_SELECT + "WHERE i.currentQuantity <= i.minimumStockLevel ORDER BY i.name, i.id")
+    List<InventoryItemViewDTO> findLowStock();
+
+    // 📦 Compacted balance and live stock (balance + pending movements) in one select
+    @Query("SELECT i.id AS itemId, i.currentQuantity AS compactedQuantity, i.currentQuantity + " +
+            "COALESCE((SELECT SUM(m.quantity) FROM InventoryMovement m " +
+            "WHERE m.itemId = i.id AND m.compactionRun IS NULL), 0) AS currentQuantity " +
+            "FROM InventoryItem i WHERE i.id = :id")
+    Optional<StockLevel> findStockLevel(@Param("id") Long id);
+
+    /**
+     * 🗜️ Folds the movements claimed by one compaction run into their items' balances,
+     * as an in-place increment so it never overwrites a concurrent change.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE InventoryItem i SET i.currentQuantity = i.currentQuantity + " +
+            "(SELECT SUM(m.quantity) FROM InventoryMovement m WHERE m.itemId = i.id AND m.compactionRun = :run) " +
+            "WHERE i.id IN (SELECT m.itemId FROM InventoryMovement m WHERE m.compactionRun = :run)")
+    int applyCompaction(@Param("run") String run);
 }
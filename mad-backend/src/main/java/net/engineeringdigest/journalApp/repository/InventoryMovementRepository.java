@@ -0,0 +1,28 @@
+package net.engineeringdigest.journalApp.repository;
+
+import net.engineeringdigest.journalApp.model.InventoryMovement;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface InventoryMovementRepository extends JpaRepository<InventoryMovement, Long> {
+
+    // Movements not yet folded into the item's compacted balance
+    @Query("SELECT COALESCE(SUM(m.quantity), 0) FROM InventoryMovement m " +
+            "WHERE m.itemId = :itemId AND m.compactionRun IS NULL")
+    double sumPending(@Param("itemId") Long itemId);
+
+    /**
+     * 🗜️ Claims every committed pending movement for one compaction run.
+     * Movements still in flight are invisible here and stay pending for the next run.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE InventoryMovement m SET m.compactionRun = :run WHERE m.compactionRun IS NULL")
+    int claimPending(@Param("run") String run);
+
+    // Slice, not Page: the history screen pages with "load more" and never needs the COUNT
+    Slice<InventoryMovement> findByItemIdOrderByIdDesc(Long itemId, Pageable pageable);
+}
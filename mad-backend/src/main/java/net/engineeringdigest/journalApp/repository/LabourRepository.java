@@ -1,8 +1,12 @@
 package net.engineeringdigest.journalApp.repository;
 
+import net.engineeringdigest.journalApp.dto.LabourRef;
 import net.engineeringdigest.journalApp.model.Labour;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface LabourRepository extends JpaRepository<Labour, Long> {
@@ -12,6 +16,10 @@ public interface LabourRepository extends JpaRepository<Labour, Long> {
     // Optional: Find by Type (e.g. "Get all Masons")
     List<Labour> findByProjectIdAndType(Long projectId, String type);
 
+    // 👷 Name and wage of many workers in one select (the Labour entity would also load its project)
+    @Query("SELECT l.id AS id, l.name AS name, l.dailyWage AS dailyWage FROM Labour l WHERE l.id IN :ids")
+    List<LabourRef> findRefsByIdIn(@Param("ids") Collection<Long> ids);
+
     long countByProject(net.engineeringdigest.journalApp.model.Project project);
 
     // ✅ M1 FIX: Efficient cascade delete (includes inactive workers)
@@ -1,5 +1,6 @@
 package net.engineeringdigest.journalApp.repository;
 
+import net.engineeringdigest.journalApp.dto.LeadStatsDTO;
 import net.engineeringdigest.journalApp.model.LeadInquiry;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -24,5 +25,20 @@ public interface LeadInquiryRepository extends JpaRepository<LeadInquiry, Long>
 
     // Count uncontacted leads older than a specific date (for "Critical Leads" alert)
     long countByStatusAndSubmittedAtBefore(String status, LocalDateTime date);
-}
 
+    /**
+     * 📈 Whole lead funnel in one round trip (conditional aggregation).
+     * Only touches (status, submitted_at), which idx_lead_inquiries_status_submitted covers.
+     */
+    @Query("SELECT new net.engineeringdigest.journalApp.dto.LeadStatsDTO(" +
+            "SUM(CASE WHEN l.submittedAt >= :startOfDay AND l.submittedAt < :endOfDay THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN l.status = 'NEW' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN l.status = 'CONTACTED' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN l.status = 'CLOSED' THEN 1 ELSE 0 END), " +
+            "COUNT(l), " +
+            "SUM(CASE WHEN l.status = 'NEW' AND l.submittedAt < :criticalBefore THEN 1 ELSE 0 END)) " +
+            "FROM LeadInquiry l")
+    LeadStatsDTO aggregateStats(@Param("startOfDay") LocalDateTime startOfDay,
+                                @Param("endOfDay") LocalDateTime endOfDay,
+                                @Param("criticalBefore") LocalDateTime criticalBefore);
+}
@@ -1,16 +1,81 @@
 package net.engineeringdigest.journalApp.repository;
 
+import jakarta.persistence.QueryHint;
+import net.engineeringdigest.journalApp.dto.ProjectAmount;
+import net.engineeringdigest.journalApp.dto.RequisitionExportRow;
+import net.engineeringdigest.journalApp.dto.RequisitionViewDTO;
+import net.engineeringdigest.journalApp.dto.VendorAuditDTO;
 import net.engineeringdigest.journalApp.model.MaterialRequisition;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface MaterialRequisitionRepository extends JpaRepository<MaterialRequisition, Long> {
+public interface MaterialRequisitionRepository extends JpaRepository<MaterialRequisition, Long>, RequisitionSearchRepository,
+        RequisitionBatchRepository {
     List<MaterialRequisition> findByRequesterId(Long requesterId);
     List<MaterialRequisition> findByStatus(String status);
     List<MaterialRequisition> findByVendorId(Long vendorId);
     List<MaterialRequisition> findByProject(net.engineeringdigest.journalApp.model.Project project);
     List<MaterialRequisition> findByVendor(net.engineeringdigest.journalApp.model.Vendor vendor);
+
+    // 🔭 Requisition screens: every association the response shows, JOINed into one select
+    String VIEW_SELECT = "SELECT new net.engineeringdigest.journalApp.dto.RequisitionViewDTO(r.id, p.id, p.name, " +
+            "u.id, u.username, u.fullName, i.id, i.name, i.unitOfMeasure, r.customItemName, r.quantity, " +
+            "r.unitOfMeasure, r.urgency, v.id, v.name, r.status, r.paymentStatus, r.unitPrice, r.totalCost, " +
+            "r.gstAmount, r.currency, r.receivedQuantity, r.remarks, r.createdAt, r.updatedAt) " +
+            "FROM MaterialRequisition r JOIN r.project p JOIN r.requester u " +
+            "LEFT JOIN r.inventoryItem i LEFT JOIN r.vendor v ";
+
+    @Query(VIEW_SELECT + "ORDER BY r.createdAt DESC, r.id DESC")
+    List<RequisitionViewDTO> findAllViews();
+
+    @Query(VIEW_SELECT + "WHERE u.username = :username ORDER BY r.createdAt DESC, r.id DESC")
+    List<RequisitionViewDTO> findViewsByRequester(@Param("username") String username);
+
+    // 🧾 Requisitions being invoiced, with the item named on the invoice line
+    @Query("SELECT r FROM MaterialRequisition r LEFT JOIN FETCH r.inventoryItem WHERE r.id IN :ids")
+    List<MaterialRequisition> findAllForInvoice(@Param("ids") Collection<Long> ids);
+
+    // 🧾 Flushes pending changes first and clears the persistence context, so no stale status stays managed
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MaterialRequisition r SET r.status = 'INVOICED', r.updatedAt = :now WHERE r.id IN :ids")
+    int markInvoiced(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // 🧾 Vendor audit rows, filtered in SQL; bounds are exclusive and status is compared upper-cased
+    @Query("SELECT new net.engineeringdigest.journalApp.dto.VendorAuditDTO(r.id, COALESCE(i.name, r.customItemName), " +
+            "r.quantity, r.unitOfMeasure, r.unitPrice, r.totalCost, r.createdAt, r.status, r.receivedQuantity) " +
+            "FROM MaterialRequisition r LEFT JOIN r.inventoryItem i WHERE r.vendor.id = :vendorId " +
+            "AND (:from IS NULL OR r.createdAt > :from) AND (:to IS NULL OR r.createdAt < :to) " +
+            "AND (:status IS NULL OR UPPER(r.status) = :status) ORDER BY r.id")
+    List<VendorAuditDTO> findVendorAuditRows(@Param("vendorId") Long vendorId, @Param("from") LocalDateTime from,
+                                             @Param("to") LocalDateTime to, @Param("status") String status);
+
+    // 💰 Material spend per project (requisitions in the given statuses) in one grouped query
+    @Query("SELECT r.project.id AS projectId, SUM(r.totalCost) AS amount FROM MaterialRequisition r " +
+            "WHERE r.status IN :statuses GROUP BY r.project.id")
+    List<ProjectAmount> sumTotalCostGroupedByProject(@Param("statuses") Collection<String> statuses);
+
+    @Query("SELECT r.project.id AS projectId, SUM(r.totalCost) AS amount FROM MaterialRequisition r " +
+            "WHERE r.status IS NULL OR r.status NOT IN :statuses GROUP BY r.project.id")
+    List<ProjectAmount> sumTotalCostGroupedByProjectExcluding(@Param("statuses") Collection<String> statuses);
+
+    // 📤 Streamed export of requisitions created in [from, to), ordered by the created_at index
+    // (consume inside a read-only transaction and close the stream)
+    @Query("SELECT r.id AS id, r.createdAt AS createdAt, p.name AS projectName, " +
+            "COALESCE(i.name, r.customItemName) AS itemName, r.quantity AS quantity, r.unitOfMeasure AS unitOfMeasure, " +
+            "r.status AS status, r.paymentStatus AS paymentStatus, v.name AS vendorName, r.totalCost AS totalCost " +
+            "FROM MaterialRequisition r JOIN r.project p LEFT JOIN r.inventoryItem i LEFT JOIN r.vendor v " +
+            "WHERE r.createdAt >= :from AND r.createdAt < :to ORDER BY r.createdAt")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<RequisitionExportRow> streamExportRows(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
@@ -0,0 +1,52 @@
+package net.engineeringdigest.journalApp.repository;
+
+import jakarta.persistence.QueryHint;
+import net.engineeringdigest.journalApp.dto.FinancialSnapshotExportRow;
+import net.engineeringdigest.journalApp.dto.FinancialTrendTotals;
+import net.engineeringdigest.journalApp.model.ProjectFinancialSnapshot;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface ProjectFinancialSnapshotRepository extends JpaRepository<ProjectFinancialSnapshot, Long> {
+
+    @Query("SELECT MAX(s.snapshotDate) FROM ProjectFinancialSnapshot s")
+    LocalDate findLatestSnapshotDate();
+
+    @Query("SELECT MAX(s.snapshotDate) FROM ProjectFinancialSnapshot s WHERE s.snapshotDate < :date")
+    LocalDate findLatestSnapshotDateBefore(@Param("date") LocalDate date);
+
+    List<ProjectFinancialSnapshot> findBySnapshotDate(LocalDate snapshotDate);
+
+    // Range scan on uk_financial_snapshot_project_date
+    List<ProjectFinancialSnapshot> findByProjectIdAndSnapshotDateBetweenOrderBySnapshotDate(Long projectId, LocalDate from, LocalDate to);
+
+    // Range scan on idx_financial_snapshot_date
+    @Query("SELECT s.snapshotDate AS date, SUM(s.totalBudget) AS totalBudget, SUM(s.workDoneValue) AS workDoneValue, " +
+            "SUM(s.materialExpense) AS materialExpense, SUM(s.labourExpense) AS labourExpense " +
+            "FROM ProjectFinancialSnapshot s WHERE s.snapshotDate BETWEEN :from AND :to " +
+            "GROUP BY s.snapshotDate ORDER BY s.snapshotDate")
+    List<FinancialTrendTotals> sumByDateBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // 📤 Streamed export (consume inside a read-only transaction); rows of deleted projects keep a null name
+    @Query("SELECT s.snapshotDate AS date, s.projectId AS projectId, p.name AS projectName, " +
+            "s.totalBudget AS totalBudget, s.workDoneValue AS workDoneValue, s.materialExpense AS materialExpense, " +
+            "s.labourExpense AS labourExpense, s.currentROI AS currentROI, s.healthScore AS healthScore " +
+            "FROM ProjectFinancialSnapshot s LEFT JOIN Project p ON p.id = s.projectId " +
+            "WHERE s.snapshotDate BETWEEN :from AND :to ORDER BY s.snapshotDate, s.projectId")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<FinancialSnapshotExportRow> streamExportRows(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ProjectFinancialSnapshot s WHERE s.snapshotDate = :date")
+    int deleteBySnapshotDate(@Param("date") LocalDate date);
+}
@@ -1,11 +1,22 @@
 package net.engineeringdigest.journalApp.repository;
 
+import net.engineeringdigest.journalApp.dto.ProjectAlertView;
+import net.engineeringdigest.journalApp.dto.ProjectDetailDTO;
 import net.engineeringdigest.journalApp.dto.ProjectListDTO;
+import net.engineeringdigest.journalApp.dto.ProjectRef;
+import net.engineeringdigest.journalApp.dto.ProjectScheduleRef;
+import net.engineeringdigest.journalApp.dto.ProjectStatusCount;
+import net.engineeringdigest.journalApp.dto.StatusCount;
+import net.engineeringdigest.journalApp.model.CityStats;
 import net.engineeringdigest.journalApp.model.Project;
+import net.engineeringdigest.journalApp.model.ProjectStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
@@ -18,9 +29,52 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     List<Project> findBySupervisor_Username(String username);
 
     java.util.Optional<ProjectListDTO> findProjectedById(Long id);
+
+    // 🏗️ Edit / audit screen: project with city and supervisor JOINed into one select
+    @Query("SELECT new net.engineeringdigest.journalApp.dto.ProjectDetailDTO(p.id, p.name, p.clientName, " +
+           "p.location, p.status, p.startDate, p.labourCount, c.id, c.name, c.state, " +
+           "s.id, s.username, s.fullName, p.createdAt) " +
+           "FROM Project p LEFT JOIN p.city c LEFT JOIN p.supervisor s WHERE p.id = :id")
+    java.util.Optional<ProjectDetailDTO> findDetailById(@Param("id") Long id);
     Page<ProjectListDTO> findTopByOrderByStartDateDesc(Pageable pageable);
     long countByStatus(net.engineeringdigest.journalApp.model.ProjectStatus status);
+    List<ProjectListDTO> findTop5ByStatus(net.engineeringdigest.journalApp.model.ProjectStatus status);
 
     // ✅ M2 FIX: Targeted count query to replace in-memory filtering
     long countBySupervisor_IdAndStatus(Long supervisorId, net.engineeringdigest.journalApp.model.ProjectStatus status);
+
+    // 📊 Dashboard aggregate rebuild: one row per (city, status), no entity hydration
+    @Query("SELECT c.id AS cityId, c.name AS cityName, p.status AS status, COUNT(p) AS total " +
+           "FROM Project p JOIN p.city c GROUP BY c.id, c.name, p.status")
+    List<ProjectStatusCount> countGroupedByCityAndStatus();
+
+    // 📊 City statistics aggregated in SQL (replaces Java-side groupingBy over every Project)
+    @Query("SELECT new net.engineeringdigest.journalApp.model.CityStats(c.name, COUNT(p), " +
+           "SUM(CASE WHEN p.status = net.engineeringdigest.journalApp.model.ProjectStatus.RUNNING THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN p.status = net.engineeringdigest.journalApp.model.ProjectStatus.COMPLETED THEN 1 ELSE 0 END)) " +
+           "FROM Project p JOIN p.city c GROUP BY c.name")
+    List<CityStats> findCityStats();
+
+    @Query("SELECT p.id AS id, p.name AS name FROM Project p ORDER BY p.id")
+    List<ProjectRef> findAllRefs();
+
+    @Query("SELECT p.id AS id, p.name AS name, p.startDate AS startDate, s.username AS supervisorName " +
+            "FROM Project p LEFT JOIN p.supervisor s ORDER BY p.id")
+    List<ProjectScheduleRef> findAllScheduleRefs();
+
+    @Query("SELECT p.status AS status, COUNT(p) AS total FROM Project p WHERE p.status IS NOT NULL GROUP BY p.status")
+    List<StatusCount> countGroupedByStatus();
+
+    // 🚨 Alert engine queries: served by idx_projects_status_labour (status, labour_count)
+    String ALERT_VIEW_SELECT = "SELECT p.id AS id, p.name AS name, p.location AS location, " +
+            "p.labourCount AS labourCount, p.status AS status, " +
+            "s.fullName AS supervisorFullName, s.username AS supervisorUsername " +
+            "FROM Project p LEFT JOIN p.supervisor s ";
+
+    @Query(ALERT_VIEW_SELECT + "WHERE p.status IN :statuses ORDER BY p.id")
+    List<ProjectAlertView> findAlertViewsByStatusIn(@Param("statuses") Collection<ProjectStatus> statuses);
+
+    @Query(ALERT_VIEW_SELECT + "WHERE p.status = :status AND p.labourCount < :threshold ORDER BY p.id")
+    List<ProjectAlertView> findAlertViewsByStatusAndLabourCountLessThan(@Param("status") ProjectStatus status,
+                                                                        @Param("threshold") int threshold);
 }
@@ -0,0 +1,18 @@
+package net.engineeringdigest.journalApp.repository;
+
+import net.engineeringdigest.journalApp.model.MaterialRequisition;
+
+import java.util.List;
+
+/**
+ * 📥 Multi-row requisition insert (fragment of MaterialRequisitionRepository).
+ */
+public interface RequisitionBatchRepository {
+
+    /**
+     * Inserts new requisitions in one JDBC batch and sets their generated ids and timestamps.
+     * Project, requester and inventory item are written by id only; the rows bypass the
+     * persistence context, so entity callbacks do not run for them.
+     */
+    void insertAll(List<MaterialRequisition> requisitions);
+}
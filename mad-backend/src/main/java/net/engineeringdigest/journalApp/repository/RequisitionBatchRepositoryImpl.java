@@ -0,0 +1,77 @@
+package net.engineeringdigest.journalApp.repository;
+
+import net.engineeringdigest.journalApp.model.MaterialRequisition;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One prepared INSERT executed as a single batch on the transaction's connection,
+ * instead of one Hibernate IDENTITY insert (and round trip) per line.
+ */
+class RequisitionBatchRepositoryImpl implements RequisitionBatchRepository {
+
+    private static final String INSERT = "INSERT INTO material_requisitions (project_id, requester_id, " +
+            "inventory_item_id, custom_item_name, quantity, unit_of_measure, urgency, status, payment_status, " +
+            "currency, received_quantity, remarks, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<MaterialRequisition> requisitions) {
+        if (requisitions.isEmpty()) return;
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(now);
+        GeneratedKeyHolder keys = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        MaterialRequisition r = requisitions.get(i);
+                        ps.setLong(1, r.getProject().getId());
+                        ps.setLong(2, r.getRequester().getId());
+                        if (r.getInventoryItem() != null) {
+                            ps.setLong(3, r.getInventoryItem().getId());
+                        } else {
+                            ps.setNull(3, Types.BIGINT);
+                        }
+                        ps.setString(4, r.getCustomItemName());
+                        ps.setDouble(5, r.getQuantity());
+                        ps.setString(6, r.getUnitOfMeasure());
+                        ps.setString(7, r.getUrgency());
+                        ps.setString(8, r.getStatus());
+                        ps.setString(9, r.getPaymentStatus());
+                        ps.setString(10, r.getCurrency());
+                        ps.setInt(11, r.getReceivedQuantity());
+                        ps.setString(12, r.getRemarks());
+                        ps.setTimestamp(13, timestamp);
+                        ps.setTimestamp(14, timestamp);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return requisitions.size();
+                    }
+                }, keys);
+
+        List<Map<String, Object>> generated = keys.getKeyList();
+        for (int i = 0; i < requisitions.size(); i++) {
+            MaterialRequisition r = requisitions.get(i);
+            r.setId(((Number) generated.get(i).values().iterator().next()).longValue());
+            r.setCreatedAt(now);
+            r.setUpdatedAt(now);
+        }
+    }
+}
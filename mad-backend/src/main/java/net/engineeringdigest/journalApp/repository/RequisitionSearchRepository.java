@@ -0,0 +1,25 @@
+package net.engineeringdigest.journalApp.repository;
+
+import net.engineeringdigest.journalApp.dto.RequisitionListItemDTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 🔎 Filtered keyset search over requisitions (fragment of MaterialRequisitionRepository).
+ */
+public interface RequisitionSearchRepository {
+
+    /**
+     * Filters for the listing; null (or empty) fields are not applied.
+     * {@code createdFrom} is inclusive and {@code createdTo} exclusive.
+     */
+    record Criteria(List<String> statuses, Long projectId, Long vendorId, String urgency,
+                    LocalDateTime createdFrom, LocalDateTime createdTo) {}
+
+    /**
+     * Newest first by (created_at, id). With a seek key, returns only rows strictly after it
+     * in that order, so every page costs one index range scan regardless of its depth.
+     */
+    List<RequisitionListItemDTO> searchPage(Criteria criteria, LocalDateTime afterCreatedAt, Long afterId, int limit);
+}
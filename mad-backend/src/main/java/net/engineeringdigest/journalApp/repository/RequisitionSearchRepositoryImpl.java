@@ -0,0 +1,69 @@
+package net.engineeringdigest.journalApp.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import net.engineeringdigest.journalApp.dto.RequisitionListItemDTO;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Only the filters actually supplied are written into the JPQL, so each combination gets a plan
+ * that can use its (filter, created_at, id) index instead of a generic "param IS NULL OR ..." plan.
+ */
+class RequisitionSearchRepositoryImpl implements RequisitionSearchRepository {
+
+    private static final String SELECT = "SELECT new net.engineeringdigest.journalApp.dto.RequisitionListItemDTO(" +
+            "r.id, r.createdAt, r.status, r.urgency, r.paymentStatus, p.id, p.name, u.username, " +
+            "COALESCE(i.name, r.customItemName), r.quantity, r.unitOfMeasure, r.receivedQuantity, " +
+            "v.id, v.name, r.unitPrice, r.totalCost) " +
+            "FROM MaterialRequisition r JOIN r.project p JOIN r.requester u " +
+            "LEFT JOIN r.inventoryItem i LEFT JOIN r.vendor v WHERE 1 = 1";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<RequisitionListItemDTO> searchPage(Criteria criteria, LocalDateTime afterCreatedAt, Long afterId, int limit) {
+        StringBuilder jpql = new StringBuilder(SELECT);
+        Map<String, Object> params = new HashMap<>();
+
+        if (criteria.statuses() != null && !criteria.statuses().isEmpty()) {
+            jpql.append(" AND r.status IN :statuses");
+            params.put("statuses", criteria.statuses());
+        }
+        if (criteria.projectId() != null) {
+            jpql.append(" AND r.project.id = :projectId");
+            params.put("projectId", criteria.projectId());
+        }
+        if (criteria.vendorId() != null) {
+            jpql.append(" AND r.vendor.id = :vendorId");
+            params.put("vendorId", criteria.vendorId());
+        }
+        if (criteria.urgency() != null) {
+            jpql.append(" AND r.urgency = :urgency");
+            params.put("urgency", criteria.urgency());
+        }
+        if (criteria.createdFrom() != null) {
+            jpql.append(" AND r.createdAt >= :createdFrom");
+            params.put("createdFrom", criteria.createdFrom());
+        }
+        if (criteria.createdTo() != null) {
+            jpql.append(" AND r.createdAt < :createdTo");
+            params.put("createdTo", criteria.createdTo());
+        }
+        if (afterCreatedAt != null && afterId != null) {
+            jpql.append(" AND (r.createdAt < :afterCreatedAt OR (r.createdAt = :afterCreatedAt AND r.id < :afterId))");
+            params.put("afterCreatedAt", afterCreatedAt);
+            params.put("afterId", afterId);
+        }
+        jpql.append(" ORDER BY r.createdAt DESC, r.id DESC");
+
+        TypedQuery<RequisitionListItemDTO> query = entityManager.createQuery(jpql.toString(), RequisitionListItemDTO.class);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -0,0 +1,16 @@
+package net.engineeringdigest.journalApp.repository;
+
+import net.engineeringdigest.journalApp.model.VendorInvoice;
+
+/**
+ * 🧾 Invoice insert with all its line items in one batch (fragment of VendorInvoiceRepository).
+ */
+public interface VendorInvoiceBatchRepository {
+
+    /**
+     * Persists the invoice header, then inserts its line items in one JDBC batch and sets their
+     * generated ids. Line items are written by invoice and requisition id only. The invoice is
+     * returned detached, holding the inserted line items, so later changes to it are not flushed.
+     */
+    VendorInvoice insertWithLineItems(VendorInvoice invoice);
+}
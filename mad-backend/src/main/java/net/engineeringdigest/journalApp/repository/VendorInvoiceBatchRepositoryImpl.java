@@ -0,0 +1,72 @@
+package net.engineeringdigest.journalApp.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import net.engineeringdigest.journalApp.model.VendorInvoice;
+import net.engineeringdigest.journalApp.model.VendorInvoiceItem;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One IDENTITY insert for the header and one batched INSERT for the lines, instead of a
+ * cascaded Hibernate insert (and round trip) per line item.
+ */
+class VendorInvoiceBatchRepositoryImpl implements VendorInvoiceBatchRepository {
+
+    private static final String INSERT_ITEM = "INSERT INTO vendor_invoice_items (invoice_id, requisition_id, " +
+            "amount, description) VALUES (?, ?, ?, ?)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public VendorInvoice insertWithLineItems(VendorInvoice invoice) {
+        List<VendorInvoiceItem> items = new ArrayList<>(invoice.getLineItems());
+        invoice.setLineItems(new ArrayList<>());
+        entityManager.persist(invoice);
+        entityManager.flush();
+        // The lines below never enter the persistence context; a managed invoice holding them
+        // would try to cascade-persist them again on the next flush
+        entityManager.detach(invoice);
+
+        if (!items.isEmpty()) {
+            GeneratedKeyHolder keys = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_ITEM, new String[]{"id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            VendorInvoiceItem item = items.get(i);
+                            ps.setLong(1, invoice.getId());
+                            ps.setLong(2, item.getRequisition().getId());
+                            ps.setBigDecimal(3, item.getAmount());
+                            ps.setString(4, item.getDescription());
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return items.size();
+                        }
+                    }, keys);
+
+            List<Map<String, Object>> generated = keys.getKeyList();
+            for (int i = 0; i < items.size(); i++) {
+                VendorInvoiceItem item = items.get(i);
+                item.setId(((Number) generated.get(i).values().iterator().next()).longValue());
+                item.setInvoice(invoice);
+            }
+        }
+        invoice.setLineItems(items);
+        return invoice;
+    }
+}
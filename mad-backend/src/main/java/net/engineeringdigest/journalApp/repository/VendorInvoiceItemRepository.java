@@ -2,8 +2,17 @@ package net.engineeringdigest.journalApp.repository;
 
 import net.engineeringdigest.journalApp.model.VendorInvoiceItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface VendorInvoiceItemRepository extends JpaRepository<VendorInvoiceItem, Long> {
+
+    // 🛡️ Which of these requisitions are already on an invoice (uk_vendor_invoice_items_requisition)
+    @Query("SELECT i.requisition.id FROM VendorInvoiceItem i WHERE i.requisition.id IN :requisitionIds")
+    List<Long> findInvoicedRequisitionIds(@Param("requisitionIds") Collection<Long> requisitionIds);
 }
@@ -6,6 +6,6 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface VendorInvoiceRepository extends JpaRepository<VendorInvoice, Long> {
+public interface VendorInvoiceRepository extends JpaRepository<VendorInvoice, Long>, VendorInvoiceBatchRepository {
     List<VendorInvoice> findByVendorId(Long vendorId);
 }
@@ -0,0 +1,58 @@
+package net.engineeringdigest.journalApp.repository;
+
+import net.engineeringdigest.journalApp.dto.VendorLedgerRow;
+import net.engineeringdigest.journalApp.model.VendorLedger;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+
+public interface VendorLedgerRepository extends JpaRepository<VendorLedger, Long> {
+
+    /**
+     * ⚡ Atomic in-place delta (no read-modify-write); returns 0 when the vendor has no row yet.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE VendorLedger l SET " +
+            "l.orderValue = l.orderValue + :orderValue, " +
+            "l.paidAmount = l.paidAmount + :paid, " +
+            "l.pendingBalance = l.pendingBalance + :orderValue - :paid, " +
+            "l.orderCount = l.orderCount + :orders " +
+            "WHERE l.vendorId = :vendorId")
+    int applyDelta(@Param("vendorId") Long vendorId, @Param("orderValue") BigDecimal orderValue,
+                   @Param("paid") BigDecimal paid, @Param("orders") int orders);
+
+    // First requisition for a vendor; the primary key guards a concurrent first insert
+    @Modifying
+    @Query(value = "INSERT INTO vendor_ledger (vendor_id, order_value, paid_amount, pending_balance, order_count) " +
+            "VALUES (:vendorId, :orderValue, :paid, :orderValue - :paid, :orders)", nativeQuery = true)
+    int insertRow(@Param("vendorId") Long vendorId, @Param("orderValue") BigDecimal orderValue,
+                  @Param("paid") BigDecimal paid, @Param("orders") int orders);
+
+    /**
+     * 🔄 Recomputes every row from requisitions in one INSERT ... SELECT (run after deleteAllInBatch).
+     * Rules mirror VendorLedgerService.Contribution.
+     */
+    @Modifying
+    @Query("INSERT INTO VendorLedger (vendorId, orderValue, paidAmount, pendingBalance, orderCount) " +
+            "SELECT r.vendor.id, " +
+            "SUM(CASE WHEN r.status = 'REJECTED' THEN 0 ELSE COALESCE(r.totalCost, 0) END), " +
+            "SUM(CASE WHEN r.paymentStatus = 'PAID' THEN COALESCE(r.totalCost, 0) ELSE 0 END), " +
+            "SUM(CASE WHEN r.status = 'REJECTED' THEN 0 ELSE COALESCE(r.totalCost, 0) END) " +
+            "- SUM(CASE WHEN r.paymentStatus = 'PAID' THEN COALESCE(r.totalCost, 0) ELSE 0 END), " +
+            "CAST(COUNT(r) AS Integer) " +
+            "FROM MaterialRequisition r WHERE r.vendor IS NOT NULL GROUP BY r.vendor.id")
+    int insertFromRequisitions();
+
+    // Every vendor, including those with no requisitions yet; sortable by any selected alias
+    @Query(value = "SELECT v.id AS vendorId, v.name AS vendorName, " +
+            "COALESCE(l.orderValue, 0) AS totalOrderValue, COALESCE(l.paidAmount, 0) AS totalPaid, " +
+            "COALESCE(l.pendingBalance, 0) AS pendingBalance, COALESCE(l.orderCount, 0) AS orderCount " +
+            "FROM Vendor v LEFT JOIN VendorLedger l ON l.vendorId = v.id",
+            countQuery = "SELECT COUNT(v) FROM Vendor v")
+    Page<VendorLedgerRow> findStatements(Pageable pageable);
+}
@@ -0,0 +1,226 @@
+package net.engineeringdigest.journalApp.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.engineeringdigest.journalApp.dto.AttendanceBatchResultDTO;
+import net.engineeringdigest.journalApp.dto.AttendanceBatchResultDTO.RecordResult;
+import net.engineeringdigest.journalApp.dto.AttendanceDayLoad;
+import net.engineeringdigest.journalApp.dto.LabourRef;
+import net.engineeringdigest.journalApp.exception.BusinessRuleException;
+import net.engineeringdigest.journalApp.model.Attendance;
+import net.engineeringdigest.journalApp.model.Labour;
+import net.engineeringdigest.journalApp.model.Project;
+import net.engineeringdigest.journalApp.model.ProjectStatus;
+import net.engineeringdigest.journalApp.repository.AttendanceRepository;
+import net.engineeringdigest.journalApp.repository.LabourRepository;
+import net.engineeringdigest.journalApp.repository.ProjectRepository;
+import net.engineeringdigest.journalApp.service.cache.CacheInvalidationService;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 🗓️ Bulk Attendance Marking
+ * Marks today's attendance for a site's whole crew in a fixed number of statements:
+ * workers, projects and the day's attendance on those projects are loaded up front, each record
+ * is validated in memory, the cross-site 1.0-day rule is claimed from {@link WorkerDayLoadIndex},
+ * and the accepted rows are written as JDBC batches together with the daily rollup and the packed
+ * attendance calendar, in one transaction.
+ * A rejected record is reported in the result instead of failing the batch. A batch that loses a
+ * race for a row to a concurrent one (uk_attendance_labour_project_date) is re-run against the
+ * committed winner, so the duplicate mark becomes an update of that row.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AttendanceBatchService {
+
+    public static final int MAX_BATCH_RECORDS = 500;
+    private static final Set<String> STATUSES = Set.of("PRESENT", "HALF_DAY", "ABSENT");
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final AttendanceRepository attendanceRepository;
+    private final LabourRepository labourRepository;
+    private final ProjectRepository projectRepository;
+    private final AttendanceRollupService rollupService;
+    private final AttendanceCalendarService calendarService;
+    private final WorkerDayLoadIndex loadIndex;
+    private final CacheInvalidationService cacheInvalidation;
+    private final TransactionTemplate transactionTemplate;
+
+    private record Mark(Long labourId, Long projectId, String status) {}
+
+    /**
+     * ✅ Marks today's attendance for a batch of {labourId, projectId, status} records.
+     * Records are applied in request order, so a later record for the same worker sees the earlier ones.
+     */
+    public AttendanceBatchResultDTO markAttendance(List<Map<String, Object>> records) {
+        if (records.size() > MAX_BATCH_RECORDS) {
+            throw new BusinessRuleException("ERR_BATCH_TOO_LARGE",
+                    "An attendance submission may contain at most " + MAX_BATCH_RECORDS + " records");
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> mark(records));
+            } catch (DataIntegrityViolationException e) {
+                // A concurrent submission inserted one of our (worker, project, day) rows, or the day's
+                // first rollup or calendar row, first. The rollback released our load claims; the re-run
+                // reads the committed row and updates it. Inside a caller's transaction there is nothing to re-run
+                if (attempt == MAX_ATTEMPTS || TransactionSynchronizationManager.isActualTransactionActive()) throw e;
+                log.info("🗓️ Bulk attendance lost a race for a row, retrying (attempt {})", attempt + 1);
+            }
+        }
+    }
+
+    private AttendanceBatchResultDTO mark(List<Map<String, Object>> records) {
+        LocalDate today = LocalDate.now();
+        RecordResult[] results = new RecordResult[records.size()];
+        Mark[] marks = new Mark[records.size()];
+        for (int i = 0; i < records.size(); i++) {
+            try {
+                marks[i] = parse(records.get(i));
+            } catch (RuntimeException e) {
+                results[i] = RecordResult.rejected(i, null, "ERR_VALIDATION_FAILED",
+                        "labourId, projectId and status are required");
+                continue;
+            }
+            if (!STATUSES.contains(marks[i].status())) {
+                results[i] = RecordResult.rejected(i, marks[i].labourId(), "ERR_VALIDATION_FAILED",
+                        "Status must be one of " + STATUSES);
+                marks[i] = null;
+            }
+        }
+
+        // ─── Pre-fetch: three set queries for the whole batch ───
+        Set<Long> labourIds = new HashSet<>();
+        Set<Long> projectIds = new HashSet<>();
+        for (Mark m : marks) {
+            if (m == null) continue;
+            labourIds.add(m.labourId());
+            projectIds.add(m.projectId());
+        }
+        Map<Long, LabourRef> workers = labourIds.isEmpty() ? Map.of() : labourRepository.findRefsByIdIn(labourIds)
+                .stream().collect(Collectors.toMap(LabourRef::getId, Function.identity()));
+        Map<Long, Project> projects = projectIds.isEmpty() ? Map.of() : projectRepository.findAllById(projectIds)
+                .stream().collect(Collectors.toMap(Project::getId, Function.identity()));
+        // Today's rows on the batch's projects, by (worker, project): update-or-insert and the previous status
+        Map<RowKey, DayRow> day = new HashMap<>();
+        if (!projects.isEmpty()) {
+            for (AttendanceDayLoad row : attendanceRepository.findDayLoadsByProjects(projects.keySet(), today)) {
+                day.putIfAbsent(new RowKey(WorkerDayLoadIndex.key(row.getWorkerName()), row.getProjectId()),
+                        new DayRow(row.getId(), row.getLabourId(), row.getStatus()));
+            }
+        }
+
+        // ─── Validate in memory and claim the load, in request order ───
+        Map<DayRow, Attendance> writes = new LinkedHashMap<>();
+        Map<Integer, DayRow> accepted = new LinkedHashMap<>();
+        List<AttendanceRollupService.Change> changes = new ArrayList<>();
+        List<AttendanceCalendarService.Change> calendarChanges = new ArrayList<>();
+        for (int i = 0; i < marks.length; i++) {
+            Mark m = marks[i];
+            if (m == null) continue;
+            LabourRef worker = workers.get(m.labourId());
+            if (worker == null) {
+                results[i] = RecordResult.rejected(i, m.labourId(), "ERR_LABOUR_NOT_FOUND",
+                        "Labour not found with ID: " + m.labourId());
+                continue;
+            }
+            Project project = projects.get(m.projectId());
+            if (project == null) {
+                results[i] = RecordResult.rejected(i, m.labourId(), "ERR_PROJECT_NOT_FOUND",
+                        "Project not found with ID: " + m.projectId());
+                continue;
+            }
+            if (project.getStatus() == ProjectStatus.INVOICED) {
+                results[i] = RecordResult.rejected(i, m.labourId(), "ERR_PROJECT_FINALIZED",
+                        "Project is finalized. Cannot mark attendance.");
+                continue;
+            }
+
+            // Atomic with every other submission; "ABSENT" can always be marked
+            WorkerDayLoadIndex.Claim claim = loadIndex.claim(today, worker.getName(), m.projectId(), m.status());
+            if (!claim.granted()) {
+                results[i] = RecordResult.rejected(i, m.labourId(), "ERR_ATTENDANCE_CONFLICT",
+                        "Conflict: '" + worker.getName() + "' is already working " + claim.otherProjectLoad()
+                                + " day(s) at another site today.");
+                continue;
+            }
+
+            DayRow row = day.computeIfAbsent(new RowKey(WorkerDayLoadIndex.key(worker.getName()), m.projectId()),
+                    k -> new DayRow(null, m.labourId(), null));
+            changes.add(new AttendanceRollupService.Change(m.projectId(), row.status, m.status(), worker.getDailyWage()));
+            calendarChanges.add(new AttendanceCalendarService.Change(row.labourId, m.projectId(), row.status, m.status(), worker.getDailyWage()));
+            row.status = m.status();
+            Attendance write = writes.computeIfAbsent(row, r -> newAttendance(r, m, today));
+            write.setStatus(m.status());
+            accepted.put(i, row);
+        }
+
+        // ─── Write: one INSERT batch, one UPDATE batch, one rollup write per project, calendar batches ───
+        List<Attendance> inserts = new ArrayList<>();
+        List<Attendance> updates = new ArrayList<>();
+        writes.values().forEach(a -> (a.getId() == null ? inserts : updates).add(a));
+        attendanceRepository.insertAll(inserts);
+        attendanceRepository.updateStatuses(updates);
+        rollupService.recordChanges(today, changes);
+        calendarService.recordChanges(today, calendarChanges);
+        if (!writes.isEmpty()) {
+            cacheInvalidation.onEntitiesChanged(Attendance.class);
+        }
+
+        accepted.forEach((i, row) -> results[i] = RecordResult.marked(i, marks[i].labourId(), writes.get(row).getId()));
+        int marked = accepted.size();
+        log.info("🗓️ Bulk attendance for {}: {} marked, {} rejected", today, marked, records.size() - marked);
+        return new AttendanceBatchResultDTO(marked, records.size() - marked, List.of(results));
+    }
+
+    private record RowKey(String workerKey, Long projectId) {}
+
+    // Identity-keyed: one per (worker, project) of the day, existing or planned
+    private static final class DayRow {
+        private final Long id;
+        private final Long labourId;
+        private String status;
+
+        private DayRow(Long id, Long labourId, String status) {
+            this.id = id;
+            this.labourId = labourId;
+            this.status = status;
+        }
+    }
+
+    private static Attendance newAttendance(DayRow row, Mark m, LocalDate today) {
+        Attendance a = new Attendance();
+        a.setId(row.id);
+        Labour labour = new Labour();
+        labour.setId(m.labourId());
+        a.setLabour(labour);
+        Project project = new Project();
+        project.setId(m.projectId());
+        a.setProject(project);
+        a.setDate(today);
+        return a;
+    }
+
+    private static Mark parse(Map<String, Object> record) {
+        Long labourId = Long.parseLong(Objects.requireNonNull(record.get("labourId")).toString());
+        Long projectId = Long.parseLong(Objects.requireNonNull(record.get("projectId")).toString());
+        String status = Objects.requireNonNull(record.get("status")).toString().trim().toUpperCase(Locale.ROOT);
+        return new Mark(labourId, projectId, status);
+    }
+}
@@ -0,0 +1,166 @@
+package net.engineeringdigest.journalApp.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.engineeringdigest.journalApp.dto.AttendanceCalendarRow;
+import net.engineeringdigest.journalApp.dto.MusterRollEntryDTO;
+import net.engineeringdigest.journalApp.dto.MusterRollSource;
+import net.engineeringdigest.journalApp.model.AttendanceCalendar;
+import net.engineeringdigest.journalApp.repository.AttendanceCalendarBatchRepository;
+import net.engineeringdigest.journalApp.repository.AttendanceCalendarRepository;
+import net.engineeringdigest.journalApp.repository.AttendanceRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 🗓️ Attendance Calendar Maintenance
+ * Keeps attendance_calendar (one packed 64-bit word per worker, project and month) in step with
+ * every attendance status change, inside the caller's transaction, and decodes it for monthly
+ * reads such as the muster roll.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AttendanceCalendarService {
+
+    private final AttendanceCalendarRepository calendarRepository;
+    private final AttendanceRepository attendanceRepository;
+
+    /**
+     * 🔁 One worker's day moving from {@code oldStatus} (null for a new record) to {@code newStatus},
+     * priced at {@code dailyWage}.
+     */
+    public record Change(Long labourId, Long projectId, String oldStatus, String newStatus, Double dailyWage) {}
+
+    private record Key(Long labourId, Long projectId, LocalDate monthStart) {}
+
+    /**
+     * ➕ Applies a batch of one day's changes: each worker-month gets its day's final status
+     * (the last change wins), so each calendar word is written once. The day's slot is set, not
+     * added to, so a repeated or concurrent mark of the same day cannot spill into another day.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordChanges(LocalDate date, List<Change> changes) {
+        LocalDate monthStart = date.withDayOfMonth(1);
+        Map<Key, AttendanceCalendarBatchRepository.DayMark> perMonth = new LinkedHashMap<>();
+        for (Change c : changes) {
+            long code = AttendanceCalendar.codeOf(c.newStatus());
+            if (code == AttendanceCalendar.codeOf(c.oldStatus())) continue;
+            perMonth.put(new Key(c.labourId(), c.projectId(), monthStart), new AttendanceCalendarBatchRepository.DayMark(
+                    c.labourId(), c.projectId(), date, code, wageCost(c.dailyWage(), 1.0), wageCost(c.dailyWage(), 0.5)));
+        }
+        calendarRepository.applyMarks(new ArrayList<>(perMonth.values()));
+    }
+
+    /**
+     * 💱 Re-prices one worker's already-marked day after a daily wage change: only the month's wage
+     * cost moves, by {@code (newWage - oldWage) × the day's man-days}.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reprice(LocalDate date, Long labourId, Long projectId, String status, Double oldWage, Double newWage) {
+        BigDecimal delta = wageCost(newWage, AttendanceCalendar.loadOf(status))
+                .subtract(wageCost(oldWage, AttendanceCalendar.loadOf(status)));
+        if (delta.signum() == 0) return;
+        calendarRepository.addWageCosts(List.of(
+                new AttendanceCalendar(labourId, projectId, date.withDayOfMonth(1), 0L, delta)));
+    }
+
+    static BigDecimal wageCost(Double dailyWage, double manDays) {
+        return BigDecimal.valueOf(dailyWage != null ? dailyWage : 0.0)
+                .multiply(BigDecimal.valueOf(manDays))
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+
+    // ─── Read Side ───────────────────────────────────────────────
+
+    /**
+     * 📋 The project's muster roll for one month, one entry per worker with any attendance in it.
+     * Reads one word per worker instead of one row per worker-day.
+     */
+    @Transactional(readOnly = true)
+    public List<MusterRollEntryDTO> getMusterRoll(Long projectId, YearMonth month) {
+        List<MusterRollSource> rows = calendarRepository.findMusterRoll(projectId, month.atDay(1));
+        List<MusterRollEntryDTO> roll = new ArrayList<>(rows.size());
+        for (MusterRollSource r : rows) {
+            roll.add(toEntry(r, month.lengthOfMonth()));
+        }
+        return roll;
+    }
+
+    static MusterRollEntryDTO toEntry(MusterRollSource r, int daysInMonth) {
+        long days = r.getDays();
+        return new MusterRollEntryDTO(r.getLabourId(), r.getName(), r.getType(), r.getDailyWage(),
+                marks(days, daysInMonth), AttendanceCalendar.presentDays(days), AttendanceCalendar.halfDays(days),
+                AttendanceCalendar.absentDays(days), AttendanceCalendar.manDays(days), r.getWageCost());
+    }
+
+    public static String marks(long days, int daysInMonth) {
+        StringBuilder sb = new StringBuilder(daysInMonth);
+        for (int d = 1; d <= daysInMonth; d++) {
+            long code = AttendanceCalendar.codeOn(days, d);
+            sb.append(code == AttendanceCalendar.PRESENT ? 'P'
+                    : code == AttendanceCalendar.HALF_DAY ? 'H'
+                    : code == AttendanceCalendar.ABSENT ? 'A' : '-');
+        }
+        return sb.toString();
+    }
+
+    // ─── Rebuild ─────────────────────────────────────────────────
+
+    // Dev databases (ddl-auto=update) get the table empty; Flyway backfills it in prod
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        try {
+            if (calendarRepository.count() == 0 && attendanceRepository.count() > 0) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            log.error("[ATTENDANCE-CALENDAR] Startup backfill failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 🔄 Recomputes every calendar word from attendance in one streamed pass.
+     * A day marked twice for the same worker and project keeps its highest status;
+     * wage cost is recomputed at current daily wages.
+     */
+    @Transactional
+    public int rebuild() {
+        Map<Key, Long> words = new HashMap<>();
+        Map<Long, Double> wages = new HashMap<>();
+        try (Stream<AttendanceCalendarRow> rows = attendanceRepository.streamCalendarRows()) {
+            rows.forEach(r -> {
+                long code = AttendanceCalendar.codeOf(r.getStatus());
+                if (code == AttendanceCalendar.NONE) return;
+                Key key = new Key(r.getLabourId(), r.getProjectId(), r.getDate().withDayOfMonth(1));
+                if (r.getDailyWage() != null) wages.put(r.getLabourId(), r.getDailyWage());
+                words.merge(key, AttendanceCalendar.with(0L, r.getDate(), code), (word, mark) -> {
+                    long current = AttendanceCalendar.codeOn(word, r.getDate().getDayOfMonth());
+                    return AttendanceCalendar.with(word, r.getDate(), Math.max(current, code));
+                });
+            });
+        }
+        calendarRepository.deleteAllInBatch();
+        calendarRepository.saveAll(words.entrySet().stream()
+                .map(e -> new AttendanceCalendar(e.getKey().labourId(), e.getKey().projectId(),
+                        e.getKey().monthStart(), e.getValue(),
+                        wageCost(wages.get(e.getKey().labourId()), AttendanceCalendar.manDays(e.getValue()))))
+                .toList());
+        log.info("[ATTENDANCE-CALENDAR] Rebuilt {} worker-month rows", words.size());
+        return words.size();
+    }
+}
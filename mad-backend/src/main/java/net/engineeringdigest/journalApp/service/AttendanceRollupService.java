@@ -0,0 +1,147 @@
+package net.engineeringdigest.journalApp.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.engineeringdigest.journalApp.dto.AttendanceRollupRow;
+import net.engineeringdigest.journalApp.model.DailyAttendanceRollup;
+import net.engineeringdigest.journalApp.repository.AttendanceRepository;
+import net.engineeringdigest.journalApp.repository.DailyAttendanceRollupRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 📅 Daily Attendance Rollup Maintenance
+ * Applies the delta of every attendance status change to daily_attendance_rollup,
+ * inside the caller's transaction, so the rollup commits or rolls back with the attendance row.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AttendanceRollupService {
+
+    private final DailyAttendanceRollupRepository rollupRepository;
+    private final AttendanceRepository attendanceRepository;
+
+    /**
+     * 🔁 One worker's status change on a project; {@code oldStatus} is null for a new record.
+     */
+    public record Change(Long projectId, String oldStatus, String newStatus, Double dailyWage) {}
+
+    /**
+     * ➕ Moves each worker's day in a batch of one day from {@code oldStatus} (null for a new record)
+     * to {@code newStatus}: the deltas are summed per project first, so each (date, project) rollup
+     * row is written once.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordChanges(LocalDate date, List<Change> changes) {
+        Map<Long, Delta> perProject = new LinkedHashMap<>();
+        for (Change c : changes) {
+            if (c.oldStatus() != null && c.oldStatus().equalsIgnoreCase(c.newStatus())) continue;
+            perProject.merge(c.projectId(), Delta.of(c.oldStatus(), c.newStatus(), c.dailyWage()), Delta::plus);
+        }
+        perProject.forEach((projectId, delta) -> {
+            if (!delta.isZero()) apply(date, projectId, delta);
+        });
+    }
+
+    /**
+     * 💱 Re-prices one worker's already-marked day after a daily wage change: counts stay, only
+     * the day's wage cost moves.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reprice(LocalDate date, Long projectId, String status, Double oldWage, Double newWage) {
+        BigDecimal wageCost = Delta.of(null, status, newWage).wageCost().subtract(Delta.of(null, status, oldWage).wageCost());
+        if (wageCost.signum() != 0) apply(date, projectId, new Delta(0, 0, 0, wageCost));
+    }
+
+    private void apply(LocalDate date, Long projectId, Delta d) {
+        int updated = rollupRepository.applyDelta(date, projectId, d.present(), d.halfDay(), d.absent(),
+                d.manDays(), d.wageCost());
+        if (updated == 0) {
+            // First mark for this project today; the unique (work_date, project_id) key guards a concurrent first insert
+            DailyAttendanceRollup row = new DailyAttendanceRollup(date, projectId);
+            row.setPresentCount(d.present());
+            row.setHalfDayCount(d.halfDay());
+            row.setAbsentCount(d.absent());
+            row.setManDays(d.manDays());
+            row.setWageCost(d.wageCost());
+            rollupRepository.save(row);
+        }
+    }
+
+    private record Delta(int present, int halfDay, int absent, BigDecimal wageCost) {
+
+        static Delta of(String oldStatus, String newStatus, Double dailyWage) {
+            int present = countOf("PRESENT", newStatus) - countOf("PRESENT", oldStatus);
+            int halfDay = countOf("HALF_DAY", newStatus) - countOf("HALF_DAY", oldStatus);
+            int absent = countOf("ABSENT", newStatus) - countOf("ABSENT", oldStatus);
+            BigDecimal wageCost = BigDecimal.valueOf(dailyWage != null ? dailyWage : 0.0)
+                    .multiply(BigDecimal.valueOf(present + halfDay * 0.5))
+                    .setScale(2, RoundingMode.HALF_UP);
+            return new Delta(present, halfDay, absent, wageCost);
+        }
+
+        Delta plus(Delta other) {
+            return new Delta(present + other.present, halfDay + other.halfDay, absent + other.absent,
+                    wageCost.add(other.wageCost));
+        }
+
+        double manDays() {
+            return present + halfDay * 0.5;
+        }
+
+        boolean isZero() {
+            return present == 0 && halfDay == 0 && absent == 0 && wageCost.signum() == 0;
+        }
+    }
+
+    private static int countOf(String status, String actual) {
+        return status.equalsIgnoreCase(actual) ? 1 : 0;
+    }
+
+    // ─── Rebuild ─────────────────────────────────────────────────
+
+    // Dev databases (ddl-auto=update) get the table empty; Flyway backfills it in prod
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        try {
+            if (rollupRepository.count() == 0 && attendanceRepository.count() > 0) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            log.error("[ATTENDANCE-ROLLUP] Startup backfill failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 🔄 Recomputes the whole rollup from attendance in one grouped query.
+     * Wage cost is recomputed at current daily wages.
+     */
+    @Transactional
+    public int rebuild() {
+        List<AttendanceRollupRow> rows = attendanceRepository.aggregateByDateAndProject();
+        rollupRepository.deleteAllInBatch();
+        rollupRepository.saveAll(rows.stream().map(r -> {
+            DailyAttendanceRollup row = new DailyAttendanceRollup(r.getDate(), r.getProjectId());
+            row.setPresentCount(r.getPresent().intValue());
+            row.setHalfDayCount(r.getHalfDay().intValue());
+            row.setAbsentCount(r.getAbsent().intValue());
+            row.setManDays(r.getPresent() + r.getHalfDay() * 0.5);
+            row.setWageCost(BigDecimal.valueOf(r.getWageCost() != null ? r.getWageCost() : 0.0)
+                    .setScale(2, RoundingMode.HALF_UP));
+            return row;
+        }).toList());
+        log.info("[ATTENDANCE-ROLLUP] Rebuilt {} (date, project) rows", rows.size());
+        return rows.size();
+    }
+}
@@ -0,0 +1,224 @@
+package net.engineeringdigest.journalApp.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.engineeringdigest.journalApp.dto.ProjectStatusCount;
+import net.engineeringdigest.journalApp.dto.StatusCount;
+import net.engineeringdigest.journalApp.model.CityStats;
+import net.engineeringdigest.journalApp.model.ProjectStatus;
+import net.engineeringdigest.journalApp.repository.CityRepository;
+import net.engineeringdigest.journalApp.repository.ProjectRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 📊 Dashboard Aggregate Store
+ * Keeps per-city / per-status project counters in memory so the admin dashboard
+ * never has to load Project entities just to count them.
+ *
+ * - Rebuilt from a single GROUP BY query on startup and on demand.
+ * - Kept current by {@link ProjectAggregateListener}, which reports every
+ *   Project insert/update/delete; deltas are applied only after the surrounding
+ *   transaction commits, so rolled-back writes never skew the counters.
+ * - Reconciled periodically against a SQL GROUP BY on status, which catches writes
+ *   made by other nodes or by SQL that bypasses JPA.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardAggregateService {
+
+    private final ProjectRepository projectRepository;
+    private final CityRepository cityRepository;
+
+    // (cityId, status) -> project count
+    private final Map<Key, AtomicLong> counters = new ConcurrentHashMap<>();
+    private final Map<Long, String> cityNames = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+
+    private record Key(Long cityId, ProjectStatus status) {}
+
+    // ─── Rebuild ─────────────────────────────────────────────────
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("[DASHBOARD-AGGREGATES] Startup rebuild failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 🔄 Recomputes every counter from the database in one grouped query.
+     */
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        List<ProjectStatusCount> rows = projectRepository.countGroupedByCityAndStatus();
+
+        counters.clear();
+        for (ProjectStatusCount row : rows) {
+            counters.put(new Key(row.getCityId(), row.getStatus()), new AtomicLong(row.getTotal()));
+            cityNames.put(row.getCityId(), row.getCityName());
+        }
+        ready = true;
+        log.info("[DASHBOARD-AGGREGATES] Rebuilt from {} grouped rows", rows.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 🩺 Cheap drift check: compares the status distribution with SQL and rebuilds on mismatch.
+     */
+    @Scheduled(fixedDelayString = "${dashboard.aggregates.reconcile-ms:300000}", initialDelay = 60000)
+    public void reconcile() {
+        if (!ready) return;
+        try {
+            Map<String, Long> actual = toDistribution(projectRepository.countGroupedByStatus());
+            if (!actual.equals(getStatusDistribution())) {
+                log.warn("[DASHBOARD-AGGREGATES] Drift detected, rebuilding. expected={} cached={}",
+                        actual, getStatusDistribution());
+                rebuild();
+            }
+        } catch (Exception e) {
+            log.error("[DASHBOARD-AGGREGATES] Reconcile failed: {}", e.getMessage());
+        }
+    }
+
+    // Covers reads that arrive before ApplicationReadyEvent (e.g. early requests, slice tests)
+    private void ensureReady() {
+        if (!ready) rebuild();
+    }
+
+    // ─── Incremental Maintenance (called by ProjectAggregateListener) ───
+
+    public void onCreated(Long cityId, String cityName, ProjectStatus status) {
+        rememberCityName(cityId, cityName);
+        afterCommit(() -> adjust(cityId, status, +1));
+    }
+
+    public void onChanged(Long oldCityId, ProjectStatus oldStatus,
+                          Long newCityId, String newCityName, ProjectStatus newStatus) {
+        if (Objects.equals(oldCityId, newCityId) && oldStatus == newStatus) {
+            return;
+        }
+        rememberCityName(newCityId, newCityName);
+        afterCommit(() -> {
+            adjust(oldCityId, oldStatus, -1);
+            adjust(newCityId, newStatus, +1);
+        });
+    }
+
+    public void onRemoved(Long cityId, ProjectStatus status) {
+        afterCommit(() -> adjust(cityId, status, -1));
+    }
+
+    // Rolled-back writes must never reach the counters
+    private void afterCommit(Runnable delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    delta.run();
+                }
+            });
+        } else {
+            delta.run();
+        }
+    }
+
+    private void rememberCityName(Long cityId, String cityName) {
+        if (cityId != null && cityName != null) {
+            cityNames.putIfAbsent(cityId, cityName);
+        }
+    }
+
+    private synchronized void adjust(Long cityId, ProjectStatus status, long by) {
+        if (cityId == null) return;
+        Key key = new Key(cityId, status);
+        long value = counters.computeIfAbsent(key, k -> new AtomicLong()).addAndGet(by);
+        if (value <= 0) {
+            counters.remove(key);
+        }
+    }
+
+    // ─── Read Side (O(cities × statuses), independent of project count) ───
+
+    public long getTotalProjects() {
+        ensureReady();
+        return counters.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
+    public long getActiveProjects() {
+        ensureReady();
+        return counters.entrySet().stream()
+                .filter(e -> e.getKey().status() != ProjectStatus.COMPLETED)
+                .mapToLong(e -> e.getValue().get())
+                .sum();
+    }
+
+    public long getCityCount() {
+        ensureReady();
+        return counters.keySet().stream().map(Key::cityId).distinct().count();
+    }
+
+    public Map<String, Long> getStatusDistribution() {
+        if (!ready) return toDistribution(projectRepository.countGroupedByStatus());
+        Map<String, Long> dist = new HashMap<>();
+        counters.forEach((key, count) -> {
+            if (key.status() != null) {
+                dist.merge(key.status().toString(), count.get(), Long::sum);
+            }
+        });
+        return dist;
+    }
+
+    public List<CityStats> getCityStats() {
+        if (!ready) return projectRepository.findCityStats();
+        resolveMissingCityNames();
+
+        Map<String, CityStats> byCity = new HashMap<>();
+        counters.forEach((key, count) -> {
+            String name = cityNames.getOrDefault(key.cityId(), "Unknown");
+            CityStats stats = byCity.computeIfAbsent(name, n -> new CityStats(n, 0, 0, 0));
+            long c = count.get();
+            stats.setTotalProjects(stats.getTotalProjects() + c);
+            if (key.status() == ProjectStatus.RUNNING) stats.setRunningCount(stats.getRunningCount() + c);
+            if (key.status() == ProjectStatus.COMPLETED) stats.setCompletedCount(stats.getCompletedCount() + c);
+        });
+        return new ArrayList<>(byCity.values());
+    }
+
+    private static Map<String, Long> toDistribution(List<StatusCount> rows) {
+        return rows.stream().collect(Collectors.toMap(r -> r.getStatus().toString(), StatusCount::getTotal));
+    }
+
+    // Only hits the DB the first time a project lands in a city we have never seen
+    private void resolveMissingCityNames() {
+        Set<Long> missing = new HashSet<>();
+        for (Key key : counters.keySet()) {
+            if (!cityNames.containsKey(key.cityId())) missing.add(key.cityId());
+        }
+        if (!missing.isEmpty()) {
+            cityRepository.findAllById(missing).forEach(c -> cityNames.put(c.getId(), c.getName()));
+        }
+    }
+}
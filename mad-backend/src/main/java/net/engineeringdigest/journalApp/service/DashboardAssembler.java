@@ -0,0 +1,119 @@
+package net.engineeringdigest.journalApp.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 📊 Dashboard Section Fan-out
+ * Loads independent dashboard sections concurrently on the bounded "dashboardExecutor".
+ *
+ * - Each section runs in its own read-only transaction (with the same timeout as the section,
+ *   so a stuck query is cancelled by the driver instead of holding a connection).
+ * - A section that times out, fails or is rejected by a saturated pool resolves to its fallback
+ *   value and is reported as partial; the rest of the dashboard is still returned.
+ * - Every section is timed as "dashboard.section.duration" {section, outcome} for p99 analysis.
+ */
+@Component
+@Slf4j
+public class DashboardAssembler {
+
+    private final ThreadPoolTaskExecutor executor;
+    private final TransactionTemplate readOnlyTx;
+    private final MeterRegistry meterRegistry;
+    private final long timeoutMs;
+
+    public DashboardAssembler(@Qualifier("dashboardExecutor") ThreadPoolTaskExecutor executor,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${dashboard.section-timeout-ms:3000}") long timeoutMs) {
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.timeoutMs = timeoutMs;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.readOnlyTx.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutMs)));
+    }
+
+    /**
+     * A section being computed; {@link #join()} never throws and never waits past the timeout.
+     */
+    public static final class Section<T> {
+        private final String name;
+        private final CompletableFuture<Outcome<T>> future;
+
+        private Section(String name, CompletableFuture<Outcome<T>> future) {
+            this.name = name;
+            this.future = future;
+        }
+
+        public String name() { return name; }
+        public T join() { return future.join().value(); }
+        public boolean isPartial() { return future.join().partial(); }
+    }
+
+    private record Outcome<T>(T value, boolean partial) {}
+
+    public <T> Section<T> submit(String name, Supplier<T> loader, T fallback) {
+        long start = System.nanoTime();
+        CompletableFuture<Outcome<T>> future;
+        try {
+            future = CompletableFuture
+                    .supplyAsync(() -> readOnlyTx.execute(status -> loader.get()), executor)
+                    .orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                    .thenApply(value -> {
+                        record(name, "ok", start);
+                        return new Outcome<>(value, false);
+                    })
+                    .exceptionally(ex -> {
+                        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                        if (cause instanceof TimeoutException) {
+                            log.warn("[DASHBOARD] Section '{}' timed out after {}ms, returning partial data", name, timeoutMs);
+                            record(name, "timeout", start);
+                        } else {
+                            log.error("[DASHBOARD] Section '{}' failed: {}", name, cause.getMessage());
+                            record(name, "error", start);
+                        }
+                        return new Outcome<>(fallback, true);
+                    });
+        } catch (RejectedExecutionException e) {
+            log.warn("[DASHBOARD] Section '{}' rejected: dashboard pool saturated", name);
+            record(name, "rejected", start);
+            future = CompletableFuture.completedFuture(new Outcome<>(fallback, true));
+        }
+        return new Section<>(name, future);
+    }
+
+    public static List<String> partialSections(Section<?>... sections) {
+        return Stream.of(sections)
+                .filter(Section::isPartial)
+                .map(Section::name)
+                .collect(Collectors.toList());
+    }
+
+    private void record(String section, String outcome, long startNanos) {
+        Timer.builder("dashboard.section.duration")
+                .description("Time to compute one admin dashboard section")
+                .tag("section", section)
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,186 @@
+package net.engineeringdigest.journalApp.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.engineeringdigest.journalApp.dto.FinancialTrendPointDTO;
+import net.engineeringdigest.journalApp.dto.FinancialTrendTotals;
+import net.engineeringdigest.journalApp.dto.ProjectBoqTotals;
+import net.engineeringdigest.journalApp.dto.ProjectFinancialDTO;
+import net.engineeringdigest.journalApp.dto.ProjectRef;
+import net.engineeringdigest.journalApp.model.Money;
+import net.engineeringdigest.journalApp.model.ProjectFinancialSnapshot;
+import net.engineeringdigest.journalApp.repository.BillOfQuantityRepository;
+import net.engineeringdigest.journalApp.repository.DailyAttendanceRollupRepository;
+import net.engineeringdigest.journalApp.repository.MaterialRequisitionRepository;
+import net.engineeringdigest.journalApp.repository.ProjectFinancialSnapshotRepository;
+import net.engineeringdigest.journalApp.repository.ProjectRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 📸 Daily Financial Snapshots
+ * Writes one row per project per day after the day closes, and serves trend charts from them.
+ *
+ * Labour spend is carried forward incrementally: previous snapshot + the rollup wage cost
+ * added since. BOQ value and requisition spend have no per-day history (a BOQ line or
+ * requisition is edited in place), so they are taken from the same grouped totals the
+ * live portfolio report uses — a fixed number of queries regardless of project count.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FinancialSnapshotService {
+
+    // Days the nightly job backfills after downtime
+    private static final int MAX_CATCH_UP_DAYS = 31;
+
+    private final ProjectFinancialSnapshotRepository snapshotRepository;
+    private final ProjectRepository projectRepository;
+    private final BillOfQuantityRepository boqRepository;
+    private final MaterialRequisitionRepository requisitionRepository;
+    private final DailyAttendanceRollupRepository attendanceRollupRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // ─── Write Side ──────────────────────────────────────────────
+
+    /**
+     * 🌙 Snapshots yesterday, plus any days missed while the job was not running.
+     * Each day commits in its own transaction (a self-call would bypass the proxy on
+     * {@link #snapshot}), so a failed day leaves no half-written rows behind.
+     */
+    @Scheduled(cron = "${financials.snapshot.cron:0 30 0 * * *}")
+    public void snapshotClosedDays() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        LocalDate latest = snapshotRepository.findLatestSnapshotDate();
+        LocalDate from = latest == null ? yesterday : latest.plusDays(1);
+        if (from.isBefore(yesterday.minusDays(MAX_CATCH_UP_DAYS - 1))) {
+            from = yesterday.minusDays(MAX_CATCH_UP_DAYS - 1);
+        }
+        for (LocalDate day = from; !day.isAfter(yesterday); day = day.plusDays(1)) {
+            try {
+                LocalDate date = day;
+                transactionTemplate.executeWithoutResult(status -> snapshot(date));
+            } catch (Exception e) {
+                log.error("[FINANCIAL-SNAPSHOT] Snapshot for {} failed: {}", day, e.getMessage());
+                return; // later days carry forward from this one
+            }
+        }
+    }
+
+    /**
+     * 📸 (Re)writes the snapshot rows for {@code date}. Idempotent: existing rows for the day are replaced.
+     */
+    @Transactional
+    public int snapshot(LocalDate date) {
+        List<ProjectRef> projects = projectRepository.findAllRefs();
+        Map<Long, ProjectBoqTotals> boq = boqRepository.sumTotalsGroupedByProject().stream()
+                .collect(Collectors.toMap(ProjectBoqTotals::getProjectId, Function.identity()));
+        Map<Long, BigDecimal> material = PortfolioFinancialService.byProject(
+                requisitionRepository.sumTotalCostGroupedByProject(PortfolioFinancialService.MATERIAL_SPEND_STATUSES));
+        Map<Long, BigDecimal> labour = cumulativeLabour(date, projects);
+
+        snapshotRepository.deleteBySnapshotDate(date);
+        List<ProjectFinancialSnapshot> rows = new ArrayList<>(projects.size());
+        for (ProjectRef p : projects) {
+            ProjectBoqTotals totals = boq.get(p.getId());
+            ProjectFinancialDTO f = PortfolioFinancialService.assemble(p.getId(), p.getName(),
+                    totals != null && totals.getBudget() != null ? totals.getBudget() : 0.0,
+                    totals != null && totals.getWorkDone() != null ? totals.getWorkDone() : 0.0,
+                    material.getOrDefault(p.getId(), BigDecimal.ZERO),
+                    labour.getOrDefault(p.getId(), BigDecimal.ZERO));
+
+            ProjectFinancialSnapshot row = new ProjectFinancialSnapshot(date, p.getId());
+            row.setTotalBudget(money(f.getTotalBudget()));
+            row.setWorkDoneValue(money(f.getWorkDoneValue()));
+            row.setMaterialExpense(money(f.getMaterialExpense()));
+            row.setLabourExpense(money(f.getLabourExpense()));
+            row.setCurrentROI(money(f.getCurrentROI()));
+            row.setHealthScore(f.getHealthScore());
+            rows.add(row);
+        }
+        snapshotRepository.saveAll(rows);
+        log.info("[FINANCIAL-SNAPSHOT] Wrote {} project rows for {}", rows.size(), date);
+        return rows.size();
+    }
+
+    // Previous snapshot + wage cost added since; a full sum only for projects with no previous row
+    private Map<Long, BigDecimal> cumulativeLabour(LocalDate date, List<ProjectRef> projects) {
+        LocalDate previousDate = snapshotRepository.findLatestSnapshotDateBefore(date);
+        if (previousDate == null) {
+            return PortfolioFinancialService.byProject(attendanceRollupRepository.sumWageCostGroupedByProjectThrough(date));
+        }
+
+        Map<Long, BigDecimal> labour = snapshotRepository.findBySnapshotDate(previousDate).stream()
+                .collect(Collectors.toMap(ProjectFinancialSnapshot::getProjectId, ProjectFinancialSnapshot::getLabourExpense));
+        List<Long> newProjects = projects.stream().map(ProjectRef::getId).filter(id -> !labour.containsKey(id)).toList();
+
+        PortfolioFinancialService.byProject(attendanceRollupRepository.sumWageCostGroupedByProjectBetween(previousDate, date))
+                .forEach((projectId, delta) -> labour.merge(projectId, delta, BigDecimal::add));
+
+        if (!newProjects.isEmpty()) {
+            Map<Long, BigDecimal> full = PortfolioFinancialService.byProject(
+                    attendanceRollupRepository.sumWageCostGroupedByProjectThrough(date));
+            newProjects.forEach(id -> labour.put(id, full.getOrDefault(id, BigDecimal.ZERO)));
+        }
+        return labour;
+    }
+
+    private static BigDecimal money(BigDecimal value) {
+        return Money.of(value).toBigDecimal();
+    }
+
+    // ─── Read Side ───────────────────────────────────────────────
+
+    /**
+     * 📈 Portfolio trend: one grouped range scan over the snapshot table.
+     */
+    @Transactional(readOnly = true)
+    public List<FinancialTrendPointDTO> getPortfolioTrend(LocalDate from, LocalDate to) {
+        return snapshotRepository.sumByDateBetween(from, to).stream()
+                .map(FinancialSnapshotService::toPoint)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public List<FinancialTrendPointDTO> getProjectTrend(Long projectId, LocalDate from, LocalDate to) {
+        return snapshotRepository.findByProjectIdAndSnapshotDateBetweenOrderBySnapshotDate(projectId, from, to).stream()
+                .map(s -> FinancialTrendPointDTO.builder()
+                        .date(s.getSnapshotDate())
+                        .totalBudget(s.getTotalBudget())
+                        .workDoneValue(s.getWorkDoneValue())
+                        .materialExpense(s.getMaterialExpense())
+                        .labourExpense(s.getLabourExpense())
+                        .totalExpense(s.getMaterialExpense().add(s.getLabourExpense()))
+                        .currentROI(s.getCurrentROI())
+                        .healthScore(s.getHealthScore())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    // Portfolio health is recomputed from the summed totals; averaging per-project scores would skew it
+    private static FinancialTrendPointDTO toPoint(FinancialTrendTotals t) {
+        ProjectFinancialDTO f = PortfolioFinancialService.assemble(null, null,
+                t.getTotalBudget().doubleValue(), t.getWorkDoneValue().doubleValue(),
+                t.getMaterialExpense(), t.getLabourExpense());
+        return FinancialTrendPointDTO.builder()
+                .date(t.getDate())
+                .totalBudget(t.getTotalBudget())
+                .workDoneValue(t.getWorkDoneValue())
+                .materialExpense(t.getMaterialExpense())
+                .labourExpense(t.getLabourExpense())
+                .totalExpense(f.getTotalExpense())
+                .currentROI(t.getWorkDoneValue().subtract(f.getTotalExpense()))
+                .healthScore(f.getHealthScore())
+                .build();
+    }
+}
@@ -0,0 +1,150 @@
+package net.engineeringdigest.journalApp.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.engineeringdigest.journalApp.exception.BusinessRuleException;
+import net.engineeringdigest.journalApp.exception.ResourceNotFoundException;
+import net.engineeringdigest.journalApp.model.InventoryItem;
+import net.engineeringdigest.journalApp.model.InventoryMovement;
+import net.engineeringdigest.journalApp.model.InventoryMovementType;
+import net.engineeringdigest.journalApp.repository.InventoryItemRepository;
+import net.engineeringdigest.journalApp.repository.InventoryMovementRepository;
+import net.engineeringdigest.journalApp.service.cache.CacheInvalidationService;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 📒 Inventory Ledger Engine
+ * Stock changes are appended to inventory_movements instead of rewriting the item row, so
+ * concurrent goods receipts for the same material neither lose updates nor wait on a row lock.
+ *
+ * - Live stock = InventoryItem.currentQuantity (compacted balance) + pending movements.
+ * - {@link #compact()} periodically folds pending movements into the balance.
+ * - Inventory screens and low-stock checks read the compacted balance; decisions that must
+ *   not oversell (issues, transfers, GRN audit) read live stock.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryLedgerService {
+
+    private final InventoryMovementRepository movementRepository;
+    private final InventoryItemRepository itemRepository;
+    private final CacheInvalidationService cacheInvalidation;
+
+    // ─── Write Side ──────────────────────────────────────────────
+
+    /**
+     * ➕ Appends one movement; {@code quantity} is positive and the type gives its direction
+     * (ADJUSTMENT takes a signed correction). Joins the caller's transaction.
+     */
+    @Transactional
+    public InventoryMovement record(Long itemId, InventoryMovementType type, double quantity,
+                                    String reference, String actor) {
+        if (type != InventoryMovementType.ADJUSTMENT && !(quantity > 0)) {
+            throw new BusinessRuleException("ERR_VALIDATION_FAILED", "Quantity must be greater than zero");
+        }
+        InventoryMovement movement = new InventoryMovement();
+        movement.setItemId(itemId);
+        movement.setType(type);
+        movement.setQuantity(type.signed(quantity));
+        movement.setReference(reference);
+        movement.setActor(actor);
+        return movementRepository.save(movement);
+    }
+
+    /**
+     * 📤 Issues stock to site consumption; refuses to take live stock below zero.
+     * The check reads live stock without locking, so two simultaneous issues of the last units
+     * can both pass; the overdraw then shows as a negative balance instead of blocking receipts.
+     */
+    @Transactional
+    public InventoryMovement issue(Long itemId, double quantity, String reference, String actor) {
+        return withdraw(InventoryMovementType.ISSUE, itemId, quantity, reference, actor);
+    }
+
+    /**
+     * 🔁 Moves stock between two items (e.g. the same material on two projects) as a paired
+     * TRANSFER_OUT / TRANSFER_IN, so both sides commit or neither does.
+     */
+    @Transactional
+    public void transfer(Long fromItemId, Long toItemId, double quantity, String reference, String actor) {
+        if (Objects.equals(fromItemId, toItemId)) {
+            throw new BusinessRuleException("ERR_VALIDATION_FAILED", "Source and destination items must differ");
+        }
+        findItem(toItemId);
+        withdraw(InventoryMovementType.TRANSFER_OUT, fromItemId, quantity, reference, actor);
+        record(toItemId, InventoryMovementType.TRANSFER_IN, quantity, reference, actor);
+    }
+
+    /**
+     * 🧮 Stock-count correction: records the difference between the counted and live stock.
+     * Returns null when the count already matches.
+     */
+    @Transactional
+    public InventoryMovement adjustTo(Long itemId, double countedQuantity, String actor) {
+        double delta = countedQuantity - currentStock(findItem(itemId));
+        if (delta == 0) return null;
+        return record(itemId, InventoryMovementType.ADJUSTMENT, delta, "STOCK-COUNT", actor);
+    }
+
+    private InventoryMovement withdraw(InventoryMovementType type, Long itemId, double quantity,
+                                       String reference, String actor) {
+        InventoryItem item = findItem(itemId);
+        double available = currentStock(item);
+        if (quantity > available) {
+            throw BusinessRuleException.insufficientStock(item.getName(), quantity, available);
+        }
+        return record(itemId, type, quantity, reference, actor);
+    }
+
+    // ─── Read Side ───────────────────────────────────────────────
+
+    /**
+     * 📦 Live stock: compacted balance plus the movements since the last compaction.
+     */
+    @Transactional(readOnly = true)
+    public double currentStock(InventoryItem item) {
+        return item.getCurrentQuantity() + movementRepository.sumPending(item.getId());
+    }
+
+    @Transactional(readOnly = true)
+    public double currentStock(Long itemId) {
+        return currentStock(findItem(itemId));
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<InventoryMovement> history(Long itemId, Pageable pageable) {
+        return movementRepository.findByItemIdOrderByIdDesc(itemId, pageable);
+    }
+
+    // ─── Compaction ──────────────────────────────────────────────
+
+    /**
+     * 🗜️ Folds every committed pending movement into its item's balance in one transaction:
+     * the movements are first stamped with a fresh run id, then exactly the stamped rows are
+     * summed into the items. Movements that commit meanwhile stay pending for the next run.
+     */
+    @Scheduled(fixedDelayString = "${inventory.compaction-ms:30000}", initialDelay = 60000)
+    @Transactional
+    public int compact() {
+        String run = UUID.randomUUID().toString();
+        int claimed = movementRepository.claimPending(run);
+        if (claimed == 0) return 0;
+        int items = itemRepository.applyCompaction(run);
+        cacheInvalidation.onEntitiesChanged(InventoryItem.class);
+        log.info("[INVENTORY-LEDGER] Compacted {} movements into {} items", claimed, items);
+        return claimed;
+    }
+
+    private InventoryItem findItem(Long itemId) {
+        return itemRepository.findById(itemId)
+                .orElseThrow(() -> new ResourceNotFoundException("Inventory Item", itemId));
+    }
+}
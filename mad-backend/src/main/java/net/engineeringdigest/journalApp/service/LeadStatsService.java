@@ -0,0 +1,43 @@
+package net.engineeringdigest.journalApp.service;
+
+import lombok.RequiredArgsConstructor;
+import net.engineeringdigest.journalApp.dto.LeadStatsDTO;
+import net.engineeringdigest.journalApp.repository.LeadInquiryRepository;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 📈 Lead Funnel Statistics
+ * One aggregate query, cached. Lead writes (submitLead, updateLeadStatus, ...) evict the
+ * current entry through CacheInvalidationService.
+ */
+@Service
+@RequiredArgsConstructor
+public class LeadStatsService {
+
+    public static final String CACHE = "leadStats";
+    private static final long BUCKET_MINUTES = 5;
+
+    private final LeadInquiryRepository leadInquiryRepository;
+
+    /**
+     * 🗓️ "Today" and "older than 24h" move with the clock even without writes,
+     * so entries are keyed by a 5-minute bucket and go stale on their own.
+     */
+    public static String cacheKey() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        return now.minusMinutes(now.getMinute() % BUCKET_MINUTES).toString();
+    }
+
+    @Cacheable(value = CACHE, key = "T(net.engineeringdigest.journalApp.service.LeadStatsService).cacheKey()")
+    @Transactional(readOnly = true)
+    public LeadStatsDTO getLeadStats() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime startOfDay = now.toLocalDate().atStartOfDay();
+        return leadInquiryRepository.aggregateStats(startOfDay, startOfDay.plusDays(1), now.minusHours(24));
+    }
+}
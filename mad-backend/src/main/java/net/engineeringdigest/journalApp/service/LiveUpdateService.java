@@ -72,6 +72,10 @@ public class LiveUpdateService {
         broadcastEvent("NEW_REQUISITION", requisition);
     }
 
+    public void broadcastRequisitionBatch(Object batch) {
+        broadcastEvent("REQUISITION_BATCH", batch);
+    }
+
     public void broadcastRequisitionAssigned(Object requisition) {
         broadcastEvent("REQUISITION_ASSIGNED", requisition);
     }
@@ -1,8 +1,16 @@
 package net.engineeringdigest.journalApp.service;
 
+import net.engineeringdigest.journalApp.dto.BulkRequisitionResultDTO;
+import net.engineeringdigest.journalApp.dto.BulkRequisitionResultDTO.LineResult;
+import net.engineeringdigest.journalApp.dto.CursorPageDTO;
+import net.engineeringdigest.journalApp.dto.RequisitionBatchEventDTO;
+import net.engineeringdigest.journalApp.dto.RequisitionLineDTO;
+import net.engineeringdigest.journalApp.dto.RequisitionListItemDTO;
+import net.engineeringdigest.journalApp.dto.RequisitionViewDTO;
 import net.engineeringdigest.journalApp.exception.BusinessRuleException;
 import net.engineeringdigest.journalApp.exception.ResourceNotFoundException;
 import net.engineeringdigest.journalApp.model.InventoryItem;
+import net.engineeringdigest.journalApp.model.InventoryMovementType;
 import net.engineeringdigest.journalApp.model.MaterialRequisition;
 import net.engineeringdigest.journalApp.model.Project;
 import net.engineeringdigest.journalApp.model.User;
@@ -10,17 +18,31 @@ import net.engineeringdigest.journalApp.model.Vendor;
 import net.engineeringdigest.journalApp.repository.InventoryItemRepository;
 import net.engineeringdigest.journalApp.repository.MaterialRequisitionRepository;
 import net.engineeringdigest.journalApp.repository.ProjectRepository;
+import net.engineeringdigest.journalApp.repository.RequisitionSearchRepository;
 import net.engineeringdigest.journalApp.repository.UserRepository;
 import net.engineeringdigest.journalApp.repository.VendorRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * ✅ H3 FIX: Extracted from MaterialRequisitionController.
@@ -32,6 +54,12 @@ public class MaterialRequisitionService {
 
     private static final Logger log = LoggerFactory.getLogger(MaterialRequisitionService.class);
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+    public static final int MAX_BATCH_LINES = 200;
+
+    private static final Set<String> URGENCIES = Set.of("NORMAL", "URGENT", "CRITICAL");
+
     @Autowired
     private MaterialRequisitionRepository requisitionRepository;
 
@@ -53,6 +81,15 @@ public class MaterialRequisitionService {
     @Autowired
     private AuditLogService auditLogService;
 
+    @Autowired
+    private VendorLedgerService vendorLedgerService;
+
+    @Autowired
+    private InventoryLedgerService inventoryLedgerService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     /**
      * Submit a new material requisition.
      * Links the managed Project and User entities, sets status to PENDING,
@@ -83,6 +120,7 @@ public class MaterialRequisitionService {
         }
 
         MaterialRequisition saved = requisitionRepository.save(requisition);
+        vendorLedgerService.recordChange(null, saved);
 
         // Broadcast to Admin Dashboard via SSE
         liveUpdateService.broadcastRequisition(saved);
@@ -93,19 +131,157 @@ public class MaterialRequisitionService {
     }
 
     /**
-     * Get requisitions submitted by a specific user.
+     * 📥 Bulk submission: many material lines in one transaction.
+     * Projects and inventory items for every line are fetched up front (one query each),
+     * lines are validated in memory, and the valid ones are inserted in a single JDBC batch
+     * followed by one aggregated live event. Invalid lines are reported, not fatal.
      */
-    public List<MaterialRequisition> getByRequester(String username) {
+    @Transactional
+    public BulkRequisitionResultDTO submitBatch(List<RequisitionLineDTO> lines, String username) {
+        if (lines == null || lines.isEmpty()) {
+            throw new BusinessRuleException("ERR_VALIDATION_FAILED", "At least one requisition line is required");
+        }
+        if (lines.size() > MAX_BATCH_LINES) {
+            throw new BusinessRuleException("ERR_BATCH_TOO_LARGE",
+                    "A bulk submission may contain at most " + MAX_BATCH_LINES + " lines");
+        }
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User", username));
-        return requisitionRepository.findByRequesterId(user.getId());
+
+        Map<Long, Project> projects = projectRepository.findAllById(lines.stream()
+                        .map(RequisitionLineDTO::projectId).filter(Objects::nonNull).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(Project::getId, Function.identity()));
+        Set<Long> itemIds = lines.stream()
+                .map(RequisitionLineDTO::inventoryItemId).filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<Long, InventoryItem> items = itemIds.isEmpty() ? Map.of() : inventoryRepository.findAllById(itemIds)
+                .stream().collect(Collectors.toMap(InventoryItem::getId, Function.identity()));
+
+        LineResult[] results = new LineResult[lines.size()];
+        List<Integer> accepted = new ArrayList<>();
+        List<MaterialRequisition> toInsert = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            RequisitionLineDTO line = lines.get(i);
+            LineResult error = validateLine(i, line, projects, items);
+            if (error != null) {
+                results[i] = error;
+                continue;
+            }
+            MaterialRequisition requisition = new MaterialRequisition();
+            requisition.setProject(projects.get(line.projectId()));
+            requisition.setRequester(user);
+            InventoryItem item = line.inventoryItemId() != null ? items.get(line.inventoryItemId()) : null;
+            requisition.setInventoryItem(item);
+            requisition.setCustomItemName(line.customItemName() != null ? line.customItemName().strip() : null);
+            requisition.setQuantity(line.quantity());
+            requisition.setUnitOfMeasure(line.unitOfMeasure() != null ? line.unitOfMeasure()
+                    : item != null ? item.getUnitOfMeasure() : null);
+            requisition.setUrgency(line.urgency() != null ? line.urgency().toUpperCase() : "NORMAL");
+            requisition.setRemarks(line.remarks());
+            requisition.setStatus("PENDING");
+            toInsert.add(requisition);
+            accepted.add(i);
+        }
+
+        // New lines carry no vendor, so there is nothing to post to the vendor ledger
+        requisitionRepository.insertAll(toInsert);
+        for (int k = 0; k < toInsert.size(); k++) {
+            results[accepted.get(k)] = LineResult.created(accepted.get(k), toInsert.get(k).getId());
+        }
+
+        if (!toInsert.isEmpty()) {
+            liveUpdateService.broadcastRequisitionBatch(new RequisitionBatchEventDTO(username, toInsert.size(),
+                    toInsert.stream().map(MaterialRequisition::getId).toList(),
+                    toInsert.stream().map(r -> r.getProject().getName()).distinct().toList()));
+        }
+        log.info("📦 Bulk requisition by {}: {} submitted, {} rejected",
+                username, toInsert.size(), lines.size() - toInsert.size());
+        return new BulkRequisitionResultDTO(toInsert.size(), lines.size() - toInsert.size(), List.of(results));
+    }
+
+    // Mirrors the column limits of material_requisitions; null when the line is valid
+    private static LineResult validateLine(int index, RequisitionLineDTO line,
+                                           Map<Long, Project> projects, Map<Long, InventoryItem> items) {
+        if (line == null || line.projectId() == null) {
+            return LineResult.rejected(index, "ERR_VALIDATION_FAILED", "Valid Project ID is required");
+        }
+        if (!projects.containsKey(line.projectId())) {
+            return LineResult.rejected(index, "ERR_PROJECT_NOT_FOUND", "Project not found with ID: " + line.projectId());
+        }
+        if (line.inventoryItemId() != null) {
+            if (!items.containsKey(line.inventoryItemId())) {
+                return LineResult.rejected(index, "ERR_INVENTORY_ITEM_NOT_FOUND",
+                        "Inventory Item not found with ID: " + line.inventoryItemId());
+            }
+        } else if (line.customItemName() == null || line.customItemName().isBlank()) {
+            return LineResult.rejected(index, "ERR_VALIDATION_FAILED", "Inventory item or custom item name is required");
+        } else if (line.customItemName().strip().length() > 150) {
+            return LineResult.rejected(index, "ERR_VALIDATION_FAILED", "Custom item name must not exceed 150 characters");
+        }
+        if (line.quantity() == null || !(line.quantity() > 0)) {
+            return LineResult.rejected(index, "ERR_VALIDATION_FAILED", "Quantity must be greater than zero");
+        }
+        if (line.unitOfMeasure() != null && line.unitOfMeasure().length() > 20) {
+            return LineResult.rejected(index, "ERR_VALIDATION_FAILED", "Unit of measure must not exceed 20 characters");
+        }
+        if (line.urgency() != null && !URGENCIES.contains(line.urgency().toUpperCase())) {
+            return LineResult.rejected(index, "ERR_VALIDATION_FAILED", "Urgency must be one of " + URGENCIES);
+        }
+        return null;
     }
 
     /**
-     * Get all requisitions (Admin view).
+     * Get requisitions submitted by a specific user, newest first.
+     * Filters on the JOINed username, so there is no separate user lookup.
      */
-    public List<MaterialRequisition> getAll() {
-        return requisitionRepository.findAll();
+    @Transactional(readOnly = true)
+    public List<RequisitionViewDTO> getByRequester(String username) {
+        return requisitionRepository.findViewsByRequester(username);
+    }
+
+    /**
+     * Get all requisitions (Admin view), newest first.
+     */
+    @Transactional(readOnly = true)
+    public List<RequisitionViewDTO> getAll() {
+        return requisitionRepository.findAllViews();
+    }
+
+    /**
+     * 🔎 Filtered listing, newest first, one keyset page at a time.
+     * Fetches one extra row to learn whether another page exists without a COUNT.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<RequisitionListItemDTO> search(RequisitionSearchRepository.Criteria criteria,
+                                                        String cursor, Integer size) {
+        int limit = size != null ? size : DEFAULT_PAGE_SIZE;
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new BusinessRuleException("ERR_INVALID_PAGE_SIZE", "Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        LocalDateTime afterCreatedAt = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                String key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = key.lastIndexOf('|');
+                afterCreatedAt = LocalDateTime.parse(key.substring(0, separator));
+                afterId = Long.parseLong(key.substring(separator + 1));
+            } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+                throw new BusinessRuleException("ERR_INVALID_CURSOR", "Cursor is malformed; restart from the first page.");
+            }
+        }
+
+        List<RequisitionListItemDTO> rows = requisitionRepository.searchPage(criteria, afterCreatedAt, afterId, limit + 1);
+        boolean hasMore = rows.size() > limit;
+        List<RequisitionListItemDTO> items = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = hasMore ? encodeCursor(items.get(items.size() - 1)) : null;
+        return new CursorPageDTO<>(items, nextCursor, hasMore);
+    }
+
+    // Opaque to clients: base64url of "<createdAt>|<id>" of the last row served
+    static String encodeCursor(RequisitionListItemDTO last) {
+        String key = last.getCreatedAt() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
     }
 
     /**
@@ -117,6 +293,7 @@ public class MaterialRequisitionService {
         MaterialRequisition requisition = requisitionRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Requisition", id));
 
+        VendorLedgerService.Contribution before = VendorLedgerService.Contribution.of(requisition);
         requisition.setStatus(status);
         if (remarks != null) requisition.setRemarks(remarks);
 
@@ -125,6 +302,7 @@ public class MaterialRequisitionService {
         // For now, we follow the user instruction to implement a "Goods Received" (GRN) step.
         
         MaterialRequisition saved = requisitionRepository.save(requisition);
+        vendorLedgerService.recordChange(before, saved);
         liveUpdateService.broadcastRequisition(saved);
         return saved;
     }
@@ -141,12 +319,14 @@ public class MaterialRequisitionService {
         Vendor vendor = vendorRepository.findById(vendorId)
                 .orElseThrow(() -> new ResourceNotFoundException("Vendor", vendorId));
 
+        VendorLedgerService.Contribution before = VendorLedgerService.Contribution.of(requisition);
         requisition.setVendor(vendor);
         requisition.setUnitPrice(unitPrice);
         requisition.setTotalCost(totalCost);
         requisition.setStatus("ASSIGNED");
 
         MaterialRequisition saved = requisitionRepository.save(requisition);
+        vendorLedgerService.recordChange(before, saved);
         liveUpdateService.broadcastRequisitionAssigned(saved);
 
         auditLogService.saveAuditLog(actor, "REQUISITION_ASSIGNED", "/api/v1/requisitions/" + id + "/assign", 200, id, 
@@ -159,9 +339,31 @@ public class MaterialRequisitionService {
     /**
      * ✅ GRN Workflow: Goods Received Note.
      * Increments material stock only when delivered and marked as received.
+     * A receipt that loses the race to create its stock item is re-run in a fresh transaction,
+     * which finds the item the other receipt committed.
      */
-    @Transactional
     public MaterialRequisition receiveMaterial(Long id, Integer quantity, String actor) {
+        try {
+            return transactionTemplate.execute(status -> receive(id, quantity, actor));
+        } catch (ItemCreatedConcurrently e) {
+            // Inside a caller's transaction there is nothing to re-run
+            if (TransactionSynchronizationManager.isActualTransactionActive()) throw e.conflict;
+            log.info("📦 Requisition #{}: stock item created by a concurrent receipt, retrying", id);
+            return transactionTemplate.execute(status -> receive(id, quantity, actor));
+        }
+    }
+
+    // Lost the insert on uk_inventory_items_project_key; unchecked so the transaction rolls back
+    private static final class ItemCreatedConcurrently extends RuntimeException {
+        private final DataIntegrityViolationException conflict;
+
+        private ItemCreatedConcurrently(DataIntegrityViolationException conflict) {
+            super(conflict.getMessage(), conflict, false, false);
+            this.conflict = conflict;
+        }
+    }
+
+    private MaterialRequisition receive(Long id, Integer quantity, String actor) {
         MaterialRequisition requisition = requisitionRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Requisition", id));
 
@@ -183,34 +385,41 @@ public class MaterialRequisitionService {
         // Update Inventory Stock
         InventoryItem item = requisition.getInventoryItem();
         if (item == null) {
-            // Find existing or create new item for the project
+            // Find existing or create new item for the project (indexed on project + normalized name)
             String itemName = requisition.getCustomItemName() != null ? requisition.getCustomItemName() : "Ordered Material";
-            item = inventoryRepository.findAll().stream()
-                    .filter(i -> i.getProject().getId().equals(requisition.getProject().getId()))
-                    .filter(i -> i.getName().equalsIgnoreCase(itemName))
-                    .findFirst()
+            Long projectId = requisition.getProject().getId();
+            item = inventoryRepository.findByProjectAndKey(projectId, InventoryItem.keyOf(itemName))
                     .orElseGet(() -> {
                         InventoryItem newItem = new InventoryItem();
-                        newItem.setName(itemName);
+                        newItem.setName(itemName.strip());
                         newItem.setProject(requisition.getProject());
                         newItem.setUnitOfMeasure(requisition.getUnitOfMeasure());
                         newItem.setCategory("GENERAL");
                         newItem.setCurrentQuantity(0.0);
-                        return newItem;
+                        // Insert now so a concurrent first receipt of the same material fails on
+                        // uk_inventory_items_project_key instead of creating a duplicate row
+                        try {
+                            return inventoryRepository.saveAndFlush(newItem);
+                        } catch (DataIntegrityViolationException e) {
+                            throw new ItemCreatedConcurrently(e);
+                        }
                     });
         }
 
-        beforeQty = item.getCurrentQuantity();
-        item.setCurrentQuantity(beforeQty + quantity);
-        afterQty = item.getCurrentQuantity();
-        inventoryRepository.save(item);
+        // Append a receipt to the stock ledger instead of rewriting the item row, so concurrent
+        // GRNs for the same material cannot lose each other's quantity
+        inventoryLedgerService.record(item.getId(), InventoryMovementType.RECEIPT, quantity, "REQ-" + id, actor);
+        afterQty = inventoryLedgerService.currentStock(item);
+        beforeQty = afterQty - quantity;
 
+        VendorLedgerService.Contribution before = VendorLedgerService.Contribution.of(requisition);
         requisition.setReceivedQuantity(requisition.getReceivedQuantity() + quantity);
         if (requisition.getReceivedQuantity().doubleValue() >= requisition.getQuantity()) {
             requisition.setStatus("RECEIVED");
         }
 
         MaterialRequisition saved = requisitionRepository.save(requisition);
+        vendorLedgerService.recordChange(before, saved);
         
         // 📡 SSE Broadcast
         liveUpdateService.broadcastRequisitionReceived(saved);
@@ -0,0 +1,87 @@
+package net.engineeringdigest.journalApp.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.engineeringdigest.journalApp.exception.ResourceNotFoundException;
+import net.engineeringdigest.journalApp.model.BillOfQuantity;
+import net.engineeringdigest.journalApp.model.DailyMeasurement;
+import net.engineeringdigest.journalApp.repository.BillOfQuantityRepository;
+import net.engineeringdigest.journalApp.repository.DailyMeasurementRepository;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 📏 Measurement Recording
+ * A measurement is one INSERT into daily_measurements plus one atomic
+ * {@code completed_scope = completed_scope + quantity} on its BOQ item, so supervisors measuring
+ * the same item at the same time never lose each other's work. The site-update feed entry and
+ * live broadcast are published after commit, off the request thread.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MeasurementService {
+
+    private final BillOfQuantityRepository boqRepository;
+    private final DailyMeasurementRepository measurementRepository;
+    private final SiteUpdatePublisher siteUpdatePublisher;
+
+    @Transactional
+    public DailyMeasurement recordMeasurement(Long boqId, double length, double width,
+                                              String remarks, String supervisorName) {
+        BillOfQuantity boq = boqRepository.findById(boqId)
+                .orElseThrow(() -> new ResourceNotFoundException("BOQ Item", boqId));
+        double quantity = quantityOf(boq.getUnit(), length, width);
+
+        DailyMeasurement measurement = new DailyMeasurement();
+        measurement.setBoqItem(boq);
+        measurement.setDate(LocalDate.now());
+        measurement.setLength(length);
+        measurement.setHeight(width); // Mapping width to height/width field
+        measurement.setQuantity(quantity);
+        measurement.setRemarks(remarks);
+        measurement.setSupervisorName(supervisorName);
+        measurementRepository.save(measurement);
+
+        // The loaded BOQ is never saved, so its stale completedScope cannot overwrite the increment
+        boqRepository.addCompletedScope(boqId, quantity, LocalDateTime.now());
+
+        Long projectId = boq.getProject().getId();
+        String text = String.format("Measurement recorded: %.2f %s for '%s' by %s. %s",
+                quantity, boq.getUnit(), boq.getItemName(), supervisorName, (remarks != null ? remarks : ""));
+        afterCommit(() -> siteUpdatePublisher.publish(projectId, text));
+        return measurement;
+    }
+
+    // SFT is length × width; RFT and anything else is the length
+    static double quantityOf(String unit, double length, double width) {
+        return "SFT".equalsIgnoreCase(unit) ? length * width : length;
+    }
+
+    // Rolled-back measurements are never announced
+    private void afterCommit(Runnable publish) {
+        Runnable guarded = () -> {
+            try {
+                publish.run();
+            } catch (TaskRejectedException e) {
+                log.warn("[MEASUREMENT] Live update dropped, publisher queue is full: {}", e.getMessage());
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    guarded.run();
+                }
+            });
+        } else {
+            guarded.run();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package net.engineeringdigest.journalApp.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.engineeringdigest.journalApp.dto.PayrollLineDTO;
+import net.engineeringdigest.journalApp.dto.PayrollLineSource;
+import net.engineeringdigest.journalApp.dto.PayrollTotalDTO;
+import net.engineeringdigest.journalApp.model.Attendance;
+import net.engineeringdigest.journalApp.model.AttendanceCalendar;
+import net.engineeringdigest.journalApp.repository.AttendanceCalendarRepository;
+import net.engineeringdigest.journalApp.repository.AttendanceRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * 💰 Payroll Engine
+ * Reads pay per worker, project and month from attendance_calendar, where every attendance write
+ * already keeps the month's packed days and wage cost current. Totals are summed over those words
+ * (popcounts for the day counts), never over attendance rows.
+ *
+ * A daily wage change applies from today: today's marks are re-priced in the calendar and the
+ * daily rollup, earlier days keep the wage they were marked at.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PayrollService {
+
+    private final AttendanceCalendarRepository calendarRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final AttendanceCalendarService calendarService;
+    private final AttendanceRollupService rollupService;
+
+    // ─── Read Side ───────────────────────────────────────────────
+
+    /**
+     * 📄 One page of a month's payroll lines, ordered by project then worker (client sort is ignored).
+     */
+    @Transactional(readOnly = true)
+    public Page<PayrollLineDTO> getLines(YearMonth month, Long projectId, Pageable pageable) {
+        Pageable page = pageable.isPaged()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())
+                : Pageable.unpaged();
+        return calendarRepository.findPayrollLines(month.atDay(1), projectId, page).map(PayrollService::toLine);
+    }
+
+    /**
+     * 🏗️ The month's payroll per project, largest wage cost first.
+     */
+    @Transactional(readOnly = true)
+    public List<PayrollTotalDTO> getProjectTotals(YearMonth month) {
+        Map<Long, Total> perProject = new TreeMap<>();
+        for (PayrollLineSource r : calendarRepository.findPayrollWords(month.atDay(1), month.atDay(1), null)) {
+            perProject.computeIfAbsent(r.getProjectId(), id -> new Total(r.getProjectId(), r.getProjectName(), month)).add(r);
+        }
+        List<PayrollTotalDTO> totals = new ArrayList<>(perProject.size());
+        perProject.values().forEach(t -> totals.add(t.toDto()));
+        totals.sort(Comparator.comparing(PayrollTotalDTO::wageCost).reversed());
+        return totals;
+    }
+
+    /**
+     * 📆 Payroll per month of {@code year}, across all projects or for one; months without
+     * attendance are left out.
+     */
+    @Transactional(readOnly = true)
+    public List<PayrollTotalDTO> getMonthlyTotals(int year, Long projectId) {
+        Map<YearMonth, Total> perMonth = new TreeMap<>();
+        for (PayrollLineSource r : calendarRepository.findPayrollWords(
+                LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 1), projectId)) {
+            YearMonth month = YearMonth.from(r.getMonthStart());
+            perMonth.computeIfAbsent(month, m -> new Total(projectId,
+                    projectId != null ? r.getProjectName() : null, m)).add(r);
+        }
+        List<PayrollTotalDTO> totals = new ArrayList<>(perMonth.size());
+        perMonth.values().forEach(t -> totals.add(t.toDto()));
+        return totals;
+    }
+
+    public static PayrollLineDTO toLine(PayrollLineSource r) {
+        long days = r.getDays();
+        return new PayrollLineDTO(r.getLabourId(), r.getName(), r.getType(), r.getDailyWage(),
+                r.getProjectId(), r.getProjectName(), YearMonth.from(r.getMonthStart()),
+                AttendanceCalendar.presentDays(days), AttendanceCalendar.halfDays(days),
+                AttendanceCalendar.absentDays(days), AttendanceCalendar.manDays(days), r.getWageCost());
+    }
+
+    private static final class Total {
+        private final Long projectId;
+        private final String projectName;
+        private final YearMonth month;
+        private int workers;
+        private double manDays;
+        private BigDecimal wageCost = BigDecimal.ZERO;
+
+        Total(Long projectId, String projectName, YearMonth month) {
+            this.projectId = projectId;
+            this.projectName = projectName;
+            this.month = month;
+        }
+
+        void add(PayrollLineSource r) {
+            workers++;
+            manDays += AttendanceCalendar.manDays(r.getDays());
+            wageCost = wageCost.add(r.getWageCost());
+        }
+
+        PayrollTotalDTO toDto() {
+            return new PayrollTotalDTO(projectId, projectName, month, workers, manDays, wageCost);
+        }
+    }
+
+    // ─── Write Side ──────────────────────────────────────────────
+
+    /**
+     * 💱 Re-prices the worker's marks for today after their daily wage changed, inside the
+     * caller's transaction.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onWageChanged(Long labourId, Double oldWage, Double newWage) {
+        if (Objects.equals(oldWage, newWage)) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        for (Attendance a : attendanceRepository.findByLabourIdAndDate(labourId, today)) {
+            Long projectId = a.getProject().getId();
+            rollupService.reprice(today, projectId, a.getStatus(), oldWage, newWage);
+            calendarService.reprice(today, labourId, projectId, a.getStatus(), oldWage, newWage);
+        }
+        log.info("[PAYROLL] Wage of labour {} changed {} -> {}; today's marks re-priced", labourId, oldWage, newWage);
+    }
+}
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.engineeringdigest.journalApp.exception.ResourceNotFoundException;
 import net.engineeringdigest.journalApp.model.MaterialRequisition;
+import net.engineeringdigest.journalApp.model.Money;
 import net.engineeringdigest.journalApp.model.VendorInvoice;
 import net.engineeringdigest.journalApp.model.VendorInvoiceItem;
 import net.engineeringdigest.journalApp.repository.VendorInvoiceRepository;
@@ -65,8 +66,8 @@ public class PdfGeneratorService {
 
         // ── Line Items ──
         List<Map<String, Object>> lineItems = new ArrayList<>();
-        BigDecimal subtotal = BigDecimal.ZERO;
-        BigDecimal totalGst = BigDecimal.ZERO;
+        long subtotalPaise = 0;
+        long gstPaise = 0;
 
         for (VendorInvoiceItem item : invoice.getLineItems()) {
             Map<String, Object> row = new HashMap<>();
@@ -80,26 +81,26 @@ public class PdfGeneratorService {
                 row.put("unitPrice", req.getUnitPrice() != null ? req.getUnitPrice() : BigDecimal.ZERO);
                 BigDecimal lineTotal = req.getTotalCost() != null ? req.getTotalCost() : BigDecimal.ZERO;
                 row.put("amount", lineTotal);
-                subtotal = subtotal.add(lineTotal);
-                if (req.getGstAmount() != null) {
-                    totalGst = totalGst.add(req.getGstAmount());
-                }
+                subtotalPaise += Money.toPaise(lineTotal);
+                gstPaise += Money.toPaise(req.getGstAmount());
             } else {
                 row.put("quantity", 0);
                 row.put("unit", "Nos");
                 row.put("unitPrice", BigDecimal.ZERO);
                 row.put("amount", item.getAmount() != null ? item.getAmount() : BigDecimal.ZERO);
-                subtotal = subtotal.add(item.getAmount() != null ? item.getAmount() : BigDecimal.ZERO);
+                subtotalPaise += Money.toPaise(item.getAmount());
             }
 
             lineItems.add(row);
         }
 
+        Money subtotal = Money.ofPaise(subtotalPaise);
+        Money grandTotal = subtotal.plus(Money.ofPaise(gstPaise));
         ctx.setVariable("lineItems", lineItems);
-        ctx.setVariable("subtotal", subtotal);
-        ctx.setVariable("gstAmount", totalGst);
-        ctx.setVariable("grandTotal", subtotal.add(totalGst));
-        ctx.setVariable("amountInWords", convertToWords(subtotal.add(totalGst)));
+        ctx.setVariable("subtotal", subtotal.toBigDecimal());
+        ctx.setVariable("gstAmount", Money.ofPaise(gstPaise).toBigDecimal());
+        ctx.setVariable("grandTotal", grandTotal.toBigDecimal());
+        ctx.setVariable("amountInWords", convertToWords(grandTotal));
 
         // ── Render HTML from Thymeleaf ──
         String html = templateEngine.process("vendor_invoice", ctx);
@@ -125,9 +126,9 @@ public class PdfGeneratorService {
     // ═══════════════════════════════════════════════════════════════
     // Amount-to-Words Converter (Indian Numbering System)
     // ═══════════════════════════════════════════════════════════════
-    private String convertToWords(BigDecimal amount) {
-        long rupees = amount.longValue();
-        int paise = amount.remainder(BigDecimal.ONE).movePointRight(2).intValue();
+    private String convertToWords(Money amount) {
+        long rupees = amount.rupeePart();
+        int paise = amount.paisePart();
 
         if (rupees == 0 && paise == 0) return "Zero Rupees Only";
 
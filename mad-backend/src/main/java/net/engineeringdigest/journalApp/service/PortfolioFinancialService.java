@@ -0,0 +1,93 @@
+package net.engineeringdigest.journalApp.service;
+
+import lombok.RequiredArgsConstructor;
+import net.engineeringdigest.journalApp.dto.ProjectAmount;
+import net.engineeringdigest.journalApp.dto.ProjectBoqTotals;
+import net.engineeringdigest.journalApp.dto.ProjectFinancialDTO;
+import net.engineeringdigest.journalApp.dto.ProjectRef;
+import net.engineeringdigest.journalApp.model.Money;
+import net.engineeringdigest.journalApp.repository.BillOfQuantityRepository;
+import net.engineeringdigest.journalApp.repository.DailyAttendanceRollupRepository;
+import net.engineeringdigest.journalApp.repository.MaterialRequisitionRepository;
+import net.engineeringdigest.journalApp.repository.ProjectRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 🏦 Portfolio Financial Engine
+ * Financials for every project from exactly four grouped queries (projects, BOQ totals,
+ * material spend, labour spend), independent of the number of projects.
+ * No entities are loaded; each aggregate is joined in memory by project id.
+ */
+@Service
+@RequiredArgsConstructor
+public class PortfolioFinancialService {
+
+    // Requisitions that count as material spend
+    public static final List<String> MATERIAL_SPEND_STATUSES = List.of("RECEIVED", "DISPATCHED");
+
+    private final ProjectRepository projectRepository;
+    private final BillOfQuantityRepository boqRepository;
+    private final MaterialRequisitionRepository requisitionRepository;
+    private final DailyAttendanceRollupRepository attendanceRollupRepository;
+
+    @Transactional(readOnly = true)
+    public List<ProjectFinancialDTO> computeAll() {
+        List<ProjectRef> projects = projectRepository.findAllRefs();
+        Map<Long, ProjectBoqTotals> boq = boqRepository.sumTotalsGroupedByProject().stream()
+                .collect(Collectors.toMap(ProjectBoqTotals::getProjectId, Function.identity()));
+        Map<Long, BigDecimal> material = byProject(requisitionRepository.sumTotalCostGroupedByProject(MATERIAL_SPEND_STATUSES));
+        Map<Long, BigDecimal> labour = byProject(attendanceRollupRepository.sumWageCostGroupedByProject());
+
+        return projects.stream().map(p -> {
+            ProjectBoqTotals totals = boq.get(p.getId());
+            return assemble(p.getId(), p.getName(),
+                    totals != null && totals.getBudget() != null ? totals.getBudget() : 0.0,
+                    totals != null && totals.getWorkDone() != null ? totals.getWorkDone() : 0.0,
+                    material.getOrDefault(p.getId(), BigDecimal.ZERO),
+                    labour.getOrDefault(p.getId(), BigDecimal.ZERO));
+        }).collect(Collectors.toList());
+    }
+
+    /**
+     * 🧮 Shared ROI / health math for the portfolio and single-project reports.
+     * Amounts are rounded to the paisa once, here, and combined as {@link Money}.
+     */
+    public static ProjectFinancialDTO assemble(Long projectId, String projectName, double totalBudget,
+                                               double workDoneValue, BigDecimal materialExpense, BigDecimal labourExpense) {
+        Money budget = Money.ofRupees(totalBudget);
+        Money workDone = Money.ofRupees(workDoneValue);
+        Money material = Money.of(materialExpense);
+        Money labour = Money.of(labourExpense);
+        Money totalExp = material.plus(labour);
+        double healthScore = budget.isPositive()
+                ? ((budget.toRupees() - totalExp.toRupees()) / budget.toRupees()) * 100 : 0;
+
+        return ProjectFinancialDTO.builder()
+                .projectId(projectId)
+                .projectName(projectName)
+                .totalBudget(budget.toBigDecimal())
+                .workDoneValue(workDone.toBigDecimal())
+                .materialExpense(material.toBigDecimal())
+                .labourExpense(labour.toBigDecimal())
+                .totalExpense(totalExp.toBigDecimal())
+                .currentROI(workDone.minus(totalExp).toBigDecimal())
+                .healthScore(Math.max(0, healthScore))
+                .build();
+    }
+
+    static Map<Long, BigDecimal> byProject(List<ProjectAmount> rows) {
+        Map<Long, BigDecimal> result = new HashMap<>();
+        for (ProjectAmount row : rows) {
+            result.put(row.getProjectId(), row.getAmount() != null ? row.getAmount() : BigDecimal.ZERO);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,131 @@
+package net.engineeringdigest.journalApp.service;
+
+import lombok.extern.slf4j.Slf4j;
+import net.engineeringdigest.journalApp.dto.ProductivityDTO;
+import net.engineeringdigest.journalApp.dto.ProjectBoqTotals;
+import net.engineeringdigest.journalApp.dto.ProjectManDays;
+import net.engineeringdigest.journalApp.dto.ProjectScheduleRef;
+import net.engineeringdigest.journalApp.repository.BillOfQuantityRepository;
+import net.engineeringdigest.journalApp.repository.DailyAttendanceRollupRepository;
+import net.engineeringdigest.journalApp.repository.MaterialRequisitionRepository;
+import net.engineeringdigest.journalApp.repository.ProjectRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * ⚡ Productivity Analytics Engine
+ * Man-days, value per man-day, wastage ratio and predicted completion for every project
+ * from four grouped queries over pre-aggregated data (attendance rollup, BOQ, requisitions),
+ * so the cost does not grow with attendance history.
+ *
+ * The per-project math is a pure function; above {@code productivity.parallel-threshold}
+ * projects it fans out on the dedicated "analyticsPool" fork-join pool.
+ */
+@Service
+@Slf4j
+public class ProductivityAnalyticsService {
+
+    // Industry Benchmark: 5000 INR per man-day is target
+    private static final double BENCHMARK_VALUE_PER_MAN_DAY = 5000.0;
+
+    private final ProjectRepository projectRepository;
+    private final BillOfQuantityRepository boqRepository;
+    private final MaterialRequisitionRepository requisitionRepository;
+    private final DailyAttendanceRollupRepository attendanceRollupRepository;
+    private final ForkJoinPool analyticsPool;
+    private final int parallelThreshold;
+
+    public ProductivityAnalyticsService(ProjectRepository projectRepository,
+                                        BillOfQuantityRepository boqRepository,
+                                        MaterialRequisitionRepository requisitionRepository,
+                                        DailyAttendanceRollupRepository attendanceRollupRepository,
+                                        @Qualifier("analyticsPool") ForkJoinPool analyticsPool,
+                                        @Value("${productivity.parallel-threshold:1000}") int parallelThreshold) {
+        this.projectRepository = projectRepository;
+        this.boqRepository = boqRepository;
+        this.requisitionRepository = requisitionRepository;
+        this.attendanceRollupRepository = attendanceRollupRepository;
+        this.analyticsPool = analyticsPool;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * 📐 Inputs for one project, already aggregated.
+     */
+    public record ProjectInputs(Long projectId, String projectName, String supervisorName, LocalDate startDate,
+                                double manDays, double budget, double workDone, BigDecimal materialExpense) {}
+
+    @Transactional(readOnly = true)
+    public List<ProductivityDTO> computeAll() {
+        List<ProjectScheduleRef> projects = projectRepository.findAllScheduleRefs();
+        Map<Long, Double> manDays = attendanceRollupRepository.sumManDaysGroupedByProject().stream()
+                .filter(r -> r.getManDays() != null)
+                .collect(Collectors.toMap(ProjectManDays::getProjectId, ProjectManDays::getManDays));
+        Map<Long, ProjectBoqTotals> boq = boqRepository.sumTotalsGroupedByProject().stream()
+                .collect(Collectors.toMap(ProjectBoqTotals::getProjectId, Function.identity()));
+        Map<Long, BigDecimal> material = PortfolioFinancialService.byProject(
+                requisitionRepository.sumTotalCostGroupedByProjectExcluding(List.of("REJECTED")));
+
+        LocalDate today = LocalDate.now();
+        Function<ProjectScheduleRef, ProductivityDTO> analyse = p -> {
+            ProjectBoqTotals totals = boq.get(p.getId());
+            return compute(new ProjectInputs(p.getId(), p.getName(), p.getSupervisorName(), p.getStartDate(),
+                    manDays.getOrDefault(p.getId(), 0.0),
+                    totals != null && totals.getBudget() != null ? totals.getBudget() : 0.0,
+                    totals != null && totals.getWorkDone() != null ? totals.getWorkDone() : 0.0,
+                    material.getOrDefault(p.getId(), BigDecimal.ZERO)), today);
+        };
+
+        if (projects.size() < parallelThreshold) {
+            return projects.stream().map(analyse).collect(Collectors.toList());
+        }
+        // parallelStream() inside a pool task runs on that pool, not the common pool
+        return analyticsPool.submit(() -> projects.parallelStream().map(analyse).collect(Collectors.toList())).join();
+    }
+
+    /**
+     * 🧮 Productivity metrics for one project (shared with the single-project report).
+     */
+    public static ProductivityDTO compute(ProjectInputs in, LocalDate today) {
+        // Labour Productivity (Value per Man-Day)
+        BigDecimal valuePerManDay = in.manDays() > 0
+                ? BigDecimal.valueOf(in.workDone()).divide(BigDecimal.valueOf(in.manDays()), 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+
+        // Material Wastage Ratio
+        double wastageRatio = in.budget() > 0 ? (in.materialExpense().doubleValue() / in.budget()) : 0;
+
+        // Timeline Prediction: at the value-per-day achieved so far, how long for the remaining value?
+        double remainingValue = in.budget() - in.workDone();
+        int daysRemaining = 0;
+        if (in.workDone() > 0 && in.manDays() > 0) {
+            long daysElapsed = in.startDate() != null ? ChronoUnit.DAYS.between(in.startDate(), today) : 0;
+            double valuePerDay = in.workDone() / Math.max(1, daysElapsed);
+            daysRemaining = valuePerDay > 0 ? (int) (remainingValue / valuePerDay) : 0;
+        }
+
+        return ProductivityDTO.builder()
+                .projectId(in.projectId())
+                .projectName(in.projectName())
+                .supervisorName(in.supervisorName() != null ? in.supervisorName() : "Unassigned")
+                .totalManDays((long) in.manDays())
+                .valueProducedPerManDay(valuePerManDay)
+                .materialWastageRatio(BigDecimal.valueOf(wastageRatio))
+                .daysRemaining(Math.max(0, daysRemaining))
+                .predictedCompletionDate(today.plusDays(Math.max(0, daysRemaining)).toString())
+                .efficiencyScore(Math.min(100, (valuePerManDay.doubleValue() / BENCHMARK_VALUE_PER_MAN_DAY) * 100))
+                .build();
+    }
+}
@@ -0,0 +1,76 @@
+package net.engineeringdigest.journalApp.service;
+
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import net.engineeringdigest.journalApp.model.City;
+import net.engineeringdigest.journalApp.model.Project;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * 📡 JPA Entity Listener: Project → Dashboard Aggregates
+ * Reports every Project write to {@link DashboardAggregateService}.
+ *
+ * Hibernate resolves this listener through Spring's bean container. In slice tests
+ * (e.g. @DataJpaTest) the aggregate service may be absent, so all callbacks are no-ops then.
+ */
+@Component
+public class ProjectAggregateListener {
+
+    @Autowired
+    private ObjectProvider<DashboardAggregateService> aggregates;
+
+    @PostLoad
+    public void onLoad(Project project) {
+        snapshot(project);
+    }
+
+    @PostPersist
+    public void onPersist(Project project) {
+        DashboardAggregateService service = service();
+        if (service != null) {
+            service.onCreated(cityId(project.getCity()), cityName(project.getCity()), project.getStatus());
+        }
+        snapshot(project);
+    }
+
+    @PostUpdate
+    public void onUpdate(Project project) {
+        DashboardAggregateService service = service();
+        if (service != null) {
+            service.onChanged(project.getPersistedCityId(), project.getPersistedStatus(),
+                    cityId(project.getCity()), cityName(project.getCity()), project.getStatus());
+        }
+        snapshot(project);
+    }
+
+    @PostRemove
+    public void onRemove(Project project) {
+        DashboardAggregateService service = service();
+        if (service != null) {
+            service.onRemoved(project.getPersistedCityId(), project.getPersistedStatus());
+        }
+    }
+
+    private void snapshot(Project project) {
+        project.setPersistedCityId(cityId(project.getCity()));
+        project.setPersistedStatus(project.getStatus());
+    }
+
+    private DashboardAggregateService service() {
+        return aggregates != null ? aggregates.getIfAvailable() : null;
+    }
+
+    // Reading the id of a lazy proxy does not initialize it
+    private static Long cityId(City city) {
+        return city != null ? city.getId() : null;
+    }
+
+    private static String cityName(City city) {
+        return city != null && Hibernate.isInitialized(city) ? city.getName() : null;
+    }
+}
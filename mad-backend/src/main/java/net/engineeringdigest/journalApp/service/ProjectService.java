@@ -2,7 +2,10 @@ package net.engineeringdigest.journalApp.service;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import net.engineeringdigest.journalApp.dto.DashboardAlertDTO;
+import net.engineeringdigest.journalApp.dto.DailyWorkerCount;
 import net.engineeringdigest.journalApp.dto.DashboardResponseDTO;
+import net.engineeringdigest.journalApp.dto.LeadStatsDTO;
 import net.engineeringdigest.journalApp.dto.ProjectListDTO;
 import net.engineeringdigest.journalApp.dto.ProjectRequestDTO;
 import net.engineeringdigest.journalApp.dto.SiteUpdateDTO;
@@ -11,6 +14,7 @@ import net.engineeringdigest.journalApp.dto.ProjectFinancialDTO;
 import net.engineeringdigest.journalApp.dto.VendorFinancialDTO;
 import net.engineeringdigest.journalApp.dto.ProductivityDTO;
 import net.engineeringdigest.journalApp.repository.*;
+import net.engineeringdigest.journalApp.service.alert.DashboardAlertService;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -20,7 +24,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -39,14 +42,19 @@ public class ProjectService {
     private final CityRepository cityRepository;
     private final UserRepository userRepository;
     private final SiteUpdateRepository siteUpdateRepository;
-    private final AttendanceRepository attendanceRepository;
+    private final DailyAttendanceRollupRepository attendanceRollupRepository;
     private final LabourRepository labourRepository;
     private final BillOfQuantityRepository boqRepository;
     private final ProjectInvoiceRepository invoiceRepository;
-    private final LeadInquiryRepository leadInquiryRepository;
+    private final LeadStatsService leadStatsService;
     private final MaterialRequisitionRepository materialRequisitionRepository;
-    private final VendorRepository vendorRepository;
+    private final VendorLedgerService vendorLedgerService;
     private final AuditLogService auditLogService;
+    private final DashboardAggregateService dashboardAggregates;
+    private final DashboardAlertService dashboardAlertService;
+    private final DashboardAssembler dashboardAssembler;
+    private final PortfolioFinancialService portfolioFinancialService;
+    private final ProductivityAnalyticsService productivityAnalyticsService;
 
     /**
      * ✅ Optimized: Returns a projected Page instead of a full list.
@@ -103,17 +111,30 @@ public class ProjectService {
     }
 
     /**
-     * ✅ Unified Dashboard Entry Point (Transactional)
-     * Enforces single transaction boundary for all stats and DTO mapping.
+     * ✅ Unified Dashboard Entry Point
+     * Sections are independent, so they load in parallel (each in its own read-only transaction).
+     * Partial responses (a section timed out or failed) are not cached.
+     * Cached per day; committed writes evict it via CacheInvalidationService.
      */
-    @Transactional(readOnly = true)
-    @Cacheable("dashboard")
+    @Cacheable(value = "dashboard",
+            key = "T(net.engineeringdigest.journalApp.service.cache.CacheInvalidationService).dashboardKey()",
+            unless = "!#result.partialSections.isEmpty()")
     public DashboardResponseDTO getDashboardData() {
+        DashboardAssembler.Section<Map<String, Object>> globalStats =
+                dashboardAssembler.submit("globalStats", this::getGlobalStats, Map.of());
+        DashboardAssembler.Section<List<CityStats>> cityStats =
+                dashboardAssembler.submit("cityStats", this::getProjectStats, List.of());
+        DashboardAssembler.Section<List<SiteUpdateDTO>> siteUpdates =
+                dashboardAssembler.submit("siteUpdates", this::getRecentUpdates, List.of());
+        DashboardAssembler.Section<List<DashboardAlertDTO>> alerts =
+                dashboardAssembler.submit("alerts", this::getDashboardAlerts, List.of());
+
         return DashboardResponseDTO.builder()
-                .globalStats(getGlobalStats())
-                .cityStats(getProjectStats())
-                .siteUpdates(getRecentUpdates())
-                .alerts(getDashboardAlerts())
+                .globalStats(globalStats.join())
+                .cityStats(cityStats.join())
+                .siteUpdates(siteUpdates.join())
+                .alerts(alerts.join())
+                .partialSections(DashboardAssembler.partialSections(globalStats, cityStats, siteUpdates, alerts))
                 .build();
     }
 
@@ -141,85 +162,47 @@ public class ProjectService {
                 .build();
     }
 
+    /**
+     * 📊 Served from the in-memory aggregate store (no Project entities loaded).
+     */
     public List<CityStats> getProjectStats() {
-        // Still uses full entities for internal grouping/stats logic
-        List<Project> allProjects = projectRepository.findAll();
-        List<CityStats> statsList = new ArrayList<>();
-
-        Map<String, List<Project>> groupedByCity = allProjects.stream()
-                .filter(p -> p.getCity() != null)
-                .collect(Collectors.groupingBy(project -> project.getCity().getName()));
-
-        for (Map.Entry<String, List<Project>> entry : groupedByCity.entrySet()) {
-            String city = entry.getKey();
-            List<Project> cityProjects = entry.getValue();
-
-            long total = cityProjects.size();
-
-            long running = cityProjects.stream()
-                    .filter(p -> p.getStatus() == ProjectStatus.RUNNING)
-                    .count();
-
-            long completed = cityProjects.stream()
-                    .filter(p -> p.getStatus() == ProjectStatus.COMPLETED)
-                    .count();
-
-            statsList.add(new CityStats(city, total, running, completed));
-        }
-        return statsList;
+        return dashboardAggregates.getCityStats();
     }
 
     public Map<String, Object> getGlobalStats() {
-        List<Project> allProjects = projectRepository.findAll();
-
         Map<String, Object> response = new HashMap<>();
 
-        response.put("totalProjects", (long) allProjects.size());
+        response.put("totalProjects", dashboardAggregates.getTotalProjects());
 
         // Dynamic Active Count
-        long activeCount = allProjects.stream()
-                .filter(p -> p.getStatus() != ProjectStatus.COMPLETED)
-                .count();
-        response.put("activeProjects", activeCount);
+        response.put("activeProjects", dashboardAggregates.getActiveProjects());
 
         long totalLabour = labourRepository.count();
         response.put("totalLabour", totalLabour);
 
-        long cityCount = allProjects.stream()
-                .filter(p -> p.getCity() != null)
-                .map(p -> p.getCity().getName())
-                .distinct()
-                .count();
-        response.put("cityCount", cityCount);
+        response.put("cityCount", dashboardAggregates.getCityCount());
 
         // Project Status Distribution
-        Map<String, Long> statusDist = allProjects.stream()
-                .filter(p -> p.getStatus() != null)
-                .collect(Collectors.groupingBy(p -> p.getStatus().toString(), Collectors.counting()));
-        response.put("projectStatusDistribution", statusDist);
+        response.put("projectStatusDistribution", dashboardAggregates.getStatusDistribution());
 
         // --- Intelligence Extension ---
         // 1. Lead Conversion Funnel
-        long totalLeads = leadInquiryRepository.count();
-        long contactedLeads = leadInquiryRepository.countByStatus("CONTACTED");
-        long closedLeads = leadInquiryRepository.countByStatus("CLOSED");
-        
+        LeadStatsDTO leadStats = leadStatsService.getLeadStats();
+
         Map<String, Long> leadFunnel = new HashMap<>();
-        leadFunnel.put("total", totalLeads);
-        leadFunnel.put("contacted", contactedLeads);
-        leadFunnel.put("closed", closedLeads);
+        leadFunnel.put("total", leadStats.getTotalAll());
+        leadFunnel.put("contacted", leadStats.getTotalContacted());
+        leadFunnel.put("closed", leadStats.getTotalClosed());
         response.put("leadFunnel", leadFunnel);
 
         // 2. Material Stock Alert Health
         // Simple logic: Cities with most running projects vs updates
         List<Map<String, Object>> stockHealth = new ArrayList<>();
-        allProjects.stream()
-            .filter(p -> p.getStatus() == ProjectStatus.RUNNING)
-            .limit(5)
+        projectRepository.findTop5ByStatus(ProjectStatus.RUNNING)
             .forEach(p -> {
                 Map<String, Object> h = new HashMap<>();
-                h.put("projectName", p.getName());
-                h.put("status", p.getLabourCount() > 4 ? "HEALTHY" : "CRITICAL");
+                h.put("projectName", p.getProjectName());
+                h.put("status", p.getLabourCount() != null && p.getLabourCount() > 4 ? "HEALTHY" : "CRITICAL");
                 stockHealth.add(h);
             });
         response.put("stockHealth", stockHealth);
@@ -230,14 +213,9 @@ public class ProjectService {
         LocalDate today = LocalDate.now();
         LocalDate startDate = today.minusDays(6);
 
-        List<Attendance> recentAttendance = attendanceRepository.findByDateBetween(startDate, today);
-
-        Map<LocalDate, Long> attendanceByDate = recentAttendance.stream()
-                .filter(a -> "PRESENT".equalsIgnoreCase(a.getStatus()) ||
-                        "HALF_DAY".equalsIgnoreCase(a.getStatus()))
-                .collect(Collectors.groupingBy(
-                        Attendance::getDate,
-                        Collectors.counting()));
+        // 📅 One grouped read of the daily rollup (≤ 7 rows) instead of every attendance entity
+        Map<LocalDate, Long> attendanceByDate = attendanceRollupRepository.sumWorkersByDate(startDate, today).stream()
+                .collect(Collectors.toMap(DailyWorkerCount::getDate, DailyWorkerCount::getWorkers));
 
         DateTimeFormatter dayFormatter = DateTimeFormatter.ofPattern("EEE");
         for (int i = 6; i >= 0; i--) {
@@ -254,46 +232,13 @@ public class ProjectService {
         return response;
     }
 
-    public List<Map<String, Object>> getDashboardAlerts() {
-        List<Project> projects = projectRepository.findAll();
-        List<Map<String, Object>> alerts = new ArrayList<>();
-
-        for (Project p : projects) {
-            ProjectStatus status = p.getStatus();
-            if (status == null)
-                continue;
-
-            Map<String, Object> alert = new HashMap<>();
-            boolean isAlert = false;
-
-            if (status == ProjectStatus.DELAYED) {
-                alert.put("type", "CRITICAL");
-                alert.put("title", "Project Delayed: " + p.getName());
-                alert.put("message", "Immediate attention required. Timeline severely compromised.");
-                isAlert = true;
-            } else if (status == ProjectStatus.ON_HOLD) {
-                alert.put("type", "WARNING");
-                alert.put("title", "Project On Hold: " + p.getName());
-                alert.put("message", "Waiting for clearance or material supply.");
-                isAlert = true;
-            } else if (status == ProjectStatus.RUNNING && p.getLabourCount() < 5) {
-                alert.put("type", "INFO");
-                alert.put("title", "Low Labour: " + p.getName());
-                alert.put("message", "Only " + p.getLabourCount() + " workers on site. Risk of delay.");
-                isAlert = true;
-            }
-
-            if (isAlert) {
-                alert.put("projectId", p.getId());
-                alert.put("projectName", p.getName());
-                alert.put("location", p.getLocation() != null ? p.getLocation() : "Unknown Location");
-                alert.put("supervisorName", p.getSupervisor() != null ? (p.getSupervisor().getFullName() != null ? p.getSupervisor().getFullName() : p.getSupervisor().getUsername()) : "Unassigned");
-                alert.put("labourCount", p.getLabourCount());
-                alerts.add(alert);
-            }
-        }
-        return alerts;
+    /**
+     * 🚨 Delegates to the rule-based alert engine (one indexed query per rule).
+     */
+    public List<DashboardAlertDTO> getDashboardAlerts() {
+        return dashboardAlertService.evaluateAll();
     }
+
     @Transactional
     public ProjectInvoice finalizeProject(Long projectId, String actor, boolean isAdmin) {
         Project project = projectRepository.findById(projectId)
@@ -335,9 +280,9 @@ public class ProjectService {
         // -------------------------------------------
 
         List<BillOfQuantity> boqItems = boqRepository.findByProjectId(projectId);
-        double totalAmount = boqItems.stream()
+        double totalAmount = Money.ofRupees(boqItems.stream()
                 .mapToDouble(item -> item.getCompletedScope() * item.getRate())
-                .sum();
+                .sum()).toRupees();
 
         ProjectInvoice invoice = new ProjectInvoice();
         invoice.setProject(project);
@@ -376,86 +321,42 @@ public class ProjectService {
 
         // 2. Calculate Material Expenses (Finalized Requisitions)
         List<MaterialRequisition> requisitions = materialRequisitionRepository.findByProject(project);
-        BigDecimal materialExpense = requisitions.stream()
-                .filter(r -> "RECEIVED".equals(r.getStatus()) || "DISPATCHED".equals(r.getStatus()))
-                .map(r -> r.getTotalCost() != null ? r.getTotalCost() : BigDecimal.ZERO)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // 3. Calculate Labour Expenses (Daily Wages * Attendance)
-        List<Attendance> attendance = attendanceRepository.findByProject(project);
-        double labourExpense = attendance.stream()
-                .filter(a -> "PRESENT".equals(a.getStatus()))
-                .mapToDouble(a -> a.getLabour().getDailyWage() != null ? a.getLabour().getDailyWage() : 0.0)
-                .sum();
-        
-        // Half day logic
-        double halfDayExpense = attendance.stream()
-                .filter(a -> "HALF_DAY".equals(a.getStatus()))
-                .mapToDouble(a -> (a.getLabour().getDailyWage() != null ? a.getLabour().getDailyWage() : 0.0) / 2.0)
+        long materialPaise = requisitions.stream()
+                .filter(r -> PortfolioFinancialService.MATERIAL_SPEND_STATUSES.contains(r.getStatus()))
+                .mapToLong(r -> Money.toPaise(r.getTotalCost()))
                 .sum();
 
-        BigDecimal totalLabour = BigDecimal.valueOf(labourExpense + halfDayExpense);
-        BigDecimal totalExp = materialExpense.add(totalLabour);
-        BigDecimal currentROI = BigDecimal.valueOf(workDoneValue).subtract(totalExp);
-
-        double healthScore = totalBudget > 0 ? ((totalBudget - totalExp.doubleValue()) / totalBudget) * 100 : 0;
+        // 3. Labour Expenses (Daily Wages * Man-Days), pre-summed in the daily attendance rollup
+        BigDecimal totalLabour = attendanceRollupRepository.sumWageCostByProjectId(projectId);
 
-        return ProjectFinancialDTO.builder()
-                .projectId(projectId)
-                .projectName(project.getName())
-                .totalBudget(BigDecimal.valueOf(totalBudget))
-                .workDoneValue(BigDecimal.valueOf(workDoneValue))
-                .materialExpense(materialExpense)
-                .labourExpense(totalLabour)
-                .totalExpense(totalExp)
-                .currentROI(currentROI)
-                .healthScore(Math.max(0, healthScore))
-                .build();
+        return PortfolioFinancialService.assemble(projectId, project.getName(), totalBudget, workDoneValue,
+                Money.ofPaise(materialPaise).toBigDecimal(), totalLabour);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 🏦 Portfolio view: a fixed number of grouped queries, however many projects exist.
+     */
     public List<ProjectFinancialDTO> getAllFinancials() {
-        return projectRepository.findAll().stream()
-                .map(p -> getProjectFinancials(p.getId()))
-                .collect(Collectors.toList());
+        return portfolioFinancialService.computeAll();
     }
 
     /**
      * 🧾 Vendor Ledger Analysis
+     * One query over the maintained vendor ledger, largest pending balance first.
      */
     @Transactional(readOnly = true)
     public List<VendorFinancialDTO> getVendorFinancials() {
-        List<Vendor> vendors = vendorRepository.findAll();
-        return vendors.stream().map(v -> {
-            List<MaterialRequisition> requisitions = materialRequisitionRepository.findByVendor(v);
-            
-            BigDecimal totalOrder = requisitions.stream()
-                    .filter(r -> !"REJECTED".equals(r.getStatus()))
-                    .map(r -> r.getTotalCost() != null ? r.getTotalCost() : BigDecimal.ZERO)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-            BigDecimal totalPaid = requisitions.stream()
-                    .filter(r -> "PAID".equals(r.getPaymentStatus()))
-                    .map(r -> r.getTotalCost() != null ? r.getTotalCost() : BigDecimal.ZERO)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-            return VendorFinancialDTO.builder()
-                    .vendorId(v.getId())
-                    .vendorName(v.getName())
-                    .totalOrderValue(totalOrder)
-                    .totalPaid(totalPaid)
-                    .pendingBalance(totalOrder.subtract(totalPaid))
-                    .orderCount(requisitions.size())
-                    .build();
-        }).collect(Collectors.toList());
+        return vendorLedgerService.getStatements(Pageable.unpaged()).getContent();
     }
 
     @Transactional
     public void markRequisitionAsPaid(Long id) {
         MaterialRequisition requisition = materialRequisitionRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Requisition not found"));
+        VendorLedgerService.Contribution before = VendorLedgerService.Contribution.of(requisition);
         requisition.setPaymentStatus("PAID");
         materialRequisitionRepository.save(requisition);
+        vendorLedgerService.recordChange(before, requisition);
         
         auditLogService.saveAuditLog(
             "SYSTEM",
@@ -475,65 +376,30 @@ public class ProjectService {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new EntityNotFoundException("Project not found"));
 
-        // 1. Calculate Man-Days
-        List<Attendance> attendance = attendanceRepository.findByProject(project);
-        double fullDays = attendance.stream().filter(a -> "PRESENT".equals(a.getStatus())).count();
-        double halfDays = attendance.stream().filter(a -> "HALF_DAY".equals(a.getStatus())).count() * 0.5;
-        double totalManDays = fullDays + halfDays;
+        // 1. Man-Days from the daily attendance rollup
+        double totalManDays = attendanceRollupRepository.sumManDaysByProjectId(projectId);
 
-        // 2. Calculate Work Value Produced
+        // 2. Work Value Produced vs Budget
         List<BillOfQuantity> boqs = boqRepository.findByProject(project);
         double workDoneValue = boqs.stream().mapToDouble(BillOfQuantity::getCurrentBillValue).sum();
         double totalBudget = boqs.stream().mapToDouble(b -> b.getTotalScope() * b.getRate()).sum();
 
-        // 3. Labour Productivity (Value per Man-Day)
-        BigDecimal valuePerManDay = totalManDays > 0 
-            ? BigDecimal.valueOf(workDoneValue).divide(BigDecimal.valueOf(totalManDays), 2, BigDecimal.ROUND_HALF_UP) 
-            : BigDecimal.ZERO;
-
-        // 4. Material Wastage Ratio
-        List<MaterialRequisition> requisitions = materialRequisitionRepository.findByProject(project);
-        BigDecimal actualExpense = requisitions.stream()
+        // 3. Material spend (everything not rejected)
+        BigDecimal actualExpense = Money.ofPaise(materialRequisitionRepository.findByProject(project).stream()
                 .filter(r -> !"REJECTED".equals(r.getStatus()))
-                .map(r -> r.getTotalCost() != null ? r.getTotalCost() : BigDecimal.ZERO)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        
-        double wastageRatio = totalBudget > 0 ? (actualExpense.doubleValue() / totalBudget) : 0;
-
-        // 5. Timeline Prediction
-        // Simple logic: If we spent X man-days to do Y value, how many more man-days for remaining value?
-        double remainingValue = totalBudget - workDoneValue;
-        int daysRemaining = 0;
-        if (workDoneValue > 0 && totalManDays > 0) {
-            long daysElapsed = ChronoUnit.DAYS.between(project.getStartDate(), LocalDate.now());
-            double valuePerDay = workDoneValue / Math.max(1, daysElapsed);
-            daysRemaining = valuePerDay > 0 ? (int) (remainingValue / valuePerDay) : 0;
-        }
+                .mapToLong(r -> Money.toPaise(r.getTotalCost()))
+                .sum()).toBigDecimal();
 
-        return ProductivityDTO.builder()
-                .projectId(projectId)
-                .projectName(project.getName())
-                .supervisorName(project.getSupervisor() != null ? project.getSupervisor().getUsername() : "Unassigned")
-                .totalManDays((long) totalManDays)
-                .valueProducedPerManDay(valuePerManDay)
-                .materialWastageRatio(BigDecimal.valueOf(wastageRatio))
-                .daysRemaining(Math.max(0, daysRemaining))
-                .predictedCompletionDate(LocalDate.now().plusDays(Math.max(0, daysRemaining)).toString())
-                .efficiencyScore(calculateEfficiencyScore(valuePerManDay))
-                .build();
+        return ProductivityAnalyticsService.compute(new ProductivityAnalyticsService.ProjectInputs(
+                projectId, project.getName(),
+                project.getSupervisor() != null ? project.getSupervisor().getUsername() : null,
+                project.getStartDate(), totalManDays, totalBudget, workDoneValue, actualExpense), LocalDate.now());
     }
 
-    private double calculateEfficiencyScore(BigDecimal valuePerManDay) {
-        // Industry Benchmark: 5000 INR per man-day is target
-        double benchmark = 5000.0;
-        double current = valuePerManDay.doubleValue();
-        return Math.min(100, (current / benchmark) * 100);
-    }
-
-    @Transactional(readOnly = true)
+    /**
+     * ⚡ Portfolio view: four grouped queries, parallel math for large portfolios.
+     */
     public List<ProductivityDTO> getAllProductivity() {
-        return projectRepository.findAll().stream()
-                .map(p -> getProjectProductivity(p.getId()))
-                .collect(Collectors.toList());
+        return productivityAnalyticsService.computeAll();
     }
-}
\ No newline at end of file
+}
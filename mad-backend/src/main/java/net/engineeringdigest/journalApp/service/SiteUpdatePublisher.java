@@ -0,0 +1,45 @@
+package net.engineeringdigest.journalApp.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.engineeringdigest.journalApp.model.SiteUpdate;
+import net.engineeringdigest.journalApp.repository.ProjectRepository;
+import net.engineeringdigest.journalApp.repository.SiteUpdateRepository;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 📡 Site-Update Publisher
+ * Posts an entry to a project's site-update feed and broadcasts it to live dashboards, on the
+ * "liveUpdateExecutor" pool in its own transaction. Callers hand it over after their own
+ * transaction commits, so a rolled-back write is never announced.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SiteUpdatePublisher {
+
+    private final SiteUpdateRepository siteUpdateRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectService projectService;
+    private final LiveUpdateService liveUpdateService;
+
+    @Async("liveUpdateExecutor")
+    @Transactional
+    public void publish(Long projectId, String content) {
+        try {
+            SiteUpdate update = new SiteUpdate();
+            update.setProject(projectRepository.getReferenceById(projectId));
+            update.setContent(content);
+            update.setUpdateTime(LocalDateTime.now());
+            SiteUpdate saved = siteUpdateRepository.save(update);
+            liveUpdateService.broadcastSiteUpdate(projectService.mapToSiteUpdateDTO(saved));
+        } catch (Exception e) {
+            // The originating write has already committed; only the feed entry is lost
+            log.error("[SITE-UPDATE] Failed to publish for project {}: {}", projectId, e.getMessage());
+        }
+    }
+}
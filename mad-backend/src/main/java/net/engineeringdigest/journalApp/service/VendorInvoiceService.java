@@ -1,10 +1,12 @@
 package net.engineeringdigest.journalApp.service;
 
 import net.engineeringdigest.journalApp.dto.VendorAuditDTO;
+import net.engineeringdigest.journalApp.exception.BusinessRuleException;
 import net.engineeringdigest.journalApp.exception.ResourceNotFoundException;
 import net.engineeringdigest.journalApp.model.*;
 import net.engineeringdigest.journalApp.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -14,7 +16,12 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -38,29 +45,18 @@ public class VendorInvoiceService {
     @Autowired
     private VendorInvoiceItemRepository invoiceItemRepository;
 
+    @Autowired
+    private VendorLedgerService vendorLedgerService;
+
     /**
      * Get paginated vendor audit history with date filtering.
+     * One select returns the filtered rows with item names JOINed; the page is cut in memory so the
+     * total needs no separate COUNT.
      */
+    @Transactional(readOnly = true)
     public Page<VendorAuditDTO> getVendorAudit(Long vendorId, LocalDateTime startDate, LocalDateTime endDate, String status, Pageable pageable) {
-        List<MaterialRequisition> requisitions = requisitionRepository.findByVendorId(vendorId).stream()
-                .filter(r -> startDate == null || (r.getCreatedAt() != null && r.getCreatedAt().isAfter(startDate)))
-                .filter(r -> endDate == null || (r.getCreatedAt() != null && r.getCreatedAt().isBefore(endDate)))
-                .filter(r -> status == null || status.isEmpty() || status.equalsIgnoreCase(r.getStatus()))
-                .collect(Collectors.toList());
-
-        List<VendorAuditDTO> dtos = requisitions.stream().map(r -> {
-            VendorAuditDTO dto = new VendorAuditDTO();
-            dto.setRequisitionId(r.getId());
-            dto.setItemName(r.getInventoryItem() != null ? r.getInventoryItem().getName() : r.getCustomItemName());
-            dto.setQuantity(r.getQuantity());
-            dto.setUnit(r.getUnitOfMeasure());
-            dto.setUnitPrice(r.getUnitPrice());
-            dto.setTotalCost(r.getTotalCost());
-            dto.setDate(r.getCreatedAt());
-            dto.setStatus(r.getStatus());
-            dto.setReceivedQuantity(r.getReceivedQuantity());
-            return dto;
-        }).collect(Collectors.toList());
+        List<VendorAuditDTO> dtos = requisitionRepository.findVendorAuditRows(vendorId, startDate, endDate,
+                status == null || status.isEmpty() ? null : status.toUpperCase());
 
         int start = (int) pageable.getOffset();
         int end = Math.min((start + pageable.getPageSize()), dtos.size());
@@ -72,64 +68,91 @@ public class VendorInvoiceService {
 
     /**
      * Generate an invoice for a vendor based on selected requisitions.
+     * Runs in a fixed number of statements whatever the number of requisitions: one existence
+     * check, one fetch, one bulk status update, the header insert and one batch of line inserts.
      */
     @Transactional
     public VendorInvoice generateInvoice(Long vendorId, List<Long> requisitionIds, String actor) {
         Vendor vendor = vendorRepository.findById(vendorId)
                 .orElseThrow(() -> new ResourceNotFoundException("Vendor", vendorId));
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(requisitionIds));
+
+        // 🛡️ SECURITY: Prevent 409 Conflict by checking if any item is already invoiced
+        if (!ids.isEmpty()) {
+            Set<Long> invoiced = new HashSet<>(invoiceItemRepository.findInvoicedRequisitionIds(ids));
+            ids.stream().filter(invoiced::contains).findFirst().ifPresent(reqId -> {
+                throw alreadyInvoiced(reqId);
+            });
+        }
+
+        Map<Long, MaterialRequisition> found = ids.isEmpty() ? Map.of()
+                : requisitionRepository.findAllForInvoice(ids).stream()
+                        .collect(Collectors.toMap(MaterialRequisition::getId, Function.identity()));
+        List<MaterialRequisition> requisitions = new ArrayList<>(ids.size());
+        for (Long reqId : ids) {
+            MaterialRequisition req = found.get(reqId);
+            if (req == null) throw new ResourceNotFoundException("Requisition", reqId);
+            requisitions.add(req);
+        }
 
         VendorInvoice invoice = new VendorInvoice();
         invoice.setVendor(vendor);
         invoice.setInvoiceNumber("V-INV-" + System.currentTimeMillis());
         invoice.setStatus("DRAFT");
-        
-        BigDecimal total = BigDecimal.ZERO;
-        List<VendorInvoiceItem> items = new ArrayList<>();
-
-        // 🛡️ SECURITY: Prevent 409 Conflict by checking if any item is already invoiced
-        for (Long reqId : requisitionIds) {
-            boolean alreadyInvoiced = invoiceItemRepository.findAll().stream()
-                    .anyMatch(item -> item.getRequisition() != null && item.getRequisition().getId().equals(reqId));
-            
-            if (alreadyInvoiced) {
-                throw new net.engineeringdigest.journalApp.exception.BusinessRuleException(
-                    "ERR_ALREADY_INVOICED", 
-                    "Requisition #" + reqId + " has already been included in another invoice."
-                );
-            }
-        }
 
-        for (Long reqId : requisitionIds) {
-            MaterialRequisition req = requisitionRepository.findById(reqId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Requisition", reqId));
-            
+        long totalPaise = 0;
+        List<VendorInvoiceItem> items = new ArrayList<>(requisitions.size());
+        List<VendorLedgerService.Contribution> before = new ArrayList<>(requisitions.size());
+        for (MaterialRequisition req : requisitions) {
             VendorInvoiceItem item = new VendorInvoiceItem();
             item.setInvoice(invoice);
             item.setRequisition(req);
             item.setAmount(req.getTotalCost());
             item.setDescription(req.getInventoryItem() != null ? req.getInventoryItem().getName() : req.getCustomItemName());
-            
-            total = total.add(req.getTotalCost() != null ? req.getTotalCost() : BigDecimal.ZERO);
+
+            totalPaise += Money.toPaise(req.getTotalCost());
             items.add(item);
+            before.add(VendorLedgerService.Contribution.of(req));
+        }
 
-            // ✅ Update requisition status to prevent double-invoicing
-            req.setStatus("INVOICED");
-            requisitionRepository.save(req);
+        // ✅ Update requisition status to prevent double-invoicing (one UPDATE; it also detaches the
+        // loaded requisitions, so the status set below is for the response and the ledger only)
+        if (!ids.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            requisitionRepository.markInvoiced(ids, now);
+            for (MaterialRequisition req : requisitions) {
+                req.setStatus("INVOICED");
+                req.setUpdatedAt(now);
+            }
+            vendorLedgerService.recordChanges(before, requisitions);
         }
 
-        invoice.setTotalAmount(total);
+        Money total = Money.ofPaise(totalPaise);
+        invoice.setTotalAmount(total.toBigDecimal());
         invoice.setLineItems(items);
-        
-        VendorInvoice saved = invoiceRepository.save(invoice);
-        
+
+        VendorInvoice saved;
+        try {
+            saved = invoiceRepository.insertWithLineItems(invoice);
+        } catch (DuplicateKeyException e) {
+            // Lost a race with a concurrent invoice for the same requisition (uk_vendor_invoice_items_requisition)
+            throw alreadyInvoiced(null);
+        }
+
         auditLogService.saveAuditLog(actor, "INVOICE_GENERATED", "/api/v1/vendors/" + vendorId + "/invoice", 200, saved.getId(),
             "Generated invoice for " + vendor.getName() + ". Total: " + total);
-            
+
         liveUpdateService.broadcastInvoiceGenerated(saved);
-        
+
         return saved;
     }
 
+    private static BusinessRuleException alreadyInvoiced(Long reqId) {
+        return new BusinessRuleException("ERR_ALREADY_INVOICED", reqId != null
+                ? "Requisition #" + reqId + " has already been included in another invoice."
+                : "One of the requisitions was included in another invoice at the same time.");
+    }
+
     /**
      * Mark an invoice as ISSUED. Once issued, it becomes immutable.
      */
@@ -0,0 +1,188 @@
+package net.engineeringdigest.journalApp.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.engineeringdigest.journalApp.dto.VendorFinancialDTO;
+import net.engineeringdigest.journalApp.dto.VendorLedgerRow;
+import net.engineeringdigest.journalApp.exception.BusinessRuleException;
+import net.engineeringdigest.journalApp.model.MaterialRequisition;
+import net.engineeringdigest.journalApp.repository.MaterialRequisitionRepository;
+import net.engineeringdigest.journalApp.repository.VendorLedgerRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 🧾 Vendor Ledger Engine
+ * Keeps vendor_ledger in step with requisitions: every write path captures the requisition's
+ * {@link Contribution} before changing it and hands both sides to {@link #recordChange}, which
+ * applies the difference inside the caller's transaction. Vendor statements are then one
+ * paged query over vendors LEFT JOIN vendor_ledger.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VendorLedgerService {
+
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "pendingBalance");
+    private static final Set<String> SORTABLE = Set.of("vendorId", "vendorName", "totalOrderValue", "totalPaid", "pendingBalance", "orderCount");
+
+    private final VendorLedgerRepository ledgerRepository;
+    private final MaterialRequisitionRepository requisitionRepository;
+
+    /**
+     * 🧮 What one requisition adds to its vendor's ledger row.
+     * Order value excludes rejected requisitions; paid counts requisitions marked PAID.
+     */
+    public record Contribution(Long vendorId, BigDecimal orderValue, BigDecimal paid) {
+
+        public static Contribution of(MaterialRequisition r) {
+            if (r == null || r.getVendor() == null || r.getVendor().getId() == null) {
+                return null;
+            }
+            BigDecimal cost = r.getTotalCost() != null ? r.getTotalCost() : BigDecimal.ZERO;
+            return new Contribution(r.getVendor().getId(),
+                    "REJECTED".equals(r.getStatus()) ? BigDecimal.ZERO : cost,
+                    "PAID".equals(r.getPaymentStatus()) ? cost : BigDecimal.ZERO);
+        }
+    }
+
+    // ─── Write Side ──────────────────────────────────────────────
+
+    /**
+     * ➕ Moves a requisition's contribution from {@code before} (null for a new record) to its current state.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordChange(Contribution before, MaterialRequisition after) {
+        Contribution now = Contribution.of(after);
+        if (Objects.equals(before, now)) {
+            return;
+        }
+        if (before != null && now != null && before.vendorId().equals(now.vendorId())) {
+            apply(now.vendorId(), now.orderValue().subtract(before.orderValue()), now.paid().subtract(before.paid()), 0);
+            return;
+        }
+        if (before != null) {
+            apply(before.vendorId(), before.orderValue().negate(), before.paid().negate(), -1);
+        }
+        if (now != null) {
+            apply(now.vendorId(), now.orderValue(), now.paid(), 1);
+        }
+    }
+
+    /**
+     * ➕ Same as {@link #recordChange} for many requisitions at once (bulk status updates): the
+     * differences are summed per vendor first, so each vendor's ledger row is written once.
+     * {@code before.get(i)} is the contribution of {@code after.get(i)} before the change.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordChanges(List<Contribution> before, List<MaterialRequisition> after) {
+        Map<Long, Delta> deltas = new LinkedHashMap<>();
+        for (int i = 0; i < after.size(); i++) {
+            Contribution was = before.get(i);
+            Contribution now = Contribution.of(after.get(i));
+            if (Objects.equals(was, now)) continue;
+            if (was != null) {
+                deltas.computeIfAbsent(was.vendorId(), id -> new Delta()).add(was.orderValue().negate(), was.paid().negate(), -1);
+            }
+            if (now != null) {
+                deltas.computeIfAbsent(now.vendorId(), id -> new Delta()).add(now.orderValue(), now.paid(), 1);
+            }
+        }
+        deltas.forEach((vendorId, d) -> {
+            if (!d.isZero()) apply(vendorId, d.orderValue, d.paid, d.orders);
+        });
+    }
+
+    private static final class Delta {
+        private BigDecimal orderValue = BigDecimal.ZERO;
+        private BigDecimal paid = BigDecimal.ZERO;
+        private int orders;
+
+        void add(BigDecimal orderValue, BigDecimal paid, int orders) {
+            this.orderValue = this.orderValue.add(orderValue);
+            this.paid = this.paid.add(paid);
+            this.orders += orders;
+        }
+
+        boolean isZero() {
+            return orderValue.signum() == 0 && paid.signum() == 0 && orders == 0;
+        }
+    }
+
+    private void apply(Long vendorId, BigDecimal orderValue, BigDecimal paid, int orders) {
+        // Statements only: ledger rows never become managed entities, so nothing in the session goes stale
+        if (ledgerRepository.applyDelta(vendorId, orderValue, paid, orders) == 0) {
+            ledgerRepository.insertRow(vendorId, orderValue, paid, orders);
+        }
+    }
+
+    // ─── Rebuild ─────────────────────────────────────────────────
+
+    // Dev databases (ddl-auto=update) get the table empty; Flyway backfills it in prod
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        try {
+            if (ledgerRepository.count() == 0 && requisitionRepository.count() > 0) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            log.error("[VENDOR-LEDGER] Startup backfill failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 🔄 Recomputes the whole ledger from requisitions in one grouped INSERT ... SELECT.
+     */
+    @Transactional
+    public int rebuild() {
+        ledgerRepository.deleteAllInBatch();
+        int rows = ledgerRepository.insertFromRequisitions();
+        log.info("[VENDOR-LEDGER] Rebuilt {} vendor rows", rows);
+        return rows;
+    }
+
+    // ─── Read Side ───────────────────────────────────────────────
+
+    /**
+     * 📄 One page of vendor statements; defaults to the largest pending balance first.
+     */
+    @Transactional(readOnly = true)
+    public Page<VendorFinancialDTO> getStatements(Pageable pageable) {
+        Sort sort = pageable.getSort().isSorted() ? pageable.getSort() : DEFAULT_SORT;
+        for (Sort.Order order : sort) {
+            if (!SORTABLE.contains(order.getProperty())) {
+                throw new BusinessRuleException("ERR_INVALID_SORT",
+                        "Cannot sort vendor statements by '" + order.getProperty() + "'. Allowed: " + SORTABLE);
+            }
+        }
+        Pageable sorted = pageable.isPaged()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort)
+                : Pageable.unpaged(sort);
+        return ledgerRepository.findStatements(sorted).map(VendorLedgerService::toDto);
+    }
+
+    private static VendorFinancialDTO toDto(VendorLedgerRow row) {
+        return VendorFinancialDTO.builder()
+                .vendorId(row.getVendorId())
+                .vendorName(row.getVendorName())
+                .totalOrderValue(row.getTotalOrderValue())
+                .totalPaid(row.getTotalPaid())
+                .pendingBalance(row.getPendingBalance())
+                .orderCount(row.getOrderCount() != null ? row.getOrderCount() : 0)
+                .build();
+    }
+}
@@ -0,0 +1,258 @@
+package net.engineeringdigest.journalApp.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.engineeringdigest.journalApp.dto.AttendanceDayLoad;
+import net.engineeringdigest.journalApp.repository.AttendanceRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 👷 Worker Day-Load Index
+ * Today's work load (PRESENT = 1.0, HALF_DAY = 0.5) of every worker, per project, keyed by the
+ * worker's normalized name — the same person may sit on several sites' rosters under one name.
+ * It enforces the cross-site rule (at most 1.0 day per worker per day) without a query.
+ *
+ * - {@link #claim} checks and records a load in one atomic step per worker, so two supervisors
+ *   marking the same worker at the same instant cannot both get past the check.
+ * - A claim is visible to other submissions as soon as it is made and is withdrawn if the
+ *   surrounding transaction rolls back, so only committed attendance stays in the index.
+ * - Rebuilt from today's attendance on startup; renames and project deletions refresh it after commit.
+ * - Covers submissions handled by this instance only.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WorkerDayLoadIndex {
+
+    private final AttendanceRepository attendanceRepository;
+
+    // Worker key -> (projectId -> load). Values are immutable and replaced inside compute()
+    private volatile Day day = new Day(LocalDate.MIN, new ConcurrentHashMap<>());
+    private volatile boolean ready = false;
+
+    private record Day(LocalDate date, ConcurrentHashMap<String, Map<Long, Double>> loads) {}
+
+    /** Outcome of a claim; {@code otherProjectLoad} is the load the worker already has at other sites. */
+    public record Claim(boolean granted, double otherProjectLoad) {}
+
+    // A granted claim, remembered until its transaction completes
+    private record Held(Day day, String key, Long projectId, double previous, double load) {}
+
+    // ─── Rebuild ─────────────────────────────────────────────────
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("[WORKER-LOAD] Startup rebuild failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 🔄 Reloads today's loads from attendance in one query.
+     */
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        LocalDate today = LocalDate.now();
+        ConcurrentHashMap<String, Map<Long, Double>> loads = new ConcurrentHashMap<>();
+        group(attendanceRepository.findDayLoads(today)).forEach(loads::put);
+        day = new Day(today, loads);
+        ready = true;
+        log.info("[WORKER-LOAD] Rebuilt {} worker(s) for {}", loads.size(), today);
+    }
+
+    // Covers claims that arrive before ApplicationReadyEvent
+    private void ensureReady() {
+        if (!ready) rebuild();
+    }
+
+    // A new day starts empty: attendance is only ever marked for the current day
+    private Day dayOf(LocalDate date) {
+        Day current = day;
+        if (current.date().equals(date)) return current;
+        synchronized (this) {
+            if (day.date().isBefore(date)) {
+                day = new Day(date, new ConcurrentHashMap<>());
+                log.info("[WORKER-LOAD] Rolled over to {}", date);
+            }
+            return day.date().equals(date) ? day : null;
+        }
+    }
+
+    // ─── Check-and-Add ───────────────────────────────────────────
+
+    /**
+     * ✅ Sets the worker's load on this project to the one of {@code status}, unless that would take
+     * them over 1.0 day across sites. Marking ABSENT (no load) is always granted.
+     */
+    public Claim claim(LocalDate date, String workerName, Long projectId, String status) {
+        ensureReady();
+        Day target = dayOf(date);
+        if (target == null) {
+            // A submission that started before midnight: yesterday is no longer indexed
+            return new Claim(true, 0.0);
+        }
+        String key = key(workerName);
+        double load = loadOf(status);
+        double[] other = new double[1];
+        double[] previous = new double[1];
+        boolean[] granted = new boolean[1];
+        target.loads().compute(key, (k, current) -> {
+            Map<Long, Double> loads = current != null ? current : Map.of();
+            other[0] = loads.entrySet().stream()
+                    .filter(e -> !e.getKey().equals(projectId))
+                    .mapToDouble(e -> Math.max(e.getValue(), 0.0))
+                    .sum();
+            if (load > 0 && other[0] + load > 1.0) {
+                return current;
+            }
+            granted[0] = true;
+            previous[0] = loads.getOrDefault(projectId, 0.0);
+            return with(loads, projectId, load);
+        });
+        if (granted[0]) {
+            hold(new Held(target, key, projectId, previous[0], load));
+        }
+        return new Claim(granted[0], other[0]);
+    }
+
+    public double loadOf(LocalDate date, String workerName) {
+        ensureReady();
+        Day target = day;
+        if (!target.date().equals(date)) return 0.0;
+        Map<Long, Double> loads = target.loads().get(key(workerName));
+        return loads == null ? 0.0 : loads.values().stream().mapToDouble(v -> Math.max(v, 0.0)).sum();
+    }
+
+    // Claims are withdrawn in reverse order, so repeated claims on one project unwind correctly
+    private void hold(Held held) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<Held> pending = (List<Held>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<Held> created = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(WorkerDayLoadIndex.this);
+                    if (status != STATUS_COMMITTED) {
+                        for (int i = created.size() - 1; i >= 0; i--) release(created.get(i));
+                    }
+                }
+            });
+            pending = created;
+        }
+        pending.add(held);
+    }
+
+    // Takes back exactly the change our claim made, on top of whatever later claims did, so
+    // overlapping claims unwind in any order. Mid-unwind a project may briefly go negative (read
+    // as no load); an entry back at 0 is dropped
+    private void release(Held held) {
+        double change = held.load() - held.previous();
+        if (change == 0.0) return;
+        held.day().loads().compute(held.key(), (k, current) -> {
+            Map<Long, Double> loads = current != null ? current : Map.of();
+            return with(loads, held.projectId(), loads.getOrDefault(held.projectId(), 0.0) - change);
+        });
+    }
+
+    // ─── Maintenance (after commit) ──────────────────────────────
+
+    /** Moves today's loads of a renamed worker under the new name. */
+    public void onRenamed(String oldName, String newName) {
+        if (key(oldName).equals(key(newName))) return;
+        afterCommit(() -> refresh(Set.of(key(oldName), key(newName))));
+    }
+
+    /** Drops a deleted project's loads. */
+    public void onProjectDeleted(Long projectId) {
+        afterCommit(() -> {
+            Map<String, Map<Long, Double>> loads = day.loads();
+            loads.keySet().forEach(key -> loads.computeIfPresent(key, (k, v) -> without(v, projectId)));
+        });
+    }
+
+    private void refresh(Set<String> keys) {
+        Day target = dayOf(LocalDate.now());
+        if (target == null) return;
+        Map<String, Map<Long, Double>> fresh = group(attendanceRepository.findDayLoads(target.date()));
+        for (String key : keys) {
+            Map<Long, Double> loads = fresh.get(key);
+            if (loads == null) target.loads().remove(key);
+            else target.loads().put(key, loads);
+        }
+    }
+
+    private void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    // ─── Helpers ─────────────────────────────────────────────────
+
+    /** Same worker across sites = same name, ignoring case and spacing. */
+    public static String key(String workerName) {
+        return workerName.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    public static double loadOf(String status) {
+        if ("PRESENT".equalsIgnoreCase(status))
+            return 1.0;
+        if ("HALF_DAY".equalsIgnoreCase(status))
+            return 0.5;
+        return 0.0;
+    }
+
+    private static Map<String, Map<Long, Double>> group(Collection<AttendanceDayLoad> rows) {
+        return rows.stream()
+                .filter(r -> loadOf(r.getStatus()) > 0)
+                .collect(Collectors.groupingBy(r -> key(r.getWorkerName()),
+                        Collectors.collectingAndThen(
+                                Collectors.toMap(AttendanceDayLoad::getProjectId, r -> loadOf(r.getStatus()), Double::sum),
+                                Map::copyOf)));
+    }
+
+    private static Map<Long, Double> with(Map<Long, Double> loads, Long projectId, double load) {
+        if (load == 0.0) return without(loads, projectId);
+        Map<Long, Double> next = new HashMap<>(loads);
+        next.put(projectId, load);
+        return Map.copyOf(next);
+    }
+
+    // Returning null from compute() drops a worker with no load left
+    private static Map<Long, Double> without(Map<Long, Double> loads, Long projectId) {
+        if (!loads.containsKey(projectId)) return loads.isEmpty() ? null : loads;
+        Map<Long, Double> next = new HashMap<>(loads);
+        next.remove(projectId);
+        return next.isEmpty() ? null : Map.copyOf(next);
+    }
+}
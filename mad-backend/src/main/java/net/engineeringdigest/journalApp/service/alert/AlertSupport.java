@@ -0,0 +1,22 @@
+package net.engineeringdigest.journalApp.service.alert;
+
+import net.engineeringdigest.journalApp.dto.DashboardAlertDTO;
+import net.engineeringdigest.journalApp.dto.ProjectAlertView;
+
+/**
+ * Shared mapping of the project columns every project-scoped alert carries.
+ */
+final class AlertSupport {
+
+    private AlertSupport() {}
+
+    static DashboardAlertDTO.DashboardAlertDTOBuilder from(ProjectAlertView p, String rule) {
+        return DashboardAlertDTO.builder()
+                .rule(rule)
+                .projectId(p.getId())
+                .projectName(p.getName())
+                .location(p.getLocation() != null ? p.getLocation() : "Unknown Location")
+                .supervisorName(p.getSupervisorDisplayName())
+                .labourCount(p.getLabourCount());
+    }
+}
@@ -0,0 +1,18 @@
+package net.engineeringdigest.journalApp.service.alert;
+
+import net.engineeringdigest.journalApp.dto.DashboardAlertDTO;
+
+import java.util.List;
+
+/**
+ * 🚨 Pluggable Dashboard Alert Rule
+ * Each rule answers with one targeted (indexed) query instead of scanning every project.
+ * Register a new rule by declaring it as a Spring @Component; order with @Order.
+ */
+public interface DashboardAlertRule {
+
+    /** Stable machine-readable code, e.g. "PROJECT_DELAYED". */
+    String getCode();
+
+    List<DashboardAlertDTO> evaluate();
+}
@@ -0,0 +1,47 @@
+package net.engineeringdigest.journalApp.service.alert;
+
+import lombok.extern.slf4j.Slf4j;
+import net.engineeringdigest.journalApp.dto.DashboardAlertDTO;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 🚨 Dashboard Alert Engine
+ * Runs every registered {@link DashboardAlertRule} (in @Order) and concatenates the results.
+ * A failing rule is logged and skipped so one bad query never blanks the whole alert panel.
+ * Each rule runs in its own read-only REQUIRES_NEW transaction: the caller (the dashboard's
+ * alerts section) is itself transactional, and a rule failing inside that shared transaction
+ * would mark it rollback-only and fail every other rule's results with it.
+ */
+@Service
+@Slf4j
+public class DashboardAlertService {
+
+    private final List<DashboardAlertRule> rules;
+    private final TransactionTemplate ruleTx;
+
+    public DashboardAlertService(List<DashboardAlertRule> rules, PlatformTransactionManager transactionManager) {
+        this.rules = rules;
+        this.ruleTx = new TransactionTemplate(transactionManager);
+        this.ruleTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.ruleTx.setReadOnly(true);
+    }
+
+    public List<DashboardAlertDTO> evaluateAll() {
+        List<DashboardAlertDTO> alerts = new ArrayList<>();
+        for (DashboardAlertRule rule : rules) {
+            try {
+                List<DashboardAlertDTO> raised = ruleTx.execute(status -> rule.evaluate());
+                if (raised != null) alerts.addAll(raised);
+            } catch (Exception e) {
+                log.error("[ALERT-ENGINE] Rule {} failed: {}", rule.getCode(), e.getMessage());
+            }
+        }
+        return alerts;
+    }
+}
@@ -0,0 +1,35 @@
+package net.engineeringdigest.journalApp.service.alert;
+
+import lombok.RequiredArgsConstructor;
+import net.engineeringdigest.journalApp.dto.DashboardAlertDTO;
+import net.engineeringdigest.journalApp.model.ProjectStatus;
+import net.engineeringdigest.journalApp.repository.ProjectRepository;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+@Order(10)
+@RequiredArgsConstructor
+public class DelayedProjectAlertRule implements DashboardAlertRule {
+
+    private final ProjectRepository projectRepository;
+
+    @Override
+    public String getCode() {
+        return "PROJECT_DELAYED";
+    }
+
+    @Override
+    public List<DashboardAlertDTO> evaluate() {
+        return projectRepository.findAlertViewsByStatusIn(List.of(ProjectStatus.DELAYED)).stream()
+                .map(p -> AlertSupport.from(p, getCode())
+                        .type("CRITICAL")
+                        .title("Project Delayed: " + p.getName())
+                        .message("Immediate attention required. Timeline severely compromised.")
+                        .build())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,39 @@
+package net.engineeringdigest.journalApp.service.alert;
+
+import lombok.RequiredArgsConstructor;
+import net.engineeringdigest.journalApp.dto.DashboardAlertDTO;
+import net.engineeringdigest.journalApp.model.ProjectStatus;
+import net.engineeringdigest.journalApp.repository.ProjectRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+@Order(30)
+@RequiredArgsConstructor
+public class LowLabourAlertRule implements DashboardAlertRule {
+
+    private final ProjectRepository projectRepository;
+
+    @Value("${dashboard.alerts.low-labour-threshold:5}")
+    private int threshold;
+
+    @Override
+    public String getCode() {
+        return "LOW_LABOUR";
+    }
+
+    @Override
+    public List<DashboardAlertDTO> evaluate() {
+        return projectRepository.findAlertViewsByStatusAndLabourCountLessThan(ProjectStatus.RUNNING, threshold).stream()
+                .map(p -> AlertSupport.from(p, getCode())
+                        .type("INFO")
+                        .title("Low Labour: " + p.getName())
+                        .message("Only " + p.getLabourCount() + " workers on site. Risk of delay.")
+                        .build())
+                .collect(Collectors.toList());
+    }
+}
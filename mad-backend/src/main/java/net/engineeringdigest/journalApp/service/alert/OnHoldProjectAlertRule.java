@@ -0,0 +1,35 @@
+package net.engineeringdigest.journalApp.service.alert;
+
+import lombok.RequiredArgsConstructor;
+import net.engineeringdigest.journalApp.dto.DashboardAlertDTO;
+import net.engineeringdigest.journalApp.model.ProjectStatus;
+import net.engineeringdigest.journalApp.repository.ProjectRepository;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+@Order(20)
+@RequiredArgsConstructor
+public class OnHoldProjectAlertRule implements DashboardAlertRule {
+
+    private final ProjectRepository projectRepository;
+
+    @Override
+    public String getCode() {
+        return "PROJECT_ON_HOLD";
+    }
+
+    @Override
+    public List<DashboardAlertDTO> evaluate() {
+        return projectRepository.findAlertViewsByStatusIn(List.of(ProjectStatus.ON_HOLD)).stream()
+                .map(p -> AlertSupport.from(p, getCode())
+                        .type("WARNING")
+                        .title("Project On Hold: " + p.getName())
+                        .message("Waiting for clearance or material supply.")
+                        .build())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,30 @@
+package net.engineeringdigest.journalApp.service.cache;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * 📡 JPA Entity Listener: entity writes → {@link CacheInvalidationService}
+ * Attached to every entity a cached view is built from, so no write path can forget to evict.
+ * In slice tests (e.g. @DataJpaTest) the service may be absent; callbacks are no-ops then.
+ */
+@Component
+public class CacheInvalidationListener {
+
+    @Autowired
+    private ObjectProvider<CacheInvalidationService> invalidation;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onWrite(Object entity) {
+        CacheInvalidationService service = invalidation != null ? invalidation.getIfAvailable() : null;
+        if (service != null) {
+            service.onEntityChanged(entity);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package net.engineeringdigest.journalApp.service.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import net.engineeringdigest.journalApp.model.Attendance;
+import net.engineeringdigest.journalApp.model.City;
+import net.engineeringdigest.journalApp.model.InventoryItem;
+import net.engineeringdigest.journalApp.model.Labour;
+import net.engineeringdigest.journalApp.model.LeadInquiry;
+import net.engineeringdigest.journalApp.model.Project;
+import net.engineeringdigest.journalApp.model.SiteUpdate;
+import net.engineeringdigest.journalApp.model.User;
+import net.engineeringdigest.journalApp.model.Vendor;
+import net.engineeringdigest.journalApp.service.LeadStatsService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 🧹 Change-driven Cache Invalidation
+ * Evicts exactly the cache entries a committed write can affect, so cached views can
+ * carry longer TTLs (see CacheConfig) without serving stale data.
+ *
+ * - Writes are reported by {@link CacheInvalidationListener} (JPA callbacks).
+ * - Evictions are collected per transaction, de-duplicated and applied after commit;
+ *   rolled-back writes evict nothing.
+ * - A read that began before the commit can put its stale result back after that eviction,
+ *   so the same entries are evicted again {@code cache.re-evict-ms} later. A read still running
+ *   at that point can leave a stale entry until its TTL expires.
+ * - The dependency table below is the single place that says which view reads which entity.
+ */
+@Service
+@Slf4j
+public class CacheInvalidationService {
+
+    public static final String DASHBOARD = "dashboard";
+    public static final String PROJECTS = "projects";
+    public static final String INVENTORY = "inventory";
+    public static final String VENDORS = "vendors";
+    public static final String LEAD_STATS = LeadStatsService.CACHE;
+
+    // One cache entry; a null key means every entry of that cache
+    record Eviction(String cache, Object key) {}
+
+    // Entity type -> cached views built from it
+    private final Map<Class<?>, List<String>> dependencies = new LinkedHashMap<>();
+
+    private final ObjectProvider<CacheManager> cacheManager;
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<TaskScheduler> scheduler;
+    private final Duration reEvictDelay;
+
+    public CacheInvalidationService(ObjectProvider<CacheManager> cacheManager, MeterRegistry meterRegistry,
+                                    ObjectProvider<TaskScheduler> scheduler,
+                                    @Value("${cache.re-evict-ms:2000}") long reEvictMs) {
+        this.cacheManager = cacheManager;
+        this.meterRegistry = meterRegistry;
+        this.scheduler = scheduler;
+        this.reEvictDelay = Duration.ofMillis(reEvictMs);
+
+        // The dashboard reads project counters/alerts, recent updates, the labour trend and the lead funnel.
+        // Inventory items embed their project and vendor when serialized; projects embed their city and supervisor.
+        dependencies.put(Project.class, List.of(DASHBOARD, PROJECTS, INVENTORY));
+        dependencies.put(SiteUpdate.class, List.of(DASHBOARD));
+        dependencies.put(Attendance.class, List.of(DASHBOARD));
+        dependencies.put(Labour.class, List.of(DASHBOARD));
+        dependencies.put(LeadInquiry.class, List.of(DASHBOARD, LEAD_STATS));
+        dependencies.put(InventoryItem.class, List.of(INVENTORY));
+        dependencies.put(Vendor.class, List.of(VENDORS, INVENTORY));
+        dependencies.put(City.class, List.of(DASHBOARD, PROJECTS, INVENTORY));
+        dependencies.put(User.class, List.of(DASHBOARD, PROJECTS, INVENTORY));
+    }
+
+    /**
+     * 🗓️ The dashboard is cached per day, because its weekly trend window moves at midnight.
+     */
+    public static String dashboardKey() {
+        return LocalDate.now().toString();
+    }
+
+    // Mirrors the keys the @Cacheable methods produce
+    private static Object keyOf(String cache) {
+        return switch (cache) {
+            case DASHBOARD -> dashboardKey();
+            case LEAD_STATS -> LeadStatsService.cacheKey();
+            case PROJECTS -> null; // keyed by page/size/sort, so every page is affected
+            default -> SimpleKey.EMPTY; // no-arg list endpoints
+        };
+    }
+
+    public void onEntityChanged(Object entity) {
+        schedule(evictionsFor(entity.getClass()));
+    }
+
+    /**
+     * For bulk JPQL/SQL writes, which bypass the entity callbacks: evicts what a write to any
+     * row of {@code type} can affect.
+     */
+    public void onEntitiesChanged(Class<?> type) {
+        schedule(evictionsFor(type));
+    }
+
+    private void schedule(Set<Eviction> evictions) {
+        if (evictions.isEmpty()) return;
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictTwice(evictions);
+            return;
+        }
+        pendingForCurrentTransaction().addAll(evictions);
+    }
+
+    private Set<Eviction> evictionsFor(Class<?> entityType) {
+        Set<Eviction> result = new LinkedHashSet<>();
+        dependencies.forEach((type, caches) -> {
+            if (type.isAssignableFrom(entityType)) {
+                caches.forEach(cache -> result.add(new Eviction(cache, keyOf(cache))));
+            }
+        });
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<Eviction> pendingForCurrentTransaction() {
+        Set<Eviction> pending = (Set<Eviction>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<Eviction> created = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictTwice(created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CacheInvalidationService.this);
+                }
+            });
+            pending = created;
+        }
+        return pending;
+    }
+
+    private void evictTwice(Set<Eviction> evictions) {
+        evictions.forEach(this::evict);
+        TaskScheduler taskScheduler = scheduler.getIfAvailable();
+        if (taskScheduler == null || reEvictDelay.isZero()) return;
+        try {
+            taskScheduler.schedule(() -> evictions.forEach(this::evict), Instant.now().plus(reEvictDelay));
+        } catch (Exception e) {
+            // Only the second pass is lost; TTL is the backstop
+            log.warn("[CACHE] Could not schedule the delayed eviction: {}", e.getMessage());
+        }
+    }
+
+    private void evict(Eviction eviction) {
+        CacheManager manager = cacheManager.getIfAvailable();
+        Cache cache = manager != null ? manager.getCache(eviction.cache()) : null;
+        if (cache == null) return;
+
+        try {
+            if (eviction.key() == null) {
+                cache.clear();
+            } else {
+                cache.evict(eviction.key());
+            }
+            meterRegistry.counter("cache.invalidations", "cache", eviction.cache()).increment();
+            log.debug("[CACHE] Evicted {} -> {}", eviction.cache(), eviction.key() == null ? "*" : eviction.key());
+        } catch (Exception e) {
+            // A cache outage must not fail a write that has already committed; TTL is the backstop
+            log.error("[CACHE] Eviction of {} failed: {}", eviction.cache(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package net.engineeringdigest.journalApp.service.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 🧠 L1 (in-JVM) store for {@link TwoLevelCache}
+ * Bounded LRU with a per-entry TTL. Holds deserialized values, so a hit costs neither a
+ * network round trip nor JSON decoding. Keys are the string form Redis uses, so an
+ * invalidation message from another node addresses the same entry.
+ */
+class NearCache {
+
+    private record Entry(Cache.ValueWrapper value, long expiresAt) {}
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Map<String, Entry> entries;
+
+    NearCache(int maxEntries, long ttlMillis) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        // Access order + removeEldestEntry = least-recently-used eviction
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > NearCache.this.maxEntries;
+            }
+        };
+    }
+
+    synchronized Cache.ValueWrapper get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) return null;
+        if (entry.expiresAt() < System.currentTimeMillis()) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value();
+    }
+
+    synchronized void put(String key, Cache.ValueWrapper value) {
+        entries.put(key, new Entry(value, System.currentTimeMillis() + ttlMillis));
+    }
+
+    synchronized void evict(String key) {
+        entries.remove(key);
+    }
+
+    synchronized void clear() {
+        entries.clear();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+}
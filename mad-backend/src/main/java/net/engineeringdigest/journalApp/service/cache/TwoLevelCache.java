@@ -0,0 +1,159 @@
+package net.engineeringdigest.journalApp.service.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 🗄️ Two-level Cache: in-JVM {@link NearCache} (L1) in front of a shared cache (L2, Redis).
+ *
+ * - Reads try L1, then L2 (promoting hits into L1), then the loader.
+ * - Writes and evictions go to both levels and are broadcast so other nodes drop their L1 copy.
+ * - L2 failures never reach the caller: the manager switches to local-only mode and
+ *   L1 keeps serving until Redis is reachable again; writes that missed L2 are replayed then.
+ */
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final NearCache l1;
+    private final Cache l2;
+    private final TwoLevelCacheManager manager;
+
+    TwoLevelCache(String name, NearCache l1, Cache l2, TwoLevelCacheManager manager) {
+        this.name = name;
+        this.l1 = l1;
+        this.l2 = l2;
+        this.manager = manager;
+    }
+
+    // Same string form RedisCache uses for simple keys
+    static String keyOf(Object key) {
+        return String.valueOf(key);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l2.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String k = keyOf(key);
+        ValueWrapper local = l1.get(k);
+        if (local != null) {
+            manager.recordHit(name, "l1");
+            return local;
+        }
+        if (!manager.isL2Available()) {
+            manager.recordHit(name, "miss");
+            return null;
+        }
+        try {
+            ValueWrapper remote = l2.get(key);
+            manager.l2Succeeded();
+            if (remote != null) {
+                // Copy: RedisCache wrappers are not guaranteed to be immutable
+                l1.put(k, new SimpleValueWrapper(remote.get()));
+                manager.recordHit(name, "l2");
+                return remote;
+            }
+        } catch (RuntimeException e) {
+            manager.l2Failed(name, e);
+        }
+        manager.recordHit(name, "miss");
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        l1.put(keyOf(key), new SimpleValueWrapper(value));
+        writeThrough(keyOf(key), () -> l2.put(key, value));
+        manager.broadcast(name, keyOf(key));
+    }
+
+    @Override
+    public void evict(Object key) {
+        l1.evict(keyOf(key));
+        writeThrough(keyOf(key), () -> l2.evict(key));
+        manager.broadcast(name, keyOf(key));
+    }
+
+    @Override
+    public void clear() {
+        l1.clear();
+        writeThrough(null, l2::clear);
+        manager.broadcast(name, null);
+    }
+
+    // A write L2 did not take leaves its old entry there; the manager replays it as an eviction on recovery
+    private void writeThrough(String key, Runnable write) {
+        if (manager.isL2Available()) {
+            try {
+                write.run();
+                manager.l2Succeeded();
+                return;
+            } catch (RuntimeException e) {
+                manager.l2Failed(name, e);
+            }
+        }
+        manager.l2WriteMissed(name, key);
+    }
+
+    // ─── Replay of a write missed during an outage (L2 only; throws if L2 is still down) ───
+
+    void evictRemote(String key) {
+        if (key == null) {
+            l2.clear();
+        } else {
+            l2.evict(key);
+        }
+    }
+
+    // ─── Invalidation received from another node (L1 only) ───
+
+    void evictLocal(String key) {
+        if (key == null) {
+            l1.clear();
+        } else {
+            l1.evict(key);
+        }
+    }
+
+    int localSize() {
+        return l1.size();
+    }
+}
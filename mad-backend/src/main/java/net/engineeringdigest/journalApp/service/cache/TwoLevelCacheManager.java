@@ -0,0 +1,177 @@
+package net.engineeringdigest.journalApp.service.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 🗄️ Composite CacheManager: bounded in-JVM L1 per cache in front of the shared L2 (Redis).
+ *
+ * Cross-node consistency: every put/evict/clear is broadcast through the
+ * {@link InvalidationPublisher}; receiving nodes drop only their L1 copy ({@link #onRemoteInvalidation}).
+ *
+ * Degraded mode: the first L2 failure switches every cache to local-only for {@code retryAfter}.
+ * Writes and evictions that could not reach L2 meanwhile are remembered per cache. When L2 answers
+ * again they are replayed as L2 evictions (a whole-cache clear past {@value #MAX_MISSED_KEYS} keys),
+ * so no node keeps reading a pre-outage entry from Redis, and all L1 entries are dropped, since
+ * invalidations may have been missed meanwhile.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager {
+
+    /**
+     * Transport for cross-node L1 invalidations; {@code key == null} clears the whole cache.
+     */
+    @FunctionalInterface
+    public interface InvalidationPublisher {
+        void publish(String cache, String key);
+    }
+
+    static final int MAX_MISSED_KEYS = 1_000;
+
+    private final CacheManager l2Manager;
+    private final int maxEntries;
+    private final long l1TtlMillis;
+    private final long retryAfterMillis;
+    private final InvalidationPublisher publisher;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+    private volatile long l2DownUntil = 0;
+    private volatile boolean localOnly = false;
+
+    // Keys written or evicted while L2 was unreachable, and caches cleared (or with too many keys) meanwhile
+    private final ConcurrentMap<String, Set<String>> missedKeys = new ConcurrentHashMap<>();
+    private final Set<String> missedClears = ConcurrentHashMap.newKeySet();
+
+    public TwoLevelCacheManager(CacheManager l2Manager, int maxEntries, Duration l1Ttl, Duration retryAfter,
+                                InvalidationPublisher publisher, MeterRegistry meterRegistry) {
+        this.l2Manager = l2Manager;
+        this.maxEntries = maxEntries;
+        this.l1TtlMillis = l1Ttl.toMillis();
+        this.retryAfterMillis = retryAfter.toMillis();
+        this.publisher = publisher;
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gauge("cache.local_only", this, m -> m.localOnly ? 1 : 0);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, n -> {
+            Cache l2 = l2Manager.getCache(n);
+            return l2 != null ? new TwoLevelCache(n, new NearCache(maxEntries, l1TtlMillis), l2, this) : null;
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    public boolean isLocalOnly() {
+        return localOnly;
+    }
+
+    /**
+     * 📨 Invalidation broadcast by another node.
+     */
+    public void onRemoteInvalidation(String cache, String key) {
+        TwoLevelCache target = caches.get(cache);
+        if (target != null) {
+            target.evictLocal(key);
+        }
+    }
+
+    // ─── L2 health (shared by all caches) ───
+
+    boolean isL2Available() {
+        // After the back-off window, let the next call probe L2 again
+        return System.currentTimeMillis() >= l2DownUntil;
+    }
+
+    void l2Failed(String cache, RuntimeException e) {
+        l2DownUntil = System.currentTimeMillis() + retryAfterMillis;
+        if (!localOnly) {
+            localOnly = true;
+            log.error("[CACHE] L2 unavailable ({} on '{}'), serving from L1 only for {}ms",
+                    e.getClass().getSimpleName(), cache, retryAfterMillis);
+        }
+    }
+
+    void l2Succeeded() {
+        if (localOnly) {
+            recover();
+        }
+    }
+
+    // Replays the missed L2 invalidations first; a failure part-way leaves the rest for the next probe
+    private synchronized void recover() {
+        if (!localOnly) return;
+        List<String[]> replayed = new ArrayList<>();
+        try {
+            for (String cache : missedClears) {
+                caches.get(cache).evictRemote(null);
+                missedClears.remove(cache);
+                missedKeys.remove(cache);
+                replayed.add(new String[]{cache, null});
+            }
+            for (Map.Entry<String, Set<String>> e : missedKeys.entrySet()) {
+                TwoLevelCache target = caches.get(e.getKey());
+                for (String key : e.getValue()) {
+                    target.evictRemote(key);
+                    e.getValue().remove(key);
+                    replayed.add(new String[]{e.getKey(), key});
+                }
+                missedKeys.remove(e.getKey(), Set.of());
+            }
+        } catch (RuntimeException ex) {
+            l2Failed("replay", ex);
+            return;
+        }
+        localOnly = false;
+        caches.values().forEach(c -> c.evictLocal(null));
+        replayed.forEach(r -> broadcast(r[0], r[1]));
+        log.info("[CACHE] L2 reachable again, {} missed invalidations replayed, L1 cleared and two-level mode restored",
+                replayed.size());
+    }
+
+    /**
+     * A put, evict ({@code key}) or clear ({@code key == null}) that did not reach L2.
+     */
+    void l2WriteMissed(String cache, String key) {
+        if (key == null) {
+            missedClears.add(cache);
+            return;
+        }
+        Set<String> keys = missedKeys.computeIfAbsent(cache, c -> ConcurrentHashMap.newKeySet());
+        if (keys.size() >= MAX_MISSED_KEYS) {
+            missedClears.add(cache);
+        } else {
+            keys.add(key);
+        }
+    }
+
+    void broadcast(String cache, String key) {
+        if (localOnly) return;
+        try {
+            publisher.publish(cache, key);
+        } catch (RuntimeException e) {
+            log.warn("[CACHE] Invalidation broadcast for '{}' failed: {}", cache, e.getMessage());
+        }
+    }
+
+    void recordHit(String cache, String level) {
+        meterRegistry.counter("cache.two_level.gets", "cache", cache, "result", level).increment();
+    }
+}
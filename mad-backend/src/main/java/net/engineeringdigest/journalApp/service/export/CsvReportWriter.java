@@ -0,0 +1,57 @@
+package net.engineeringdigest.journalApp.service.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 📄 RFC 4180 CSV with a UTF-8 BOM so Excel opens non-ASCII names correctly.
+ * Text starting with = + - @ is prefixed with ' so spreadsheets never evaluate it as a formula.
+ */
+public class CsvReportWriter implements ReportWriter {
+
+    private final BufferedWriter out;
+
+    public CsvReportWriter(OutputStream target) throws IOException {
+        this.out = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8));
+        out.write('\uFEFF');
+    }
+
+    @Override
+    public void header(List<String> columns) throws IOException {
+        row(columns.toArray());
+    }
+
+    @Override
+    public void row(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) out.write(',');
+            out.write(encode(values[i]));
+        }
+        out.write("\r\n");
+    }
+
+    @Override
+    public void finish() throws IOException {
+        out.flush();
+    }
+
+    static String encode(Object value) {
+        if (value == null) return "";
+        if (value instanceof Number n) {
+            return n instanceof BigDecimal d ? d.toPlainString() : n.toString();
+        }
+        String text = value.toString();
+        if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
@@ -0,0 +1,41 @@
+package net.engineeringdigest.journalApp.service.export;
+
+import net.engineeringdigest.journalApp.exception.BusinessRuleException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 🗂️ Supported export encodings.
+ */
+public enum ExportFormat {
+    CSV("text/csv; charset=UTF-8", "csv"),
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public ReportWriter open(OutputStream target) throws IOException {
+        return this == CSV ? new CsvReportWriter(target) : new XlsxReportWriter(target);
+    }
+
+    public static ExportFormat parse(String value) {
+        for (ExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) return format;
+        }
+        throw new BusinessRuleException("ERR_UNSUPPORTED_FORMAT", "Unsupported export format '" + value + "'. Use csv or xlsx.");
+    }
+}
@@ -0,0 +1,28 @@
+package net.engineeringdigest.journalApp.service.export;
+
+import net.engineeringdigest.journalApp.exception.BusinessRuleException;
+
+/**
+ * 📚 Exportable reports. Dated reports honour the requested range; the ledger and
+ * current-state reports describe "as of now" and ignore it.
+ */
+public enum ReportType {
+    FINANCIALS,     // live summary, or daily snapshots when a range is given
+    VENDORS,        // vendor ledger (cumulative)
+    PRODUCTIVITY,   // current productivity metrics
+    ATTENDANCE,     // one row per attendance record in range
+    REQUISITIONS,   // one row per requisition created in range
+    MUSTER_ROLL;    // one row per worker, project and month overlapping the range
+
+    public static ReportType parse(String value) {
+        for (ReportType type : values()) {
+            if (type.name().equalsIgnoreCase(value.replace('-', '_'))) return type;
+        }
+        throw new BusinessRuleException("ERR_UNKNOWN_REPORT", "Unknown report '" + value
+                + "'. Use financials, vendors, productivity, attendance, requisitions or muster-roll.");
+    }
+
+    public String fileName() {
+        return name().toLowerCase().replace('_', '-');
+    }
+}
@@ -0,0 +1,18 @@
+package net.engineeringdigest.journalApp.service.export;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 📝 Row-at-a-time report sink. Implementations hold no rows in memory:
+ * each row is encoded and pushed to the underlying stream as it arrives.
+ */
+public interface ReportWriter {
+
+    void header(List<String> columns) throws IOException;
+
+    void row(Object... values) throws IOException;
+
+    // Completes the document (e.g. closes the XLSX sheet) and flushes; does not close the target stream
+    void finish() throws IOException;
+}
@@ -0,0 +1,5 @@
+-- V11: Dashboard alert engine indexes
+-- Each alert rule is a targeted query (status IN (...) / status = ? AND labour_count < ?)
+-- instead of a full scan of projects.
+
+CREATE INDEX IF NOT EXISTS idx_projects_status_labour ON projects(status, labour_count);
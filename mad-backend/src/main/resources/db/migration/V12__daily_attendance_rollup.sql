@@ -0,0 +1,32 @@
+-- V12: Daily attendance rollup
+-- One row per (work_date, project) maintained alongside every attendance write,
+-- so the weekly trend, productivity and financials no longer scan attendance.
+
+CREATE TABLE IF NOT EXISTS daily_attendance_rollup (
+    id BIGSERIAL PRIMARY KEY,
+    work_date DATE NOT NULL,
+    project_id BIGINT NOT NULL,
+    present_count INT NOT NULL DEFAULT 0,
+    half_day_count INT NOT NULL DEFAULT 0,
+    absent_count INT NOT NULL DEFAULT 0,
+    man_days DOUBLE PRECISION NOT NULL DEFAULT 0,
+    wage_cost NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    CONSTRAINT uk_attendance_rollup_date_project UNIQUE (work_date, project_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_attendance_rollup_project ON daily_attendance_rollup(project_id);
+
+-- Backfill from existing attendance (wage cost at current daily wages)
+INSERT INTO daily_attendance_rollup (work_date, project_id, present_count, half_day_count, absent_count, man_days, wage_cost)
+SELECT a.date,
+       a.project_id,
+       SUM(CASE WHEN UPPER(a.status) = 'PRESENT' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN UPPER(a.status) = 'HALF_DAY' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN UPPER(a.status) = 'ABSENT' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN UPPER(a.status) = 'PRESENT' THEN 1.0 WHEN UPPER(a.status) = 'HALF_DAY' THEN 0.5 ELSE 0 END),
+       ROUND(SUM(CASE WHEN UPPER(a.status) = 'PRESENT' THEN COALESCE(l.daily_wage, 0)
+                      WHEN UPPER(a.status) = 'HALF_DAY' THEN COALESCE(l.daily_wage, 0) / 2 ELSE 0 END)::numeric, 2)
+FROM attendance a
+JOIN labour l ON l.id = a.labour_id
+GROUP BY a.date, a.project_id
+ON CONFLICT (work_date, project_id) DO NOTHING;
@@ -0,0 +1,5 @@
+-- V13: Lead funnel index
+-- The lead stats query aggregates only status and submitted_at, so this index
+-- also lets it run as an index-only scan.
+
+CREATE INDEX IF NOT EXISTS idx_lead_inquiries_status_submitted ON lead_inquiries(status, submitted_at);
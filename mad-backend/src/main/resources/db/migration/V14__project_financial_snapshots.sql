@@ -0,0 +1,18 @@
+-- V14: Daily project financial snapshots
+-- One row per (project, day) written by the nightly snapshot job; trend charts
+-- read these with a range scan instead of recomputing BOQ / requisition / labour ledgers.
+
+CREATE TABLE IF NOT EXISTS project_financial_snapshots (
+    id BIGSERIAL PRIMARY KEY,
+    snapshot_date DATE NOT NULL,
+    project_id BIGINT NOT NULL,
+    total_budget NUMERIC(16, 2) NOT NULL DEFAULT 0,
+    work_done_value NUMERIC(16, 2) NOT NULL DEFAULT 0,
+    material_expense NUMERIC(16, 2) NOT NULL DEFAULT 0,
+    labour_expense NUMERIC(16, 2) NOT NULL DEFAULT 0,
+    current_roi NUMERIC(16, 2) NOT NULL DEFAULT 0,
+    health_score DOUBLE PRECISION NOT NULL DEFAULT 0,
+    CONSTRAINT uk_financial_snapshot_project_date UNIQUE (project_id, snapshot_date)
+);
+
+CREATE INDEX IF NOT EXISTS idx_financial_snapshot_date ON project_financial_snapshots(snapshot_date);
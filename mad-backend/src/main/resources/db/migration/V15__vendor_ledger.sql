@@ -0,0 +1,27 @@
+-- V15: Vendor ledger
+-- One row per vendor with running order value / paid / pending totals, maintained alongside
+-- every requisition write, so vendor statements no longer load requisitions per vendor.
+
+CREATE TABLE IF NOT EXISTS vendor_ledger (
+    vendor_id BIGINT PRIMARY KEY,
+    order_value NUMERIC(16, 2) NOT NULL DEFAULT 0,
+    paid_amount NUMERIC(16, 2) NOT NULL DEFAULT 0,
+    pending_balance NUMERIC(16, 2) NOT NULL DEFAULT 0,
+    order_count INT NOT NULL DEFAULT 0
+);
+
+CREATE INDEX IF NOT EXISTS idx_vendor_ledger_pending ON vendor_ledger(pending_balance);
+
+-- Backfill from existing requisitions
+INSERT INTO vendor_ledger (vendor_id, order_value, paid_amount, pending_balance, order_count)
+SELECT t.vendor_id, t.order_value, t.paid_amount, t.order_value - t.paid_amount, t.order_count
+FROM (
+    SELECT r.vendor_id,
+           SUM(CASE WHEN r.status = 'REJECTED' THEN 0 ELSE COALESCE(r.total_cost, 0) END) AS order_value,
+           SUM(CASE WHEN r.payment_status = 'PAID' THEN COALESCE(r.total_cost, 0) ELSE 0 END) AS paid_amount,
+           COUNT(*) AS order_count
+    FROM material_requisitions r
+    WHERE r.vendor_id IS NOT NULL
+    GROUP BY r.vendor_id
+) t
+ON CONFLICT (vendor_id) DO NOTHING;
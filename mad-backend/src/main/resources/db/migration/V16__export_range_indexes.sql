@@ -0,0 +1,5 @@
+-- V16: Range indexes for streamed report exports
+-- Attendance and requisition exports filter on a date range and stream in date order.
+
+CREATE INDEX IF NOT EXISTS idx_attendance_date ON attendance(date);
+CREATE INDEX IF NOT EXISTS idx_requisitions_created_at ON material_requisitions(created_at);
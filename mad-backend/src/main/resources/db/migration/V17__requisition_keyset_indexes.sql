@@ -0,0 +1,11 @@
+-- V17: Keyset pagination indexes for the requisition listing
+-- The listing seeks on (created_at, id) newest first, optionally narrowed by status, project or vendor.
+
+UPDATE material_requisitions SET created_at = COALESCE(updated_at, CURRENT_TIMESTAMP) WHERE created_at IS NULL;
+
+-- (created_at, id) supersedes the single-column range index from V16
+DROP INDEX IF EXISTS idx_requisitions_created_at;
+CREATE INDEX IF NOT EXISTS idx_requisitions_created_id ON material_requisitions(created_at, id);
+CREATE INDEX IF NOT EXISTS idx_requisitions_status_created_id ON material_requisitions(status, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_requisitions_project_created_id ON material_requisitions(project_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_requisitions_vendor_created_id ON material_requisitions(vendor_id, created_at, id);
@@ -0,0 +1,38 @@
+-- V18: Normalized inventory item key
+-- Goods receipts look items up by (project_id, item_key) instead of scanning all inventory;
+-- the unique index keeps concurrent receipts from creating the same material twice.
+
+ALTER TABLE inventory_items ADD COLUMN IF NOT EXISTS item_key VARCHAR(100);
+
+-- Mirrors InventoryItem.keyOf: trimmed, whitespace collapsed, lower-cased
+UPDATE inventory_items SET item_key = LOWER(REGEXP_REPLACE(TRIM(name), '\s+', ' ', 'g'));
+
+-- Merge items that only differed by case or spacing into the oldest row of each project
+CREATE TEMPORARY TABLE inventory_item_merge AS
+SELECT id, MIN(id) OVER (PARTITION BY project_id, item_key) AS keep_id
+FROM inventory_items
+WHERE project_id IS NOT NULL;
+
+DELETE FROM inventory_item_merge WHERE id = keep_id;
+
+UPDATE inventory_items k
+SET current_quantity = COALESCE(k.current_quantity, 0) + s.quantity
+FROM (
+    SELECT m.keep_id, SUM(COALESCE(i.current_quantity, 0)) AS quantity
+    FROM inventory_item_merge m
+    JOIN inventory_items i ON i.id = m.id
+    GROUP BY m.keep_id
+) s
+WHERE k.id = s.keep_id;
+
+UPDATE material_requisitions r
+SET inventory_item_id = m.keep_id
+FROM inventory_item_merge m
+WHERE r.inventory_item_id = m.id;
+
+DELETE FROM inventory_items i USING inventory_item_merge m WHERE i.id = m.id;
+
+DROP TABLE inventory_item_merge;
+
+ALTER TABLE inventory_items ALTER COLUMN item_key SET NOT NULL;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_inventory_items_project_key ON inventory_items(project_id, item_key);
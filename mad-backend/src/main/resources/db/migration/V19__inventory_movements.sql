@@ -0,0 +1,19 @@
+-- V19: Inventory movement ledger
+-- Stock changes are appended here instead of rewriting inventory_items.current_quantity;
+-- a periodic compaction folds them into current_quantity and stamps them with its run id.
+
+CREATE TABLE IF NOT EXISTS inventory_movements (
+    id BIGSERIAL PRIMARY KEY,
+    item_id BIGINT NOT NULL,
+    type VARCHAR(20) NOT NULL,
+    quantity DOUBLE PRECISION NOT NULL,
+    reference VARCHAR(50),
+    actor VARCHAR(50),
+    compaction_run VARCHAR(36),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Pending tail per item (compaction_run IS NULL) and the rows of one compaction run
+CREATE INDEX IF NOT EXISTS idx_inventory_movements_run_item ON inventory_movements(compaction_run, item_id);
+-- Movement history per item, newest first
+CREATE INDEX IF NOT EXISTS idx_inventory_movements_item_id ON inventory_movements(item_id, id);
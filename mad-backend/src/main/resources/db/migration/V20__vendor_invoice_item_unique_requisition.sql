@@ -0,0 +1,20 @@
+-- V20: A requisition can appear on at most one vendor invoice
+-- The application checked this by scanning every line item, which two concurrent invoices could
+-- both pass. Duplicates that slipped through keep their first (lowest id) line; the later lines
+-- are removed and the totals of the invoices they belonged to are recomputed.
+
+CREATE TEMPORARY TABLE duplicate_invoice_lines AS
+SELECT later.id, later.invoice_id
+FROM vendor_invoice_items later
+JOIN vendor_invoice_items first_line
+  ON first_line.requisition_id = later.requisition_id AND first_line.id < later.id;
+
+DELETE FROM vendor_invoice_items WHERE id IN (SELECT id FROM duplicate_invoice_lines);
+
+UPDATE vendor_invoices vi
+SET total_amount = COALESCE((SELECT SUM(amount) FROM vendor_invoice_items WHERE invoice_id = vi.id), 0)
+WHERE vi.id IN (SELECT invoice_id FROM duplicate_invoice_lines);
+
+DROP TABLE duplicate_invoice_lines;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_vendor_invoice_items_requisition ON vendor_invoice_items(requisition_id);
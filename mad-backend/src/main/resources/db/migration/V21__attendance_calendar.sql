@@ -0,0 +1,31 @@
+-- V21: Packed attendance calendar
+-- One row per (labour, project, month) holding the month's attendance in a single BIGINT,
+-- 2 bits per day (day d at bits 2(d-1)..2(d-1)+1): 00 not marked, 01 ABSENT, 10 HALF_DAY, 11 PRESENT.
+-- Maintained alongside every attendance write, so monthly muster rolls and payroll read one word
+-- per worker instead of one row per worker-day.
+
+CREATE TABLE IF NOT EXISTS attendance_calendar (
+    id BIGSERIAL PRIMARY KEY,
+    labour_id BIGINT NOT NULL,
+    project_id BIGINT NOT NULL,
+    month_start DATE NOT NULL,
+    days BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT uk_attendance_calendar_labour_project_month UNIQUE (labour_id, project_id, month_start)
+);
+
+CREATE INDEX IF NOT EXISTS idx_attendance_calendar_project_month ON attendance_calendar(project_id, month_start);
+
+-- Backfill from existing attendance; a day marked twice keeps its highest status
+INSERT INTO attendance_calendar (labour_id, project_id, month_start, days)
+SELECT d.labour_id, d.project_id, d.month_start, SUM(d.code << (2 * (d.day_of_month - 1)))
+FROM (
+    SELECT a.labour_id,
+           a.project_id,
+           CAST(date_trunc('month', a.date) AS DATE) AS month_start,
+           CAST(EXTRACT(DAY FROM a.date) AS INT) AS day_of_month,
+           MAX(CASE UPPER(a.status) WHEN 'PRESENT' THEN 3 WHEN 'HALF_DAY' THEN 2 WHEN 'ABSENT' THEN 1 ELSE 0 END)::BIGINT AS code
+    FROM attendance a
+    GROUP BY a.labour_id, a.project_id, a.date
+) d
+GROUP BY d.labour_id, d.project_id, d.month_start
+ON CONFLICT (labour_id, project_id, month_start) DO NOTHING;
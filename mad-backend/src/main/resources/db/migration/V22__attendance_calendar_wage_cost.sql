@@ -0,0 +1,23 @@
+-- V22: Payroll rollup on the attendance calendar
+-- wage_cost carries each worker-month's pay (man-days × daily wage in force when marked), so payroll
+-- lines and totals per worker, project and month are read from the calendar without touching attendance.
+
+ALTER TABLE attendance_calendar ADD COLUMN IF NOT EXISTS wage_cost NUMERIC(14,2) NOT NULL DEFAULT 0;
+
+-- Backfill at current daily wages (historic wages are not recorded); a day marked twice keeps its highest status
+UPDATE attendance_calendar c
+SET wage_cost = s.wage_cost
+FROM (
+    SELECT d.labour_id, d.project_id, d.month_start, ROUND(SUM(d.load * COALESCE(l.daily_wage, 0))::NUMERIC, 2) AS wage_cost
+    FROM (
+        SELECT a.labour_id,
+               a.project_id,
+               CAST(date_trunc('month', a.date) AS DATE) AS month_start,
+               MAX(CASE UPPER(a.status) WHEN 'PRESENT' THEN 1.0 WHEN 'HALF_DAY' THEN 0.5 ELSE 0 END) AS load
+        FROM attendance a
+        GROUP BY a.labour_id, a.project_id, a.date
+    ) d
+    JOIN labour l ON l.id = d.labour_id
+    GROUP BY d.labour_id, d.project_id, d.month_start
+) s
+WHERE c.labour_id = s.labour_id AND c.project_id = s.project_id AND c.month_start = s.month_start;
@@ -0,0 +1,42 @@
+-- V23: One attendance row per worker, project and day
+-- The batch looked for the day's row before inserting, which two concurrent submissions could
+-- both pass. Duplicates that slipped through keep their highest status (PRESENT, then HALF_DAY,
+-- then ABSENT; lowest id on a tie), the one the attendance calendar already counts. The removed
+-- rows are taken back out of the daily rollup at current daily wages, as V12 counted them.
+
+CREATE TEMPORARY TABLE duplicate_attendance AS
+SELECT ranked.id, ranked.date, ranked.project_id, ranked.status, ranked.daily_wage
+FROM (
+    SELECT a.id, a.date, a.project_id, UPPER(a.status) AS status, COALESCE(l.daily_wage, 0) AS daily_wage,
+           ROW_NUMBER() OVER (PARTITION BY a.labour_id, a.project_id, a.date
+                              ORDER BY CASE UPPER(a.status) WHEN 'PRESENT' THEN 0 WHEN 'HALF_DAY' THEN 1 ELSE 2 END, a.id) AS rn
+    FROM attendance a
+    JOIN labour l ON l.id = a.labour_id
+) ranked
+WHERE ranked.rn > 1;
+
+DELETE FROM attendance WHERE id IN (SELECT id FROM duplicate_attendance);
+
+UPDATE daily_attendance_rollup r
+SET present_count = r.present_count - d.present_count,
+    half_day_count = r.half_day_count - d.half_day_count,
+    absent_count = r.absent_count - d.absent_count,
+    man_days = r.man_days - d.man_days,
+    wage_cost = r.wage_cost - d.wage_cost
+FROM (
+    SELECT date,
+           project_id,
+           SUM(CASE WHEN status = 'PRESENT' THEN 1 ELSE 0 END) AS present_count,
+           SUM(CASE WHEN status = 'HALF_DAY' THEN 1 ELSE 0 END) AS half_day_count,
+           SUM(CASE WHEN status = 'ABSENT' THEN 1 ELSE 0 END) AS absent_count,
+           SUM(CASE WHEN status = 'PRESENT' THEN 1.0 WHEN status = 'HALF_DAY' THEN 0.5 ELSE 0 END) AS man_days,
+           ROUND(SUM(CASE WHEN status = 'PRESENT' THEN daily_wage
+                          WHEN status = 'HALF_DAY' THEN daily_wage / 2 ELSE 0 END)::numeric, 2) AS wage_cost
+    FROM duplicate_attendance
+    GROUP BY date, project_id
+) d
+WHERE r.work_date = d.date AND r.project_id = d.project_id;
+
+DROP TABLE duplicate_attendance;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_attendance_labour_project_date ON attendance(labour_id, project_id, date);
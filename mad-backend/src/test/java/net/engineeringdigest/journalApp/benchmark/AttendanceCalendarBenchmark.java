@@ -0,0 +1,179 @@
+package net.engineeringdigest.journalApp.benchmark;
+
+import net.engineeringdigest.journalApp.model.AttendanceCalendar;
+import net.engineeringdigest.journalApp.repository.AttendanceCalendarRepository;
+import net.engineeringdigest.journalApp.repository.AttendanceRepository;
+import net.engineeringdigest.journalApp.service.AttendanceCalendarService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ⏱️ Benchmark: monthly attendance summaries for 1,000 workers × 12 months — one row per
+ * worker-day with a status string vs one packed 64-bit word per worker-month (run with -Pbenchmark).
+ * Both paths produce present / half-day / absent counts for every worker-month and must agree.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+class AttendanceCalendarBenchmark {
+
+    private static final int WORKERS = 1_000;
+    private static final int MONTHS = 12;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2025, 1, 1);
+    private static final String[] STATUSES = {"PRESENT", "PRESENT", "HALF_DAY", "PRESENT", "ABSENT"};
+    private static final int ROUNDS = 5;
+
+    @Autowired JdbcTemplate jdbc;
+    @Autowired AttendanceRepository attendanceRepository;
+    @Autowired AttendanceCalendarRepository calendarRepository;
+
+    private final Map<Long, Integer> workerIndex = new HashMap<>();
+    private int attendanceRows;
+
+    private record Row(long labourId, LocalDate date, String status) {}
+
+    private record Word(long labourId, LocalDate monthStart, long days) {}
+
+    @BeforeEach
+    void seed() {
+        jdbc.update("INSERT INTO cities (name, is_active) VALUES ('Bench City', true)");
+        Long cityId = jdbc.queryForObject("SELECT id FROM cities", Long.class);
+        jdbc.update("INSERT INTO projects (name, client_name, city_id, status, labour_count, start_date) " +
+                "VALUES ('Bench Site', 'Client', ?, 'RUNNING', 0, ?)", cityId, Date.valueOf(FIRST_DAY));
+        Long projectId = jdbc.queryForObject("SELECT id FROM projects", Long.class);
+
+        List<Object[]> labour = new ArrayList<>(WORKERS);
+        for (int w = 0; w < WORKERS; w++) {
+            labour.add(new Object[]{"Worker " + w, projectId});
+        }
+        jdbc.batchUpdate("INSERT INTO labour (name, type, daily_wage, project_id, is_active) " +
+                "VALUES (?, 'Helper', 600, ?, true)", labour);
+        List<Long> labourIds = jdbc.queryForList("SELECT id FROM labour ORDER BY id", Long.class);
+        for (int i = 0; i < labourIds.size(); i++) workerIndex.put(labourIds.get(i), i);
+
+        List<Object[]> attendance = new ArrayList<>();
+        LocalDate end = FIRST_DAY.plusMonths(MONTHS);
+        for (LocalDate day = FIRST_DAY; day.isBefore(end); day = day.plusDays(1)) {
+            Date sqlDay = Date.valueOf(day);
+            for (int w = 0; w < WORKERS; w++) {
+                if ((w + day.getDayOfYear()) % 7 == 0) continue; // weekly rest day, not marked
+                attendance.add(new Object[]{labourIds.get(w), projectId, sqlDay,
+                        STATUSES[(w + day.getDayOfMonth()) % STATUSES.length]});
+            }
+        }
+        jdbc.batchUpdate("INSERT INTO attendance (labour_id, project_id, date, status) VALUES (?, ?, ?, ?)", attendance);
+        attendanceRows = attendance.size();
+
+        new AttendanceCalendarService(calendarRepository, attendanceRepository).rebuild();
+    }
+
+    private int slot(long labourId, LocalDate date) {
+        return workerIndex.get(labourId) * MONTHS + (date.getMonthValue() - 1);
+    }
+
+    // ─── Row path: one record per worker-day, status string compares ───
+
+    private List<Row> loadRows() {
+        return jdbc.query("SELECT labour_id, date, status FROM attendance",
+                (rs, i) -> new Row(rs.getLong(1), rs.getDate(2).toLocalDate(), rs.getString(3)));
+    }
+
+    private int[] summarizeRows(List<Row> rows) {
+        int[] counts = new int[WORKERS * MONTHS * 3];
+        for (Row r : rows) {
+            int base = slot(r.labourId(), r.date()) * 3;
+            if ("PRESENT".equalsIgnoreCase(r.status())) counts[base]++;
+            else if ("HALF_DAY".equalsIgnoreCase(r.status())) counts[base + 1]++;
+            else if ("ABSENT".equalsIgnoreCase(r.status())) counts[base + 2]++;
+        }
+        return counts;
+    }
+
+    // ─── Word path: one long per worker-month, three popcounts ───
+
+    private List<Word> loadWords() {
+        return jdbc.query("SELECT labour_id, month_start, days FROM attendance_calendar",
+                (rs, i) -> new Word(rs.getLong(1), rs.getDate(2).toLocalDate(), rs.getLong(3)));
+    }
+
+    private long[] packWords(List<Word> words) {
+        long[] packed = new long[WORKERS * MONTHS];
+        for (Word w : words) packed[slot(w.labourId(), w.monthStart())] = w.days();
+        return packed;
+    }
+
+    private static int[] summarizeWords(long[] packed) {
+        int[] counts = new int[packed.length * 3];
+        for (int i = 0; i < packed.length; i++) {
+            counts[i * 3] = AttendanceCalendar.presentDays(packed[i]);
+            counts[i * 3 + 1] = AttendanceCalendar.halfDays(packed[i]);
+            counts[i * 3 + 2] = AttendanceCalendar.absentDays(packed[i]);
+        }
+        return counts;
+    }
+
+    @Test
+    void monthlySummaries_fromPackedWords_matchRowScan_withLessMemoryAndTime() {
+        List<Word> words = loadWords();
+        assertThat(words).hasSize(WORKERS * MONTHS);
+
+        long rowHeap = retainedBytes(this::loadRows);
+        long wordHeap = retainedBytes(() -> packWords(loadWords()));
+        List<Row> rows = loadRows();
+        long[] packed = packWords(words);
+
+        int[] fromRows = time("row scan (in memory)", () -> summarizeRows(rows));
+        int[] fromWords = time("word popcount (in memory)", () -> summarizeWords(packed));
+        assertThat(fromWords).isEqualTo(fromRows);
+
+        int[] rowsEndToEnd = time("rows: query + scan", () -> summarizeRows(loadRows()));
+        int[] wordsEndToEnd = time("words: query + popcount", () -> summarizeWords(packWords(loadWords())));
+        assertThat(wordsEndToEnd).isEqualTo(rowsEndToEnd).isEqualTo(fromRows);
+        assertThat(Arrays.stream(fromRows).sum()).isEqualTo(attendanceRows);
+
+        System.out.printf("[BENCHMARK] %d workers x %d months | %,d attendance rows vs %,d calendar words%n",
+                WORKERS, MONTHS, attendanceRows, words.size());
+        System.out.printf("[BENCHMARK] heap: rows %,d KB vs packed words %,d KB (%d bytes of payload)%n",
+                rowHeap / 1024, wordHeap / 1024, packed.length * Long.BYTES);
+    }
+
+    // Heap still held by the loaded structure (approximate: measured across a GC)
+    private static long retainedBytes(Supplier<Object> load) {
+        Runtime rt = Runtime.getRuntime();
+        System.gc();
+        long before = rt.totalMemory() - rt.freeMemory();
+        Object held = load.get();
+        System.gc();
+        long after = rt.totalMemory() - rt.freeMemory();
+        assertThat(held).isNotNull();
+        return Math.max(0, after - before);
+    }
+
+    private static <T> T time(String label, Supplier<T> work) {
+        T result = null;
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            result = work.get();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("[BENCHMARK] %-28s best of %d: %,8.2f ms%n", label, ROUNDS, best / 1_000_000.0);
+        return result;
+    }
+}
@@ -0,0 +1,139 @@
+package net.engineeringdigest.journalApp.benchmark;
+
+import net.engineeringdigest.journalApp.dto.BulkRequisitionResultDTO;
+import net.engineeringdigest.journalApp.dto.RequisitionLineDTO;
+import net.engineeringdigest.journalApp.model.InventoryItem;
+import net.engineeringdigest.journalApp.model.MaterialRequisition;
+import net.engineeringdigest.journalApp.model.Project;
+import net.engineeringdigest.journalApp.service.MaterialRequisitionService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ⏱️ Benchmark: a 40-line phase-start requisition, one POST per line vs one bulk POST.
+ * The per-line path looks up the user, project and item and inserts once per line; the bulk path
+ * runs three lookups for the whole batch and sends every insert as one JDBC batch
+ * (run with -Pbenchmark).
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+class BulkRequisitionBenchmark {
+
+    private static final int LINES = 40;
+    private static final int ROUNDS = 5;
+
+    @Autowired JdbcTemplate jdbc;
+    @Autowired EntityManager entityManager;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired MaterialRequisitionService requisitionService;
+
+    private List<Long> projectIds;
+    private List<Long> itemIds;
+
+    @BeforeEach
+    void seed() {
+        jdbc.update("INSERT INTO cities (name, is_active) VALUES ('Bench City', true)");
+        Long cityId = jdbc.queryForObject("SELECT MAX(id) FROM cities", Long.class);
+        for (int p = 0; p < 3; p++) {
+            jdbc.update("INSERT INTO projects (name, client_name, city_id, status, labour_count, start_date) " +
+                    "VALUES (?, 'Client', ?, 'RUNNING', 0, CURRENT_DATE)", "Bulk Site " + p, cityId);
+        }
+        projectIds = jdbc.queryForList("SELECT id FROM projects WHERE city_id = ? ORDER BY id", Long.class, cityId);
+        for (int i = 0; i < 10; i++) {
+            jdbc.update("INSERT INTO inventory_items (name, item_key, unit_of_measure, project_id, current_quantity, " +
+                    "minimum_stock_level) VALUES (?, ?, 'BAGS', ?, 0, 0)", "Stock " + i, "stock " + i, projectIds.get(0));
+        }
+        itemIds = jdbc.queryForList("SELECT id FROM inventory_items WHERE project_id = ?", Long.class, projectIds.get(0));
+        jdbc.update("INSERT INTO users (username, password_hash) VALUES ('bulk-bench', 'x')");
+    }
+
+    private List<RequisitionLineDTO> lines() {
+        List<RequisitionLineDTO> lines = new ArrayList<>(LINES);
+        for (int i = 0; i < LINES; i++) {
+            boolean stocked = i % 2 == 0;
+            lines.add(new RequisitionLineDTO(projectIds.get(i % projectIds.size()),
+                    stocked ? itemIds.get(i % itemIds.size()) : null, stocked ? null : "Custom " + i,
+                    10.0 + i, "BAGS", "NORMAL", null));
+        }
+        return lines;
+    }
+
+    private void submitOneByOne(List<RequisitionLineDTO> lines) {
+        for (RequisitionLineDTO line : lines) {
+            MaterialRequisition r = new MaterialRequisition();
+            Project project = new Project();
+            project.setId(line.projectId());
+            r.setProject(project);
+            if (line.inventoryItemId() != null) {
+                InventoryItem item = new InventoryItem();
+                item.setId(line.inventoryItemId());
+                r.setInventoryItem(item);
+            }
+            r.setCustomItemName(line.customItemName());
+            r.setQuantity(line.quantity());
+            r.setUnitOfMeasure(line.unitOfMeasure());
+            requisitionService.submit(r, "bulk-bench");
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    void bulkSubmission_replacesPerLineRoundTrips() {
+        List<RequisitionLineDTO> lines = lines();
+
+        long perLineStatements = statementsFor(() -> submitOneByOne(lines));
+        long bulkStatements = statementsFor(() -> requisitionService.submitBatch(lines, "bulk-bench"));
+        double perLineMs = time(() -> submitOneByOne(lines));
+        double bulkMs = time(() -> {
+            BulkRequisitionResultDTO result = requisitionService.submitBatch(lines, "bulk-bench");
+            assertThat(result.submitted()).isEqualTo(LINES);
+        });
+
+        System.out.printf("[BENCHMARK] %d lines | one POST per line | %3d JPA statements | %8.2f ms%n",
+                LINES, perLineStatements, perLineMs);
+        System.out.printf("[BENCHMARK] %d lines | bulk POST          | %3d JPA statements + 1 JDBC batch | %8.2f ms%n",
+                LINES, bulkStatements, bulkMs);
+
+        // User, projects and items are each fetched once, whatever the line count
+        assertThat(bulkStatements).isEqualTo(3);
+        // At least a lookup and an insert per line, even with the shared persistence context caching repeats
+        assertThat(perLineStatements).isGreaterThanOrEqualTo(2L * LINES);
+    }
+
+    private long statementsFor(Runnable call) {
+        entityManager.clear();
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        call.run();
+        return stats.getPrepareStatementCount();
+    }
+
+    private double time(Runnable call) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            entityManager.clear();
+            long start = System.nanoTime();
+            call.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        entityManager.clear();
+        return best / 1e6;
+    }
+}
@@ -0,0 +1,79 @@
+package net.engineeringdigest.journalApp.benchmark;
+
+import net.engineeringdigest.journalApp.model.Money;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ⏱️ Benchmark: summing 1M stored amounts — BigDecimal::add reduction vs paise in a long.
+ * Reports bytes allocated by the reducing thread and best-of-rounds time, and checks both
+ * totals agree to the paisa (run with -Pbenchmark).
+ */
+@Tag("benchmark")
+class MoneyAggregationBenchmark {
+
+    private static final int ROWS = 1_000_000;
+    private static final int ROUNDS = 5;
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void paiseSum_allocatesNothingPerRow_andAgreesToThePaisa() {
+        Random random = new Random(2024);
+        List<BigDecimal> amounts = new ArrayList<>(ROWS);
+        double[] rates = new double[ROWS];
+        double[] scopes = new double[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            // Requisition totals as read from NUMERIC(…, 2); a few nulls like unpriced requests
+            amounts.add(i % 97 == 0 ? null : BigDecimal.valueOf(random.nextInt(50_000_000), 2));
+            rates[i] = Math.round(random.nextDouble() * 500_000) / 100.0;
+            scopes[i] = Math.round(random.nextDouble() * 10_000) / 10.0;
+        }
+
+        Result<BigDecimal> bigDecimal = measure("BigDecimal::add", () -> amounts.stream()
+                .map(a -> a != null ? a : BigDecimal.ZERO)
+                .reduce(BigDecimal.ZERO, BigDecimal::add));
+        Result<Money> paise = measure("Money paise sum", () -> Money.ofPaise(amounts.stream()
+                .mapToLong(Money::toPaise)
+                .sum()));
+
+        assertThat(paise.value.toBigDecimal()).isEqualTo(bigDecimal.value.setScale(2, RoundingMode.HALF_UP));
+        assertThat(paise.bytesAllocated).isLessThan(bigDecimal.bytesAllocated / 10);
+
+        // BOQ value (scope × rate) keeps its double sum; Money rounds that total once, as the old output did
+        double boqValue = 0;
+        for (int i = 0; i < ROWS; i++) boqValue += scopes[i] * rates[i];
+        assertThat(Money.ofRupees(boqValue).toBigDecimal())
+                .isEqualTo(BigDecimal.valueOf(boqValue).setScale(2, RoundingMode.HALF_UP));
+    }
+
+    private record Result<T>(T value, long bytesAllocated, long bestMillis) {}
+
+    private <T> Result<T> measure(String label, Supplier<T> reduction) {
+        long threadId = Thread.currentThread().getId();
+        T value = null;
+        long bestNanos = Long.MAX_VALUE;
+        long bytes = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            value = reduction.get();
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+            bytes = threads.getThreadAllocatedBytes(threadId) - allocatedBefore; // last round: warmed up
+        }
+        System.out.printf("[BENCHMARK] %-30s %,d rows: %,d ms, %,d bytes allocated (%.1f B/row)%n",
+                label, ROWS, bestNanos / 1_000_000, bytes, (double) bytes / ROWS);
+        return new Result<>(value, bytes, bestNanos / 1_000_000);
+    }
+}
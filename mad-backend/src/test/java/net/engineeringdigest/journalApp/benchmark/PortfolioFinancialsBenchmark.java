@@ -0,0 +1,169 @@
+package net.engineeringdigest.journalApp.benchmark;
+
+import net.engineeringdigest.journalApp.dto.ProjectFinancialDTO;
+import net.engineeringdigest.journalApp.model.BillOfQuantity;
+import net.engineeringdigest.journalApp.model.Project;
+import net.engineeringdigest.journalApp.repository.BillOfQuantityRepository;
+import net.engineeringdigest.journalApp.repository.DailyAttendanceRollupRepository;
+import net.engineeringdigest.journalApp.repository.MaterialRequisitionRepository;
+import net.engineeringdigest.journalApp.repository.ProjectRepository;
+import net.engineeringdigest.journalApp.service.PortfolioFinancialService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ⏱️ Benchmark: portfolio financials — per-project N+1 loop vs four grouped aggregates.
+ * Checks the grouped path issues the same number of statements for 10 and 500 projects,
+ * then times both paths over the large portfolio (run with -Pbenchmark).
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(PortfolioFinancialService.class)
+@ActiveProfiles("test")
+class PortfolioFinancialsBenchmark {
+
+    private static final int SMALL = 10;
+    private static final int LARGE = 500;
+    private static final int ROUNDS = 5;
+
+    @Autowired JdbcTemplate jdbc;
+    @Autowired EntityManager entityManager;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired PortfolioFinancialService portfolioFinancialService;
+    @Autowired ProjectRepository projectRepository;
+    @Autowired BillOfQuantityRepository boqRepository;
+    @Autowired MaterialRequisitionRepository requisitionRepository;
+    @Autowired DailyAttendanceRollupRepository rollupRepository;
+
+    private Long cityId;
+    private Long userId;
+    private int seeded;
+
+    @BeforeEach
+    void seedReferenceData() {
+        jdbc.update("INSERT INTO cities (name, is_active) VALUES ('Bench City', true)");
+        cityId = jdbc.queryForObject("SELECT id FROM cities", Long.class);
+        jdbc.update("INSERT INTO users (username, password_hash) VALUES ('bench', 'x')");
+        userId = jdbc.queryForObject("SELECT id FROM users WHERE username = 'bench'", Long.class);
+    }
+
+    // Each project gets 3 BOQ lines, 3 requisitions (one not yet counted as spend) and 2 rollup days
+    private void seedProjects(int upTo) {
+        List<Object[]> projects = new ArrayList<>();
+        for (int i = seeded; i < upTo; i++) {
+            projects.add(new Object[]{"Project " + i, "Client " + i, cityId, "RUNNING", Date.valueOf(LocalDate.now())});
+        }
+        jdbc.batchUpdate("INSERT INTO projects (name, client_name, city_id, status, labour_count, start_date) " +
+                "VALUES (?, ?, ?, ?, 0, ?)", projects);
+        List<Long> ids = jdbc.queryForList("SELECT id FROM projects ORDER BY id", Long.class).subList(seeded, upTo);
+
+        List<Object[]> boqs = new ArrayList<>();
+        List<Object[]> requisitions = new ArrayList<>();
+        List<Object[]> rollups = new ArrayList<>();
+        for (Long id : ids) {
+            for (int b = 1; b <= 3; b++) {
+                boqs.add(new Object[]{id, "Item " + b, 100.0 * b, 50.0 + b, 40.0 * b});
+            }
+            requisitions.add(new Object[]{id, userId, "RECEIVED", new BigDecimal("1500.00")});
+            requisitions.add(new Object[]{id, userId, "DISPATCHED", new BigDecimal("700.50")});
+            requisitions.add(new Object[]{id, userId, "PENDING", new BigDecimal("999.00")});
+            for (int d = 0; d < 2; d++) {
+                rollups.add(new Object[]{Date.valueOf(LocalDate.now().minusDays(d)), id, new BigDecimal("4200.00")});
+            }
+        }
+        jdbc.batchUpdate("INSERT INTO bill_of_quantities (project_id, item_name, total_scope, rate, completed_scope, " +
+                "material_required_per_unit, total_material_used, gst_rate) VALUES (?, ?, ?, ?, ?, 0, 0, 18)", boqs);
+        jdbc.batchUpdate("INSERT INTO material_requisitions (project_id, requester_id, quantity, status, total_cost) " +
+                "VALUES (?, ?, 1, ?, ?)", requisitions);
+        jdbc.batchUpdate("INSERT INTO daily_attendance_rollup (work_date, project_id, present_count, half_day_count, " +
+                "absent_count, man_days, wage_cost) VALUES (?, ?, 5, 0, 0, 5, ?)", rollups);
+        seeded = upTo;
+    }
+
+    @Test
+    void portfolioFinancials_constantQueryCount_andFasterThanPerProjectLoop() {
+        seedProjects(SMALL);
+        long smallStatements = statementsFor(portfolioFinancialService::computeAll);
+        seedProjects(LARGE);
+        long largeStatements = statementsFor(portfolioFinancialService::computeAll);
+
+        System.out.printf("[BENCHMARK] grouped path statements: %d for %,d projects, %d for %,d projects%n",
+                smallStatements, SMALL, largeStatements, LARGE);
+        assertThat(largeStatements).isEqualTo(smallStatements).isEqualTo(4);
+
+        List<ProjectFinancialDTO> legacy = time("legacy per-project loop", this::legacyAllFinancials);
+        List<ProjectFinancialDTO> grouped = time("grouped aggregates", portfolioFinancialService::computeAll);
+
+        assertThat(normalize(grouped)).isEqualTo(normalize(legacy));
+    }
+
+    // The pre-engine ProjectService.getAllFinancials(): findAll, then ~4 queries per project
+    private List<ProjectFinancialDTO> legacyAllFinancials() {
+        return projectRepository.findAll().stream().map(p -> {
+            Project project = projectRepository.findById(p.getId()).orElseThrow();
+            List<BillOfQuantity> boqs = boqRepository.findByProject(project);
+            BigDecimal material = requisitionRepository.findByProject(project).stream()
+                    .filter(r -> PortfolioFinancialService.MATERIAL_SPEND_STATUSES.contains(r.getStatus()))
+                    .map(r -> r.getTotalCost() != null ? r.getTotalCost() : BigDecimal.ZERO)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            return PortfolioFinancialService.assemble(project.getId(), project.getName(),
+                    boqs.stream().mapToDouble(b -> b.getTotalScope() * b.getRate()).sum(),
+                    boqs.stream().mapToDouble(BillOfQuantity::getCurrentBillValue).sum(),
+                    material, rollupRepository.sumWageCostByProjectId(project.getId()));
+        }).collect(Collectors.toList());
+    }
+
+    private long statementsFor(Runnable work) {
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManager.clear();
+        stats.clear();
+        work.run();
+        return stats.getPrepareStatementCount();
+    }
+
+    private <T> T time(String label, Supplier<T> work) {
+        T result = null;
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            entityManager.clear(); // every round starts cold, like a fresh request
+            long start = System.nanoTime();
+            result = work.get();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("[BENCHMARK] %-32s best of %d over %,d projects: %,d ms%n",
+                label, ROUNDS, LARGE, best / 1_000_000);
+        return result;
+    }
+
+    private static List<String> normalize(List<ProjectFinancialDTO> rows) {
+        return rows.stream()
+                .sorted(Comparator.comparing(ProjectFinancialDTO::getProjectId))
+                .map(r -> r.getProjectId() + ":" + r.getTotalBudget().stripTrailingZeros()
+                        + ":" + r.getWorkDoneValue().stripTrailingZeros()
+                        + ":" + r.getMaterialExpense().stripTrailingZeros()
+                        + ":" + r.getLabourExpense().stripTrailingZeros()
+                        + ":" + Math.round(r.getHealthScore() * 100))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,157 @@
+package net.engineeringdigest.journalApp.benchmark;
+
+import net.engineeringdigest.journalApp.dto.ProductivityDTO;
+import net.engineeringdigest.journalApp.repository.BillOfQuantityRepository;
+import net.engineeringdigest.journalApp.repository.DailyAttendanceRollupRepository;
+import net.engineeringdigest.journalApp.repository.MaterialRequisitionRepository;
+import net.engineeringdigest.journalApp.repository.ProjectRepository;
+import net.engineeringdigest.journalApp.service.ProductivityAnalyticsService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ⏱️ Benchmark: portfolio productivity — sequential vs fork-join fan-out, short vs 10x history.
+ * The report reads pre-aggregated data only, so its statement count is fixed and its
+ * time should stay flat as attendance history grows (run with -Pbenchmark).
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class ProductivityAnalyticsBenchmark {
+
+    private static final int PROJECTS = 2_000;
+    private static final int SHORT_HISTORY_DAYS = 10;
+    private static final int LONG_HISTORY_DAYS = 100;
+    private static final int ROUNDS = 5;
+
+    @Autowired JdbcTemplate jdbc;
+    @Autowired EntityManager entityManager;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired ProjectRepository projectRepository;
+    @Autowired BillOfQuantityRepository boqRepository;
+    @Autowired MaterialRequisitionRepository requisitionRepository;
+    @Autowired DailyAttendanceRollupRepository rollupRepository;
+
+    private final ForkJoinPool pool = new ForkJoinPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+    private List<Long> projectIds;
+    private int historyDays;
+
+    @BeforeEach
+    void seed() {
+        jdbc.update("INSERT INTO cities (name, is_active) VALUES ('Bench City', true)");
+        Long cityId = jdbc.queryForObject("SELECT id FROM cities", Long.class);
+        jdbc.update("INSERT INTO users (username, password_hash) VALUES ('bench', 'x')");
+        Long userId = jdbc.queryForObject("SELECT id FROM users WHERE username = 'bench'", Long.class);
+
+        List<Object[]> projects = new ArrayList<>(PROJECTS);
+        for (int i = 0; i < PROJECTS; i++) {
+            projects.add(new Object[]{"Project " + i, "Client " + i, cityId, "RUNNING", Date.valueOf(LocalDate.now().minusDays(200))});
+        }
+        jdbc.batchUpdate("INSERT INTO projects (name, client_name, city_id, status, labour_count, start_date) " +
+                "VALUES (?, ?, ?, ?, 0, ?)", projects);
+        projectIds = jdbc.queryForList("SELECT id FROM projects ORDER BY id", Long.class);
+
+        List<Object[]> boqs = new ArrayList<>();
+        List<Object[]> requisitions = new ArrayList<>();
+        for (Long id : projectIds) {
+            for (int b = 1; b <= 3; b++) {
+                boqs.add(new Object[]{id, "Item " + b, 100.0 * b, 50.0 + b, 40.0 * b});
+            }
+            requisitions.add(new Object[]{id, userId, "RECEIVED", new BigDecimal("1500.00")});
+            requisitions.add(new Object[]{id, userId, "REJECTED", new BigDecimal("999.00")});
+        }
+        jdbc.batchUpdate("INSERT INTO bill_of_quantities (project_id, item_name, total_scope, rate, completed_scope, " +
+                "material_required_per_unit, total_material_used, gst_rate) VALUES (?, ?, ?, ?, ?, 0, 0, 18)", boqs);
+        jdbc.batchUpdate("INSERT INTO material_requisitions (project_id, requester_id, quantity, status, total_cost) " +
+                "VALUES (?, ?, 1, ?, ?)", requisitions);
+        extendHistory(SHORT_HISTORY_DAYS);
+    }
+
+    @AfterEach
+    void shutdownPool() {
+        pool.shutdown();
+    }
+
+    // One rollup row per project per day, going further back in time
+    private void extendHistory(int toDays) {
+        List<Object[]> rollups = new ArrayList<>();
+        for (int d = historyDays; d < toDays; d++) {
+            Date day = Date.valueOf(LocalDate.now().minusDays(d));
+            for (Long id : projectIds) {
+                rollups.add(new Object[]{day, id});
+            }
+        }
+        jdbc.batchUpdate("INSERT INTO daily_attendance_rollup (work_date, project_id, present_count, half_day_count, " +
+                "absent_count, man_days, wage_cost) VALUES (?, ?, 4, 2, 0, 5, 4000)", rollups);
+        historyDays = toDays;
+    }
+
+    private ProductivityAnalyticsService service(int parallelThreshold) {
+        return new ProductivityAnalyticsService(projectRepository, boqRepository, requisitionRepository,
+                rollupRepository, pool, parallelThreshold);
+    }
+
+    @Test
+    void productivity_fixedStatements_flatWithHistory_parallelMatchesSequential() {
+        ProductivityAnalyticsService sequential = service(Integer.MAX_VALUE);
+        ProductivityAnalyticsService parallel = service(0);
+
+        long shortStatements = statementsFor(sequential::computeAll);
+        List<ProductivityDTO> expected = time("sequential, " + SHORT_HISTORY_DAYS + "-day history", sequential::computeAll);
+        List<ProductivityDTO> fanned = time("fork-join, " + SHORT_HISTORY_DAYS + "-day history", parallel::computeAll);
+        assertThat(fanned).isEqualTo(expected);
+
+        extendHistory(LONG_HISTORY_DAYS);
+        long longStatements = statementsFor(parallel::computeAll);
+        List<ProductivityDTO> longRun = time("fork-join, " + LONG_HISTORY_DAYS + "-day history", parallel::computeAll);
+
+        System.out.printf("[BENCHMARK] productivity statements: %d (%d-day history), %d (%d-day history)%n",
+                shortStatements, SHORT_HISTORY_DAYS, longStatements, LONG_HISTORY_DAYS);
+        assertThat(longStatements).isEqualTo(shortStatements).isEqualTo(4);
+        assertThat(longRun).hasSize(PROJECTS);
+        assertThat(longRun.get(0).getTotalManDays()).isEqualTo(5L * LONG_HISTORY_DAYS);
+        assertThat(longRun.get(0).getMaterialWastageRatio().doubleValue()).isEqualTo(1500.0 / (100 * 51 + 200 * 52 + 300 * 53));
+    }
+
+    private long statementsFor(Runnable work) {
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManager.clear();
+        stats.clear();
+        work.run();
+        return stats.getPrepareStatementCount();
+    }
+
+    private <T> T time(String label, Supplier<T> work) {
+        T result = null;
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            entityManager.clear(); // every round starts cold, like a fresh request
+            long start = System.nanoTime();
+            result = work.get();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("[BENCHMARK] %-32s best of %d over %,d projects: %,d ms%n",
+                label, ROUNDS, PROJECTS, best / 1_000_000);
+        return result;
+    }
+}
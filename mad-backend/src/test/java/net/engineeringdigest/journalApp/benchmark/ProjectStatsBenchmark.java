@@ -0,0 +1,118 @@
+package net.engineeringdigest.journalApp.benchmark;
+
+import net.engineeringdigest.journalApp.dto.StatusCount;
+import net.engineeringdigest.journalApp.model.CityStats;
+import net.engineeringdigest.journalApp.model.Project;
+import net.engineeringdigest.journalApp.model.ProjectStatus;
+import net.engineeringdigest.journalApp.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import jakarta.persistence.EntityManager;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ⏱️ Benchmark: city/status statistics — Java-side grouping vs SQL GROUP BY projections.
+ * Seeds 50k projects across 20 cities in H2 and times both paths (run with -Pbenchmark).
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+class ProjectStatsBenchmark {
+
+    private static final int PROJECTS = 50_000;
+    private static final int CITIES = 20;
+    private static final int ROUNDS = 5;
+
+    @Autowired JdbcTemplate jdbc;
+    @Autowired ProjectRepository projectRepository;
+    @Autowired EntityManager entityManager;
+
+    @BeforeEach
+    void seed() {
+        List<Object[]> cities = new ArrayList<>();
+        for (int c = 1; c <= CITIES; c++) {
+            cities.add(new Object[]{"Bench City " + c, true});
+        }
+        jdbc.batchUpdate("INSERT INTO cities (name, is_active) VALUES (?, ?)", cities);
+        List<Long> cityIds = jdbc.queryForList("SELECT id FROM cities", Long.class);
+
+        ProjectStatus[] statuses = ProjectStatus.values();
+        List<Object[]> projects = new ArrayList<>(PROJECTS);
+        for (int i = 0; i < PROJECTS; i++) {
+            projects.add(new Object[]{"Project " + i, "Client " + i, cityIds.get(i % cityIds.size()),
+                    statuses[i % statuses.length].name(), i % 20, Date.valueOf(LocalDate.now())});
+        }
+        jdbc.batchUpdate("INSERT INTO projects (name, client_name, city_id, status, labour_count, start_date) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", projects);
+    }
+
+    @Test
+    void cityAndStatusStats_sqlProjectionVsJavaGrouping() {
+        List<CityStats> legacy = time("legacy findAll + groupingBy", this::legacyCityStats);
+        List<CityStats> projected = time("SQL GROUP BY projection", projectRepository::findCityStats);
+
+        assertThat(normalize(projected)).isEqualTo(normalize(legacy));
+
+        Map<String, Long> legacyDist = time("legacy status distribution", this::legacyStatusDistribution);
+        Map<String, Long> projectedDist = time("SQL status distribution", () ->
+                projectRepository.countGroupedByStatus().stream()
+                        .collect(Collectors.toMap(r -> r.getStatus().toString(), StatusCount::getTotal)));
+
+        assertThat(projectedDist).isEqualTo(legacyDist);
+    }
+
+    // The pre-aggregation implementation of ProjectService.getProjectStats()
+    private List<CityStats> legacyCityStats() {
+        return projectRepository.findAll().stream()
+                .filter(p -> p.getCity() != null)
+                .collect(Collectors.groupingBy(p -> p.getCity().getName()))
+                .entrySet().stream()
+                .map(e -> new CityStats(e.getKey(), e.getValue().size(),
+                        e.getValue().stream().filter(p -> p.getStatus() == ProjectStatus.RUNNING).count(),
+                        e.getValue().stream().filter(p -> p.getStatus() == ProjectStatus.COMPLETED).count()))
+                .collect(Collectors.toList());
+    }
+
+    private Map<String, Long> legacyStatusDistribution() {
+        return projectRepository.findAll().stream()
+                .map(Project::getStatus)
+                .filter(s -> s != null)
+                .collect(Collectors.groupingBy(Enum::toString, Collectors.counting()));
+    }
+
+    private <T> T time(String label, Supplier<T> work) {
+        T result = null;
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            entityManager.clear(); // every round starts cold, like a fresh request
+            long start = System.nanoTime();
+            result = work.get();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("[BENCHMARK] %-32s best of %d over %,d projects: %,d ms%n",
+                label, ROUNDS, PROJECTS, best / 1_000_000);
+        return result;
+    }
+
+    private static List<String> normalize(List<CityStats> stats) {
+        return stats.stream()
+                .sorted(Comparator.comparing(CityStats::getCity))
+                .map(s -> s.getCity() + ":" + s.getTotalProjects() + ":" + s.getRunningCount() + ":" + s.getCompletedCount())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,172 @@
+package net.engineeringdigest.journalApp.benchmark;
+
+import net.engineeringdigest.journalApp.repository.AttendanceRepository;
+import net.engineeringdigest.journalApp.service.export.ExportFormat;
+import net.engineeringdigest.journalApp.service.export.ReportExportService;
+import net.engineeringdigest.journalApp.service.export.ReportType;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.io.OutputStream;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ⏱️ Benchmark: attendance export at 10x the row count.
+ * Rows are streamed as flat projections, so the export runs one statement and loads no entities.
+ * Retained heap is sampled halfway through the export and compared with draining the same rows
+ * through a bare JDBC cursor: embedded H2 buffers its sorted result inside the test JVM, so only
+ * the difference is the export's own footprint, which should not grow with the row count
+ * (run with -Pbenchmark).
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class ReportExportBenchmark {
+
+    private static final int PROJECTS = 20;
+    private static final int WORKERS = 2_000;
+    private static final int SMALL_DAYS = 10;   // 20k rows
+    private static final int LARGE_DAYS = 100;  // 200k rows
+    private static final String RAW_QUERY = "SELECT a.date, p.name, l.name, l.type, a.status, l.daily_wage " +
+            "FROM attendance a JOIN projects p ON p.id = a.project_id JOIN labour l ON l.id = a.labour_id " +
+            "WHERE a.date BETWEEN ? AND ? ORDER BY a.date";
+
+    @Autowired JdbcTemplate jdbc;
+    @Autowired EntityManager entityManager;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired AttendanceRepository attendanceRepository;
+
+    private ReportExportService exportService;
+    private List<Object[]> workers; // {labourId, projectId}
+
+    @BeforeEach
+    void seed() {
+        jdbc.update("INSERT INTO cities (name, is_active) VALUES ('Bench City', true)");
+        Long cityId = jdbc.queryForObject("SELECT id FROM cities", Long.class);
+        List<Object[]> projects = new ArrayList<>(PROJECTS);
+        for (int p = 0; p < PROJECTS; p++) {
+            projects.add(new Object[]{"Site " + p, cityId, Date.valueOf(LocalDate.now().minusDays(200))});
+        }
+        jdbc.batchUpdate("INSERT INTO projects (name, client_name, city_id, status, labour_count, start_date) " +
+                "VALUES (?, 'Client', ?, 'RUNNING', 0, ?)", projects);
+        List<Long> projectIds = jdbc.queryForList("SELECT id FROM projects ORDER BY id", Long.class);
+
+        List<Object[]> labour = new ArrayList<>(WORKERS);
+        for (int i = 0; i < WORKERS; i++) {
+            labour.add(new Object[]{"Worker " + i, i % 2 == 0 ? "Mason" : "Helper", 600.0 + i % 7 * 50,
+                    projectIds.get(i % PROJECTS)});
+        }
+        jdbc.batchUpdate("INSERT INTO labour (name, type, daily_wage, project_id, is_active) VALUES (?, ?, ?, ?, true)", labour);
+        workers = jdbc.query("SELECT id, project_id FROM labour ORDER BY id",
+                (rs, i) -> new Object[]{rs.getLong(1), rs.getLong(2)});
+
+        exportService = new ReportExportService(null, null, null, null, attendanceRepository, null, null);
+    }
+
+    private void seedDays(int fromDay, int toDay) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int d = fromDay; d < toDay; d++) {
+            Date day = Date.valueOf(LocalDate.now().minusDays(d));
+            for (int i = 0; i < workers.size(); i++) {
+                rows.add(new Object[]{workers.get(i)[0], workers.get(i)[1], day, i % 10 == 0 ? "ABSENT" : "PRESENT"});
+            }
+        }
+        jdbc.batchUpdate("INSERT INTO attendance (labour_id, project_id, date, status) VALUES (?, ?, ?, ?)", rows);
+    }
+
+    @Test
+    void attendanceExport_oneStatement_noEntities_flatHeap() throws Exception {
+        seedDays(0, SMALL_DAYS);
+        Run small = run(SMALL_DAYS);
+        seedDays(SMALL_DAYS, LARGE_DAYS);
+        Run large = run(LARGE_DAYS);
+
+        assertThat(small.rows).isEqualTo((long) WORKERS * SMALL_DAYS);
+        assertThat(large.rows).isEqualTo((long) WORKERS * LARGE_DAYS);
+        assertThat(large.statements).isEqualTo(1);
+        assertThat(large.entitiesLoaded).isZero();
+
+        for (Run r : List.of(small, large)) {
+            System.out.printf("[BENCHMARK] export %,d rows: %d ms, %,d bytes, retained mid-export %+,d KB " +
+                            "(bare JDBC cursor %+,d KB, export overhead %+,d KB)%n",
+                    r.rows, r.millis, r.bytes, r.retained / 1024, r.cursorRetained / 1024,
+                    (r.retained - r.cursorRetained) / 1024);
+        }
+    }
+
+    private record Run(long rows, long millis, long bytes, long statements, long entitiesLoaded,
+                       long retained, long cursorRetained) {}
+
+    private Run run(int days) throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+
+        LocalDate from = LocalDate.now().minusDays(days - 1);
+        long expectedRows = (long) WORKERS * days;
+        long[] seen = {0, 0};
+        long cursorBaseline = usedAfterGc();
+        jdbc.query(RAW_QUERY, rs -> {
+            if (++seen[0] == expectedRows / 2) seen[1] = usedAfterGc();
+        }, Date.valueOf(from), Date.valueOf(LocalDate.now()));
+
+        long baseline = usedAfterGc();
+        // Sample what the export retains halfway through (~51 bytes per CSV row)
+        CountingStream out = new CountingStream(expectedRows * 26);
+        long start = System.nanoTime();
+        long rows = exportService.export(ReportType.ATTENDANCE, ExportFormat.CSV, from, LocalDate.now(), out);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        return new Run(rows, millis, out.count, stats.getPrepareStatementCount(), stats.getEntityLoadCount(),
+                out.retainedAtCheckpoint - baseline, seen[1] - cursorBaseline);
+    }
+
+    private static long usedAfterGc() {
+        Runtime rt = Runtime.getRuntime();
+        System.gc();
+        return rt.totalMemory() - rt.freeMemory();
+    }
+
+    // Discards output like a client socket draining the response; samples retained heap once at the checkpoint
+    private static class CountingStream extends OutputStream {
+        private final long checkpoint;
+        long count;
+        long retainedAtCheckpoint;
+
+        CountingStream(long checkpoint) {
+            this.checkpoint = checkpoint;
+        }
+
+        @Override
+        public void write(int b) {
+            advance(1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            advance(len);
+        }
+
+        private void advance(long len) {
+            if (count < checkpoint && count + len >= checkpoint) {
+                retainedAtCheckpoint = usedAfterGc();
+            }
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package net.engineeringdigest.journalApp.benchmark;
+
+import net.engineeringdigest.journalApp.dto.RequisitionListItemDTO;
+import net.engineeringdigest.journalApp.repository.MaterialRequisitionRepository;
+import net.engineeringdigest.journalApp.repository.RequisitionSearchRepository.Criteria;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ⏱️ Benchmark: requisition listing at 10k and 100k rows.
+ * The old screen loaded every requisition entity; keyset pages cost one index range scan,
+ * so the first page and a page 90% deep should take about the same time at both sizes
+ * (run with -Pbenchmark).
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class RequisitionListingBenchmark {
+
+    private static final int SMALL = 10_000;
+    private static final int LARGE = 100_000;
+    private static final int PAGE = 50;
+    private static final int ROUNDS = 5;
+    private static final String[] STATUSES = {"PENDING", "APPROVED", "DISPATCHED", "RECEIVED", "REJECTED"};
+
+    @Autowired JdbcTemplate jdbc;
+    @Autowired EntityManager entityManager;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired MaterialRequisitionRepository requisitionRepository;
+
+    private final LocalDateTime base = LocalDateTime.of(2020, 1, 1, 0, 0);
+    private Long projectId;
+    private Long userId;
+    private int seeded;
+
+    @BeforeEach
+    void seed() {
+        jdbc.update("INSERT INTO cities (name, is_active) VALUES ('Bench City', true)");
+        Long cityId = jdbc.queryForObject("SELECT id FROM cities", Long.class);
+        jdbc.update("INSERT INTO projects (name, client_name, city_id, status, labour_count, start_date) " +
+                "VALUES ('Listing Site', 'Client', ?, 'RUNNING', 0, CURRENT_DATE)", cityId);
+        projectId = jdbc.queryForObject("SELECT id FROM projects", Long.class);
+        jdbc.update("INSERT INTO users (username, password_hash) VALUES ('bench', 'x')");
+        userId = jdbc.queryForObject("SELECT id FROM users", Long.class);
+    }
+
+    // One requisition per minute, oldest first
+    private void seedUpTo(int total) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = seeded; i < total; i++) {
+            rows.add(new Object[]{projectId, userId, "Item " + i, STATUSES[i % STATUSES.length],
+                    Timestamp.valueOf(base.plusMinutes(i))});
+        }
+        jdbc.batchUpdate("INSERT INTO material_requisitions (project_id, requester_id, custom_item_name, quantity, " +
+                "status, urgency, payment_status, received_quantity, created_at) " +
+                "VALUES (?, ?, ?, 1, ?, 'NORMAL', 'UNPAID', 0, ?)", rows);
+        jdbc.execute("ANALYZE");
+        seeded = total;
+    }
+
+    @Test
+    void keysetPages_stayFlat_whileFullListGrows() {
+        Criteria all = new Criteria(null, null, null, null, null, null);
+        Criteria pending = new Criteria(List.of("PENDING"), null, null, null, null, null);
+
+        for (int size : new int[]{SMALL, LARGE}) {
+            seedUpTo(size);
+            // Seek key 90% of the way down the newest-first listing
+            LocalDateTime deepAt = base.plusMinutes(size / 10);
+            Long deepId = jdbc.queryForObject("SELECT id FROM material_requisitions WHERE created_at = ?",
+                    Long.class, Timestamp.valueOf(deepAt));
+
+            time(size, "findAll (old /all)", () -> requisitionRepository.findAll().size());
+            time(size, "keyset first page", () -> requisitionRepository.searchPage(all, null, null, PAGE + 1).size());
+            List<RequisitionListItemDTO> deep = time(size, "keyset page 90% deep",
+                    () -> requisitionRepository.searchPage(all, deepAt, deepId, PAGE + 1));
+            time(size, "keyset PENDING 90% deep",
+                    () -> requisitionRepository.searchPage(pending, deepAt, deepId, PAGE + 1).size());
+
+            assertThat(deep).hasSize(PAGE + 1);
+            assertThat(deep.get(0).getCreatedAt()).isBefore(deepAt);
+            assertThat(statementsFor(() -> requisitionRepository.searchPage(all, deepAt, deepId, PAGE + 1))).isEqualTo(1);
+        }
+    }
+
+    private <T> T time(int size, String label, Supplier<T> call) {
+        T result = null;
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            entityManager.clear();
+            long start = System.nanoTime();
+            result = call.get();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        entityManager.clear();
+        System.out.printf("[BENCHMARK] %,7d rows | %-24s | %8.2f ms%n", size, label, best / 1e6);
+        return result;
+    }
+
+    private long statementsFor(Runnable call) {
+        entityManager.clear();
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        call.run();
+        return stats.getPrepareStatementCount();
+    }
+}
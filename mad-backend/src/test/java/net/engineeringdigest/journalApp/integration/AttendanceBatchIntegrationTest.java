@@ -0,0 +1,195 @@
+package net.engineeringdigest.journalApp.integration;
+
+import net.engineeringdigest.journalApp.dto.AttendanceBatchResultDTO;
+import net.engineeringdigest.journalApp.dto.AttendanceBatchResultDTO.RecordResult;
+import net.engineeringdigest.journalApp.exception.BusinessRuleException;
+import net.engineeringdigest.journalApp.model.City;
+import net.engineeringdigest.journalApp.model.Labour;
+import net.engineeringdigest.journalApp.model.Project;
+import net.engineeringdigest.journalApp.model.ProjectStatus;
+import net.engineeringdigest.journalApp.repository.CityRepository;
+import net.engineeringdigest.journalApp.repository.DailyAttendanceRollupRepository;
+import net.engineeringdigest.journalApp.repository.LabourRepository;
+import net.engineeringdigest.journalApp.repository.ProjectRepository;
+import net.engineeringdigest.journalApp.service.AttendanceBatchService;
+import net.engineeringdigest.journalApp.service.AttendanceRollupService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 🧪 Bulk Attendance Integration
+ * A crew is marked in a fixed number of statements, bad records are rejected one by one without
+ * failing the batch, the cross-site rule sees earlier records of the same batch, and the daily
+ * rollup ends up where a full rebuild would put it.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(SqlStatementCounter.Config.class)
+@Transactional
+class AttendanceBatchIntegrationTest {
+
+    private static final int CREW = 200;
+
+    @Autowired JdbcTemplate jdbc;
+    @Autowired EntityManager entityManager;
+    @Autowired CityRepository cityRepo;
+    @Autowired ProjectRepository projectRepo;
+    @Autowired LabourRepository labourRepo;
+    @Autowired DailyAttendanceRollupRepository rollupRepo;
+    @Autowired AttendanceBatchService batchService;
+    @Autowired AttendanceRollupService rollupService;
+
+    private City city;
+    private Project tower;
+    private Project villa;
+
+    @BeforeEach
+    void seedTestData() {
+        city = new City();
+        city.setName("Batch City");
+        city = cityRepo.save(city);
+        tower = project("Batch Tower", ProjectStatus.RUNNING);
+        villa = project("Batch Villa", ProjectStatus.RUNNING);
+    }
+
+    private Project project(String name, ProjectStatus status) {
+        Project p = new Project();
+        p.setName(name);
+        p.setClientName("Client");
+        p.setCity(city);
+        p.setStatus(status);
+        p.setStartDate(LocalDate.now().minusDays(5));
+        return projectRepo.save(p);
+    }
+
+    private Labour worker(String name, Project project) {
+        Labour l = new Labour();
+        l.setName(name);
+        l.setDailyWage(600.0);
+        l.setProject(project);
+        return labourRepo.save(l);
+    }
+
+    private static Map<String, Object> record(Object labourId, Object projectId, String status) {
+        Map<String, Object> r = new HashMap<>();
+        r.put("labourId", labourId);
+        r.put("projectId", projectId);
+        r.put("status", status);
+        return r;
+    }
+
+    private int attendanceRows(Project project) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM attendance WHERE project_id = ? AND date = ?",
+                Integer.class, project.getId(), LocalDate.now());
+    }
+
+    @Test
+    void markingACrew_takesAFixedNumberOfStatements_andMatchesARebuild() {
+        List<Map<String, Object>> records = new ArrayList<>();
+        for (int i = 0; i < CREW; i++) {
+            records.add(record(worker("Crew " + i, tower).getId(), tower.getId(), i % 2 == 0 ? "PRESENT" : "HALF_DAY"));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        SqlStatementCounter.reset();
+        AttendanceBatchResultDTO result = batchService.markAttendance(records);
+        int statements = SqlStatementCounter.count();
+        System.out.printf("[BENCHMARK] attendance for %d workers | %d JPA statements + JDBC batches%n", CREW, statements);
+
+        // Workers, projects, day loads, rollup upsert
+        assertThat(statements).isLessThanOrEqualTo(5);
+        assertThat(result.marked()).isEqualTo(CREW);
+        assertThat(result.records()).allSatisfy(r -> assertThat(r.attendanceId()).isNotNull());
+        assertThat(attendanceRows(tower)).isEqualTo(CREW);
+        assertThat(rollupRepo.sumManDaysByProjectId(tower.getId())).isEqualTo(150.0);
+
+        // Re-marking the same crew updates the rows instead of adding a second day
+        records.forEach(r -> r.put("status", "PRESENT"));
+        assertThat(batchService.markAttendance(records).marked()).isEqualTo(CREW);
+        assertThat(attendanceRows(tower)).isEqualTo(CREW);
+        assertThat(rollupRepo.sumManDaysByProjectId(tower.getId())).isEqualTo(200.0);
+        assertThat(rollupRepo.sumWageCostByProjectId(tower.getId())).isEqualByComparingTo("120000");
+
+        rollupService.rebuild();
+        assertThat(rollupRepo.sumManDaysByProjectId(tower.getId())).isEqualTo(200.0);
+        assertThat(rollupRepo.sumWageCostByProjectId(tower.getId())).isEqualByComparingTo("120000");
+    }
+
+    @Test
+    void badRecords_areRejectedOneByOne_andTheRestIsMarked() {
+        Labour ok = worker("Batch Ok", tower);
+        Project finalized = project("Batch Finalized", ProjectStatus.INVOICED);
+
+        AttendanceBatchResultDTO result = batchService.markAttendance(List.of(
+                record(ok.getId(), tower.getId(), "present"),
+                record(999_999L, tower.getId(), "PRESENT"),
+                record(ok.getId(), 999_999L, "PRESENT"),
+                record(ok.getId(), finalized.getId(), "ABSENT"),
+                record(ok.getId(), tower.getId(), "ON_LEAVE"),
+                record("not-a-number", tower.getId(), "PRESENT")));
+
+        assertThat(result.marked()).isEqualTo(1);
+        assertThat(result.rejected()).isEqualTo(5);
+        assertThat(result.records()).extracting(RecordResult::errorCode).containsExactly(
+                null, "ERR_LABOUR_NOT_FOUND", "ERR_PROJECT_NOT_FOUND", "ERR_PROJECT_FINALIZED",
+                "ERR_VALIDATION_FAILED", "ERR_VALIDATION_FAILED");
+        assertThat(jdbc.queryForObject("SELECT status FROM attendance WHERE id = ?", String.class,
+                result.records().get(0).attendanceId())).isEqualTo("PRESENT");
+        assertThat(batchService.markAttendance(List.of()).records()).isEmpty();
+    }
+
+    @Test
+    void crossSiteRule_seesEarlierRecordsAndEarlierBatches() {
+        // The same person on two sites' rosters
+        Labour atTower = worker("Ramesh Kumar", tower);
+        Labour atVilla = worker("RAMESH KUMAR", villa);
+
+        AttendanceBatchResultDTO first = batchService.markAttendance(List.of(
+                record(atTower.getId(), tower.getId(), "HALF_DAY"),
+                record(atVilla.getId(), villa.getId(), "HALF_DAY"),
+                record(atVilla.getId(), villa.getId(), "PRESENT")));
+        assertThat(first.records()).extracting(RecordResult::status).containsExactly("MARKED", "MARKED", "REJECTED");
+        assertThat(first.records().get(2).message())
+                .isEqualTo("Conflict: 'RAMESH KUMAR' is already working 0.5 day(s) at another site today.");
+
+        AttendanceBatchResultDTO second = batchService.markAttendance(List.of(
+                record(atTower.getId(), tower.getId(), "PRESENT"),
+                record(atVilla.getId(), villa.getId(), "ABSENT"),
+                record(atTower.getId(), tower.getId(), "PRESENT")));
+        // Villa's half day is still on the books when the first record is checked
+        assertThat(second.records()).extracting(RecordResult::errorCode)
+                .containsExactly("ERR_ATTENDANCE_CONFLICT", null, null);
+        assertThat(attendanceRows(tower)).isEqualTo(1);
+        assertThat(attendanceRows(villa)).isEqualTo(1);
+        assertThat(rollupRepo.sumManDaysByProjectId(tower.getId()) + rollupRepo.sumManDaysByProjectId(villa.getId()))
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void oversizedBatch_isRefusedWhole() {
+        List<Map<String, Object>> records = new ArrayList<>();
+        for (int i = 0; i <= AttendanceBatchService.MAX_BATCH_RECORDS; i++) {
+            records.add(record(1L, tower.getId(), "PRESENT"));
+        }
+        assertThatThrownBy(() -> batchService.markAttendance(records))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessageContaining("at most " + AttendanceBatchService.MAX_BATCH_RECORDS);
+    }
+}
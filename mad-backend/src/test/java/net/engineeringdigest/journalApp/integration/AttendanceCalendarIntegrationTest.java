@@ -0,0 +1,288 @@
+package net.engineeringdigest.journalApp.integration;
+
+import net.engineeringdigest.journalApp.dto.MusterRollEntryDTO;
+import net.engineeringdigest.journalApp.model.AttendanceCalendar;
+import net.engineeringdigest.journalApp.model.City;
+import net.engineeringdigest.journalApp.model.Labour;
+import net.engineeringdigest.journalApp.model.Project;
+import net.engineeringdigest.journalApp.model.ProjectStatus;
+import net.engineeringdigest.journalApp.repository.CityRepository;
+import net.engineeringdigest.journalApp.repository.LabourRepository;
+import net.engineeringdigest.journalApp.repository.ProjectRepository;
+import net.engineeringdigest.journalApp.service.AttendanceBatchService;
+import net.engineeringdigest.journalApp.service.AttendanceCalendarService;
+import net.engineeringdigest.journalApp.service.WorkerDayLoadIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 🧪 Attendance Calendar Integration
+ * Every attendance mark lands in the worker's packed month word, incremental maintenance agrees
+ * with a rebuild from attendance, and the muster roll decodes the words.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class AttendanceCalendarIntegrationTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired CityRepository cityRepo;
+    @Autowired ProjectRepository projectRepo;
+    @Autowired LabourRepository labourRepo;
+    @Autowired AttendanceBatchService batchService;
+    @Autowired AttendanceCalendarService calendarService;
+    @Autowired WorkerDayLoadIndex loadIndex;
+
+    private Project project;
+    private Labour mason;
+    private Labour helper;
+
+    @BeforeEach
+    void seedTestData() {
+        City city = new City();
+        city.setName("Calendar City");
+        city = cityRepo.save(city);
+
+        project = new Project();
+        project.setName("Calendar Site");
+        project.setClientName("Client");
+        project.setCity(city);
+        project.setStatus(ProjectStatus.RUNNING);
+        project.setStartDate(LocalDate.now().minusMonths(2));
+        project = projectRepo.save(project);
+
+        mason = worker("Calendar Mason", "Mason", 900.0);
+        helper = worker("Calendar Helper", "Helper", 500.0);
+    }
+
+    private Labour worker(String name, String type, double wage) {
+        Labour l = new Labour();
+        l.setName(name);
+        l.setType(type);
+        l.setDailyWage(wage);
+        l.setProject(project);
+        return labourRepo.save(l);
+    }
+
+    private void mark(Labour worker, String status) {
+        batchService.markAttendance(List.of(Map.of(
+                "labourId", worker.getId(), "projectId", project.getId(), "status", status)));
+    }
+
+    private void insertAttendance(Labour worker, LocalDate date, String status) {
+        jdbc.update("INSERT INTO attendance (labour_id, project_id, date, status) VALUES (?, ?, ?, ?)",
+                worker.getId(), project.getId(), Date.valueOf(date), status);
+    }
+
+    private long word(Labour worker, YearMonth month) {
+        return jdbc.queryForObject("SELECT days FROM attendance_calendar WHERE labour_id = ? AND month_start = ?",
+                Long.class, worker.getId(), Date.valueOf(month.atDay(1)));
+    }
+
+    @Test
+    void codec_countsEveryDayOfALongMonth() {
+        LocalDate jan = LocalDate.of(2025, 1, 1);
+        long days = 0;
+        for (int d = 1; d <= 31; d++) {
+            String status = d % 3 == 0 ? "ABSENT" : d % 3 == 1 ? "PRESENT" : "HALF_DAY";
+            days = AttendanceCalendar.with(days, jan.withDayOfMonth(d), AttendanceCalendar.codeOf(status));
+        }
+        assertThat(AttendanceCalendar.presentDays(days)).isEqualTo(11);
+        assertThat(AttendanceCalendar.halfDays(days)).isEqualTo(10);
+        assertThat(AttendanceCalendar.absentDays(days)).isEqualTo(10);
+        assertThat(AttendanceCalendar.manDays(days)).isEqualTo(16.0);
+        assertThat(AttendanceCalendar.statusOf(AttendanceCalendar.codeOn(days, 31))).isEqualTo("PRESENT");
+
+        // Moving a day between statuses replaces its slot and leaves every other day alone
+        long moved = AttendanceCalendar.with(days, jan.withDayOfMonth(31), AttendanceCalendar.ABSENT);
+        assertThat(moved & ~(0b11L << AttendanceCalendar.shiftOf(jan.withDayOfMonth(31))))
+                .isEqualTo(days & ~(0b11L << AttendanceCalendar.shiftOf(jan.withDayOfMonth(31))));
+        assertThat(AttendanceCalendar.presentDays(moved)).isEqualTo(10);
+        assertThat(AttendanceCalendar.absentDays(moved)).isEqualTo(11);
+    }
+
+    @Test
+    void marking_maintainsTheWord_andMatchesARebuild() {
+        YearMonth month = YearMonth.now();
+        mark(mason, "HALF_DAY");
+        mark(mason, "PRESENT"); // a status change moves the day, it does not add a second one
+        mark(helper, "ABSENT");
+
+        long masonWord = word(mason, month);
+        long helperWord = word(helper, month);
+        assertThat(AttendanceCalendar.codeOn(masonWord, LocalDate.now().getDayOfMonth())).isEqualTo(AttendanceCalendar.PRESENT);
+        assertThat(AttendanceCalendar.presentDays(masonWord)).isEqualTo(1);
+        assertThat(AttendanceCalendar.absentDays(helperWord)).isEqualTo(1);
+
+        calendarService.rebuild();
+        assertThat(word(mason, month)).isEqualTo(masonWord);
+        assertThat(word(helper, month)).isEqualTo(helperWord);
+    }
+
+    @Test
+    void remarkingADay_movesOnlyItsSlotAndItsCost() {
+        LocalDate today = LocalDate.now();
+        YearMonth month = YearMonth.from(today);
+        Labour fitter = worker("Calendar Fitter", "Fitter", 901.0);
+        // Every other day of the month already marked PRESENT, costing 1000.25 between them
+        long seeded = 0;
+        for (int d = 1; d <= month.lengthOfMonth(); d++) {
+            if (d != today.getDayOfMonth()) seeded = AttendanceCalendar.with(seeded, month.atDay(d), AttendanceCalendar.PRESENT);
+        }
+        jdbc.update("INSERT INTO attendance_calendar (labour_id, project_id, month_start, days, wage_cost) VALUES (?, ?, ?, ?, 1000.25)",
+                fitter.getId(), project.getId(), Date.valueOf(month.atDay(1)), seeded);
+
+        mark(fitter, "HALF_DAY");
+        assertThat(word(fitter, month)).isEqualTo(AttendanceCalendar.with(seeded, today, AttendanceCalendar.HALF_DAY));
+        assertThat(calendarWageCost(fitter, month)).isEqualByComparingTo("1450.75"); // + 450.50
+        mark(fitter, "PRESENT");
+        assertThat(calendarWageCost(fitter, month)).isEqualByComparingTo("1901.25");
+        mark(fitter, "ABSENT");
+        assertThat(word(fitter, month)).isEqualTo(AttendanceCalendar.with(seeded, today, AttendanceCalendar.ABSENT));
+        assertThat(calendarWageCost(fitter, month)).isEqualByComparingTo("1000.25");
+    }
+
+    private BigDecimal calendarWageCost(Labour worker, YearMonth month) {
+        return jdbc.queryForObject("SELECT wage_cost FROM attendance_calendar WHERE labour_id = ? AND month_start = ?",
+                BigDecimal.class, worker.getId(), Date.valueOf(month.atDay(1)));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void concurrentMarksOfTheSameDay_setItsSlotOnce() throws Exception {
+        LocalDate today = LocalDate.now();
+        YearMonth month = YearMonth.from(today);
+        // The month already has a neighbouring day marked, so a carry out of today's slot would show.
+        // The month's and the day's rows exist, so every submission takes the in-place update path
+        LocalDate neighbour = today.getDayOfMonth() < month.lengthOfMonth() ? today.plusDays(1) : today.minusDays(1);
+        long seeded = AttendanceCalendar.with(0L, neighbour, AttendanceCalendar.ABSENT);
+        jdbc.update("INSERT INTO attendance_calendar (labour_id, project_id, month_start, days, wage_cost) VALUES (?, ?, ?, ?, 0)",
+                mason.getId(), project.getId(), Date.valueOf(month.atDay(1)), seeded);
+        jdbc.update("INSERT INTO daily_attendance_rollup (work_date, project_id, present_count, half_day_count, absent_count, " +
+                "man_days, wage_cost) VALUES (?, ?, 0, 0, 0, 0, 0)", Date.valueOf(today), project.getId());
+
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> submissions = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                submissions.add(pool.submit(() -> {
+                    start.await();
+                    mark(mason, "PRESENT");
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : submissions) f.get(60, TimeUnit.SECONDS);
+
+            assertThat(word(mason, month)).isEqualTo(AttendanceCalendar.with(seeded, today, AttendanceCalendar.PRESENT));
+            assertThat(calendarWageCost(mason, month)).isEqualByComparingTo("900");
+        } finally {
+            pool.shutdownNow();
+            jdbc.update("DELETE FROM attendance_calendar WHERE project_id = ?", project.getId());
+            jdbc.update("DELETE FROM attendance WHERE project_id = ?", project.getId());
+            jdbc.update("DELETE FROM daily_attendance_rollup WHERE project_id = ?", project.getId());
+            jdbc.update("DELETE FROM labour WHERE project_id = ?", project.getId());
+            jdbc.update("DELETE FROM projects WHERE id = ?", project.getId());
+            jdbc.update("DELETE FROM cities WHERE id = ?", project.getCity().getId());
+            loadIndex.rebuild();
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void concurrentFirstMarksOfTheSameDay_writeOneRowAndCountItOnce() throws Exception {
+        LocalDate today = LocalDate.now();
+        YearMonth month = YearMonth.from(today);
+        // Nothing exists for the day yet: every submission races for the first attendance, rollup and calendar rows
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> submissions = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                submissions.add(pool.submit(() -> {
+                    start.await();
+                    mark(mason, "PRESENT");
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : submissions) f.get(60, TimeUnit.SECONDS);
+
+            assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM attendance WHERE labour_id = ? AND project_id = ? AND date = ?",
+                    Integer.class, mason.getId(), project.getId(), Date.valueOf(today))).isEqualTo(1);
+            assertThat(jdbc.queryForObject("SELECT present_count FROM daily_attendance_rollup WHERE work_date = ? AND project_id = ?",
+                    Integer.class, Date.valueOf(today), project.getId())).isEqualTo(1);
+            assertThat(word(mason, month)).isEqualTo(AttendanceCalendar.with(0L, today, AttendanceCalendar.PRESENT));
+            assertThat(calendarWageCost(mason, month)).isEqualByComparingTo("900");
+        } finally {
+            pool.shutdownNow();
+            jdbc.update("DELETE FROM attendance_calendar WHERE project_id = ?", project.getId());
+            jdbc.update("DELETE FROM attendance WHERE project_id = ?", project.getId());
+            jdbc.update("DELETE FROM daily_attendance_rollup WHERE project_id = ?", project.getId());
+            jdbc.update("DELETE FROM labour WHERE project_id = ?", project.getId());
+            jdbc.update("DELETE FROM projects WHERE id = ?", project.getId());
+            jdbc.update("DELETE FROM cities WHERE id = ?", project.getCity().getId());
+            loadIndex.rebuild();
+        }
+    }
+
+    @Test
+    @WithMockUser(username = "supervisor", roles = {"SUPERVISOR"})
+    void musterRoll_decodesAMonthFromOneWordPerWorker() throws Exception {
+        YearMonth march = YearMonth.of(2025, 3);
+        insertAttendance(mason, march.atDay(1), "PRESENT");
+        insertAttendance(mason, march.atDay(2), "HALF_DAY");
+        insertAttendance(mason, march.atDay(31), "PRESENT");
+        insertAttendance(helper, march.atDay(2), "ABSENT");
+        insertAttendance(helper, march.atDay(3), "PRESENT");
+        insertAttendance(helper, march.plusMonths(1).atDay(1), "PRESENT");
+        calendarService.rebuild();
+
+        List<MusterRollEntryDTO> roll = calendarService.getMusterRoll(project.getId(), march);
+        assertThat(roll).extracting(MusterRollEntryDTO::name).containsExactly("Calendar Helper", "Calendar Mason");
+        MusterRollEntryDTO masonLine = roll.get(1);
+        assertThat(masonLine.days()).hasSize(31).startsWith("PH-").endsWith("-P");
+        assertThat(masonLine.manDays()).isEqualTo(2.5);
+        assertThat(masonLine.wageCost()).isEqualByComparingTo("2250");
+        assertThat(roll.get(0).days()).startsWith("-AP-");
+
+        mockMvc.perform(get("/api/v1/labour/project/" + project.getId() + "/muster-roll?month=2025-03"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].present").value(2))
+                .andExpect(jsonPath("$[1].halfDays").value(1))
+                .andExpect(jsonPath("$[0].absent").value(1));
+    }
+}
@@ -0,0 +1,114 @@
+package net.engineeringdigest.journalApp.integration;
+
+import net.engineeringdigest.journalApp.model.City;
+import net.engineeringdigest.journalApp.model.Labour;
+import net.engineeringdigest.journalApp.model.Project;
+import net.engineeringdigest.journalApp.model.ProjectStatus;
+import net.engineeringdigest.journalApp.repository.CityRepository;
+import net.engineeringdigest.journalApp.repository.DailyAttendanceRollupRepository;
+import net.engineeringdigest.journalApp.repository.LabourRepository;
+import net.engineeringdigest.journalApp.repository.ProjectRepository;
+import net.engineeringdigest.journalApp.service.AttendanceRollupService;
+import net.engineeringdigest.journalApp.service.ProjectService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 🧪 Daily Attendance Rollup Integration
+ * Marking attendance maintains the rollup, and trend / financials / productivity read from it.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class AttendanceRollupIntegrationTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired CityRepository cityRepo;
+    @Autowired ProjectRepository projectRepo;
+    @Autowired LabourRepository labourRepo;
+    @Autowired DailyAttendanceRollupRepository rollupRepo;
+    @Autowired ProjectService projectService;
+    @Autowired AttendanceRollupService rollupService;
+
+    private Project project;
+    private Labour worker;
+
+    @BeforeEach
+    void seedTestData() {
+        City city = new City();
+        city.setName("Rollup City");
+        city = cityRepo.save(city);
+
+        project = new Project();
+        project.setName("Rollup Site");
+        project.setClientName("Client R");
+        project.setCity(city);
+        project.setStatus(ProjectStatus.RUNNING);
+        project.setStartDate(LocalDate.now().minusDays(10));
+        project = projectRepo.save(project);
+
+        worker = new Labour();
+        worker.setName("Rollup Worker");
+        worker.setDailyWage(800.0);
+        worker.setProject(project);
+        worker = labourRepo.save(worker);
+    }
+
+    private void mark(String status) throws Exception {
+        mockMvc.perform(post("/api/v1/labour/attendance")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"labourId\": " + worker.getId() + ", \"projectId\": " + project.getId()
+                        + ", \"status\": \"" + status + "\"}]"))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(username = "supervisor", roles = {"SUPERVISOR"})
+    void markingAttendance_maintainsRollup_andReadsUseIt() throws Exception {
+        mark("PRESENT");
+        assertThat(rollupRepo.sumManDaysByProjectId(project.getId())).isEqualTo(1.0);
+        assertThat(rollupRepo.sumWageCostByProjectId(project.getId())).isEqualByComparingTo("800");
+
+        mark("HALF_DAY"); // status change moves the day, it does not add a second one
+        assertThat(rollupRepo.sumManDaysByProjectId(project.getId())).isEqualTo(0.5);
+        assertThat(projectService.getProjectFinancials(project.getId()).getLabourExpense())
+                .isEqualByComparingTo(new BigDecimal("400"));
+        assertThat(projectService.getProjectProductivity(project.getId()).getTotalManDays()).isZero(); // 0.5 truncated
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> trend = (List<Map<String, Object>>) projectService.getGlobalStats().get("weeklyLabourTrend");
+        assertThat(trend.get(trend.size() - 1)).containsEntry("date", LocalDate.now().toString()).containsEntry("workers", 1L);
+
+        mark("ABSENT");
+        assertThat(rollupRepo.sumManDaysByProjectId(project.getId())).isZero();
+        assertThat(rollupRepo.sumWageCostByProjectId(project.getId())).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @WithMockUser(username = "supervisor", roles = {"SUPERVISOR"})
+    void rebuild_matchesIncrementalMaintenance() throws Exception {
+        mark("HALF_DAY");
+        rollupService.rebuild();
+
+        assertThat(rollupRepo.sumManDaysByProjectId(project.getId())).isEqualTo(0.5);
+        assertThat(rollupRepo.sumWageCostByProjectId(project.getId())).isEqualByComparingTo("400");
+    }
+}
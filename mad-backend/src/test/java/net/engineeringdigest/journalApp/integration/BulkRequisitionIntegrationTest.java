@@ -0,0 +1,156 @@
+package net.engineeringdigest.journalApp.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.engineeringdigest.journalApp.dto.BulkRequisitionResultDTO;
+import net.engineeringdigest.journalApp.dto.RequisitionLineDTO;
+import net.engineeringdigest.journalApp.model.City;
+import net.engineeringdigest.journalApp.model.InventoryItem;
+import net.engineeringdigest.journalApp.model.MaterialRequisition;
+import net.engineeringdigest.journalApp.model.Project;
+import net.engineeringdigest.journalApp.model.ProjectStatus;
+import net.engineeringdigest.journalApp.model.User;
+import net.engineeringdigest.journalApp.repository.CityRepository;
+import net.engineeringdigest.journalApp.repository.InventoryItemRepository;
+import net.engineeringdigest.journalApp.repository.MaterialRequisitionRepository;
+import net.engineeringdigest.journalApp.repository.ProjectRepository;
+import net.engineeringdigest.journalApp.repository.UserRepository;
+import net.engineeringdigest.journalApp.service.MaterialRequisitionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 🧪 Bulk Requisition Integration
+ * Valid lines are inserted together as PENDING requisitions, invalid ones are reported
+ * per line without rejecting the rest, and oversized or empty batches are refused.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class BulkRequisitionIntegrationTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired ObjectMapper objectMapper;
+    @Autowired EntityManager entityManager;
+    @Autowired CityRepository cityRepo;
+    @Autowired ProjectRepository projectRepo;
+    @Autowired UserRepository userRepo;
+    @Autowired InventoryItemRepository inventoryRepo;
+    @Autowired MaterialRequisitionRepository requisitionRepo;
+    @Autowired MaterialRequisitionService requisitionService;
+
+    private Project tower;
+    private InventoryItem cement;
+
+    @BeforeEach
+    void seedTestData() {
+        City city = new City();
+        city.setName("Bulk City");
+        city = cityRepo.save(city);
+
+        tower = new Project();
+        tower.setName("Bulk Tower");
+        tower.setClientName("Client");
+        tower.setCity(city);
+        tower.setStatus(ProjectStatus.RUNNING);
+        tower.setStartDate(LocalDate.of(2024, 1, 1));
+        tower = projectRepo.save(tower);
+
+        User supervisor = new User();
+        supervisor.setUsername("bulk-supervisor");
+        supervisor.setPasswordHash("x");
+        userRepo.save(supervisor);
+
+        cement = new InventoryItem();
+        cement.setName("Cement OPC 53");
+        cement.setUnitOfMeasure("BAGS");
+        cement.setProject(tower);
+        cement = inventoryRepo.save(cement);
+    }
+
+    private RequisitionLineDTO line(Long projectId, Long itemId, String name, Double quantity, String urgency) {
+        return new RequisitionLineDTO(projectId, itemId, name, quantity, null, urgency, null);
+    }
+
+    @Test
+    void validLines_areInserted_invalidLines_areReported() {
+        BulkRequisitionResultDTO result = requisitionService.submitBatch(List.of(
+                line(tower.getId(), cement.getId(), null, 40.0, null),
+                line(tower.getId(), null, "  River Sand ", 12.5, "urgent"),
+                line(999_999L, null, "Bricks", 1000.0, null),
+                line(tower.getId(), null, " ", 3.0, null),
+                line(tower.getId(), 999_999L, null, 3.0, null),
+                line(tower.getId(), null, "Steel", 0.0, null),
+                line(tower.getId(), null, "Steel", 5.0, "someday")), "bulk-supervisor");
+
+        assertThat(result.submitted()).isEqualTo(2);
+        assertThat(result.rejected()).isEqualTo(5);
+        assertThat(result.lines()).extracting(BulkRequisitionResultDTO.LineResult::line)
+                .containsExactly(0, 1, 2, 3, 4, 5, 6);
+        assertThat(result.lines()).extracting(BulkRequisitionResultDTO.LineResult::errorCode)
+                .containsExactly(null, null, "ERR_PROJECT_NOT_FOUND", "ERR_VALIDATION_FAILED",
+                        "ERR_INVENTORY_ITEM_NOT_FOUND", "ERR_VALIDATION_FAILED", "ERR_VALIDATION_FAILED");
+
+        entityManager.clear();
+        MaterialRequisition linked = requisitionRepo.findById(result.lines().get(0).requisitionId()).orElseThrow();
+        assertThat(linked.getInventoryItem().getId()).isEqualTo(cement.getId());
+        assertThat(linked.getUnitOfMeasure()).isEqualTo("BAGS");
+        assertThat(linked.getStatus()).isEqualTo("PENDING");
+        assertThat(linked.getRequester().getUsername()).isEqualTo("bulk-supervisor");
+        assertThat(linked.getCreatedAt()).isNotNull();
+
+        MaterialRequisition custom = requisitionRepo.findById(result.lines().get(1).requisitionId()).orElseThrow();
+        assertThat(custom.getCustomItemName()).isEqualTo("River Sand");
+        assertThat(custom.getUrgency()).isEqualTo("URGENT");
+        assertThat(custom.getPaymentStatus()).isEqualTo("UNPAID");
+        assertThat(custom.getReceivedQuantity()).isZero();
+    }
+
+    @Test
+    @WithMockUser(username = "bulk-supervisor", roles = {"SUPERVISOR"})
+    void endpoint_returnsPerLineResults_andRefusesOversizedBatches() throws Exception {
+        List<RequisitionLineDTO> lines = List.of(
+                line(tower.getId(), null, "Sand", 10.0, null),
+                line(tower.getId(), null, null, 10.0, null));
+        mockMvc.perform(post("/api/v1/requisitions/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(lines)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.submitted").value(1))
+                .andExpect(jsonPath("$.lines[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.lines[0].requisitionId").isNumber())
+                .andExpect(jsonPath("$.lines[1].status").value("REJECTED"))
+                .andExpect(jsonPath("$.lines[1].errorCode").value("ERR_VALIDATION_FAILED"));
+
+        List<RequisitionLineDTO> tooMany = new ArrayList<>(Collections.nCopies(
+                MaterialRequisitionService.MAX_BATCH_LINES + 1, line(tower.getId(), null, "Sand", 1.0, null)));
+        mockMvc.perform(post("/api/v1/requisitions/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(tooMany)))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errorCode").value("ERR_BATCH_TOO_LARGE"));
+        mockMvc.perform(post("/api/v1/requisitions/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isUnprocessableEntity());
+    }
+}
@@ -0,0 +1,113 @@
+package net.engineeringdigest.journalApp.integration;
+
+import net.engineeringdigest.journalApp.dto.DashboardAlertDTO;
+import net.engineeringdigest.journalApp.model.City;
+import net.engineeringdigest.journalApp.model.Project;
+import net.engineeringdigest.journalApp.model.ProjectStatus;
+import net.engineeringdigest.journalApp.repository.CityRepository;
+import net.engineeringdigest.journalApp.repository.ProjectRepository;
+import net.engineeringdigest.journalApp.service.alert.DashboardAlertRule;
+import net.engineeringdigest.journalApp.service.alert.DelayedProjectAlertRule;
+import net.engineeringdigest.journalApp.service.alert.LowLabourAlertRule;
+import net.engineeringdigest.journalApp.service.alert.OnHoldProjectAlertRule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 🧪 Dashboard Alert Rules Integration
+ * Each rule raises alerts for exactly the projects past its threshold, with the rule's severity,
+ * and the rules are registered in @Order (critical first).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class DashboardAlertRulesIntegrationTest {
+
+    @Autowired CityRepository cityRepo;
+    @Autowired ProjectRepository projectRepo;
+    @Autowired List<DashboardAlertRule> rules;
+    @Autowired DelayedProjectAlertRule delayedRule;
+    @Autowired OnHoldProjectAlertRule onHoldRule;
+    @Autowired LowLabourAlertRule lowLabourRule;
+
+    private City city;
+    private final Map<String, Long> ids = new HashMap<>();
+
+    @BeforeEach
+    void seedTestData() {
+        city = new City();
+        city.setName("Alert City");
+        city = cityRepo.save(city);
+
+        project("delayed", ProjectStatus.DELAYED, 2, "Ring Road");
+        project("onHold", ProjectStatus.ON_HOLD, 1, null);
+        project("running0", ProjectStatus.RUNNING, 0, "Site A");
+        project("running4", ProjectStatus.RUNNING, 4, "Site B");
+        project("running5", ProjectStatus.RUNNING, 5, "Site C"); // at the default threshold of 5: no alert
+        project("completed0", ProjectStatus.COMPLETED, 0, "Site D");
+    }
+
+    private void project(String key, ProjectStatus status, int labourCount, String location) {
+        Project p = new Project();
+        p.setName("Alert " + key);
+        p.setClientName("Client");
+        p.setCity(city);
+        p.setStatus(status);
+        p.setLabourCount(labourCount);
+        p.setLocation(location);
+        p.setStartDate(LocalDate.now().minusDays(30));
+        ids.put(key, projectRepo.save(p).getId());
+    }
+
+    // Only the projects seeded here; other tests may leave projects behind
+    private List<DashboardAlertDTO> ours(DashboardAlertRule rule) {
+        return rule.evaluate().stream().filter(a -> ids.containsValue(a.getProjectId())).toList();
+    }
+
+    @Test
+    void rules_areRegisteredCriticalFirst() {
+        assertThat(rules).extracting(DashboardAlertRule::getCode)
+                .containsExactly("PROJECT_DELAYED", "PROJECT_ON_HOLD", "LOW_LABOUR");
+    }
+
+    @Test
+    void delayedRule_raisesCriticalForDelayedProjectsOnly() {
+        List<DashboardAlertDTO> alerts = ours(delayedRule);
+        assertThat(alerts).extracting(DashboardAlertDTO::getProjectId).containsExactly(ids.get("delayed"));
+        DashboardAlertDTO alert = alerts.get(0);
+        assertThat(alert.getType()).isEqualTo("CRITICAL");
+        assertThat(alert.getRule()).isEqualTo("PROJECT_DELAYED");
+        assertThat(alert.getTitle()).isEqualTo("Project Delayed: Alert delayed");
+        assertThat(alert.getLocation()).isEqualTo("Ring Road");
+        assertThat(alert.getSupervisorName()).isEqualTo("Unassigned");
+    }
+
+    @Test
+    void onHoldRule_raisesWarningForOnHoldProjectsOnly() {
+        List<DashboardAlertDTO> alerts = ours(onHoldRule);
+        assertThat(alerts).extracting(DashboardAlertDTO::getProjectId).containsExactly(ids.get("onHold"));
+        assertThat(alerts.get(0).getType()).isEqualTo("WARNING");
+        assertThat(alerts.get(0).getLocation()).isEqualTo("Unknown Location");
+    }
+
+    @Test
+    void lowLabourRule_raisesInfoForRunningProjectsBelowTheThreshold() {
+        List<DashboardAlertDTO> alerts = ours(lowLabourRule);
+        assertThat(alerts).extracting(DashboardAlertDTO::getProjectId)
+                .containsExactly(ids.get("running0"), ids.get("running4"));
+        assertThat(alerts).extracting(DashboardAlertDTO::getType).containsOnly("INFO");
+        assertThat(alerts.get(1).getMessage()).isEqualTo("Only 4 workers on site. Risk of delay.");
+        assertThat(alerts.get(1).getLabourCount()).isEqualTo(4);
+    }
+}
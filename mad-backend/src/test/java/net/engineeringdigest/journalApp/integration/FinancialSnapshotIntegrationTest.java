@@ -0,0 +1,139 @@
+package net.engineeringdigest.journalApp.integration;
+
+import net.engineeringdigest.journalApp.dto.FinancialTrendPointDTO;
+import net.engineeringdigest.journalApp.model.BillOfQuantity;
+import net.engineeringdigest.journalApp.model.City;
+import net.engineeringdigest.journalApp.model.DailyAttendanceRollup;
+import net.engineeringdigest.journalApp.model.Project;
+import net.engineeringdigest.journalApp.model.ProjectStatus;
+import net.engineeringdigest.journalApp.repository.BillOfQuantityRepository;
+import net.engineeringdigest.journalApp.repository.CityRepository;
+import net.engineeringdigest.journalApp.repository.DailyAttendanceRollupRepository;
+import net.engineeringdigest.journalApp.repository.ProjectRepository;
+import net.engineeringdigest.journalApp.service.FinancialSnapshotService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 🧪 Financial Snapshot Integration
+ * Labour carries forward from the previous snapshot, new projects start from the full sum,
+ * and the trend endpoint reads portfolio totals from the snapshot table.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class FinancialSnapshotIntegrationTest {
+
+    private static final LocalDate DAY_1 = LocalDate.now().minusDays(3);
+    private static final LocalDate DAY_2 = LocalDate.now().minusDays(2);
+    private static final LocalDate DAY_3 = LocalDate.now().minusDays(1);
+
+    @Autowired MockMvc mockMvc;
+    @Autowired CityRepository cityRepo;
+    @Autowired ProjectRepository projectRepo;
+    @Autowired BillOfQuantityRepository boqRepo;
+    @Autowired DailyAttendanceRollupRepository rollupRepo;
+    @Autowired FinancialSnapshotService snapshotService;
+
+    private City city;
+    private Project project;
+
+    @BeforeEach
+    void seedTestData() {
+        city = new City();
+        city.setName("Snapshot City");
+        city = cityRepo.save(city);
+        project = newProject("Snapshot Site");
+
+        BillOfQuantity boq = new BillOfQuantity();
+        boq.setProject(project);
+        boq.setItemName("Flooring");
+        boq.setTotalScope(100);
+        boq.setRate(100);
+        boq.setCompletedScope(40);
+        boqRepo.save(boq);
+    }
+
+    private Project newProject(String name) {
+        Project p = new Project();
+        p.setName(name);
+        p.setClientName("Client S");
+        p.setCity(city);
+        p.setStatus(ProjectStatus.RUNNING);
+        p.setStartDate(DAY_1);
+        return projectRepo.save(p);
+    }
+
+    private void labour(LocalDate date, Project p, String wageCost) {
+        DailyAttendanceRollup row = new DailyAttendanceRollup(date, p.getId());
+        row.setPresentCount(1);
+        row.setManDays(1);
+        row.setWageCost(new BigDecimal(wageCost));
+        rollupRepo.save(row);
+    }
+
+    @Test
+    void snapshots_carryLabourForward_andNewProjectsStartFromFullSum() {
+        labour(DAY_1, project, "1000");
+        snapshotService.snapshot(DAY_1);
+
+        labour(DAY_2, project, "500");
+        Project late = newProject("Late Site");
+        labour(DAY_1, late, "300"); // history that predates its first snapshot
+        labour(DAY_2, late, "200");
+        snapshotService.snapshot(DAY_2);
+
+        List<FinancialTrendPointDTO> trend = snapshotService.getProjectTrend(project.getId(), DAY_1, DAY_3);
+        assertThat(trend).hasSize(2);
+        assertThat(trend.get(0).getLabourExpense()).isEqualByComparingTo("1000");
+        assertThat(trend.get(1).getLabourExpense()).isEqualByComparingTo("1500");
+        assertThat(trend.get(1).getTotalBudget()).isEqualByComparingTo("10000");
+        assertThat(trend.get(1).getCurrentROI()).isEqualByComparingTo("2500"); // 4000 work done - 1500
+        assertThat(trend.get(1).getHealthScore()).isEqualTo(85.0);
+
+        assertThat(snapshotService.getProjectTrend(late.getId(), DAY_2, DAY_2).get(0).getLabourExpense())
+                .isEqualByComparingTo("500");
+
+        // Re-running a day replaces its rows rather than duplicating them
+        snapshotService.snapshot(DAY_2);
+        List<FinancialTrendPointDTO> portfolio = snapshotService.getPortfolioTrend(DAY_1, DAY_3);
+        assertThat(portfolio).hasSize(2);
+        assertThat(portfolio.get(1).getLabourExpense()).isEqualByComparingTo("2000");
+        assertThat(portfolio.get(1).getTotalExpense()).isEqualByComparingTo("2000");
+        assertThat(portfolio.get(1).getHealthScore()).isEqualTo(80.0);
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void trendEndpoint_returnsPortfolioPoints_andRejectsInvertedRange() throws Exception {
+        labour(DAY_3, project, "700");
+        snapshotService.snapshot(DAY_3);
+
+        mockMvc.perform(get("/api/v1/admin/financials/trend"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].date").value(DAY_3.toString()))
+            .andExpect(jsonPath("$[0].labourExpense").value(700.0));
+
+        mockMvc.perform(get("/api/v1/admin/financials/trend")
+                .param("from", DAY_3.toString()).param("to", DAY_1.toString()))
+            .andExpect(status().isUnprocessableEntity());
+    }
+}
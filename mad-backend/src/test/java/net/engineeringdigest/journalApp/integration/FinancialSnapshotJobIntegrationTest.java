@@ -0,0 +1,120 @@
+package net.engineeringdigest.journalApp.integration;
+
+import net.engineeringdigest.journalApp.model.BillOfQuantity;
+import net.engineeringdigest.journalApp.model.City;
+import net.engineeringdigest.journalApp.model.DailyAttendanceRollup;
+import net.engineeringdigest.journalApp.model.Project;
+import net.engineeringdigest.journalApp.model.ProjectStatus;
+import net.engineeringdigest.journalApp.repository.BillOfQuantityRepository;
+import net.engineeringdigest.journalApp.repository.CityRepository;
+import net.engineeringdigest.journalApp.repository.DailyAttendanceRollupRepository;
+import net.engineeringdigest.journalApp.repository.ProjectRepository;
+import net.engineeringdigest.journalApp.service.FinancialSnapshotService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 🧪 Financial Snapshot Job Integration
+ * The nightly job, called the way the scheduler calls it (no surrounding transaction), catches up
+ * every day missed since the last snapshot and commits each one with labour carried forward.
+ * Runs against committed data (no test transaction) and cleans up after itself.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class FinancialSnapshotJobIntegrationTest {
+
+    private static final LocalDate DAY_1 = LocalDate.now().minusDays(3);
+    private static final LocalDate DAY_2 = LocalDate.now().minusDays(2);
+    private static final LocalDate DAY_3 = LocalDate.now().minusDays(1);
+
+    @Autowired JdbcTemplate jdbc;
+    @Autowired CityRepository cityRepo;
+    @Autowired ProjectRepository projectRepo;
+    @Autowired BillOfQuantityRepository boqRepo;
+    @Autowired DailyAttendanceRollupRepository rollupRepo;
+    @Autowired FinancialSnapshotService snapshotService;
+
+    private City city;
+    private Project project;
+
+    @BeforeEach
+    void seedTestData() {
+        city = new City();
+        city.setName("Snapshot Job City");
+        city = cityRepo.save(city);
+
+        project = new Project();
+        project.setName("Snapshot Job Site");
+        project.setClientName("Client S");
+        project.setCity(city);
+        project.setStatus(ProjectStatus.RUNNING);
+        project.setStartDate(DAY_1);
+        project = projectRepo.save(project);
+
+        BillOfQuantity boq = new BillOfQuantity();
+        boq.setProject(project);
+        boq.setItemName("Flooring");
+        boq.setTotalScope(100);
+        boq.setRate(100);
+        boq.setCompletedScope(40);
+        boqRepo.save(boq);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbc.update("DELETE FROM project_financial_snapshots WHERE snapshot_date BETWEEN ? AND ?",
+                Date.valueOf(DAY_1), Date.valueOf(DAY_3));
+        jdbc.update("DELETE FROM daily_attendance_rollup WHERE project_id = ?", project.getId());
+        jdbc.update("DELETE FROM bill_of_quantities WHERE project_id = ?", project.getId());
+        jdbc.update("DELETE FROM projects WHERE id = ?", project.getId());
+        jdbc.update("DELETE FROM cities WHERE id = ?", city.getId());
+    }
+
+    private void labour(LocalDate date, String wageCost) {
+        DailyAttendanceRollup row = new DailyAttendanceRollup(date, project.getId());
+        row.setPresentCount(1);
+        row.setManDays(1);
+        row.setWageCost(new BigDecimal(wageCost));
+        rollupRepo.save(row);
+    }
+
+    private BigDecimal committedLabour(LocalDate date) {
+        return jdbc.queryForObject("SELECT labour_expense FROM project_financial_snapshots " +
+                "WHERE snapshot_date = ? AND project_id = ?", BigDecimal.class, Date.valueOf(date), project.getId());
+    }
+
+    private int committedRows(LocalDate date) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM project_financial_snapshots WHERE snapshot_date = ? AND project_id = ?",
+                Integer.class, Date.valueOf(date), project.getId());
+    }
+
+    @Test
+    void scheduledJob_catchesUpMissedDays_eachInItsOwnTransaction() {
+        labour(DAY_1, "1000");
+        labour(DAY_2, "500");
+        labour(DAY_3, "200");
+        snapshotService.snapshot(DAY_1);
+
+        snapshotService.snapshotClosedDays();
+
+        assertThat(committedLabour(DAY_1)).isEqualByComparingTo("1000");
+        assertThat(committedLabour(DAY_2)).isEqualByComparingTo("1500");
+        assertThat(committedLabour(DAY_3)).isEqualByComparingTo("1700");
+
+        // Nothing left to catch up: a second run neither rewrites nor duplicates a day
+        snapshotService.snapshotClosedDays();
+        assertThat(committedRows(DAY_2)).isEqualTo(1);
+        assertThat(committedRows(DAY_3)).isEqualTo(1);
+    }
+}
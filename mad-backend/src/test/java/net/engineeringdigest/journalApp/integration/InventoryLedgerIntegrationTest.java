@@ -0,0 +1,197 @@
+package net.engineeringdigest.journalApp.integration;
+
+import net.engineeringdigest.journalApp.dto.InventoryItemViewDTO;
+import net.engineeringdigest.journalApp.exception.BusinessRuleException;
+import net.engineeringdigest.journalApp.model.City;
+import net.engineeringdigest.journalApp.model.InventoryItem;
+import net.engineeringdigest.journalApp.model.InventoryMovementType;
+import net.engineeringdigest.journalApp.model.Project;
+import net.engineeringdigest.journalApp.model.ProjectStatus;
+import net.engineeringdigest.journalApp.repository.CityRepository;
+import net.engineeringdigest.journalApp.repository.InventoryItemRepository;
+import net.engineeringdigest.journalApp.repository.InventoryMovementRepository;
+import net.engineeringdigest.journalApp.repository.ProjectRepository;
+import net.engineeringdigest.journalApp.service.InventoryLedgerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 🧪 Inventory Ledger Integration
+ * Movements are appended, live stock is the compacted balance plus the pending tail, compaction
+ * folds the tail exactly once, and concurrent receipts never lose a quantity.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class InventoryLedgerIntegrationTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired CityRepository cityRepo;
+    @Autowired ProjectRepository projectRepo;
+    @Autowired InventoryItemRepository inventoryRepo;
+    @Autowired InventoryMovementRepository movementRepo;
+    @Autowired InventoryLedgerService ledger;
+
+    private Project project;
+    private InventoryItem cement;
+    private InventoryItem sand;
+
+    @BeforeEach
+    void seedTestData() {
+        City city = new City();
+        city.setName("Ledger City");
+        city = cityRepo.save(city);
+
+        project = new Project();
+        project.setName("Ledger Site");
+        project.setClientName("Client");
+        project.setCity(city);
+        project.setStatus(ProjectStatus.RUNNING);
+        project.setStartDate(LocalDate.of(2024, 1, 1));
+        project = projectRepo.save(project);
+
+        cement = item("Ledger Cement", 100, 50);
+        sand = item("Ledger Sand", 0, 10);
+    }
+
+    private InventoryItem item(String name, double opening, double minimum) {
+        InventoryItem item = new InventoryItem();
+        item.setName(name);
+        item.setProject(project);
+        item.setCurrentQuantity(opening);
+        item.setMinimumStockLevel(minimum);
+        return inventoryRepo.save(item);
+    }
+
+    private double compacted(Long itemId) {
+        return jdbc.queryForObject("SELECT current_quantity FROM inventory_items WHERE id = ?", Double.class, itemId);
+    }
+
+    @Test
+    void liveStock_isCompactedBalancePlusTail_untilCompactionFoldsIt() {
+        ledger.record(cement.getId(), InventoryMovementType.RECEIPT, 40, "REQ-1", "tester");
+        ledger.issue(cement.getId(), 25, "SLAB-3", "tester");
+
+        assertThat(compacted(cement.getId())).isEqualTo(100.0);
+        assertThat(ledger.currentStock(cement.getId())).isEqualTo(115.0);
+
+        assertThat(ledger.compact()).isGreaterThanOrEqualTo(2);
+        assertThat(compacted(cement.getId())).isEqualTo(115.0);
+        assertThat(ledger.currentStock(cement.getId())).isEqualTo(115.0);
+        assertThat(ledger.compact()).isZero();
+
+        ledger.record(cement.getId(), InventoryMovementType.RECEIPT, 5, "REQ-2", "tester");
+        assertThat(ledger.currentStock(cement.getId())).isEqualTo(120.0);
+        assertThat(ledger.history(cement.getId(), PageRequest.of(0, 10)).getContent())
+                .extracting(m -> m.getType() + " " + m.getQuantity())
+                .containsExactly("RECEIPT 5.0", "ISSUE -25.0", "RECEIPT 40.0");
+    }
+
+    @Test
+    void issueAndTransfer_checkLiveStock_adjustRecordsTheDifference() {
+        assertThatThrownBy(() -> ledger.issue(sand.getId(), 1, null, "tester"))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessageContaining("Insufficient stock for 'Ledger Sand'");
+
+        ledger.transfer(cement.getId(), sand.getId(), 30, "MOVE-1", "tester");
+        assertThat(ledger.currentStock(cement.getId())).isEqualTo(70.0);
+        assertThat(ledger.currentStock(sand.getId())).isEqualTo(30.0);
+
+        assertThat(ledger.adjustTo(sand.getId(), 27, "tester").getQuantity()).isEqualTo(-3.0);
+        assertThat(ledger.adjustTo(sand.getId(), 27, "tester")).isNull();
+        assertThat(ledger.currentStock(sand.getId())).isEqualTo(27.0);
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void itemUpdate_countsAgainstLiveStock_notTheCompactedBalance() throws Exception {
+        ledger.issue(cement.getId(), 20, "SLAB-4", "tester");
+        String body = "{\"name\": \"Ledger Cement\", \"minimumStockLevel\": 50, \"currentQuantity\": %s}";
+
+        // Counted 100 equals the compacted balance, but live stock is 80: the count is still recorded
+        mockMvc.perform(put("/api/v1/admin/inventory/" + cement.getId())
+                        .contentType(MediaType.APPLICATION_JSON).content(body.formatted(100)))
+                .andExpect(status().isOk());
+        assertThat(ledger.currentStock(cement.getId())).isEqualTo(100.0);
+        assertThat(compacted(cement.getId())).isEqualTo(100.0);
+
+        // Re-submitting the live quantity records nothing
+        mockMvc.perform(put("/api/v1/admin/inventory/" + cement.getId())
+                        .contentType(MediaType.APPLICATION_JSON).content(body.formatted(100)))
+                .andExpect(status().isOk());
+        assertThat(ledger.history(cement.getId(), PageRequest.of(0, 10)).getContent())
+                .extracting(m -> m.getType() + " " + m.getQuantity())
+                .containsExactly("ADJUSTMENT 20.0", "ISSUE -20.0");
+    }
+
+    @Test
+    void lowStock_readsTheCompactedBalance() {
+        ledger.record(sand.getId(), InventoryMovementType.RECEIPT, 50, "REQ-3", "tester");
+        assertThat(inventoryRepo.findLowStock()).extracting(InventoryItemViewDTO::id).contains(sand.getId());
+
+        ledger.compact();
+        assertThat(inventoryRepo.findLowStock()).extracting(InventoryItemViewDTO::id).doesNotContain(sand.getId());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void concurrentReceipts_withCompactionRunning_loseNothing() throws Exception {
+        int threads = 8;
+        int receiptsEach = 25;
+        ExecutorService pool = Executors.newFixedThreadPool(threads + 1);
+        AtomicBoolean receiving = new AtomicBoolean(true);
+        try {
+            Future<?> compactor = pool.submit(() -> {
+                while (receiving.get()) ledger.compact();
+            });
+            List<Future<?>> receipts = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                receipts.add(pool.submit(() -> {
+                    for (int i = 0; i < receiptsEach; i++) {
+                        ledger.record(cement.getId(), InventoryMovementType.RECEIPT, 1, "REQ-C", "tester");
+                    }
+                }));
+            }
+            for (Future<?> f : receipts) f.get(60, TimeUnit.SECONDS);
+            receiving.set(false);
+            compactor.get(60, TimeUnit.SECONDS);
+
+            ledger.compact();
+            assertThat(compacted(cement.getId())).isEqualTo(100.0 + threads * receiptsEach);
+            assertThat(ledger.currentStock(cement.getId())).isEqualTo(100.0 + threads * receiptsEach);
+        } finally {
+            pool.shutdownNow();
+            jdbc.update("DELETE FROM inventory_movements WHERE item_id IN (?, ?)", cement.getId(), sand.getId());
+            jdbc.update("DELETE FROM inventory_items WHERE project_id = ?", project.getId());
+            jdbc.update("DELETE FROM projects WHERE id = ?", project.getId());
+            jdbc.update("DELETE FROM cities WHERE id = ?", project.getCity().getId());
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package net.engineeringdigest.journalApp.integration;
+
+import net.engineeringdigest.journalApp.model.City;
+import net.engineeringdigest.journalApp.model.InventoryItem;
+import net.engineeringdigest.journalApp.model.MaterialRequisition;
+import net.engineeringdigest.journalApp.model.Project;
+import net.engineeringdigest.journalApp.model.ProjectStatus;
+import net.engineeringdigest.journalApp.model.User;
+import net.engineeringdigest.journalApp.repository.CityRepository;
+import net.engineeringdigest.journalApp.repository.InventoryItemRepository;
+import net.engineeringdigest.journalApp.repository.MaterialRequisitionRepository;
+import net.engineeringdigest.journalApp.repository.ProjectRepository;
+import net.engineeringdigest.journalApp.repository.UserRepository;
+import net.engineeringdigest.journalApp.service.InventoryLedgerService;
+import net.engineeringdigest.journalApp.service.MaterialRequisitionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 🧪 Inventory Receipt (GRN) Integration
+ * Custom materials resolve to one stock row per project and normalized name, the unique item
+ * key rejects a second row for the same material, and concurrent first receipts share one row.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class InventoryReceiptIntegrationTest {
+
+    @Autowired JdbcTemplate jdbc;
+    @Autowired CityRepository cityRepo;
+    @Autowired ProjectRepository projectRepo;
+    @Autowired UserRepository userRepo;
+    @Autowired MaterialRequisitionRepository requisitionRepo;
+    @Autowired InventoryItemRepository inventoryRepo;
+    @Autowired MaterialRequisitionService requisitionService;
+    @Autowired InventoryLedgerService inventoryLedger;
+
+    private Project tower;
+    private Project villa;
+    private User supervisor;
+
+    @BeforeEach
+    void seedTestData() {
+        City city = new City();
+        city.setName("GRN City");
+        city = cityRepo.save(city);
+        tower = project("GRN Tower", city);
+        villa = project("GRN Villa", city);
+
+        supervisor = new User();
+        supervisor.setUsername("grn-supervisor");
+        supervisor.setPasswordHash("x");
+        supervisor = userRepo.save(supervisor);
+    }
+
+    private Project project(String name, City city) {
+        Project p = new Project();
+        p.setName(name);
+        p.setClientName("Client");
+        p.setCity(city);
+        p.setStatus(ProjectStatus.RUNNING);
+        p.setStartDate(LocalDate.of(2024, 1, 1));
+        return projectRepo.save(p);
+    }
+
+    private Long requisition(Project project, String itemName) {
+        MaterialRequisition r = new MaterialRequisition();
+        r.setProject(project);
+        r.setRequester(supervisor);
+        r.setCustomItemName(itemName);
+        r.setUnitOfMeasure("BAGS");
+        r.setQuantity(100.0);
+        r.setStatus("DISPATCHED");
+        return requisitionRepo.save(r).getId();
+    }
+
+    @Test
+    void receipts_reuseTheItem_acrossCaseAndSpacing() {
+        requisitionService.receiveMaterial(requisition(tower, "Cement OPC 53"), 40, "grn-supervisor");
+        requisitionService.receiveMaterial(requisition(tower, "  cement   opc 53 "), 25, "grn-supervisor");
+
+        InventoryItem item = inventoryRepo.findByProjectAndKey(tower.getId(), "cement opc 53").orElseThrow();
+        assertThat(item.getName()).isEqualTo("Cement OPC 53");
+        assertThat(inventoryLedger.currentStock(item)).isEqualTo(65.0);
+        assertThat(inventoryRepo.findAll()).filteredOn(i -> "cement opc 53".equals(i.getItemKey())).hasSize(1);
+    }
+
+    @Test
+    void sameName_onAnotherProject_isASeparateItem() {
+        requisitionService.receiveMaterial(requisition(tower, "Steel TMT"), 10, "grn-supervisor");
+        requisitionService.receiveMaterial(requisition(villa, "STEEL TMT"), 7, "grn-supervisor");
+
+        assertThat(inventoryLedger.currentStock(inventoryRepo.findByProjectAndKey(tower.getId(), "steel tmt")
+                .orElseThrow())).isEqualTo(10.0);
+        assertThat(inventoryLedger.currentStock(inventoryRepo.findByProjectAndKey(villa.getId(), "steel tmt")
+                .orElseThrow())).isEqualTo(7.0);
+    }
+
+    @Test
+    void duplicateItemKey_isRejected() {
+        requisitionService.receiveMaterial(requisition(tower, "River Sand"), 5, "grn-supervisor");
+
+        // What a concurrent first receipt would try to insert after missing the lookup
+        InventoryItem duplicate = new InventoryItem();
+        duplicate.setName("RIVER SAND");
+        duplicate.setProject(tower);
+        assertThatThrownBy(() -> inventoryRepo.saveAndFlush(duplicate))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void concurrentFirstReceipts_ofTheSameMaterial_bothSucceedOnOneItem() throws Exception {
+        List<Long> requisitions = new ArrayList<>();
+        for (int i = 0; i < 4; i++) requisitions.add(requisition(tower, "Fly Ash Bricks"));
+
+        ExecutorService pool = Executors.newFixedThreadPool(requisitions.size());
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> receipts = new ArrayList<>();
+            for (Long id : requisitions) {
+                receipts.add(pool.submit(() -> {
+                    start.await();
+                    return requisitionService.receiveMaterial(id, 10, "grn-supervisor");
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : receipts) f.get(60, TimeUnit.SECONDS);
+
+            assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM inventory_items WHERE project_id = ? AND item_key = ?",
+                    Integer.class, tower.getId(), "fly ash bricks")).isEqualTo(1);
+            assertThat(inventoryLedger.currentStock(inventoryRepo.findByProjectAndKey(tower.getId(), "fly ash bricks")
+                    .orElseThrow().getId())).isEqualTo(40.0);
+        } finally {
+            pool.shutdownNow();
+            jdbc.update("DELETE FROM inventory_movements WHERE item_id IN (SELECT id FROM inventory_items WHERE project_id IN (?, ?))",
+                    tower.getId(), villa.getId());
+            jdbc.update("DELETE FROM inventory_items WHERE project_id IN (?, ?)", tower.getId(), villa.getId());
+            jdbc.update("DELETE FROM material_requisitions WHERE project_id IN (?, ?)", tower.getId(), villa.getId());
+            jdbc.update("DELETE FROM users WHERE id = ?", supervisor.getId());
+            jdbc.update("DELETE FROM projects WHERE id IN (?, ?)", tower.getId(), villa.getId());
+            jdbc.update("DELETE FROM cities WHERE id = ?", tower.getCity().getId());
+        }
+    }
+}
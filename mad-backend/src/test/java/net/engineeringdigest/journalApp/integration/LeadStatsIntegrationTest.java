@@ -0,0 +1,60 @@
+package net.engineeringdigest.journalApp.integration;
+
+import net.engineeringdigest.journalApp.dto.LeadStatsDTO;
+import net.engineeringdigest.journalApp.model.LeadInquiry;
+import net.engineeringdigest.journalApp.repository.LeadInquiryRepository;
+import net.engineeringdigest.journalApp.service.LeadStatsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 🧪 Lead Funnel Stats
+ * The single aggregate query must agree with the per-status counts it replaces.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class LeadStatsIntegrationTest {
+
+    @Autowired LeadInquiryRepository leadRepo;
+    @Autowired LeadStatsService leadStatsService;
+    @Autowired JdbcTemplate jdbc;
+
+    private LeadInquiry lead(String status) {
+        LeadInquiry lead = new LeadInquiry();
+        lead.setName("Lead " + status);
+        lead.setPhone("9999999999");
+        lead.setStatus(status);
+        return leadRepo.saveAndFlush(lead);
+    }
+
+    @Test
+    void aggregateStats_matchesIndividualCounts() {
+        lead("NEW");
+        LeadInquiry stale = lead("NEW");
+        lead("CONTACTED");
+        lead("CLOSED");
+        jdbc.update("UPDATE lead_inquiries SET submitted_at = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(2)), stale.getId());
+
+        LeadStatsDTO stats = leadStatsService.getLeadStats();
+
+        assertThat(stats.getTotalAll()).isEqualTo(leadRepo.count());
+        assertThat(stats.getTotalNew()).isEqualTo(leadRepo.countByStatus("NEW"));
+        assertThat(stats.getTotalContacted()).isEqualTo(leadRepo.countByStatus("CONTACTED"));
+        assertThat(stats.getTotalClosed()).isEqualTo(leadRepo.countByStatus("CLOSED"));
+        assertThat(stats.getCriticalCount())
+                .isEqualTo(leadRepo.countByStatusAndSubmittedAtBefore("NEW", LocalDateTime.now().minusHours(24)))
+                .isGreaterThanOrEqualTo(1);
+        assertThat(stats.getTodayCount()).isGreaterThanOrEqualTo(3);
+    }
+}
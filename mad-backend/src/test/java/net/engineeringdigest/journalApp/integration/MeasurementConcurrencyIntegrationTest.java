@@ -0,0 +1,156 @@
+package net.engineeringdigest.journalApp.integration;
+
+import net.engineeringdigest.journalApp.model.BillOfQuantity;
+import net.engineeringdigest.journalApp.model.City;
+import net.engineeringdigest.journalApp.model.Project;
+import net.engineeringdigest.journalApp.model.ProjectStatus;
+import net.engineeringdigest.journalApp.repository.BillOfQuantityRepository;
+import net.engineeringdigest.journalApp.repository.CityRepository;
+import net.engineeringdigest.journalApp.repository.ProjectRepository;
+import net.engineeringdigest.journalApp.service.MeasurementService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 🧪 Measurement Concurrency Integration
+ * Hundreds of parallel measurements on the same BOQ items all land in completed_scope, each one
+ * gets its site-update entry after commit, and a rolled-back measurement is never announced.
+ * Runs against committed data (no test transaction) and cleans up after itself.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MeasurementConcurrencyIntegrationTest {
+
+    private static final int MEASUREMENTS = 400;
+    private static final int THREADS = 32;
+
+    @Autowired JdbcTemplate jdbc;
+    @Autowired TransactionTemplate tx;
+    @Autowired CityRepository cityRepo;
+    @Autowired ProjectRepository projectRepo;
+    @Autowired BillOfQuantityRepository boqRepo;
+    @Autowired MeasurementService measurementService;
+
+    private City city;
+    private Project project;
+    private BillOfQuantity flooring;
+    private BillOfQuantity skirting;
+
+    @BeforeEach
+    void seedTestData() {
+        city = new City();
+        city.setName("Measurement City");
+        city = cityRepo.save(city);
+
+        project = new Project();
+        project.setName("Measurement Site");
+        project.setClientName("Client");
+        project.setCity(city);
+        project.setStatus(ProjectStatus.RUNNING);
+        project.setStartDate(LocalDate.now().minusDays(10));
+        project = projectRepo.save(project);
+
+        flooring = boq("Flooring - Hall", "SFT");
+        skirting = boq("Skirting - Hall", "RFT");
+    }
+
+    private BillOfQuantity boq(String name, String unit) {
+        BillOfQuantity b = new BillOfQuantity();
+        b.setProject(project);
+        b.setItemName(name);
+        b.setUnit(unit);
+        b.setTotalScope(100_000);
+        b.setRate(50);
+        return boqRepo.save(b);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbc.update("DELETE FROM site_updates WHERE project_id = ?", project.getId());
+        jdbc.update("DELETE FROM daily_measurements WHERE boq_id IN (?, ?)", flooring.getId(), skirting.getId());
+        jdbc.update("DELETE FROM bill_of_quantities WHERE project_id = ?", project.getId());
+        jdbc.update("DELETE FROM projects WHERE id = ?", project.getId());
+        jdbc.update("DELETE FROM cities WHERE id = ?", city.getId());
+    }
+
+    private double completedScope(BillOfQuantity boq) {
+        return jdbc.queryForObject("SELECT completed_scope FROM bill_of_quantities WHERE id = ?", Double.class, boq.getId());
+    }
+
+    private int siteUpdates() {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM site_updates WHERE project_id = ?", Integer.class, project.getId());
+    }
+
+    // Site updates are published asynchronously after commit
+    private int awaitSiteUpdates(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (siteUpdates() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        return siteUpdates();
+    }
+
+    @Test
+    void parallelMeasurements_neverLoseAnIncrement() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        double expectedFlooring = 0;
+        double expectedSkirting = 0;
+        try {
+            List<Future<?>> submissions = new ArrayList<>();
+            for (int i = 0; i < MEASUREMENTS; i++) {
+                double length = i % 5 + 1;
+                boolean floor = i % 2 == 0;
+                if (floor) expectedFlooring += length * 2; else expectedSkirting += length;
+                Long boqId = floor ? flooring.getId() : skirting.getId();
+                submissions.add(pool.submit(() -> {
+                    start.await();
+                    return measurementService.recordMeasurement(boqId, length, 2, null, "Supervisor");
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : submissions) f.get(60, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(completedScope(flooring)).isEqualTo(expectedFlooring);
+        assertThat(completedScope(skirting)).isEqualTo(expectedSkirting);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM daily_measurements WHERE boq_id IN (?, ?)",
+                Integer.class, flooring.getId(), skirting.getId())).isEqualTo(MEASUREMENTS);
+        assertThat(awaitSiteUpdates(MEASUREMENTS)).isEqualTo(MEASUREMENTS);
+    }
+
+    @Test
+    void rolledBackMeasurement_isNeitherCountedNorAnnounced() throws Exception {
+        tx.executeWithoutResult(status -> {
+            measurementService.recordMeasurement(skirting.getId(), 7, 0, "wrong item", "Supervisor");
+            status.setRollbackOnly();
+        });
+        measurementService.recordMeasurement(skirting.getId(), 3, 0, null, "Supervisor");
+
+        assertThat(completedScope(skirting)).isEqualTo(3.0);
+        assertThat(awaitSiteUpdates(1)).isEqualTo(1);
+        Thread.sleep(200); // nothing further may arrive from the rolled-back measurement
+        assertThat(siteUpdates()).isEqualTo(1);
+        assertThat(jdbc.queryForObject("SELECT content FROM site_updates WHERE project_id = ?",
+                String.class, project.getId())).startsWith("Measurement recorded: 3.00 RFT for 'Skirting - Hall'");
+    }
+}
@@ -0,0 +1,200 @@
+package net.engineeringdigest.journalApp.integration;
+
+import net.engineeringdigest.journalApp.dto.PayrollTotalDTO;
+import net.engineeringdigest.journalApp.model.City;
+import net.engineeringdigest.journalApp.model.Labour;
+import net.engineeringdigest.journalApp.model.Project;
+import net.engineeringdigest.journalApp.model.ProjectStatus;
+import net.engineeringdigest.journalApp.repository.CityRepository;
+import net.engineeringdigest.journalApp.repository.LabourRepository;
+import net.engineeringdigest.journalApp.repository.ProjectRepository;
+import net.engineeringdigest.journalApp.service.AttendanceBatchService;
+import net.engineeringdigest.journalApp.service.AttendanceCalendarService;
+import net.engineeringdigest.journalApp.service.PayrollService;
+import net.engineeringdigest.journalApp.service.export.ExportFormat;
+import net.engineeringdigest.journalApp.service.export.ReportExportService;
+import net.engineeringdigest.journalApp.service.export.ReportType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 🧪 Payroll Integration
+ * Payroll lines page over the attendance calendar, project totals agree with the daily rollup,
+ * a wage change re-prices today's marks, and the muster roll streams as an export.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class PayrollIntegrationTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired CityRepository cityRepo;
+    @Autowired ProjectRepository projectRepo;
+    @Autowired LabourRepository labourRepo;
+    @Autowired AttendanceBatchService batchService;
+    @Autowired AttendanceCalendarService calendarService;
+    @Autowired PayrollService payrollService;
+    @Autowired ReportExportService exportService;
+
+    private Project project;
+    private Labour mason;
+    private Labour helper;
+    private Labour carpenter;
+
+    @BeforeEach
+    void seedTestData() {
+        City city = new City();
+        city.setName("Payroll City");
+        city = cityRepo.save(city);
+
+        project = new Project();
+        project.setName("Payroll Site");
+        project.setClientName("Client");
+        project.setCity(city);
+        project.setStatus(ProjectStatus.RUNNING);
+        project.setStartDate(LocalDate.now().minusMonths(2));
+        project = projectRepo.save(project);
+
+        mason = worker("Payroll Mason", "Mason", 900.0);
+        helper = worker("Payroll Helper", "Helper", 500.0);
+        carpenter = worker("Payroll Carpenter", "Carpenter", 800.0);
+    }
+
+    private Labour worker(String name, String type, double wage) {
+        Labour l = new Labour();
+        l.setName(name);
+        l.setType(type);
+        l.setDailyWage(wage);
+        l.setProject(project);
+        return labourRepo.save(l);
+    }
+
+    private void mark(Labour worker, String status) {
+        batchService.markAttendance(List.of(Map.of(
+                "labourId", worker.getId(), "projectId", project.getId(), "status", status)));
+    }
+
+    private BigDecimal calendarWageCost(Labour worker) {
+        return jdbc.queryForObject("SELECT wage_cost FROM attendance_calendar WHERE labour_id = ? AND month_start = ?",
+                BigDecimal.class, worker.getId(), Date.valueOf(YearMonth.now().atDay(1)));
+    }
+
+    private BigDecimal rollupWageCost(LocalDate from, LocalDate to) {
+        return jdbc.queryForObject("SELECT COALESCE(SUM(wage_cost), 0) FROM daily_attendance_rollup " +
+                "WHERE project_id = ? AND work_date BETWEEN ? AND ?", BigDecimal.class,
+                project.getId(), Date.valueOf(from), Date.valueOf(to));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void payrollLines_arePagedInAFixedOrder() throws Exception {
+        mark(mason, "PRESENT");
+        mark(helper, "HALF_DAY");
+        mark(carpenter, "ABSENT");
+
+        String url = "/api/v1/admin/financials/payroll";
+        mockMvc.perform(get(url).param("projectId", project.getId().toString()).param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].name").value("Payroll Carpenter"))
+                .andExpect(jsonPath("$.content[0].absent").value(1))
+                .andExpect(jsonPath("$.content[1].name").value("Payroll Helper"))
+                .andExpect(jsonPath("$.content[1].wageCost").value(250.0))
+                .andExpect(jsonPath("$.content[1].month").value(YearMonth.now().toString()));
+        mockMvc.perform(get(url).param("projectId", project.getId().toString()).param("size", "2").param("page", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].name").value("Payroll Mason"))
+                .andExpect(jsonPath("$.content[0].manDays").value(1.0));
+    }
+
+    @Test
+    void projectAndMonthTotals_matchTheDailyRollup() {
+        mark(mason, "PRESENT");
+        mark(helper, "PRESENT");
+        mark(helper, "HALF_DAY"); // a status change re-prices the day, it does not add pay
+
+        YearMonth month = YearMonth.now();
+        PayrollTotalDTO total = payrollService.getProjectTotals(month).stream()
+                .filter(t -> t.projectId().equals(project.getId()))
+                .findFirst().orElseThrow();
+        assertThat(total.workers()).isEqualTo(2);
+        assertThat(total.manDays()).isEqualTo(1.5);
+        assertThat(total.wageCost()).isEqualByComparingTo("1150")
+                .isEqualByComparingTo(rollupWageCost(month.atDay(1), month.atEndOfMonth()));
+
+        List<PayrollTotalDTO> months = payrollService.getMonthlyTotals(month.getYear(), project.getId());
+        assertThat(months).extracting(PayrollTotalDTO::month).containsExactly(month);
+        assertThat(months.get(0).wageCost()).isEqualByComparingTo("1150");
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void wageChange_repricesTodaysMarks() throws Exception {
+        mark(mason, "PRESENT");
+        mark(helper, "HALF_DAY");
+        LocalDate today = LocalDate.now();
+        assertThat(rollupWageCost(today, today)).isEqualByComparingTo("1150");
+
+        mockMvc.perform(put("/api/v1/labour/" + helper.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"wage\": 700}"))
+                .andExpect(status().isOk());
+
+        assertThat(calendarWageCost(helper)).isEqualByComparingTo("350");
+        assertThat(calendarWageCost(mason)).isEqualByComparingTo("900");
+        assertThat(rollupWageCost(today, today)).isEqualByComparingTo("1250");
+    }
+
+    @Test
+    void musterRollExport_streamsOneRowPerWorkerMonth() throws Exception {
+        YearMonth march = YearMonth.of(2025, 3);
+        for (Object[] mark : new Object[][]{
+                {mason, march.atDay(1), "PRESENT"}, {mason, march.atDay(2), "HALF_DAY"},
+                {helper, march.atDay(3), "ABSENT"}, {helper, march.plusMonths(2).atDay(1), "PRESENT"}}) {
+            jdbc.update("INSERT INTO attendance (labour_id, project_id, date, status) VALUES (?, ?, ?, ?)",
+                    ((Labour) mark[0]).getId(), project.getId(), Date.valueOf((LocalDate) mark[1]), mark[2]);
+        }
+        calendarService.rebuild();
+
+        assertThat(ReportType.parse("muster-roll")).isEqualTo(ReportType.MUSTER_ROLL);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = exportService.export(ReportType.MUSTER_ROLL, ExportFormat.CSV,
+                march.atDay(10), march.plusMonths(1).atDay(5), out);
+
+        assertThat(rows).isEqualTo(2);
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(csv).startsWith("\uFEFFMonth,Project,Worker,Type,Daily Wage,1,2,3,");
+        assertThat(csv.lines().findFirst().orElseThrow()).endsWith(",31,Present,Half Days,Absent,Man-Days,Wage Cost");
+        assertThat(csv).contains("2025-03,Payroll Site,Payroll Mason,Mason,900.0,P,H,,")
+                .contains("2025-03,Payroll Site,Payroll Helper,Helper,500.0,,,A,");
+        assertThat(csv.lines().count()).isEqualTo(3);
+    }
+}
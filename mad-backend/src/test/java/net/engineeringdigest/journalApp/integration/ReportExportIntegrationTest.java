@@ -0,0 +1,180 @@
+package net.engineeringdigest.journalApp.integration;
+
+import net.engineeringdigest.journalApp.model.Attendance;
+import net.engineeringdigest.journalApp.model.City;
+import net.engineeringdigest.journalApp.model.Labour;
+import net.engineeringdigest.journalApp.model.Project;
+import net.engineeringdigest.journalApp.model.ProjectStatus;
+import net.engineeringdigest.journalApp.repository.AttendanceRepository;
+import net.engineeringdigest.journalApp.repository.CityRepository;
+import net.engineeringdigest.journalApp.repository.LabourRepository;
+import net.engineeringdigest.journalApp.repository.ProjectRepository;
+import net.engineeringdigest.journalApp.service.export.ExportFormat;
+import net.engineeringdigest.journalApp.service.export.ReportExportService;
+import net.engineeringdigest.journalApp.service.export.ReportType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 🧪 Report Export Integration
+ * Attendance rows stream within the requested range as CSV and XLSX, and the endpoint
+ * validates its parameters before streaming and honours gzip.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class ReportExportIntegrationTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired CityRepository cityRepo;
+    @Autowired ProjectRepository projectRepo;
+    @Autowired LabourRepository labourRepo;
+    @Autowired AttendanceRepository attendanceRepo;
+    @Autowired ReportExportService exportService;
+
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void seedTestData() {
+        City city = new City();
+        city.setName("Export City");
+        city = cityRepo.save(city);
+
+        Project project = new Project();
+        project.setName("Export Site, Phase 1");
+        project.setClientName("Client E");
+        project.setCity(city);
+        project.setStatus(ProjectStatus.RUNNING);
+        project.setStartDate(today.minusDays(60));
+        project = projectRepo.save(project);
+
+        Labour worker = new Labour();
+        worker.setName("=HYPERLINK(\"x\")");
+        worker.setType("Mason");
+        worker.setDailyWage(750.0);
+        worker.setProject(project);
+        worker = labourRepo.save(worker);
+
+        attendanceRepo.save(attendance(worker, project, today, "PRESENT"));
+        attendanceRepo.save(attendance(worker, project, today.minusDays(1), "HALF_DAY"));
+        attendanceRepo.save(attendance(worker, project, today.minusDays(45), "PRESENT")); // outside default range
+    }
+
+    private static Attendance attendance(Labour labour, Project project, LocalDate date, String status) {
+        Attendance a = new Attendance();
+        a.setLabour(labour);
+        a.setProject(project);
+        a.setDate(date);
+        a.setStatus(status);
+        return a;
+    }
+
+    @Test
+    void attendanceCsv_streamsRowsInRange_andNeutralisesFormulas() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = exportService.export(ReportType.ATTENDANCE, ExportFormat.CSV, null, null, out);
+
+        assertThat(rows).isEqualTo(2);
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(csv).startsWith("\uFEFFDate,Project,Worker,Type,Status,Daily Wage\r\n");
+        assertThat(csv).contains(today.minusDays(1) + ",\"Export Site, Phase 1\",\"'=HYPERLINK(\"\"x\"\")\",Mason,HALF_DAY,750.0\r\n");
+        assertThat(csv.lines().count()).isEqualTo(3);
+
+        out.reset();
+        assertThat(exportService.export(ReportType.ATTENDANCE, ExportFormat.CSV,
+                today.minusDays(50), today.minusDays(40), out)).isEqualTo(1);
+    }
+
+    @Test
+    void attendanceXlsx_isAWellFormedWorkbook() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.export(ReportType.ATTENDANCE, ExportFormat.XLSX, null, null, out);
+
+        List<String> entries = new ArrayList<>();
+        String sheet = null;
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.add(entry.getName());
+                if (entry.getName().equals("xl/worksheets/sheet1.xml")) {
+                    sheet = new String(zip.readAllBytes(), StandardCharsets.UTF_8);
+                }
+            }
+        }
+        assertThat(entries).containsExactly("[Content_Types].xml", "_rels/.rels", "xl/workbook.xml",
+                "xl/_rels/workbook.xml.rels", "xl/worksheets/sheet1.xml");
+        assertThat(sheet).endsWith("</sheetData></worksheet>");
+        assertThat(sheet).contains("=HYPERLINK(&quot;x&quot;)").contains("<c><v>750.0</v></c>");
+        assertThat(sheet.split("<row>", -1)).hasSize(4); // header + 2 rows
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void endpoint_rejectsBadParametersBeforeStreaming() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/exports/payroll"))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errorCode").value("ERR_UNKNOWN_REPORT"));
+        mockMvc.perform(get("/api/v1/admin/exports/attendance").param("format", "pdf"))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errorCode").value("ERR_UNSUPPORTED_FORMAT"));
+        mockMvc.perform(get("/api/v1/admin/exports/attendance")
+                        .param("from", "2024-02-01").param("to", "2024-01-01"))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void endpoint_streamsGzipDownload() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/v1/admin/exports/vendors").param("gzip", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        // The export's own timeout, not the MVC default every other async endpoint keeps
+        assertThat(started.getRequest().getAsyncContext().getTimeout()).isEqualTo(600_000L);
+        MvcResult done = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/gzip"))
+                .andExpect(header().string("Content-Disposition",
+                        "attachment; filename=\"vendors-" + today + ".csv.gz\""))
+                .andReturn();
+
+        byte[] gz = done.getResponse().getContentAsByteArray();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gz))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8))
+                    .startsWith("\uFEFFVendor ID,Vendor,Total Order Value,Total Paid,Pending Balance,Orders\r\n");
+        }
+    }
+
+    @Test
+    @WithMockUser(username = "supervisor", roles = {"SUPERVISOR"})
+    void endpoint_isAdminOnly() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/exports/attendance"))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,208 @@
+package net.engineeringdigest.journalApp.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.engineeringdigest.journalApp.dto.CursorPageDTO;
+import net.engineeringdigest.journalApp.dto.RequisitionListItemDTO;
+import net.engineeringdigest.journalApp.model.City;
+import net.engineeringdigest.journalApp.model.MaterialRequisition;
+import net.engineeringdigest.journalApp.model.Project;
+import net.engineeringdigest.journalApp.model.ProjectStatus;
+import net.engineeringdigest.journalApp.model.User;
+import net.engineeringdigest.journalApp.model.Vendor;
+import net.engineeringdigest.journalApp.repository.CityRepository;
+import net.engineeringdigest.journalApp.repository.MaterialRequisitionRepository;
+import net.engineeringdigest.journalApp.repository.ProjectRepository;
+import net.engineeringdigest.journalApp.repository.RequisitionSearchRepository.Criteria;
+import net.engineeringdigest.journalApp.repository.UserRepository;
+import net.engineeringdigest.journalApp.repository.VendorRepository;
+import net.engineeringdigest.journalApp.service.MaterialRequisitionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 🧪 Requisition Listing Integration
+ * Keyset pages walk (created_at, id) newest first without gaps or repeats — including rows
+ * sharing a timestamp — and every filter narrows the listing.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class RequisitionListingIntegrationTest {
+
+    private static final Criteria ALL = new Criteria(null, null, null, null, null, null);
+
+    @Autowired MockMvc mockMvc;
+    @Autowired ObjectMapper objectMapper;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired CityRepository cityRepo;
+    @Autowired ProjectRepository projectRepo;
+    @Autowired UserRepository userRepo;
+    @Autowired VendorRepository vendorRepo;
+    @Autowired MaterialRequisitionRepository requisitionRepo;
+    @Autowired MaterialRequisitionService requisitionService;
+
+    private Project tower;
+    private Project villa;
+    private Vendor cement;
+    private User requester;
+    private final LocalDateTime base = LocalDate.of(2024, 3, 1).atTime(9, 0);
+    private final List<Long> newestFirst = new ArrayList<>();
+
+    @BeforeEach
+    void seedTestData() {
+        City city = new City();
+        city.setName("Listing City");
+        city = cityRepo.save(city);
+        tower = project("Tower", city);
+        villa = project("Villa", city);
+
+        requester = new User();
+        requester.setUsername("listing-supervisor");
+        requester.setPasswordHash("x");
+        requester = userRepo.save(requester);
+
+        cement = new Vendor();
+        cement.setName("Cement Co");
+        cement = vendorRepo.save(cement);
+
+        // Six requisitions over four days; two pairs share a timestamp so the id tiebreak matters
+        Long r1 = requisition(tower, "PENDING", "NORMAL", null, base);
+        Long r2 = requisition(villa, "APPROVED", "URGENT", cement, base.plusDays(1));
+        Long r3 = requisition(tower, "PENDING", "URGENT", cement, base.plusDays(1));
+        Long r4 = requisition(villa, "REJECTED", "NORMAL", null, base.plusDays(2));
+        Long r5 = requisition(tower, "PENDING", "CRITICAL", null, base.plusDays(3));
+        Long r6 = requisition(tower, "APPROVED", "NORMAL", cement, base.plusDays(3));
+        newestFirst.addAll(List.of(r6, r5, r4, r3, r2, r1));
+    }
+
+    private Project project(String name, City city) {
+        Project p = new Project();
+        p.setName(name);
+        p.setClientName("Client");
+        p.setCity(city);
+        p.setStatus(ProjectStatus.RUNNING);
+        p.setStartDate(LocalDate.of(2024, 1, 1));
+        return projectRepo.save(p);
+    }
+
+    private Long requisition(Project project, String status, String urgency, Vendor vendor, LocalDateTime createdAt) {
+        MaterialRequisition r = new MaterialRequisition();
+        r.setProject(project);
+        r.setRequester(requester);
+        r.setCustomItemName("Item " + status);
+        r.setQuantity(5.0);
+        r.setStatus(status);
+        r.setUrgency(urgency);
+        r.setVendor(vendor);
+        r.setTotalCost(vendor != null ? new BigDecimal("250.00") : null);
+        Long id = requisitionRepo.saveAndFlush(r).getId();
+        jdbc.update("UPDATE material_requisitions SET created_at = ? WHERE id = ?", Timestamp.valueOf(createdAt), id);
+        return id;
+    }
+
+    private List<Long> walk(Criteria criteria, int size) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageDTO<RequisitionListItemDTO> page = requisitionService.search(criteria, cursor, size);
+            assertThat(page.getItems().size()).isLessThanOrEqualTo(size);
+            page.getItems().forEach(item -> ids.add(item.getId()));
+            cursor = page.getNextCursor();
+            assertThat(page.isHasMore()).isEqualTo(cursor != null);
+        } while (cursor != null);
+        return ids;
+    }
+
+    private List<Long> seeded(List<Long> ids) {
+        return ids.stream().filter(newestFirst::contains).toList();
+    }
+
+    @Test
+    void keysetPages_walkNewestFirst_withoutGapsOrRepeats() {
+        assertThat(seeded(walk(ALL, 2))).containsExactlyElementsOf(newestFirst);
+        assertThat(seeded(walk(ALL, 4))).containsExactlyElementsOf(newestFirst);
+    }
+
+    @Test
+    void filters_narrowTheListing() {
+        assertThat(walk(new Criteria(List.of("PENDING"), null, null, null, null, null), 2))
+                .containsExactly(newestFirst.get(1), newestFirst.get(3), newestFirst.get(5));
+        assertThat(walk(new Criteria(null, villa.getId(), null, null, null, null), 10))
+                .containsExactly(newestFirst.get(2), newestFirst.get(4));
+        assertThat(walk(new Criteria(null, null, cement.getId(), "URGENT", null, null), 10))
+                .containsExactly(newestFirst.get(3), newestFirst.get(4));
+        assertThat(walk(new Criteria(List.of("PENDING", "APPROVED"), tower.getId(), null, null,
+                base.plusDays(1), base.plusDays(3)), 1))
+                .containsExactly(newestFirst.get(3));
+    }
+
+    @Test
+    void rows_areFlat() {
+        RequisitionListItemDTO first = requisitionService.search(
+                new Criteria(null, null, cement.getId(), null, null, null), null, 1).getItems().get(0);
+
+        assertThat(first.getId()).isEqualTo(newestFirst.get(0));
+        assertThat(first.getProjectName()).isEqualTo("Tower");
+        assertThat(first.getRequesterName()).isEqualTo("listing-supervisor");
+        assertThat(first.getVendorName()).isEqualTo("Cement Co");
+        assertThat(first.getItemName()).isEqualTo("Item APPROVED");
+        assertThat(first.getTotalCost()).isEqualByComparingTo("250");
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void endpoint_followsCursor_andValidatesInput() throws Exception {
+        String body = mockMvc.perform(get("/api/v1/requisitions")
+                        .param("projectId", tower.getId().toString())
+                        .param("status", "pending")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].id").value(newestFirst.get(1)))
+                .andExpect(jsonPath("$.items[0].projectName").value("Tower"))
+                .andExpect(jsonPath("$.items[0].project").doesNotExist())
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andReturn().getResponse().getContentAsString();
+        JsonNode page = objectMapper.readTree(body);
+
+        mockMvc.perform(get("/api/v1/requisitions")
+                        .param("projectId", tower.getId().toString())
+                        .param("status", "PENDING")
+                        .param("size", "2")
+                        .param("cursor", page.get("nextCursor").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(newestFirst.get(5)))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        mockMvc.perform(get("/api/v1/requisitions").param("cursor", "not-a-cursor"))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errorCode").value("ERR_INVALID_CURSOR"));
+        mockMvc.perform(get("/api/v1/requisitions").param("size", "1000"))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errorCode").value("ERR_INVALID_PAGE_SIZE"));
+    }
+}
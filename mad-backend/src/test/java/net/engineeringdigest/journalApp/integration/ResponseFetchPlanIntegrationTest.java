@@ -0,0 +1,199 @@
+package net.engineeringdigest.journalApp.integration;
+
+import net.engineeringdigest.journalApp.model.City;
+import net.engineeringdigest.journalApp.model.InventoryItem;
+import net.engineeringdigest.journalApp.model.InventoryMovementType;
+import net.engineeringdigest.journalApp.model.MaterialRequisition;
+import net.engineeringdigest.journalApp.model.Project;
+import net.engineeringdigest.journalApp.model.ProjectStatus;
+import net.engineeringdigest.journalApp.model.User;
+import net.engineeringdigest.journalApp.model.Vendor;
+import net.engineeringdigest.journalApp.repository.CityRepository;
+import net.engineeringdigest.journalApp.repository.InventoryItemRepository;
+import net.engineeringdigest.journalApp.repository.MaterialRequisitionRepository;
+import net.engineeringdigest.journalApp.repository.ProjectRepository;
+import net.engineeringdigest.journalApp.repository.UserRepository;
+import net.engineeringdigest.journalApp.repository.VendorRepository;
+import net.engineeringdigest.journalApp.service.InventoryLedgerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasItems;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 🧪 Response Fetch Plans
+ * Every list and detail endpoint of the requisition, inventory, vendor and project controllers
+ * builds its response from one SQL statement, whatever the number of rows and associations.
+ * Statements are counted on the request thread only, so the async audit-log writes are ignored.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(SqlStatementCounter.Config.class)
+@Transactional
+@WithMockUser(username = "plan-supervisor", roles = {"ADMIN"})
+class ResponseFetchPlanIntegrationTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired EntityManager entityManager;
+    @Autowired CityRepository cityRepo;
+    @Autowired ProjectRepository projectRepo;
+    @Autowired UserRepository userRepo;
+    @Autowired VendorRepository vendorRepo;
+    @Autowired InventoryItemRepository inventoryRepo;
+    @Autowired MaterialRequisitionRepository requisitionRepo;
+    @Autowired InventoryLedgerService inventoryLedger;
+
+    private Project tower;
+    private Vendor vendor;
+    private InventoryItem cement;
+
+    @BeforeEach
+    void seedTestData() {
+        City city = new City();
+        city.setName("Plan City");
+        city.setState("Rajasthan");
+        city = cityRepo.save(city);
+
+        User supervisor = new User();
+        supervisor.setUsername("plan-supervisor");
+        supervisor.setFullName("Plan Supervisor");
+        supervisor.setPasswordHash("x");
+        supervisor = userRepo.save(supervisor);
+
+        tower = project("Plan Tower", city, supervisor);
+        Project villa = project("Plan Villa", city, supervisor);
+
+        vendor = vendor("Plan Cement Co");
+        Vendor steel = vendor("Plan Steel Co");
+
+        cement = item("Plan Cement", tower, vendor, 10, 50);
+        InventoryItem tmt = item("Plan TMT", villa, steel, 500, 100);
+
+        requisition(tower, supervisor, cement, null, vendor);
+        requisition(villa, supervisor, tmt, null, steel);
+        requisition(villa, supervisor, null, "Plan River Sand", null);
+
+        inventoryLedger.record(cement.getId(), InventoryMovementType.RECEIPT, 40, "REQ-1", "plan-supervisor");
+        inventoryLedger.issue(cement.getId(), 5, "SLAB-1", "plan-supervisor");
+    }
+
+    private Project project(String name, City city, User supervisor) {
+        Project p = new Project();
+        p.setName(name);
+        p.setClientName("Client");
+        p.setCity(city);
+        p.setSupervisor(supervisor);
+        p.setStatus(ProjectStatus.RUNNING);
+        p.setStartDate(LocalDate.of(2024, 1, 1));
+        return projectRepo.save(p);
+    }
+
+    private Vendor vendor(String name) {
+        Vendor v = new Vendor();
+        v.setName(name);
+        return vendorRepo.save(v);
+    }
+
+    private InventoryItem item(String name, Project project, Vendor vendor, double quantity, double minimum) {
+        InventoryItem item = new InventoryItem();
+        item.setName(name);
+        item.setUnitOfMeasure("BAGS");
+        item.setProject(project);
+        item.setVendor(vendor);
+        item.setCurrentQuantity(quantity);
+        item.setMinimumStockLevel(minimum);
+        return inventoryRepo.save(item);
+    }
+
+    private void requisition(Project project, User requester, InventoryItem item, String customName, Vendor vendor) {
+        MaterialRequisition r = new MaterialRequisition();
+        r.setProject(project);
+        r.setRequester(requester);
+        r.setInventoryItem(item);
+        r.setCustomItemName(customName);
+        r.setVendor(vendor);
+        r.setQuantity(20.0);
+        r.setUnitOfMeasure("BAGS");
+        r.setUnitPrice(new BigDecimal("350.00"));
+        r.setTotalCost(new BigDecimal("7000.00"));
+        requisitionRepo.save(r);
+    }
+
+    /**
+     * Runs the request against an empty persistence context, so nothing is served from
+     * already-loaded entities, and asserts it issued exactly one statement.
+     */
+    private ResultActions performInOneStatement(String url) throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+        SqlStatementCounter.reset();
+        ResultActions result = mockMvc.perform(get(url)).andExpect(status().isOk());
+        assertThat(SqlStatementCounter.count()).as("SQL statements for GET %s", url).isEqualTo(1);
+        return result;
+    }
+
+    @Test
+    void requisitionListings_joinTheirAssociations() throws Exception {
+        performInOneStatement("/api/v1/requisitions/all")
+                .andExpect(jsonPath("$[?(@.project.name == 'Plan Tower')].vendor.name").value("Plan Cement Co"))
+                .andExpect(jsonPath("$[?(@.customItemName == 'Plan River Sand')].project.name").value("Plan Villa"));
+        performInOneStatement("/api/v1/requisitions/my")
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[*].requester.fullName").value(everyItem(equalTo("Plan Supervisor"))))
+                .andExpect(jsonPath("$[*].inventoryItem.name").value(hasItems("Plan Cement", "Plan TMT")));
+        performInOneStatement("/api/v1/requisitions?size=10")
+                .andExpect(jsonPath("$.items.length()").value(3));
+    }
+
+    @Test
+    void inventoryEndpoints_joinProjectAndVendor() throws Exception {
+        performInOneStatement("/api/v1/admin/inventory")
+                .andExpect(jsonPath("$[?(@.name == 'Plan TMT')].project.name").value("Plan Villa"))
+                .andExpect(jsonPath("$[?(@.name == 'Plan TMT')].vendor.name").value("Plan Steel Co"));
+        performInOneStatement("/api/v1/admin/inventory/low-stock")
+                .andExpect(jsonPath("$[?(@.name == 'Plan Cement')].project.name").value("Plan Tower"));
+        performInOneStatement("/api/v1/admin/inventory/" + cement.getId() + "/stock")
+                .andExpect(jsonPath("$.itemId").value(cement.getId()))
+                .andExpect(jsonPath("$.compactedQuantity").value(10.0))
+                .andExpect(jsonPath("$.currentQuantity").value(45.0));
+        performInOneStatement("/api/v1/admin/inventory/" + cement.getId() + "/movements?size=10")
+                .andExpect(jsonPath("$.content[0].type").value("ISSUE"))
+                .andExpect(jsonPath("$.content.length()").value(2));
+    }
+
+    @Test
+    void vendorAndProjectEndpoints_readOneStatement() throws Exception {
+        performInOneStatement("/api/v1/admin/vendors")
+                .andExpect(jsonPath("$[*].name").value(hasItems("Plan Cement Co", "Plan Steel Co")));
+        performInOneStatement("/api/v1/admin/vendors/" + vendor.getId())
+                .andExpect(jsonPath("$.name").value("Plan Cement Co"));
+        performInOneStatement("/api/v1/admin/vendors/" + vendor.getId() + "/audit")
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].itemName").value("Plan Cement"));
+        performInOneStatement("/api/v1/admin/projects/" + tower.getId())
+                .andExpect(jsonPath("$.city.name").value("Plan City"))
+                .andExpect(jsonPath("$.supervisor.fullName").value("Plan Supervisor"));
+        performInOneStatement("/api/v1/projects?size=50")
+                .andExpect(jsonPath("$.content[*].projectName").value(hasItems("Plan Tower", "Plan Villa")));
+    }
+}
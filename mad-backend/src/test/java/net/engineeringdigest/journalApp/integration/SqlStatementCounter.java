@@ -0,0 +1,43 @@
+package net.engineeringdigest.journalApp.integration;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 🔢 Counts the SQL statements Hibernate prepares on the current thread.
+ * Register with {@code @Import(SqlStatementCounter.Config.class)}. Per-thread counts leave out
+ * the async audit-log writes; statements sent through JdbcTemplate are not seen.
+ */
+final class SqlStatementCounter implements StatementInspector {
+
+    static final SqlStatementCounter INSTANCE = new SqlStatementCounter();
+
+    private final ThreadLocal<int[]> count = ThreadLocal.withInitial(() -> new int[1]);
+
+    private SqlStatementCounter() {}
+
+    @Override
+    public String inspect(String sql) {
+        count.get()[0]++;
+        return sql;
+    }
+
+    static void reset() {
+        INSTANCE.count.get()[0] = 0;
+    }
+
+    static int count() {
+        return INSTANCE.count.get()[0];
+    }
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        HibernatePropertiesCustomizer sqlStatementCounter() {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, INSTANCE);
+        }
+    }
+}
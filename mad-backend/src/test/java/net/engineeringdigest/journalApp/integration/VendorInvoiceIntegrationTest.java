@@ -0,0 +1,182 @@
+package net.engineeringdigest.journalApp.integration;
+
+import net.engineeringdigest.journalApp.dto.VendorFinancialDTO;
+import net.engineeringdigest.journalApp.exception.BusinessRuleException;
+import net.engineeringdigest.journalApp.exception.ResourceNotFoundException;
+import net.engineeringdigest.journalApp.model.City;
+import net.engineeringdigest.journalApp.model.MaterialRequisition;
+import net.engineeringdigest.journalApp.model.Project;
+import net.engineeringdigest.journalApp.model.ProjectStatus;
+import net.engineeringdigest.journalApp.model.User;
+import net.engineeringdigest.journalApp.model.Vendor;
+import net.engineeringdigest.journalApp.model.VendorInvoice;
+import net.engineeringdigest.journalApp.repository.CityRepository;
+import net.engineeringdigest.journalApp.repository.MaterialRequisitionRepository;
+import net.engineeringdigest.journalApp.repository.ProjectRepository;
+import net.engineeringdigest.journalApp.repository.UserRepository;
+import net.engineeringdigest.journalApp.repository.VendorInvoiceRepository;
+import net.engineeringdigest.journalApp.repository.VendorRepository;
+import net.engineeringdigest.journalApp.service.VendorInvoiceService;
+import net.engineeringdigest.journalApp.service.VendorLedgerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 🧪 Vendor Invoice Integration
+ * Invoicing runs in a fixed number of statements however many requisitions it covers, refuses
+ * requisitions that are already invoiced, and keeps vendor_ledger in step with the status change.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(SqlStatementCounter.Config.class)
+@Transactional
+class VendorInvoiceIntegrationTest {
+
+    private static final int REQUISITIONS = 200;
+
+    @Autowired JdbcTemplate jdbc;
+    @Autowired EntityManager entityManager;
+    @Autowired CityRepository cityRepo;
+    @Autowired ProjectRepository projectRepo;
+    @Autowired UserRepository userRepo;
+    @Autowired VendorRepository vendorRepo;
+    @Autowired MaterialRequisitionRepository requisitionRepo;
+    @Autowired VendorInvoiceRepository invoiceRepo;
+    @Autowired VendorInvoiceService invoiceService;
+    @Autowired VendorLedgerService ledgerService;
+
+    private Project project;
+    private User supervisor;
+    private Vendor vendor;
+
+    @BeforeEach
+    void seedTestData() {
+        City city = new City();
+        city.setName("Invoice City");
+        city = cityRepo.save(city);
+
+        project = new Project();
+        project.setName("Invoice Site");
+        project.setClientName("Client");
+        project.setCity(city);
+        project.setStatus(ProjectStatus.RUNNING);
+        project.setStartDate(LocalDate.of(2024, 1, 1));
+        project = projectRepo.save(project);
+
+        supervisor = new User();
+        supervisor.setUsername("invoice-supervisor");
+        supervisor.setPasswordHash("x");
+        supervisor = userRepo.save(supervisor);
+
+        vendor = new Vendor();
+        vendor.setName("Invoice Cement Co");
+        vendor = vendorRepo.save(vendor);
+    }
+
+    private List<Long> requisitions(int count, String status) {
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            MaterialRequisition r = new MaterialRequisition();
+            r.setProject(project);
+            r.setRequester(supervisor);
+            r.setVendor(vendor);
+            r.setCustomItemName("Cement lot " + i);
+            r.setQuantity(10.0);
+            r.setTotalCost(new BigDecimal("1000.50"));
+            r.setStatus(status);
+            ids.add(requisitionRepo.save(r).getId());
+        }
+        return ids;
+    }
+
+    private String ledgerRow() {
+        return ledgerService.getStatements(Pageable.unpaged()).getContent().stream()
+                .filter(s -> s.getVendorId().equals(vendor.getId()))
+                .map(VendorFinancialDTO::getTotalOrderValue)
+                .map(v -> v.stripTrailingZeros().toPlainString())
+                .findFirst().orElse("none");
+    }
+
+    @Test
+    void invoicingManyRequisitions_takesAFixedNumberOfStatements() {
+        List<Long> ids = requisitions(REQUISITIONS, "RECEIVED");
+        entityManager.flush();
+        entityManager.clear();
+
+        SqlStatementCounter.reset();
+        VendorInvoice invoice = invoiceService.generateInvoice(vendor.getId(), ids, "admin");
+        int statements = SqlStatementCounter.count();
+        System.out.printf("[BENCHMARK] invoice of %d requisitions | %d JPA statements + 1 JDBC batch%n",
+                REQUISITIONS, statements);
+
+        // Vendor, existence check, requisition fetch, status update, header insert
+        assertThat(statements).isLessThanOrEqualTo(5);
+        assertThat(invoice.getTotalAmount()).isEqualByComparingTo(new BigDecimal("200100.00"));
+        assertThat(invoice.getLineItems()).hasSize(REQUISITIONS).allSatisfy(line -> assertThat(line.getId()).isNotNull());
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM vendor_invoice_items WHERE invoice_id = ?",
+                Integer.class, invoice.getId())).isEqualTo(REQUISITIONS);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM material_requisitions WHERE vendor_id = ? " +
+                "AND status = 'INVOICED'", Integer.class, vendor.getId())).isEqualTo(REQUISITIONS);
+
+        VendorInvoice reloaded = invoiceRepo.findById(invoice.getId()).orElseThrow();
+        assertThat(reloaded.getLineItems()).hasSize(REQUISITIONS);
+        assertThat(reloaded.getLineItems().get(0).getDescription()).startsWith("Cement lot");
+    }
+
+    @Test
+    void alreadyInvoicedRequisition_isRefused_andNothingIsWritten() {
+        List<Long> first = requisitions(2, "RECEIVED");
+        invoiceService.generateInvoice(vendor.getId(), first, "admin");
+        List<Long> fresh = requisitions(1, "RECEIVED");
+
+        assertThatThrownBy(() -> invoiceService.generateInvoice(vendor.getId(),
+                List.of(fresh.get(0), first.get(1)), "admin"))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessage("Requisition #" + first.get(1) + " has already been included in another invoice.");
+        assertThatThrownBy(() -> invoiceService.generateInvoice(vendor.getId(), List.of(fresh.get(0), 999_999L), "admin"))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(requisitionRepo.findById(fresh.get(0)).orElseThrow().getStatus()).isEqualTo("RECEIVED");
+    }
+
+    @Test
+    void uniqueRequisitionKey_rejectsASecondLine() {
+        List<Long> ids = requisitions(1, "RECEIVED");
+        VendorInvoice invoice = invoiceService.generateInvoice(vendor.getId(), ids, "admin");
+
+        // What a concurrent invoice would insert after both passed the existence check
+        assertThatThrownBy(() -> jdbc.update("INSERT INTO vendor_invoice_items (invoice_id, requisition_id, amount) " +
+                "VALUES (?, ?, 1)", invoice.getId(), ids.get(0)))
+                .isInstanceOf(DuplicateKeyException.class);
+    }
+
+    @Test
+    void invoicingRejectedRequisitions_updatesTheLedgerOncePerVendor() {
+        List<Long> ids = requisitions(3, "RECEIVED");
+        ids.addAll(requisitions(2, "REJECTED"));
+        ledgerService.rebuild();
+        assertThat(ledgerRow()).isEqualTo("3001.5");
+
+        invoiceService.generateInvoice(vendor.getId(), ids, "admin");
+        assertThat(ledgerRow()).isEqualTo("5002.5");
+
+        ledgerService.rebuild();
+        assertThat(ledgerRow()).isEqualTo("5002.5");
+    }
+}
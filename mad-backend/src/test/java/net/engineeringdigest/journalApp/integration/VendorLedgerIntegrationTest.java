@@ -0,0 +1,153 @@
+package net.engineeringdigest.journalApp.integration;
+
+import net.engineeringdigest.journalApp.dto.VendorFinancialDTO;
+import net.engineeringdigest.journalApp.model.City;
+import net.engineeringdigest.journalApp.model.MaterialRequisition;
+import net.engineeringdigest.journalApp.model.Project;
+import net.engineeringdigest.journalApp.model.ProjectStatus;
+import net.engineeringdigest.journalApp.model.User;
+import net.engineeringdigest.journalApp.model.Vendor;
+import net.engineeringdigest.journalApp.repository.CityRepository;
+import net.engineeringdigest.journalApp.repository.ProjectRepository;
+import net.engineeringdigest.journalApp.repository.UserRepository;
+import net.engineeringdigest.journalApp.repository.VendorRepository;
+import net.engineeringdigest.journalApp.service.MaterialRequisitionService;
+import net.engineeringdigest.journalApp.service.ProjectService;
+import net.engineeringdigest.journalApp.service.VendorLedgerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 🧪 Vendor Ledger Integration
+ * Requisition writes keep vendor_ledger in step, the incremental ledger matches a full rebuild,
+ * and the paged endpoint sorts by pending balance.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class VendorLedgerIntegrationTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired CityRepository cityRepo;
+    @Autowired ProjectRepository projectRepo;
+    @Autowired UserRepository userRepo;
+    @Autowired VendorRepository vendorRepo;
+    @Autowired MaterialRequisitionService requisitionService;
+    @Autowired ProjectService projectService;
+    @Autowired VendorLedgerService ledgerService;
+
+    private Project project;
+    private Vendor cement;
+    private Vendor steel;
+
+    @BeforeEach
+    void seedTestData() {
+        City city = new City();
+        city.setName("Ledger City");
+        city = cityRepo.save(city);
+
+        project = new Project();
+        project.setName("Ledger Site");
+        project.setClientName("Client L");
+        project.setCity(city);
+        project.setStatus(ProjectStatus.RUNNING);
+        project.setStartDate(LocalDate.now());
+        project = projectRepo.save(project);
+
+        User user = new User();
+        user.setUsername("ledger-supervisor");
+        user.setPasswordHash("x");
+        userRepo.save(user);
+
+        cement = vendor("Cement Co");
+        steel = vendor("Steel Co");
+    }
+
+    private Vendor vendor(String name) {
+        Vendor v = new Vendor();
+        v.setName(name);
+        return vendorRepo.save(v);
+    }
+
+    private Long requisition() {
+        MaterialRequisition r = new MaterialRequisition();
+        r.setProject(project);
+        r.setQuantity(10.0);
+        r.setCustomItemName("Material");
+        return requisitionService.submit(r, "ledger-supervisor").getId();
+    }
+
+    private Map<Long, String> statements() {
+        return ledgerService.getStatements(Pageable.unpaged()).getContent().stream()
+                .filter(s -> s.getVendorId().equals(cement.getId()) || s.getVendorId().equals(steel.getId()))
+                .collect(Collectors.toMap(VendorFinancialDTO::getVendorId,
+                        s -> s.getTotalOrderValue().stripTrailingZeros().toPlainString() + "/"
+                                + s.getTotalPaid().stripTrailingZeros().toPlainString() + "/"
+                                + s.getPendingBalance().stripTrailingZeros().toPlainString() + "/"
+                                + s.getOrderCount()));
+    }
+
+    @Test
+    void requisitionWrites_maintainLedger_andMatchRebuild() {
+        Long a = requisition();
+        Long b = requisition();
+        Long c = requisition();
+
+        requisitionService.assignVendor(a, cement.getId(), new BigDecimal("100"), new BigDecimal("1000"), "admin");
+        requisitionService.assignVendor(b, cement.getId(), new BigDecimal("50"), new BigDecimal("500"), "admin");
+        requisitionService.assignVendor(c, steel.getId(), new BigDecimal("30"), new BigDecimal("300"), "admin");
+        projectService.markRequisitionAsPaid(a);
+        requisitionService.updateStatus(b, "REJECTED", "Wrong grade");
+        requisitionService.assignVendor(c, cement.getId(), new BigDecimal("40"), new BigDecimal("400"), "admin"); // vendor switch
+
+        Map<Long, String> incremental = statements();
+        assertThat(incremental).containsEntry(cement.getId(), "1400/1000/400/3")
+                               .containsEntry(steel.getId(), "0/0/0/0");
+
+        ledgerService.rebuild();
+        assertThat(statements()).isEqualTo(incremental);
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void ledgerEndpoint_pagesByPendingBalance_andRejectsUnknownSort() throws Exception {
+        Long a = requisition();
+        Long b = requisition();
+        requisitionService.assignVendor(a, cement.getId(), new BigDecimal("10"), new BigDecimal("100"), "admin");
+        requisitionService.assignVendor(b, steel.getId(), new BigDecimal("90"), new BigDecimal("900"), "admin");
+
+        mockMvc.perform(get("/api/v1/admin/financials/vendors/ledger").param("size", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(1))
+            .andExpect(jsonPath("$.content[0].vendorName").value("Steel Co"))
+            .andExpect(jsonPath("$.content[0].pendingBalance").value(900.0));
+
+        mockMvc.perform(get("/api/v1/admin/financials/vendors/ledger").param("sort", "pendingBalance,asc"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].vendorName").value("Cement Co"))
+            .andExpect(jsonPath("$.content[0].pendingBalance").value(100.0));
+
+        mockMvc.perform(get("/api/v1/admin/financials/vendors/ledger").param("sort", "vendor.password"))
+            .andExpect(status().isUnprocessableEntity());
+    }
+}
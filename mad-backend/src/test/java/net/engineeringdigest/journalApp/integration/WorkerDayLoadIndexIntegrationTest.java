@@ -0,0 +1,201 @@
+package net.engineeringdigest.journalApp.integration;
+
+import net.engineeringdigest.journalApp.dto.AttendanceBatchResultDTO;
+import net.engineeringdigest.journalApp.model.City;
+import net.engineeringdigest.journalApp.model.Labour;
+import net.engineeringdigest.journalApp.model.Project;
+import net.engineeringdigest.journalApp.model.ProjectStatus;
+import net.engineeringdigest.journalApp.repository.CityRepository;
+import net.engineeringdigest.journalApp.repository.LabourRepository;
+import net.engineeringdigest.journalApp.repository.ProjectRepository;
+import net.engineeringdigest.journalApp.service.AttendanceBatchService;
+import net.engineeringdigest.journalApp.service.WorkerDayLoadIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 🧪 Worker Day-Load Index Integration
+ * Parallel submissions for one worker can never book more than a day between them, a rolled-back
+ * submission gives its load back, and the index can be rebuilt from committed attendance.
+ * Runs against committed data (no test transaction) and cleans up after itself.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class WorkerDayLoadIndexIntegrationTest {
+
+    private static final int SITES = 16;
+    private static final String WORKER = "Suresh  Yadav";
+
+    @Autowired JdbcTemplate jdbc;
+    @Autowired TransactionTemplate tx;
+    @Autowired CityRepository cityRepo;
+    @Autowired ProjectRepository projectRepo;
+    @Autowired LabourRepository labourRepo;
+    @Autowired AttendanceBatchService batchService;
+    @Autowired WorkerDayLoadIndex loadIndex;
+
+    private City city;
+    private final List<Project> sites = new ArrayList<>();
+    private final List<Labour> rosters = new ArrayList<>();
+
+    @BeforeEach
+    void seedTestData() {
+        city = new City();
+        city.setName("Load Index City");
+        city = cityRepo.save(city);
+        for (int i = 0; i < SITES; i++) {
+            Project p = new Project();
+            p.setName("Load Site " + i);
+            p.setClientName("Client");
+            p.setCity(city);
+            p.setStatus(ProjectStatus.RUNNING);
+            p.setStartDate(LocalDate.now().minusDays(5));
+            p = projectRepo.save(p);
+            sites.add(p);
+
+            // The same person, on every site's roster, with inconsistent spelling
+            Labour l = new Labour();
+            l.setName(i % 2 == 0 ? WORKER : "suresh yadav ");
+            l.setDailyWage(700.0);
+            l.setProject(p);
+            rosters.add(labourRepo.save(l));
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        for (Project p : sites) {
+            jdbc.update("DELETE FROM attendance WHERE project_id = ?", p.getId());
+            jdbc.update("DELETE FROM daily_attendance_rollup WHERE project_id = ?", p.getId());
+            jdbc.update("DELETE FROM labour WHERE project_id = ?", p.getId());
+            jdbc.update("DELETE FROM projects WHERE id = ?", p.getId());
+        }
+        jdbc.update("DELETE FROM cities WHERE id = ?", city.getId());
+        loadIndex.rebuild();
+    }
+
+    private AttendanceBatchResultDTO mark(int site, String status) {
+        return batchService.markAttendance(List.of(Map.of(
+                "labourId", rosters.get(site).getId(), "projectId", sites.get(site).getId(), "status", status)));
+    }
+
+    private int presentToday() {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM attendance a JOIN labour l ON l.id = a.labour_id " +
+                "WHERE a.date = ? AND a.status = 'PRESENT' AND LOWER(TRIM(l.name)) LIKE 'suresh%yadav'",
+                Integer.class, LocalDate.now());
+    }
+
+    @Test
+    void parallelSubmissionsForOneWorker_bookAtMostOneDay() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(SITES);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<AttendanceBatchResultDTO>> submissions = new ArrayList<>();
+            for (int i = 0; i < SITES; i++) {
+                int site = i;
+                submissions.add(pool.submit(() -> {
+                    start.await();
+                    return mark(site, "PRESENT");
+                }));
+            }
+            start.countDown();
+            int marked = 0;
+            for (Future<AttendanceBatchResultDTO> f : submissions) marked += f.get(60, TimeUnit.SECONDS).marked();
+
+            assertThat(marked).isEqualTo(1);
+            assertThat(presentToday()).isEqualTo(1);
+            assertThat(loadIndex.loadOf(LocalDate.now(), "SURESH YADAV")).isEqualTo(1.0);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void rolledBackSubmission_givesItsLoadBack() {
+        tx.executeWithoutResult(status -> {
+            assertThat(mark(0, "PRESENT").marked()).isEqualTo(1);
+            assertThat(loadIndex.loadOf(LocalDate.now(), WORKER)).isEqualTo(1.0);
+            status.setRollbackOnly();
+        });
+
+        assertThat(loadIndex.loadOf(LocalDate.now(), WORKER)).isZero();
+        assertThat(mark(1, "HALF_DAY").marked()).isEqualTo(1);
+        assertThat(mark(2, "HALF_DAY").marked()).isEqualTo(1);
+        assertThat(mark(3, "HALF_DAY").records().get(0).errorCode()).isEqualTo("ERR_ATTENDANCE_CONFLICT");
+    }
+
+    @Test
+    void overlappingClaimsRolledBackOutOfOrder_leaveNoLoadBehind() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        CountDownLatch firstClaimed = new CountDownLatch(1);
+        CountDownLatch secondClaimed = new CountDownLatch(1);
+        CountDownLatch firstDone = new CountDownLatch(1);
+        Long site = sites.get(0).getId();
+        try {
+            Future<?> first = pool.submit(() -> tx.executeWithoutResult(status -> {
+                assertThat(loadIndex.claim(LocalDate.now(), WORKER, site, "PRESENT").granted()).isTrue();
+                firstClaimed.countDown();
+                await(secondClaimed);
+                status.setRollbackOnly();
+            }));
+            Future<?> second = pool.submit(() -> tx.executeWithoutResult(status -> {
+                await(firstClaimed);
+                assertThat(loadIndex.claim(LocalDate.now(), WORKER, site, "HALF_DAY").granted()).isTrue();
+                secondClaimed.countDown();
+                await(firstDone);
+                status.setRollbackOnly();
+            }));
+            first.get(30, TimeUnit.SECONDS);
+            assertThat(loadIndex.loadOf(LocalDate.now(), WORKER)).isZero();
+            firstDone.countDown();
+            second.get(30, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(loadIndex.loadOf(LocalDate.now(), WORKER)).isZero();
+        assertThat(mark(1, "PRESENT").marked()).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    void rebuildAndRename_followCommittedAttendance() {
+        mark(0, "HALF_DAY");
+        loadIndex.rebuild();
+        assertThat(loadIndex.loadOf(LocalDate.now(), WORKER)).isEqualTo(0.5);
+
+        Labour renamed = rosters.get(0);
+        renamed.setName("Suresh Y.");
+        labourRepo.save(renamed);
+        loadIndex.onRenamed(WORKER, renamed.getName());
+
+        assertThat(loadIndex.loadOf(LocalDate.now(), WORKER)).isZero();
+        assertThat(loadIndex.loadOf(LocalDate.now(), "suresh y.")).isEqualTo(0.5);
+        assertThat(mark(1, "PRESENT").marked()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,67 @@
+package net.engineeringdigest.journalApp.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 🧪 Money
+ * Paise conversions agree exactly with BigDecimal HALF_UP rounding on both the
+ * allocation-free path and the general path.
+ */
+class MoneyTest {
+
+    private static long reference(BigDecimal rupees) {
+        return rupees.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    @Test
+    void toPaise_matchesBigDecimalRounding_forStoredAmounts() {
+        Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            long unscaled = random.nextLong() % 10_000_000_000_000L; // up to ±₹10^11
+            BigDecimal amount = BigDecimal.valueOf(unscaled, random.nextInt(3));
+            assertThat(Money.toPaise(amount)).as("%s", amount).isEqualTo(reference(amount));
+        }
+    }
+
+    @Test
+    void toPaise_roundsHalfUp_beyondTwoDecimals_andHugeAmounts() {
+        assertThat(Money.toPaise(new BigDecimal("10.005"))).isEqualTo(1001);
+        assertThat(Money.toPaise(new BigDecimal("-10.005"))).isEqualTo(-1001);
+        assertThat(Money.toPaise(new BigDecimal("10.0049"))).isEqualTo(1000);
+        assertThat(Money.toPaise(new BigDecimal("1E+3"))).isEqualTo(100_000);
+        assertThat(Money.toPaise(new BigDecimal("123456789012345.67"))).isEqualTo(12345678901234567L);
+        assertThat(Money.toPaise((BigDecimal) null)).isZero();
+    }
+
+    @Test
+    void doubleTotals_roundLikeTheirDecimalForm() {
+        assertThat(Money.toPaise(1.005)).isEqualTo(101); // BigDecimal.valueOf(1.005) is 1.005, not 1.00499…
+        assertThat(Money.toPaise(0.1 + 0.2)).isEqualTo(30);
+        Random random = new Random(7);
+        for (int i = 0; i < 100_000; i++) {
+            double total = random.nextDouble() * 1_000_000 * random.nextDouble() * 50;
+            assertThat(Money.ofRupees(total).toBigDecimal())
+                    .isEqualTo(BigDecimal.valueOf(total).setScale(2, RoundingMode.HALF_UP));
+        }
+    }
+
+    @Test
+    void arithmetic_andParts() {
+        Money a = Money.of(new BigDecimal("1234.56"));
+        Money b = Money.ofPaise(-10_050);
+
+        assertThat(a.plus(b).toBigDecimal()).isEqualTo(new BigDecimal("1134.06"));
+        assertThat(b.minus(a)).isEqualTo(Money.ofPaise(-133_506));
+        assertThat(a.rupeePart()).isEqualTo(1234);
+        assertThat(a.paisePart()).isEqualTo(56);
+        assertThat(b.paisePart()).isEqualTo(50);
+        assertThat(Money.ofPaise(5).toString()).isEqualTo("0.05");
+        assertThat(a.compareTo(b)).isPositive();
+    }
+}
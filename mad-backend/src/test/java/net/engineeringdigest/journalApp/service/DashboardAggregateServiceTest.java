@@ -0,0 +1,76 @@
+package net.engineeringdigest.journalApp.service;
+
+import net.engineeringdigest.journalApp.dto.ProjectStatusCount;
+import net.engineeringdigest.journalApp.model.CityStats;
+import net.engineeringdigest.journalApp.model.ProjectStatus;
+import net.engineeringdigest.journalApp.repository.CityRepository;
+import net.engineeringdigest.journalApp.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * 🧪 DashboardAggregateService (Unit)
+ * Verifies rebuild from grouped rows and incremental deltas reported by the entity listener.
+ */
+@ExtendWith(MockitoExtension.class)
+class DashboardAggregateServiceTest {
+
+    @Mock ProjectRepository projectRepo;
+    @Mock CityRepository cityRepo;
+    @InjectMocks DashboardAggregateService aggregates;
+
+    static ProjectStatusCount row(Long cityId, String city, ProjectStatus status, long total) {
+        return new ProjectStatusCount() {
+            @Override public Long getCityId() { return cityId; }
+            @Override public String getCityName() { return city; }
+            @Override public ProjectStatus getStatus() { return status; }
+            @Override public Long getTotal() { return total; }
+        };
+    }
+
+    @BeforeEach
+    void seed() {
+        when(projectRepo.countGroupedByCityAndStatus()).thenReturn(List.of(
+                row(1L, "Jaipur", ProjectStatus.RUNNING, 3),
+                row(1L, "Jaipur", ProjectStatus.COMPLETED, 2),
+                row(2L, "Mumbai", ProjectStatus.DELAYED, 1)));
+        aggregates.rebuild();
+    }
+
+    @Test
+    void rebuild_populatesCountersFromGroupedRows() {
+        assertThat(aggregates.getTotalProjects()).isEqualTo(6);
+        assertThat(aggregates.getActiveProjects()).isEqualTo(4);
+        assertThat(aggregates.getCityCount()).isEqualTo(2);
+        assertThat(aggregates.getStatusDistribution())
+                .containsEntry("RUNNING", 3L).containsEntry("COMPLETED", 2L).containsEntry("DELAYED", 1L);
+
+        CityStats jaipur = aggregates.getCityStats().stream()
+                .filter(c -> c.getCity().equals("Jaipur")).findFirst().orElseThrow();
+        assertThat(jaipur.getTotalProjects()).isEqualTo(5);
+        assertThat(jaipur.getRunningCount()).isEqualTo(3);
+        assertThat(jaipur.getCompletedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void transitions_applyDeltasWithoutTouchingTheDatabase() {
+        aggregates.onCreated(2L, "Mumbai", ProjectStatus.RUNNING);
+        aggregates.onChanged(1L, ProjectStatus.RUNNING, 1L, "Jaipur", ProjectStatus.COMPLETED);
+        aggregates.onRemoved(2L, ProjectStatus.DELAYED);
+        aggregates.onChanged(1L, ProjectStatus.COMPLETED, 1L, "Jaipur", ProjectStatus.COMPLETED); // no-op
+
+        assertThat(aggregates.getTotalProjects()).isEqualTo(6);
+        assertThat(aggregates.getStatusDistribution())
+                .containsEntry("RUNNING", 3L).containsEntry("COMPLETED", 3L).doesNotContainKey("DELAYED");
+        assertThat(aggregates.getActiveProjects()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,64 @@
+package net.engineeringdigest.journalApp.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 🧪 DashboardAssembler (Unit)
+ * A slow or failing section must degrade to its fallback without holding back the others.
+ */
+class DashboardAssemblerTest {
+
+    private ThreadPoolTaskExecutor executor;
+    private SimpleMeterRegistry registry;
+    private DashboardAssembler assembler;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.initialize();
+        registry = new SimpleMeterRegistry();
+        assembler = new DashboardAssembler(executor, mock(PlatformTransactionManager.class), registry, 200);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void slowAndFailingSections_resolveToFallbackAndAreReportedPartial() {
+        DashboardAssembler.Section<String> fast = assembler.submit("fast", () -> "ok", "fallback");
+        DashboardAssembler.Section<String> slow = assembler.submit("slow", () -> {
+            try {
+                Thread.sleep(2000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "late";
+        }, "fallback");
+        DashboardAssembler.Section<String> broken = assembler.submit("broken", () -> {
+            throw new IllegalStateException("boom");
+        }, "fallback");
+
+        long start = System.currentTimeMillis();
+        assertThat(fast.join()).isEqualTo("ok");
+        assertThat(slow.join()).isEqualTo("fallback");
+        assertThat(broken.join()).isEqualTo("fallback");
+        assertThat(System.currentTimeMillis() - start).isLessThan(1500);
+
+        assertThat(DashboardAssembler.partialSections(fast, slow, broken)).isEqualTo(List.of("slow", "broken"));
+        assertThat(registry.find("dashboard.section.duration").tag("outcome", "timeout").timer()).isNotNull();
+        assertThat(registry.find("dashboard.section.duration").tag("outcome", "error").timer()).isNotNull();
+    }
+}
@@ -0,0 +1,77 @@
+package net.engineeringdigest.journalApp.service.alert;
+
+import net.engineeringdigest.journalApp.dto.DashboardAlertDTO;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 🧪 DashboardAlertService (Unit)
+ * Rules are concatenated in registration order, a failing rule is skipped without losing the
+ * others, and every rule runs in its own read-only REQUIRES_NEW transaction.
+ */
+class DashboardAlertServiceTest {
+
+    private final PlatformTransactionManager txManager = mock(PlatformTransactionManager.class);
+
+    private record StubRule(String code, Supplier<List<DashboardAlertDTO>> alerts) implements DashboardAlertRule {
+        @Override
+        public String getCode() {
+            return code;
+        }
+
+        @Override
+        public List<DashboardAlertDTO> evaluate() {
+            return alerts.get();
+        }
+    }
+
+    private static DashboardAlertDTO alert(String rule, long projectId) {
+        return DashboardAlertDTO.builder().rule(rule).projectId(projectId).build();
+    }
+
+    @Test
+    void evaluateAll_concatenatesRulesInOrder_andSkipsAFailingRule() {
+        DashboardAlertService engine = new DashboardAlertService(List.of(
+                new StubRule("PROJECT_DELAYED", () -> List.of(alert("PROJECT_DELAYED", 2), alert("PROJECT_DELAYED", 1))),
+                new StubRule("BROKEN", () -> { throw new IllegalStateException("bad query"); }),
+                new StubRule("PROJECT_ON_HOLD", List::of),
+                new StubRule("LOW_LABOUR", () -> List.of(alert("LOW_LABOUR", 3)))), txManager);
+
+        List<DashboardAlertDTO> alerts = engine.evaluateAll();
+
+        assertThat(alerts).extracting(DashboardAlertDTO::getRule)
+                .containsExactly("PROJECT_DELAYED", "PROJECT_DELAYED", "LOW_LABOUR");
+        assertThat(alerts).extracting(DashboardAlertDTO::getProjectId).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    void eachRule_runsInItsOwnReadOnlyTransaction() {
+        DashboardAlertService engine = new DashboardAlertService(List.of(
+                new StubRule("A", List::of),
+                new StubRule("B", () -> { throw new IllegalStateException("bad query"); }),
+                new StubRule("C", List::of)), txManager);
+
+        engine.evaluateAll();
+
+        ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(txManager, times(3)).getTransaction(definitions.capture());
+        assertThat(definitions.getAllValues()).allSatisfy(d -> {
+            assertThat(d.getPropagationBehavior()).isEqualTo(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            assertThat(d.isReadOnly()).isTrue();
+        });
+        // Only the failing rule's own transaction is rolled back
+        verify(txManager, times(1)).rollback(any());
+        verify(txManager, times(2)).commit(any());
+    }
+}
@@ -0,0 +1,135 @@
+package net.engineeringdigest.journalApp.service.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.engineeringdigest.journalApp.model.City;
+import net.engineeringdigest.journalApp.model.InventoryItem;
+import net.engineeringdigest.journalApp.model.Project;
+import net.engineeringdigest.journalApp.model.SiteUpdate;
+import net.engineeringdigest.journalApp.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 🧪 CacheInvalidationService (Unit)
+ * Evictions follow the dependency table, only happen once the transaction commits, and are
+ * repeated after a delay for reads that were in flight during the commit.
+ */
+class CacheInvalidationServiceTest {
+
+    private CacheManager cacheManager;
+    private TaskScheduler scheduler;
+    private CacheInvalidationService invalidation;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager("dashboard", "projects", "inventory", "vendors");
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("cacheManager", cacheManager);
+        scheduler = mock(TaskScheduler.class);
+        beans.addBean("taskScheduler", scheduler);
+        invalidation = new CacheInvalidationService(beans.getBeanProvider(CacheManager.class), new SimpleMeterRegistry(),
+                beans.getBeanProvider(TaskScheduler.class), 2000);
+
+        cacheManager.getCache("dashboard").put(CacheInvalidationService.dashboardKey(), "dashboard");
+        cacheManager.getCache("projects").put(new SimpleKey(0, 20, "startDate", "desc"), "page-0");
+        cacheManager.getCache("inventory").put(SimpleKey.EMPTY, "items");
+        cacheManager.getCache("vendors").put(SimpleKey.EMPTY, "vendors");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private boolean cached(String cache, Object key) {
+        return cacheManager.getCache(cache).get(key) != null;
+    }
+
+    @Test
+    void siteUpdate_evictsOnlyTheDashboard() {
+        invalidation.onEntityChanged(new SiteUpdate());
+
+        assertThat(cached("dashboard", CacheInvalidationService.dashboardKey())).isFalse();
+        assertThat(cached("projects", new SimpleKey(0, 20, "startDate", "desc"))).isTrue();
+        assertThat(cached("inventory", SimpleKey.EMPTY)).isTrue();
+        assertThat(cached("vendors", SimpleKey.EMPTY)).isTrue();
+    }
+
+    @Test
+    void evictionsAreDeferredUntilCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        invalidation.onEntityChanged(new Project());
+        invalidation.onEntityChanged(new InventoryItem());
+
+        assertThat(cached("projects", new SimpleKey(0, 20, "startDate", "desc"))).isTrue();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertThat(cached("projects", new SimpleKey(0, 20, "startDate", "desc"))).isFalse();
+        assertThat(cached("dashboard", CacheInvalidationService.dashboardKey())).isFalse();
+        assertThat(cached("inventory", SimpleKey.EMPTY)).isFalse();
+        assertThat(cached("vendors", SimpleKey.EMPTY)).isTrue();
+    }
+
+    @Test
+    void rolledBackWrites_evictNothing() {
+        TransactionSynchronizationManager.initSynchronization();
+        invalidation.onEntityChanged(new Project());
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(cached("projects", new SimpleKey(0, 20, "startDate", "desc"))).isTrue();
+        assertThat(cached("dashboard", CacheInvalidationService.dashboardKey())).isTrue();
+    }
+
+    @Test
+    void cityAndSupervisorRenames_evictTheViewsThatEmbedTheirNames() {
+        invalidation.onEntityChanged(new City());
+
+        assertThat(cached("dashboard", CacheInvalidationService.dashboardKey())).isFalse();
+        assertThat(cached("projects", new SimpleKey(0, 20, "startDate", "desc"))).isFalse();
+        assertThat(cached("inventory", SimpleKey.EMPTY)).isFalse();
+        assertThat(cached("vendors", SimpleKey.EMPTY)).isTrue();
+
+        cacheManager.getCache("projects").put(new SimpleKey(0, 20, "startDate", "desc"), "page-0");
+        invalidation.onEntityChanged(new User());
+        assertThat(cached("projects", new SimpleKey(0, 20, "startDate", "desc"))).isFalse();
+    }
+
+    @Test
+    void aStaleValuePutBackByAnInFlightRead_isEvictedAgainAfterTheDelay() {
+        TransactionSynchronizationManager.initSynchronization();
+        invalidation.onEntityChanged(new SiteUpdate());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(cached("dashboard", CacheInvalidationService.dashboardKey())).isFalse();
+
+        // A dashboard read that started before the commit finishes now and caches what it saw
+        cacheManager.getCache("dashboard").put(CacheInvalidationService.dashboardKey(), "stale");
+
+        ArgumentCaptor<Runnable> reEviction = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).schedule(reEviction.capture(), any(Instant.class));
+        reEviction.getValue().run();
+        assertThat(cached("dashboard", CacheInvalidationService.dashboardKey())).isFalse();
+    }
+}
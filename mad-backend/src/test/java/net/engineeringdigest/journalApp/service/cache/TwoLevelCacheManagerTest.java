@@ -0,0 +1,158 @@
+package net.engineeringdigest.journalApp.service.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 🧪 TwoLevelCacheManager (Unit)
+ * Two "nodes" share a stubbed L2; pub/sub is simulated by wiring each node's publisher to the other.
+ */
+class TwoLevelCacheManagerTest {
+
+    private final AtomicBoolean redisDown = new AtomicBoolean(false);
+    private ConcurrentMapCache sharedL2;
+    private TwoLevelCacheManager nodeA;
+    private TwoLevelCacheManager nodeB;
+
+    // L2 stub that fails like an unreachable Redis when redisDown is set
+    private CacheManager flakyL2() {
+        return new ConcurrentMapCacheManager("vendors") {
+            @Override
+            public Cache getCache(String name) {
+                return new ConcurrentMapCache(name, sharedL2.getNativeCache(), true) {
+                    @Override
+                    public ValueWrapper get(Object key) {
+                        if (redisDown.get()) throw new IllegalStateException("connection refused");
+                        return super.get(key);
+                    }
+
+                    @Override
+                    public void put(Object key, Object value) {
+                        if (redisDown.get()) throw new IllegalStateException("connection refused");
+                        super.put(key, value);
+                    }
+
+                    @Override
+                    public void evict(Object key) {
+                        if (redisDown.get()) throw new IllegalStateException("connection refused");
+                        super.evict(key);
+                    }
+
+                    @Override
+                    public void clear() {
+                        if (redisDown.get()) throw new IllegalStateException("connection refused");
+                        super.clear();
+                    }
+                };
+            }
+        };
+    }
+
+    @BeforeEach
+    void setUp() {
+        sharedL2 = new ConcurrentMapCache("vendors");
+        List<TwoLevelCacheManager> peers = new ArrayList<>();
+        nodeA = new TwoLevelCacheManager(flakyL2(), 2, Duration.ofMinutes(5), Duration.ofMillis(50),
+                (cache, key) -> peers.get(1).onRemoteInvalidation(cache, key), new SimpleMeterRegistry());
+        nodeB = new TwoLevelCacheManager(flakyL2(), 2, Duration.ofMinutes(5), Duration.ofMillis(50),
+                (cache, key) -> peers.get(0).onRemoteInvalidation(cache, key), new SimpleMeterRegistry());
+        peers.add(nodeA);
+        peers.add(nodeB);
+    }
+
+    @Test
+    void l2HitsArePromotedToL1_andL1IsBounded() {
+        nodeA.getCache("vendors").put("k1", "v1");
+
+        TwoLevelCache b = (TwoLevelCache) nodeB.getCache("vendors");
+        assertThat(b.get("k1").get()).isEqualTo("v1");
+        sharedL2.clear();
+        assertThat(b.get("k1").get()).isEqualTo("v1"); // served from L1
+
+        b.put("k2", "v2");
+        b.put("k3", "v3");
+        assertThat(b.localSize()).isEqualTo(2);
+    }
+
+    @Test
+    void writesOnOneNodeDropTheOtherNodesL1Copy() {
+        nodeA.getCache("vendors").put("k1", "v1");
+        assertThat(nodeB.getCache("vendors").get("k1").get()).isEqualTo("v1");
+
+        nodeA.getCache("vendors").put("k1", "v2");
+        assertThat(nodeB.getCache("vendors").get("k1").get()).isEqualTo("v2");
+
+        nodeA.getCache("vendors").evict("k1");
+        assertThat(nodeB.getCache("vendors").get("k1")).isNull();
+    }
+
+    @Test
+    void redisOutage_degradesToLocalOnly_andRecoveryClearsL1() throws InterruptedException {
+        Cache cache = nodeA.getCache("vendors");
+        cache.put("k1", "v1");
+
+        redisDown.set(true);
+        cache.put("k2", "v2");
+        assertThat(nodeA.isLocalOnly()).isTrue();
+        assertThat(cache.get("k1").get()).isEqualTo("v1");
+        assertThat(cache.get("k2").get()).isEqualTo("v2");
+
+        redisDown.set(false);
+        Thread.sleep(60);
+        assertThat(cache.get("missing")).isNull(); // probe succeeds
+        assertThat(nodeA.isLocalOnly()).isFalse();
+        assertThat(((TwoLevelCache) cache).localSize()).isZero();
+        assertThat(cache.get("k1").get()).isEqualTo("v1"); // back from L2
+    }
+
+    @Test
+    void writesMissedDuringOutage_areReplayedToL2OnRecovery() throws InterruptedException {
+        Cache a = nodeA.getCache("vendors");
+        a.put("evicted", "old");
+        a.put("updated", "old");
+        a.put("untouched", "kept");
+
+        redisDown.set(true);
+        a.evict("evicted");
+        a.put("updated", "new");
+        assertThat(nodeA.isLocalOnly()).isTrue();
+        assertThat(sharedL2.get("evicted").get()).isEqualTo("old"); // L2 still holds pre-outage entries
+
+        redisDown.set(false);
+        Thread.sleep(60);
+        assertThat(a.get("missing")).isNull(); // probe succeeds and triggers the replay
+        assertThat(nodeA.isLocalOnly()).isFalse();
+
+        // Another node never sees the pre-outage values again
+        assertThat(nodeB.getCache("vendors").get("evicted")).isNull();
+        assertThat(nodeB.getCache("vendors").get("updated")).isNull();
+        assertThat(nodeB.getCache("vendors").get("untouched").get()).isEqualTo("kept");
+    }
+
+    @Test
+    void clearMissedDuringOutage_clearsL2OnRecovery() throws InterruptedException {
+        Cache a = nodeA.getCache("vendors");
+        a.put("k1", "v1");
+
+        redisDown.set(true);
+        a.clear();
+
+        redisDown.set(false);
+        Thread.sleep(60);
+        assertThat(a.get("probe")).isNull();
+        assertThat(nodeA.isLocalOnly()).isFalse();
+        assertThat(nodeB.getCache("vendors").get("k1")).isNull();
+    }
+}
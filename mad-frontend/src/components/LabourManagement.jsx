@@ -137,7 +137,13 @@ const LabourManagement = () => {
         }));
 
         try {
-            await attendanceService.markAttendance(payload);
+            const result = await attendanceService.markAttendance(payload);
+            if (result?.rejected > 0) {
+                // Accepted records are saved; stay on the page so the rejected ones can be fixed
+                const firstError = result.records.find(r => r.status === 'REJECTED');
+                showToast('warning', `${result.marked} saved, ${result.rejected} rejected`, { description: firstError?.message });
+                return;
+            }
             showToast('success', "Attendance Saved Successfully!", { description: "Work logs for today have been archived." });
             navigate(-1);
         } catch (err) {
@@ -358,6 +358,21 @@ export const EditMaterialModal = memo(({ material, onClose, projects, vendors, o
 
     const [errors, setErrors] = useState({});
 
+    // The quantity submitted is a stock count checked against live stock, so start from live stock
+    // rather than the list's compacted balance
+    useEffect(() => {
+        let active = true;
+        import('../../services/inventoryService')
+            .then(({ inventoryService }) => inventoryService.getStock(material.id))
+            .then(stock => {
+                if (active) setFormData(prev => prev.currentQuantity === (material.currentQuantity || 0)
+                    ? { ...prev, currentQuantity: stock.currentQuantity }
+                    : prev);
+            })
+            .catch(() => {});
+        return () => { active = false; };
+    }, [material.id, material.currentQuantity]);
+
     const validateField = (name, value) => {
         let error = '';
         if (name === 'name' && !value) error = 'Required';
@@ -162,8 +162,13 @@ export const useLabourDrawer = (projectId) => {
         }));
 
         try {
-            await attendanceService.markAttendance(payload);
-            setHasAttendanceLoggedToday(true);
+            const result = await attendanceService.markAttendance(payload);
+            if (result?.marked > 0) setHasAttendanceLoggedToday(true);
+            if (result?.rejected > 0) {
+                const firstError = result.records.find(r => r.status === 'REJECTED');
+                showToast('warning', `${result.marked} saved, ${result.rejected} rejected`, { description: firstError?.message });
+                return;
+            }
             showToast('success', "Attendance Saved Successfully!", { description: "Work logs for today have been archived." });
             // Optionally close drawer or switch to read-only view
         } catch (err) {
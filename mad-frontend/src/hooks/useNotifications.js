@@ -9,7 +9,7 @@ import { getApiUrl } from '../services/api';
  * SSE connection, eliminating the duplicate EventSource from InventoryDashboard.
  * 
  * @param {Function} onSiteUpdate - Callback for SITE_UPDATE events (Dashboard)
- * @param {Function} onRequisition - Callback for NEW_REQUISITION events (Inventory/Supervisor)
+ * @param {Function} onRequisition - Callback for NEW_REQUISITION / REQUISITION_BATCH events (Inventory/Supervisor)
  */
 export const useNotifications = (onSiteUpdate, onRequisition) => {
     const onSiteUpdateRef = useRef(onSiteUpdate);
@@ -72,6 +72,20 @@ export const useNotifications = (onSiteUpdate, onRequisition) => {
                 }
             });
 
+            // Bulk submissions arrive as one REQUISITION_BATCH event for all their lines
+            eventSource.addEventListener('REQUISITION_BATCH', (event) => {
+                try {
+                    const batch = JSON.parse(event.data);
+                    if (onRequisitionRef.current) onRequisitionRef.current({
+                        customItemName: `${batch.count} material line(s)`,
+                        project: { name: batch.projectNames.join(', ') },
+                        status: 'PENDING'
+                    });
+                } catch (err) {
+                    console.error('Failed to parse SSE REQUISITION_BATCH:', err);
+                }
+            });
+
             eventSource.addEventListener('error', (err) => {
                 // native EventSource might try to reconnect on its own too, 
                 // but we close it and manage our own exponential backoff for better control.
@@ -9,6 +9,11 @@ export const inventoryService = {
         const { data } = await api.get('/admin/inventory/low-stock');
         return data;
     },
+    // Live stock: compacted balance plus movements not yet compacted
+    getStock: async (id) => {
+        const { data } = await api.get(`/admin/inventory/${id}/stock`);
+        return data;
+    },
     create: async (item) => {
         const { data } = await api.post('/admin/inventory', item);
         return data;